@@ -1,50 +1,258 @@
 package com.example.fixclient.fix;
 
+import com.fixclient.backend.metrics.OrderLatencyTracker;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import quickfix.InvalidMessage;
-import quickfix.Session;
-import quickfix.SessionID;
+import quickfix.Message;
 
 @Component
 public class DefaultOrderSender implements OrderSender {
 
     private final FixInitiatorService fixInitiatorService;
     private final QuickFixOrderMessageFactory messageFactory;
+    private final FixSessionRouter sessionRouter;
+    private final boolean batchAsNewOrderList;
+    private final TemplateOrderMessageEncoder templateEncoder;
+    private final OrderLatencyTracker latencyTracker;
 
     public DefaultOrderSender(
             FixInitiatorService fixInitiatorService,
-            QuickFixOrderMessageFactory messageFactory) {
+            QuickFixOrderMessageFactory messageFactory,
+            FixSessionRouter sessionRouter) {
+        this(fixInitiatorService, messageFactory, sessionRouter, false, Optional.empty(), Optional.empty());
+    }
+
+    @Autowired
+    public DefaultOrderSender(
+            FixInitiatorService fixInitiatorService,
+            QuickFixOrderMessageFactory messageFactory,
+            FixSessionRouter sessionRouter,
+            @Value("${fix.orders.batch.new-order-list:false}") boolean batchAsNewOrderList,
+            Optional<TemplateOrderMessageEncoder> templateEncoder,
+            Optional<OrderLatencyTracker> latencyTracker) {
         this.fixInitiatorService = fixInitiatorService;
         this.messageFactory = messageFactory;
+        this.sessionRouter = sessionRouter;
+        this.batchAsNewOrderList = batchAsNewOrderList;
+        this.templateEncoder = templateEncoder.orElse(null);
+        this.latencyTracker = latencyTracker.orElse(null);
     }
 
     @Override
     public OrderSendResult send(OrderSubmission submission) {
-        InitiatorServiceStatus status = fixInitiatorService.getStatus();
-        if (status.status() != InitiatorStatus.RUNNING) {
-            return new OrderSendResult(
-                    false,
-                    "Order rejected: FIX initiator is not RUNNING (current status: " + status.status().name() + ")");
+        InitiatorStatus status = fixInitiatorService.currentStatus();
+        if (status != InitiatorStatus.RUNNING) {
+            return notRunning(status);
+        }
+        return sendTo(sessionRouter.route(submission), submission);
+    }
+
+    @Override
+    public List<OrderSendResult> sendBatch(List<OrderSubmission> submissions) {
+        InitiatorStatus status = fixInitiatorService.currentStatus();
+        if (status != InitiatorStatus.RUNNING) {
+            return Collections.nCopies(submissions.size(), notRunning(status));
+        }
+
+        if (batchAsNewOrderList) {
+            return sendAsNewOrderLists(submissions);
+        }
+
+        List<OrderSendResult> results = new ArrayList<>(submissions.size());
+        for (OrderSubmission submission : submissions) {
+            results.add(sendTo(sessionRouter.route(submission), submission));
+        }
+        return results;
+    }
+
+    @Override
+    public OrderSendResult cancel(OrderCancelSubmission cancel) {
+        InitiatorStatus status = fixInitiatorService.currentStatus();
+        if (status != InitiatorStatus.RUNNING) {
+            return notRunning(status);
+        }
+        return sendRequest("Cancel", cancel.clOrdId(), cancel.sessionId(), () -> messageFactory.buildCancel(cancel));
+    }
+
+    @Override
+    public OrderSendResult replace(OrderReplaceSubmission replace) {
+        InitiatorStatus status = fixInitiatorService.currentStatus();
+        if (status != InitiatorStatus.RUNNING) {
+            return notRunning(status);
         }
+        return sendRequest(
+                "Replace", replace.clOrdId(), replace.sessionId(), () -> messageFactory.buildReplace(replace));
+    }
 
+    /** Sends the mass cancel on the session it names, or on every logged-on session. */
+    @Override
+    public OrderSendResult massCancel(OrderMassCancelSubmission massCancel) {
+        InitiatorStatus status = fixInitiatorService.currentStatus();
+        if (status != InitiatorStatus.RUNNING) {
+            return notRunning(status);
+        }
+        int sent = 0;
         try {
-            SessionID sessionID = firstSession(status);
-            if (sessionID != null) {
-                Session.sendToTarget(messageFactory.build(submission), sessionID);
-                return new OrderSendResult(true, "Order accepted and sent to FIX session " + sessionID);
+            Message message = messageFactory.buildMassCancel(massCancel);
+            for (RoutedSession session : sessionRouter.activeSessions()) {
+                String sessionId = sessionId(session);
+                if ((massCancel.sessionId() == null || massCancel.sessionId().equals(sessionId))
+                        && session.sendRequest(message)) {
+                    sent++;
+                }
             }
+        } catch (Exception ex) {
+            return new OrderSendResult(false, "Mass cancel not sent: " + ex.getMessage());
+        }
+        if (sent == 0) {
+            return new OrderSendResult(false, "Mass cancel not sent: no matching FIX session sent it");
+        }
+        return new OrderSendResult(
+                true, "Mass cancel " + massCancel.clOrdId() + " sent to " + sent + " FIX session(s)",
+                massCancel.sessionId());
+    }
 
-            messageFactory.build(submission);
-            return new OrderSendResult(true, "Order accepted; FIX RUNNING but no active session was selected");
+    /**
+     * Sends a cancel or replace on {@code sessionId}, the session the order went out on. An order whose session is
+     * not known (e.g. one journaled before sessions were recorded) goes to the first logged-on session. Unlike new
+     * orders, a request that was not actually sent is reported as not accepted, so the caller can undo the order's
+     * pending status.
+     */
+    private OrderSendResult sendRequest(String kind, String clOrdId, String sessionId, Supplier<Message> encoder) {
+        RoutedSession session;
+        if (sessionId != null) {
+            session = sessionRouter.session(sessionId);
+            if (session == null) {
+                return new OrderSendResult(
+                        false, kind + " not sent: FIX session " + sessionId + " is not logged on", sessionId);
+            }
+        } else {
+            List<RoutedSession> active = sessionRouter.activeSessions();
+            if (active.isEmpty()) {
+                return new OrderSendResult(false, kind + " not sent: no FIX session is logged on");
+            }
+            session = active.get(0);
+        }
+        sessionId = sessionId(session);
+        try {
+            if (session.sendRequest(encoder.get())) {
+                return new OrderSendResult(true, kind + " " + clOrdId + " sent to FIX session " + sessionId, sessionId);
+            }
+            return new OrderSendResult(
+                    false, kind + " not sent: session " + sessionId + " did not send the message", sessionId);
+        } catch (Exception ex) {
+            return new OrderSendResult(false, kind + " not sent: " + ex.getMessage(), sessionId);
+        }
+    }
+
+    private OrderSendResult sendTo(RoutedSession session, OrderSubmission submission) {
+        try {
+            if (session == null) {
+                messageFactory.build(submission);
+                return new OrderSendResult(true, "Order accepted; FIX RUNNING but no active session was selected");
+            }
+            String clOrdId = submission.clOrdId();
+            Message message = encode(session, clOrdId, submission);
+            if (latencyTracker != null) {
+                latencyTracker.onEncoded(clOrdId, session.sessionId().toString(), System.nanoTime());
+            }
+            if (session.send(message, clOrdId)) {
+                if (latencyTracker != null) {
+                    latencyTracker.onSent(clOrdId, System.nanoTime());
+                }
+                return new OrderSendResult(
+                        true, "Order accepted and sent to FIX session " + session.sessionId(), sessionId(session));
+            }
+            return new OrderSendResult(
+                    true, "Order accepted; FIX send attempted but not confirmed: session " + session.sessionId()
+                            + " did not send the message", sessionId(session));
         } catch (Exception ex) {
             return new OrderSendResult(true, "Order accepted; FIX send attempted but not confirmed: " + ex.getMessage());
         }
     }
 
-    private SessionID firstSession(InitiatorServiceStatus status) throws InvalidMessage {
-        if (status.sessions().isEmpty()) {
-            return null;
+    /**
+     * Routes each order as a single send would and sends one {@code NewOrderList} per routed session, so the routing
+     * strategy still decides where every order goes.
+     */
+    private List<OrderSendResult> sendAsNewOrderLists(List<OrderSubmission> submissions) {
+        OrderSendResult[] results = new OrderSendResult[submissions.size()];
+        Map<RoutedSession, List<Integer>> positionsBySession = new LinkedHashMap<>();
+        for (int i = 0; i < submissions.size(); i++) {
+            OrderSubmission submission = submissions.get(i);
+            RoutedSession session = sessionRouter.route(submission);
+            if (session == null) {
+                results[i] = sendTo(null, submission);
+            } else {
+                positionsBySession.computeIfAbsent(session, ignored -> new ArrayList<>()).add(i);
+            }
         }
-        return new SessionID(status.sessions().get(0));
+        for (Map.Entry<RoutedSession, List<Integer>> entry : positionsBySession.entrySet()) {
+            List<Integer> positions = entry.getValue();
+            List<OrderSubmission> list = new ArrayList<>(positions.size());
+            for (int position : positions) {
+                list.add(submissions.get(position));
+            }
+            OrderSendResult result = sendAsNewOrderList(list, entry.getKey());
+            for (int position : positions) {
+                results[position] = result;
+            }
+        }
+        return List.of(results);
+    }
+
+    private OrderSendResult sendAsNewOrderList(List<OrderSubmission> submissions, RoutedSession session) {
+        String listId = "L-" + submissions.get(0).clOrdId();
+        try {
+            Message list = messageFactory.buildList(listId, submissions);
+            if (latencyTracker != null) {
+                long encodedAt = System.nanoTime();
+                String sessionId = session.sessionId().toString();
+                for (OrderSubmission submission : submissions) {
+                    latencyTracker.onEncoded(submission.clOrdId(), sessionId, encodedAt);
+                }
+            }
+            if (!session.sendList(list, submissions)) {
+                return new OrderSendResult(
+                        true, "Order accepted; FIX list send attempted but not confirmed: session "
+                                + session.sessionId() + " did not send list " + listId, sessionId(session));
+            }
+            if (latencyTracker != null) {
+                long sentAt = System.nanoTime();
+                for (OrderSubmission submission : submissions) {
+                    latencyTracker.onSent(submission.clOrdId(), sentAt);
+                }
+            }
+            return new OrderSendResult(
+                    true, "Order accepted and sent in list " + listId + " to FIX session " + session.sessionId(),
+                    sessionId(session));
+        } catch (Exception ex) {
+            return new OrderSendResult(true, "Order accepted; FIX list send attempted but not confirmed: " + ex.getMessage());
+        }
+    }
+
+    private Message encode(RoutedSession session, String clOrdId, OrderSubmission submission) {
+        if (templateEncoder != null) {
+            return templateEncoder.encode(session.sessionId(), clOrdId, submission);
+        }
+        return messageFactory.build(submission);
+    }
+
+    private static String sessionId(RoutedSession session) {
+        return session.sessionId().toString();
+    }
+
+    private OrderSendResult notRunning(InitiatorStatus status) {
+        return new OrderSendResult(
+                false,
+                "Order rejected: FIX initiator is not RUNNING (current status: " + status.name() + ")");
     }
 }
@@ -1,29 +1,100 @@
 package com.example.fixclient.fix;
 
+import com.example.fixclient.fix.persistence.AsyncLogFactory;
+import com.example.fixclient.fix.persistence.LogOverflowPolicy;
+import com.example.fixclient.fix.persistence.MappedMessageStoreFactory;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import quickfix.CachedFileStoreFactory;
 import quickfix.ConfigError;
 import quickfix.DefaultMessageFactory;
 import quickfix.FileLogFactory;
 import quickfix.FileStoreFactory;
+import quickfix.Log;
+import quickfix.LogFactory;
+import quickfix.MemoryStoreFactory;
+import quickfix.MessageStoreFactory;
+import quickfix.SLF4JLogFactory;
+import quickfix.ScreenLogFactory;
 import quickfix.SessionSettings;
 import quickfix.SocketInitiator;
 
+/**
+ * Builds the QuickFIX/J socket initiator. The message store is chosen with {@code fix.quickfix.store.type}
+ * ({@code file}, {@code cached-file}, {@code memory} or {@code mmap}) and the session log with
+ * {@code fix.quickfix.log.type} ({@code file}, {@code slf4j}, {@code screen} or {@code none}); with
+ * {@code fix.quickfix.log.async} the log is written by a background thread instead of the session thread.
+ */
 @Component
 public class DefaultQuickFixInitiatorFactory implements QuickFixInitiatorFactory {
 
+    static final int DEFAULT_MMAP_CHUNK_SIZE = 16 * 1024 * 1024;
+
+    private static final Log NO_LOG = new Log() {
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public void onIncoming(String message) {
+        }
+
+        @Override
+        public void onOutgoing(String message) {
+        }
+
+        @Override
+        public void onEvent(String text) {
+        }
+
+        @Override
+        public void onErrorEvent(String text) {
+        }
+    };
+
     private final QuickFixExecutionApplication application;
+    private final String storeType;
+    private final int mmapChunkSize;
+    private final boolean forceEveryWrite;
+    private final String logType;
+    private final boolean asyncLog;
+    private final int logQueueCapacity;
+    private final LogOverflowPolicy logOverflowPolicy;
 
     public DefaultQuickFixInitiatorFactory(QuickFixExecutionApplication application) {
+        this(application, "file", DEFAULT_MMAP_CHUNK_SIZE, false, "file", false, 65536, LogOverflowPolicy.BLOCK);
+    }
+
+    @Autowired
+    public DefaultQuickFixInitiatorFactory(
+            QuickFixExecutionApplication application,
+            @Value("${fix.quickfix.store.type:file}") String storeType,
+            @Value("${fix.quickfix.store.mmap-chunk-size:" + DEFAULT_MMAP_CHUNK_SIZE + "}") int mmapChunkSize,
+            @Value("${fix.quickfix.store.force-every-write:false}") boolean forceEveryWrite,
+            @Value("${fix.quickfix.log.type:file}") String logType,
+            @Value("${fix.quickfix.log.async:false}") boolean asyncLog,
+            @Value("${fix.quickfix.log.queue-capacity:65536}") int logQueueCapacity,
+            @Value("${fix.quickfix.log.overflow:BLOCK}") LogOverflowPolicy logOverflowPolicy) {
         this.application = application;
+        this.storeType = storeType;
+        this.mmapChunkSize = mmapChunkSize;
+        this.forceEveryWrite = forceEveryWrite;
+        this.logType = logType;
+        this.asyncLog = asyncLog;
+        this.logQueueCapacity = logQueueCapacity;
+        this.logOverflowPolicy = logOverflowPolicy;
     }
 
     @Override
     public QuickFixInitiator create(SessionSettings settings) throws ConfigError {
+        LogFactory logFactory = logFactory(settings);
         SocketInitiator socketInitiator = new SocketInitiator(
                 application,
-                new FileStoreFactory(settings),
+                storeFactory(settings),
                 settings,
-                new FileLogFactory(settings),
+                logFactory,
                 new DefaultMessageFactory()
         );
 
@@ -36,7 +107,34 @@ public class DefaultQuickFixInitiatorFactory implements QuickFixInitiatorFactory
             @Override
             public void stop() {
                 socketInitiator.stop();
+                if (logFactory instanceof AsyncLogFactory async) {
+                    async.close();
+                }
             }
         };
     }
+
+    MessageStoreFactory storeFactory(SessionSettings settings) {
+        return switch (storeType.trim().toLowerCase(Locale.ROOT)) {
+            case "file" -> new FileStoreFactory(settings);
+            case "cached-file" -> new CachedFileStoreFactory(settings);
+            case "memory" -> new MemoryStoreFactory();
+            case "mmap" -> new MappedMessageStoreFactory(settings, mmapChunkSize, forceEveryWrite);
+            default -> throw new IllegalArgumentException("Unknown QuickFIX/J store type: " + storeType);
+        };
+    }
+
+    LogFactory logFactory(SessionSettings settings) {
+        String type = logType.trim().toLowerCase(Locale.ROOT);
+        LogFactory logFactory = switch (type) {
+            case "file" -> new FileLogFactory(settings);
+            case "slf4j" -> new SLF4JLogFactory(settings);
+            case "screen" -> new ScreenLogFactory(settings);
+            case "none" -> sessionID -> NO_LOG;
+            default -> throw new IllegalArgumentException("Unknown QuickFIX/J log type: " + logType);
+        };
+        return asyncLog && !"none".equals(type)
+                ? new AsyncLogFactory(logFactory, logQueueCapacity, logOverflowPolicy)
+                : logFactory;
+    }
 }
@@ -6,6 +6,8 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import quickfix.ConfigError;
@@ -24,16 +26,44 @@ public class FixInitiatorService {
     private static final String SETTING_SOCKET_CONNECT_PORT = "SocketConnectPort";
 
     private final QuickFixInitiatorFactory initiatorFactory;
+    private final FixSessionRouter sessionRouter;
     private final AtomicReference<InitiatorServiceStatus> status =
             new AtomicReference<>(InitiatorServiceStatus.initial());
 
+    // A lock rather than synchronized: start() may block while the initiator connects, and a virtual thread blocked
+    // inside a monitor would pin its carrier thread.
+    private final ReentrantLock lifecycleLock = new ReentrantLock();
     private QuickFixInitiator initiator;
 
     public FixInitiatorService(QuickFixInitiatorFactory initiatorFactory) {
+        this(initiatorFactory, null);
+    }
+
+    @Autowired
+    public FixInitiatorService(QuickFixInitiatorFactory initiatorFactory, FixSessionRouter sessionRouter) {
         this.initiatorFactory = initiatorFactory;
+        this.sessionRouter = sessionRouter;
+    }
+
+    public void start() {
+        lifecycleLock.lock();
+        try {
+            startLocked();
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    public void stop() {
+        lifecycleLock.lock();
+        try {
+            stopLocked();
+        } finally {
+            lifecycleLock.unlock();
+        }
     }
 
-    public synchronized void start() {
+    private void startLocked() {
         InitiatorServiceStatus currentStatus = status.get();
         if (currentStatus.status() == InitiatorStatus.RUNNING || currentStatus.status() == InitiatorStatus.STARTING) {
             return;
@@ -66,7 +96,7 @@ public class FixInitiatorService {
         }
     }
 
-    public synchronized void stop() {
+    private void stopLocked() {
         InitiatorServiceStatus currentStatus = status.get();
         if (initiator != null) {
             initiator.stop();
@@ -75,7 +105,17 @@ public class FixInitiatorService {
         status.set(withStatus(currentStatus, InitiatorStatus.STOPPED, null, "Initiator stopped", null));
     }
 
+    /** Lifecycle state only; unlike {@link #getStatus()} this never loads session settings. */
+    public InitiatorStatus currentStatus() {
+        return status.get().status();
+    }
+
     public InitiatorServiceStatus getStatus() {
+        InitiatorServiceStatus currentStatus = loadedStatus();
+        return sessionRouter == null ? currentStatus : currentStatus.withSessionStats(sessionRouter.sessionStats());
+    }
+
+    private InitiatorServiceStatus loadedStatus() {
         InitiatorServiceStatus currentStatus = status.get();
         if (hasConfig(currentStatus.config())) {
             return currentStatus;
@@ -0,0 +1,31 @@
+package com.example.fixclient.fix;
+
+import quickfix.Message;
+import quickfix.Session;
+import quickfix.SessionID;
+
+public interface FixSessionHandle {
+
+    SessionID sessionId();
+
+    boolean send(Message message);
+
+    static FixSessionHandle of(Session session) {
+        return new FixSessionHandle() {
+            @Override
+            public SessionID sessionId() {
+                return session.getSessionID();
+            }
+
+            @Override
+            public boolean send(Message message) {
+                return session.send(message);
+            }
+
+            @Override
+            public String toString() {
+                return session.getSessionID().toString();
+            }
+        };
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.fixclient.fix;
+
+import com.fixclient.backend.ids.ClOrdIdChain;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import quickfix.Session;
+import quickfix.SessionID;
+import quickfix.field.OrdStatus;
+
+/**
+ * Keeps the logged-on FIX sessions as an immutable snapshot and routes orders across them.
+ *
+ * <p>Sessions are resolved once when they log on and dropped when they log out, so the order path only
+ * reads the current snapshot and never parses session ids or consults the QuickFIX/J session registry.
+ * Per-session throughput statistics outlive logouts so a reconnecting session keeps its history; only its
+ * outstanding orders are cleared.
+ */
+@Component
+public class FixSessionRouter {
+
+    private final AtomicReference<List<RoutedSession>> sessions = new AtomicReference<>(List.of());
+    private final ConcurrentHashMap<SessionID, SessionThroughputStats> statsBySession = new ConcurrentHashMap<>();
+    private final SessionRoutingStrategy routingStrategy;
+
+    public FixSessionRouter() {
+        this(new RoundRobinSessionRouting());
+    }
+
+    @Autowired
+    public FixSessionRouter(@Value("${fix.sessions.routing:round-robin}") String routing) {
+        this(SessionRoutingStrategy.named(routing));
+    }
+
+    public FixSessionRouter(SessionRoutingStrategy routingStrategy) {
+        this.routingStrategy = routingStrategy;
+    }
+
+    public void onLogon(SessionID sessionID) {
+        Session session = Session.lookupSession(sessionID);
+        if (session != null) {
+            register(FixSessionHandle.of(session));
+        }
+    }
+
+    public void onLogout(SessionID sessionID) {
+        sessions.updateAndGet(current -> {
+            List<RoutedSession> next = new ArrayList<>(current);
+            next.removeIf(routed -> routed.sessionId().equals(sessionID));
+            return List.copyOf(next);
+        });
+        SessionThroughputStats stats = statsBySession.get(sessionID);
+        if (stats != null) {
+            stats.clearOutstanding();
+        }
+    }
+
+    public void register(FixSessionHandle handle) {
+        RoutedSession routed = new RoutedSession(handle, statsFor(handle.sessionId()));
+        sessions.updateAndGet(current -> {
+            List<RoutedSession> next = new ArrayList<>(current);
+            next.removeIf(existing -> existing.sessionId().equals(handle.sessionId()));
+            next.add(routed);
+            return List.copyOf(next);
+        });
+    }
+
+    /** Returns the session the order should go to, or {@code null} when no session is logged on. */
+    public RoutedSession route(OrderSubmission submission) {
+        List<RoutedSession> snapshot = sessions.get();
+        if (snapshot.isEmpty()) {
+            return null;
+        }
+        return snapshot.size() == 1 ? snapshot.get(0) : routingStrategy.select(submission, snapshot);
+    }
+
+    /** The logged-on session whose id is {@code sessionId}, or {@code null} while it is logged out. */
+    public RoutedSession session(String sessionId) {
+        for (RoutedSession routed : sessions.get()) {
+            if (routed.sessionId().toString().equals(sessionId)) {
+                return routed;
+            }
+        }
+        return null;
+    }
+
+    public void onExecutionReport(SessionID sessionID, String clOrdId, char ordStatus) {
+        SessionThroughputStats stats = statsBySession.get(sessionID);
+        if (stats != null && clOrdId != null) {
+            stats.onExecutionReport(ClOrdIdChain.rootOf(clOrdId), isTerminal(ordStatus), System.nanoTime());
+        }
+    }
+
+    public List<RoutedSession> activeSessions() {
+        return sessions.get();
+    }
+
+    public List<SessionStatsSnapshot> sessionStats() {
+        List<RoutedSession> active = sessions.get();
+        List<SessionStatsSnapshot> snapshots = new ArrayList<>(statsBySession.size());
+        statsBySession.forEach((sessionID, stats) -> snapshots.add(stats.snapshot(
+                sessionID.toString(),
+                active.stream().anyMatch(routed -> routed.sessionId().equals(sessionID)))));
+        snapshots.sort((left, right) -> left.sessionId().compareTo(right.sessionId()));
+        return snapshots;
+    }
+
+    private SessionThroughputStats statsFor(SessionID sessionID) {
+        return statsBySession.computeIfAbsent(sessionID, ignored -> new SessionThroughputStats());
+    }
+
+    private static boolean isTerminal(char ordStatus) {
+        return ordStatus == OrdStatus.FILLED
+                || ordStatus == OrdStatus.DONE_FOR_DAY
+                || ordStatus == OrdStatus.CANCELED
+                || ordStatus == OrdStatus.REJECTED
+                || ordStatus == OrdStatus.EXPIRED;
+    }
+}
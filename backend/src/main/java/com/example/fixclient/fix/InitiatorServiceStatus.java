@@ -7,10 +7,21 @@ public record InitiatorServiceStatus(
         String details,
         List<String> sessions,
         FixSessionConfig config,
-        InitiatorDiagnostics diagnostics) {
+        InitiatorDiagnostics diagnostics,
+        List<SessionStatsSnapshot> sessionStats) {
 
     public InitiatorServiceStatus {
         sessions = List.copyOf(sessions);
+        sessionStats = List.copyOf(sessionStats);
+    }
+
+    public InitiatorServiceStatus(
+            InitiatorStatus status,
+            String details,
+            List<String> sessions,
+            FixSessionConfig config,
+            InitiatorDiagnostics diagnostics) {
+        this(status, details, sessions, config, diagnostics, List.of());
     }
 
     public InitiatorServiceStatus(InitiatorStatus status, String details, List<String> sessions) {
@@ -22,6 +33,10 @@ public record InitiatorServiceStatus(
                 new InitiatorDiagnostics(status.name(), details, java.time.Instant.now()));
     }
 
+    public InitiatorServiceStatus withSessionStats(List<SessionStatsSnapshot> nextSessionStats) {
+        return new InitiatorServiceStatus(status, details, sessions, config, diagnostics, nextSessionStats);
+    }
+
     public static InitiatorServiceStatus initial() {
         return new InitiatorServiceStatus(
                 InitiatorStatus.STOPPED,
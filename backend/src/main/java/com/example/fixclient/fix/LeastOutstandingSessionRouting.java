@@ -0,0 +1,26 @@
+package com.example.fixclient.fix;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LeastOutstandingSessionRouting implements SessionRoutingStrategy {
+
+    private final AtomicInteger tieBreaker = new AtomicInteger();
+
+    @Override
+    public RoutedSession select(OrderSubmission submission, List<RoutedSession> sessions) {
+        int size = sessions.size();
+        int offset = Math.floorMod(tieBreaker.getAndIncrement(), size);
+        RoutedSession best = null;
+        int bestOutstanding = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            RoutedSession candidate = sessions.get((offset + i) % size);
+            int outstanding = candidate.stats().outstandingOrders();
+            if (outstanding < bestOutstanding) {
+                best = candidate;
+                bestOutstanding = outstanding;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.fixclient.fix;
+
+import com.fixclient.backend.orders.OrderSide;
+import com.fixclient.backend.orders.OrderType;
+import com.fixclient.backend.support.FixedPoint;
+import java.math.BigDecimal;
+import java.time.Instant;
+import quickfix.Message;
+import quickfix.SessionID;
+import quickfix.StringField;
+import quickfix.field.BeginString;
+import quickfix.field.ClOrdID;
+import quickfix.field.MsgType;
+import quickfix.field.OrdType;
+import quickfix.field.OrderQty;
+import quickfix.field.Price;
+import quickfix.field.SenderCompID;
+import quickfix.field.Side;
+import quickfix.field.Symbol;
+import quickfix.field.TargetCompID;
+import quickfix.field.TimeInForce;
+import quickfix.field.TransactTime;
+
+/**
+ * A reusable NewOrderSingle for one session, owned by a single thread.
+ *
+ * <p>The header and the body field objects are created once; each {@link #encode} only swaps field values,
+ * so the returned message is valid until the next call on the same template.
+ */
+final class NewOrderSingleTemplate {
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final int DATE_PREFIX_LENGTH = 9;
+    private static final int TIMESTAMP_LENGTH = 21;
+
+    // QuickFIX/J reads every field back as a StringField, so char fields are kept as one-character strings.
+    private static final String SIDE_BUY = String.valueOf(Side.BUY);
+    private static final String SIDE_SELL = String.valueOf(Side.SELL);
+    private static final String ORD_TYPE_MARKET = String.valueOf(OrdType.MARKET);
+    private static final String ORD_TYPE_LIMIT = String.valueOf(OrdType.LIMIT);
+    private static final String TIF_DAY = String.valueOf(TimeInForce.DAY);
+    private static final String TIF_IOC = String.valueOf(TimeInForce.IMMEDIATE_OR_CANCEL);
+    private static final String TIF_GTC = String.valueOf(TimeInForce.GOOD_TILL_CANCEL);
+
+    private final Message message = new Message();
+    private final StringField clOrdId = new StringField(ClOrdID.FIELD);
+    private final StringField symbol = new StringField(Symbol.FIELD);
+    private final StringField side = new StringField(Side.FIELD);
+    private final StringField orderQty = new StringField(OrderQty.FIELD);
+    private final StringField ordType = new StringField(OrdType.FIELD);
+    private final StringField price = new StringField(Price.FIELD);
+    private final StringField timeInForce = new StringField(TimeInForce.FIELD);
+    private final StringField transactTime = new StringField(TransactTime.FIELD);
+
+    private final char[] decimalBuffer = new char[FixedPoint.MAX_FORMATTED_LENGTH];
+    private final char[] timestampBuffer = new char[TIMESTAMP_LENGTH];
+    private long cachedEpochDay = Long.MIN_VALUE;
+
+    NewOrderSingleTemplate(SessionID sessionId) {
+        message.getHeader().setString(BeginString.FIELD, sessionId.getBeginString());
+        message.getHeader().setString(SenderCompID.FIELD, sessionId.getSenderCompID());
+        message.getHeader().setString(TargetCompID.FIELD, sessionId.getTargetCompID());
+        message.getHeader().setString(MsgType.FIELD, MsgType.ORDER_SINGLE);
+        message.setField(ClOrdID.FIELD, clOrdId);
+        message.setField(Symbol.FIELD, symbol);
+        message.setField(Side.FIELD, side);
+        message.setField(OrderQty.FIELD, orderQty);
+        message.setField(OrdType.FIELD, ordType);
+        message.setField(TransactTime.FIELD, transactTime);
+        message.setField(TimeInForce.FIELD, timeInForce);
+    }
+
+    Message encode(String clOrdIdValue, OrderSubmission submission) {
+        clOrdId.setValue(clOrdIdValue);
+        symbol.setValue(submission.symbol());
+        side.setValue(submission.side() == OrderSide.BUY ? SIDE_BUY : SIDE_SELL);
+        orderQty.setValue(formatDecimal(submission.qty(), 0));
+        ordType.setValue(submission.type() == OrderType.MARKET ? ORD_TYPE_MARKET : ORD_TYPE_LIMIT);
+        transactTime.setValue(formatTransactTime(submission.createdAt()));
+        timeInForce.setValue(toFixTimeInForce(submission.tif()));
+
+        if (submission.type() == OrderType.LIMIT && submission.price() != null) {
+            price.setValue(formatPrice(submission.price()));
+            message.setField(Price.FIELD, price);
+        } else {
+            message.removeField(Price.FIELD);
+        }
+        return message;
+    }
+
+    private String formatPrice(BigDecimal value) {
+        if (value.precision() <= 18) {
+            try {
+                return formatDecimal(value.unscaledValue().longValue(), value.scale());
+            } catch (ArithmeticException ignored) {
+                // Scale beyond what FixedPoint renders; fall through to BigDecimal's own formatting.
+            }
+        }
+        return value.stripTrailingZeros().toPlainString();
+    }
+
+    private String formatDecimal(long unscaled, int scale) {
+        int length = FixedPoint.format(unscaled, scale, decimalBuffer, 0);
+        return new String(decimalBuffer, 0, length);
+    }
+
+    /** Renders {@code yyyyMMdd-HH:mm:ss.SSS} in UTC, recomputing the date part only when the day changes. */
+    private String formatTransactTime(Instant instant) {
+        long epochSecond = instant.getEpochSecond();
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        if (epochDay != cachedEpochDay) {
+            writeDate(epochDay);
+            cachedEpochDay = epochDay;
+        }
+        int secondOfDay = (int) (epochSecond - epochDay * SECONDS_PER_DAY);
+        writeDigits(secondOfDay / 3600, 2, 9);
+        timestampBuffer[11] = ':';
+        writeDigits(secondOfDay / 60 % 60, 2, 12);
+        timestampBuffer[14] = ':';
+        writeDigits(secondOfDay % 60, 2, 15);
+        timestampBuffer[17] = '.';
+        writeDigits(instant.getNano() / 1_000_000, 3, 18);
+        return new String(timestampBuffer);
+    }
+
+    private void writeDate(long epochDay) {
+        long shifted = epochDay + 719_468L;
+        long era = Math.floorDiv(shifted, 146_097L);
+        long dayOfEra = shifted - era * 146_097L;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+
+        writeDigits(year, 4, 0);
+        writeDigits(month, 2, 4);
+        writeDigits(day, 2, 6);
+        timestampBuffer[DATE_PREFIX_LENGTH - 1] = '-';
+    }
+
+    private void writeDigits(int value, int width, int offset) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            timestampBuffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private String toFixTimeInForce(com.fixclient.backend.orders.TimeInForce tif) {
+        if (tif == com.fixclient.backend.orders.TimeInForce.IOC) {
+            return TIF_IOC;
+        }
+        if (tif == com.fixclient.backend.orders.TimeInForce.GTC) {
+            return TIF_GTC;
+        }
+        return TIF_DAY;
+    }
+}
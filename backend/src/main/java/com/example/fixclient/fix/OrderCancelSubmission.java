@@ -0,0 +1,31 @@
+package com.example.fixclient.fix;
+
+import com.fixclient.backend.orders.OrderSide;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An OrderCancelRequest (35=F) for the order the venue knows as {@code origClOrdId}. {@code sessionId} is the FIX
+ * session the order was sent on, or {@code null} when that is not known.
+ */
+public record OrderCancelSubmission(
+        UUID orderId,
+        String clOrdId,
+        String origClOrdId,
+        Instant transactTime,
+        String symbol,
+        OrderSide side,
+        Integer qty,
+        String sessionId) {
+
+    public OrderCancelSubmission(
+            UUID orderId,
+            String clOrdId,
+            String origClOrdId,
+            Instant transactTime,
+            String symbol,
+            OrderSide side,
+            Integer qty) {
+        this(orderId, clOrdId, origClOrdId, transactTime, symbol, side, qty, null);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.fixclient.fix;
+
+import com.fixclient.backend.orders.OrderSide;
+import java.time.Instant;
+
+/**
+ * An OrderMassCancelRequest (35=q). A {@code null} symbol cancels every order, a {@code null} side both sides, and a
+ * {@code null} session sends the request on every logged-on session.
+ */
+public record OrderMassCancelSubmission(
+        String clOrdId,
+        Instant transactTime,
+        String symbol,
+        OrderSide side,
+        String sessionId) {
+}
@@ -0,0 +1,40 @@
+package com.example.fixclient.fix;
+
+import com.fixclient.backend.orders.OrderSide;
+import com.fixclient.backend.orders.OrderType;
+import com.fixclient.backend.orders.TimeInForce;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An OrderCancelReplaceRequest (35=G) carrying the full amended order, as FIX requires. {@code sessionId} is the FIX
+ * session the order was sent on, or {@code null} when that is not known.
+ */
+public record OrderReplaceSubmission(
+        UUID orderId,
+        String clOrdId,
+        String origClOrdId,
+        Instant transactTime,
+        String symbol,
+        OrderSide side,
+        Integer qty,
+        OrderType type,
+        BigDecimal price,
+        TimeInForce tif,
+        String sessionId) {
+
+    public OrderReplaceSubmission(
+            UUID orderId,
+            String clOrdId,
+            String origClOrdId,
+            Instant transactTime,
+            String symbol,
+            OrderSide side,
+            Integer qty,
+            OrderType type,
+            BigDecimal price,
+            TimeInForce tif) {
+        this(orderId, clOrdId, origClOrdId, transactTime, symbol, side, qty, type, price, tif, null);
+    }
+}
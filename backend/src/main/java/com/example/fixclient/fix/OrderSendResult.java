@@ -1,4 +1,9 @@
 package com.example.fixclient.fix;
 
-public record OrderSendResult(boolean accepted, String message) {
+/** Outcome of a send. {@code sessionId} names the FIX session the message went to, or is {@code null}. */
+public record OrderSendResult(boolean accepted, String message, String sessionId) {
+
+    public OrderSendResult(boolean accepted, String message) {
+        this(accepted, message, null);
+    }
 }
@@ -1,6 +1,29 @@
 package com.example.fixclient.fix;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface OrderSender {
 
     OrderSendResult send(OrderSubmission submission);
+
+    default List<OrderSendResult> sendBatch(List<OrderSubmission> submissions) {
+        List<OrderSendResult> results = new ArrayList<>(submissions.size());
+        for (OrderSubmission submission : submissions) {
+            results.add(send(submission));
+        }
+        return results;
+    }
+
+    default OrderSendResult cancel(OrderCancelSubmission cancel) {
+        return new OrderSendResult(false, "Order cancel is not supported by this sender");
+    }
+
+    default OrderSendResult replace(OrderReplaceSubmission replace) {
+        return new OrderSendResult(false, "Order replace is not supported by this sender");
+    }
+
+    default OrderSendResult massCancel(OrderMassCancelSubmission massCancel) {
+        return new OrderSendResult(false, "Mass cancel is not supported by this sender");
+    }
 }
@@ -9,6 +9,7 @@ import java.util.UUID;
 
 public record OrderSubmission(
         UUID orderId,
+        String clOrdId,
         Instant createdAt,
         String symbol,
         OrderSide side,
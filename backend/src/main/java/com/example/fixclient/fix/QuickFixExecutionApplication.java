@@ -1,6 +1,9 @@
 package com.example.fixclient.fix;
 
+import com.example.fixclient.fix.market.MarketDataRefreshHandler;
+import com.example.fixclient.fix.market.QuickFixMarketDataSubscriberAdapter;
 import com.fixclient.backend.execution.ExecutionReportIngestionService;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import quickfix.ApplicationAdapter;
 import quickfix.FieldNotFound;
@@ -9,15 +12,54 @@ import quickfix.IncorrectTagValue;
 import quickfix.Message;
 import quickfix.SessionID;
 import quickfix.UnsupportedMessageType;
+import quickfix.field.BusinessRejectRefID;
+import quickfix.field.ClOrdID;
+import quickfix.field.MassCancelResponse;
 import quickfix.field.MsgType;
+import quickfix.field.OrdStatus;
+import quickfix.field.RefMsgType;
+import quickfix.field.Text;
 
 @Component
 public class QuickFixExecutionApplication extends ApplicationAdapter {
 
     private final ExecutionReportIngestionService ingestionService;
+    private final FixSessionRouter sessionRouter;
+    private final QuickFixMarketDataSubscriberAdapter marketDataSubscriber;
+    private final MarketDataRefreshHandler marketDataRefreshHandler;
 
-    public QuickFixExecutionApplication(ExecutionReportIngestionService ingestionService) {
+    public QuickFixExecutionApplication(
+            ExecutionReportIngestionService ingestionService,
+            FixSessionRouter sessionRouter) {
+        this(ingestionService, sessionRouter, null, null);
+    }
+
+    @Autowired
+    public QuickFixExecutionApplication(
+            ExecutionReportIngestionService ingestionService,
+            FixSessionRouter sessionRouter,
+            QuickFixMarketDataSubscriberAdapter marketDataSubscriber,
+            MarketDataRefreshHandler marketDataRefreshHandler) {
         this.ingestionService = ingestionService;
+        this.sessionRouter = sessionRouter;
+        this.marketDataSubscriber = marketDataSubscriber;
+        this.marketDataRefreshHandler = marketDataRefreshHandler;
+    }
+
+    @Override
+    public void onLogon(SessionID sessionID) {
+        sessionRouter.onLogon(sessionID);
+        if (marketDataSubscriber != null) {
+            marketDataSubscriber.onLogon(sessionID);
+        }
+    }
+
+    @Override
+    public void onLogout(SessionID sessionID) {
+        sessionRouter.onLogout(sessionID);
+        if (marketDataSubscriber != null) {
+            marketDataSubscriber.onLogout(sessionID);
+        }
     }
 
     @Override
@@ -25,7 +67,33 @@ public class QuickFixExecutionApplication extends ApplicationAdapter {
             throws FieldNotFound, IncorrectDataFormat, IncorrectTagValue, UnsupportedMessageType {
         String msgType = message.getHeader().getString(MsgType.FIELD);
         if (MsgType.EXECUTION_REPORT.equals(msgType)) {
+            if (message.isSetField(ClOrdID.FIELD) && message.isSetField(OrdStatus.FIELD)) {
+                sessionRouter.onExecutionReport(
+                        sessionID, message.getString(ClOrdID.FIELD), message.getChar(OrdStatus.FIELD));
+            }
             ingestionService.ingest(message);
+        } else if (MsgType.ORDER_CANCEL_REJECT.equals(msgType)) {
+            ingestionService.ingestCancelReject(
+                    message.isSetField(ClOrdID.FIELD) ? message.getString(ClOrdID.FIELD) : null,
+                    message.isSetField(Text.FIELD) ? message.getString(Text.FIELD) : null);
+        } else if (MsgType.ORDER_MASS_CANCEL_REPORT.equals(msgType)) {
+            boolean rejected = message.isSetField(MassCancelResponse.FIELD) && message.getChar(MassCancelResponse.FIELD)
+                    == MassCancelResponse.CANCEL_REQUEST_REJECTED_SEE_MASSCANCELREJECTREASON;
+            ingestionService.ingestMassCancelReport(
+                    message.isSetField(ClOrdID.FIELD) ? message.getString(ClOrdID.FIELD) : null, rejected);
+        } else if (MsgType.BUSINESS_MESSAGE_REJECT.equals(msgType)) {
+            // A venue without mass cancel support rejects the 35=q itself, naming its ClOrdID in BusinessRejectRefID.
+            if (message.isSetField(RefMsgType.FIELD)
+                    && MsgType.ORDER_MASS_CANCEL_REQUEST.equals(message.getString(RefMsgType.FIELD))
+                    && message.isSetField(BusinessRejectRefID.FIELD)) {
+                ingestionService.ingestMassCancelReport(message.getString(BusinessRejectRefID.FIELD), true);
+            }
+        } else if (marketDataRefreshHandler != null
+                && MsgType.MARKET_DATA_SNAPSHOT_FULL_REFRESH.equals(msgType)) {
+            marketDataRefreshHandler.onSnapshot(message);
+        } else if (marketDataRefreshHandler != null
+                && MsgType.MARKET_DATA_INCREMENTAL_REFRESH.equals(msgType)) {
+            marketDataRefreshHandler.onIncrementalRefresh(message);
         }
     }
 }
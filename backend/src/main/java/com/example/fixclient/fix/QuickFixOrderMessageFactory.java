@@ -4,25 +4,47 @@ import com.fixclient.backend.orders.OrderSide;
 import com.fixclient.backend.orders.OrderType;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 import org.springframework.stereotype.Component;
+import quickfix.Group;
 import quickfix.Message;
+import quickfix.field.BidType;
 import quickfix.field.ClOrdID;
+import quickfix.field.ListID;
+import quickfix.field.ListSeqNo;
+import quickfix.field.MassCancelRequestType;
 import quickfix.field.MsgType;
+import quickfix.field.NoOrders;
 import quickfix.field.OrdType;
 import quickfix.field.OrderQty;
+import quickfix.field.OrigClOrdID;
 import quickfix.field.Price;
 import quickfix.field.Side;
 import quickfix.field.Symbol;
 import quickfix.field.TimeInForce;
+import quickfix.field.TotNoOrders;
 import quickfix.field.TransactTime;
 
 @Component
 public class QuickFixOrderMessageFactory {
 
+    private static final int[] LIST_ORDER_FIELD_ORDER = {
+            ClOrdID.FIELD,
+            ListSeqNo.FIELD,
+            Symbol.FIELD,
+            Side.FIELD,
+            Price.FIELD,
+            OrderQty.FIELD,
+            OrdType.FIELD,
+            TimeInForce.FIELD,
+            TransactTime.FIELD,
+            0
+    };
+
     public Message build(OrderSubmission submission) {
         Message message = new Message();
         message.getHeader().setString(MsgType.FIELD, MsgType.ORDER_SINGLE);
-        message.setString(ClOrdID.FIELD, submission.orderId().toString());
+        message.setString(ClOrdID.FIELD, submission.clOrdId());
         message.setString(Symbol.FIELD, submission.symbol());
         message.setChar(Side.FIELD, toFixSide(submission.side()));
         message.setDouble(OrderQty.FIELD, submission.qty());
@@ -37,6 +59,81 @@ public class QuickFixOrderMessageFactory {
         return message;
     }
 
+    public Message buildList(String listId, List<OrderSubmission> submissions) {
+        Message message = new Message();
+        message.getHeader().setString(MsgType.FIELD, MsgType.ORDER_LIST);
+        message.setString(ListID.FIELD, listId);
+        message.setInt(BidType.FIELD, BidType.NO_BIDDING_PROCESS);
+        message.setInt(TotNoOrders.FIELD, submissions.size());
+
+        int listSeqNo = 1;
+        for (OrderSubmission submission : submissions) {
+            Group order = new Group(NoOrders.FIELD, ClOrdID.FIELD, LIST_ORDER_FIELD_ORDER);
+            order.setString(ClOrdID.FIELD, submission.clOrdId());
+            order.setInt(ListSeqNo.FIELD, listSeqNo++);
+            order.setString(Symbol.FIELD, submission.symbol());
+            order.setChar(Side.FIELD, toFixSide(submission.side()));
+            order.setDouble(OrderQty.FIELD, submission.qty());
+            order.setChar(OrdType.FIELD, toFixOrdType(submission.type()));
+            order.setField(new TransactTime(LocalDateTime.ofInstant(submission.createdAt(), ZoneOffset.UTC)));
+            order.setChar(TimeInForce.FIELD, toFixTimeInForce(submission.tif()));
+            if (submission.type() == OrderType.LIMIT && submission.price() != null) {
+                order.setDouble(Price.FIELD, submission.price().doubleValue());
+            }
+            message.addGroup(order);
+        }
+
+        return message;
+    }
+
+    public Message buildCancel(OrderCancelSubmission cancel) {
+        Message message = new Message();
+        message.getHeader().setString(MsgType.FIELD, MsgType.ORDER_CANCEL_REQUEST);
+        message.setString(OrigClOrdID.FIELD, cancel.origClOrdId());
+        message.setString(ClOrdID.FIELD, cancel.clOrdId());
+        message.setString(Symbol.FIELD, cancel.symbol());
+        message.setChar(Side.FIELD, toFixSide(cancel.side()));
+        message.setField(new TransactTime(LocalDateTime.ofInstant(cancel.transactTime(), ZoneOffset.UTC)));
+        if (cancel.qty() != null) {
+            message.setDouble(OrderQty.FIELD, cancel.qty());
+        }
+        return message;
+    }
+
+    public Message buildReplace(OrderReplaceSubmission replace) {
+        Message message = new Message();
+        message.getHeader().setString(MsgType.FIELD, MsgType.ORDER_CANCEL_REPLACE_REQUEST);
+        message.setString(OrigClOrdID.FIELD, replace.origClOrdId());
+        message.setString(ClOrdID.FIELD, replace.clOrdId());
+        message.setString(Symbol.FIELD, replace.symbol());
+        message.setChar(Side.FIELD, toFixSide(replace.side()));
+        message.setDouble(OrderQty.FIELD, replace.qty());
+        message.setChar(OrdType.FIELD, toFixOrdType(replace.type()));
+        message.setField(new TransactTime(LocalDateTime.ofInstant(replace.transactTime(), ZoneOffset.UTC)));
+        message.setChar(TimeInForce.FIELD, toFixTimeInForce(replace.tif()));
+        if (replace.type() == OrderType.LIMIT && replace.price() != null) {
+            message.setDouble(Price.FIELD, replace.price().doubleValue());
+        }
+        return message;
+    }
+
+    public Message buildMassCancel(OrderMassCancelSubmission massCancel) {
+        Message message = new Message();
+        message.getHeader().setString(MsgType.FIELD, MsgType.ORDER_MASS_CANCEL_REQUEST);
+        message.setString(ClOrdID.FIELD, massCancel.clOrdId());
+        if (massCancel.symbol() != null) {
+            message.setChar(MassCancelRequestType.FIELD, MassCancelRequestType.CANCEL_ORDERS_FOR_A_SECURITY);
+            message.setString(Symbol.FIELD, massCancel.symbol());
+        } else {
+            message.setChar(MassCancelRequestType.FIELD, MassCancelRequestType.CANCEL_ALL_ORDERS);
+        }
+        if (massCancel.side() != null) {
+            message.setChar(Side.FIELD, toFixSide(massCancel.side()));
+        }
+        message.setField(new TransactTime(LocalDateTime.ofInstant(massCancel.transactTime(), ZoneOffset.UTC)));
+        return message;
+    }
+
     private char toFixSide(OrderSide side) {
         return side == OrderSide.BUY ? Side.BUY : Side.SELL;
     }
@@ -0,0 +1,14 @@
+package com.example.fixclient.fix;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RoundRobinSessionRouting implements SessionRoutingStrategy {
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Override
+    public RoutedSession select(OrderSubmission submission, List<RoutedSession> sessions) {
+        return sessions.get(Math.floorMod(next.getAndIncrement(), sessions.size()));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.fixclient.fix;
+
+import java.util.List;
+import quickfix.Message;
+import quickfix.SessionID;
+
+public final class RoutedSession {
+
+    private final FixSessionHandle handle;
+    private final SessionThroughputStats stats;
+
+    RoutedSession(FixSessionHandle handle, SessionThroughputStats stats) {
+        this.handle = handle;
+        this.stats = stats;
+    }
+
+    public SessionID sessionId() {
+        return handle.sessionId();
+    }
+
+    public FixSessionHandle handle() {
+        return handle;
+    }
+
+    public SessionThroughputStats stats() {
+        return stats;
+    }
+
+    /** Sends one order message and, when the session accepted it, counts it as outstanding. */
+    public boolean send(Message message, String clOrdId) {
+        boolean sent = handle.send(message);
+        if (sent) {
+            stats.onSent(clOrdId, System.nanoTime());
+        }
+        return sent;
+    }
+
+    /** Sends a cancel or cancel/replace request; it acts on an order that is already outstanding. */
+    public boolean sendRequest(Message message) {
+        return handle.send(message);
+    }
+
+    /** Sends a NewOrderList and counts each of its orders as outstanding. */
+    public boolean sendList(Message message, List<OrderSubmission> submissions) {
+        boolean sent = handle.send(message);
+        if (sent) {
+            long sentAt = System.nanoTime();
+            for (OrderSubmission submission : submissions) {
+                stats.onSent(submission.clOrdId(), sentAt);
+            }
+        }
+        return sent;
+    }
+}
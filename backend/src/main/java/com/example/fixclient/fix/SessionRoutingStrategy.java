@@ -0,0 +1,19 @@
+package com.example.fixclient.fix;
+
+import java.util.List;
+import java.util.Locale;
+
+public interface SessionRoutingStrategy {
+
+    /** Picks one of {@code sessions}, which is never empty. */
+    RoutedSession select(OrderSubmission submission, List<RoutedSession> sessions);
+
+    static SessionRoutingStrategy named(String name) {
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "round-robin" -> new RoundRobinSessionRouting();
+            case "symbol" -> new SymbolSessionRouting();
+            case "least-outstanding" -> new LeastOutstandingSessionRouting();
+            default -> throw new IllegalArgumentException("Unknown session routing strategy: " + name);
+        };
+    }
+}
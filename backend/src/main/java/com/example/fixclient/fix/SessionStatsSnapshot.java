@@ -0,0 +1,11 @@
+package com.example.fixclient.fix;
+
+public record SessionStatsSnapshot(
+        String sessionId,
+        boolean loggedOn,
+        long ordersSent,
+        double sendRatePerSecond,
+        int outstandingOrders,
+        Double avgAckLatencyMillis,
+        Double maxAckLatencyMillis) {
+}
@@ -0,0 +1,101 @@
+package com.example.fixclient.fix;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Send counters, outstanding orders and acknowledgement latency for one FIX session.
+ *
+ * <p>An order is outstanding from the moment it is sent until an execution report with a terminal
+ * OrdStatus (including DoneForDay) arrives, or until the session logs out; its acknowledgement latency is measured up
+ * to the first execution report. Orders are tracked by their root ClOrdID, also for reports on their cancel and
+ * replace requests.
+ */
+public final class SessionThroughputStats {
+
+    private static final long RATE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final LongAdder ordersSent = new LongAdder();
+    private final Set<String> outstanding = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<String, Long> awaitingAckSince = new ConcurrentHashMap<>();
+    private final AtomicLong windowStartNanos;
+    private final LongAdder windowCount = new LongAdder();
+    private volatile double lastWindowRate;
+    private final LongAdder ackLatencyTotalNanos = new LongAdder();
+    private final LongAdder ackLatencySamples = new LongAdder();
+    private final AtomicLong ackLatencyMaxNanos = new AtomicLong();
+
+    SessionThroughputStats() {
+        this.windowStartNanos = new AtomicLong(System.nanoTime());
+    }
+
+    void onSent(String clOrdId, long sentAtNanos) {
+        ordersSent.increment();
+        outstanding.add(clOrdId);
+        awaitingAckSince.put(clOrdId, sentAtNanos);
+        rollWindow(sentAtNanos);
+        windowCount.increment();
+    }
+
+    void onExecutionReport(String clOrdId, boolean terminal, long receivedAtNanos) {
+        Long sentAt = awaitingAckSince.remove(clOrdId);
+        if (sentAt != null) {
+            long latency = receivedAtNanos - sentAt;
+            ackLatencyTotalNanos.add(latency);
+            ackLatencySamples.increment();
+            ackLatencyMaxNanos.accumulateAndGet(latency, Math::max);
+        }
+        if (terminal) {
+            outstanding.remove(clOrdId);
+            awaitingAckSince.remove(clOrdId);
+        }
+    }
+
+    /**
+     * Forgets outstanding orders and pending acknowledgements. After a logout the venue may have canceled them or
+     * reset sequence numbers, and reports for them may never come, so they must not keep counting for routing.
+     */
+    void clearOutstanding() {
+        outstanding.clear();
+        awaitingAckSince.clear();
+    }
+
+    public int outstandingOrders() {
+        return outstanding.size();
+    }
+
+    SessionStatsSnapshot snapshot(String sessionId, boolean loggedOn) {
+        long samples = ackLatencySamples.sum();
+        return new SessionStatsSnapshot(
+                sessionId,
+                loggedOn,
+                ordersSent.sum(),
+                sendRatePerSecond(System.nanoTime()),
+                outstandingOrders(),
+                samples == 0 ? null : toMillis(ackLatencyTotalNanos.sum() / (double) samples),
+                samples == 0 ? null : toMillis(ackLatencyMaxNanos.get()));
+    }
+
+    private double sendRatePerSecond(long nowNanos) {
+        long elapsed = nowNanos - windowStartNanos.get();
+        if (elapsed >= RATE_WINDOW_NANOS) {
+            return windowCount.sum() * (double) RATE_WINDOW_NANOS / elapsed;
+        }
+        return lastWindowRate;
+    }
+
+    private void rollWindow(long nowNanos) {
+        long start = windowStartNanos.get();
+        long elapsed = nowNanos - start;
+        if (elapsed >= RATE_WINDOW_NANOS && windowStartNanos.compareAndSet(start, nowNanos)) {
+            lastWindowRate = windowCount.sumThenReset() * (double) RATE_WINDOW_NANOS / elapsed;
+        }
+    }
+
+    private static double toMillis(double nanos) {
+        return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
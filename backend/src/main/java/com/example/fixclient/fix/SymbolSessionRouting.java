@@ -0,0 +1,11 @@
+package com.example.fixclient.fix;
+
+import java.util.List;
+
+public class SymbolSessionRouting implements SessionRoutingStrategy {
+
+    @Override
+    public RoutedSession select(OrderSubmission submission, List<RoutedSession> sessions) {
+        return sessions.get(Math.floorMod(submission.symbol().hashCode(), sessions.size()));
+    }
+}
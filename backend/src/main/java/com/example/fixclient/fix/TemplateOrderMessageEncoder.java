@@ -0,0 +1,29 @@
+package com.example.fixclient.fix;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import quickfix.Message;
+import quickfix.SessionID;
+
+/**
+ * Encodes NewOrderSingle messages into per-thread, per-session templates instead of building a new
+ * {@link Message} for every order.
+ *
+ * <p>The returned message is reused by the next {@code encode} on the same thread and session, so it must be
+ * handed to {@code Session.send} (which serializes it synchronously) before encoding the next order.
+ */
+@Component
+@ConditionalOnProperty(name = "fix.orders.encoder", havingValue = "template")
+public class TemplateOrderMessageEncoder {
+
+    private final ThreadLocal<Map<SessionID, NewOrderSingleTemplate>> templates =
+            ThreadLocal.withInitial(HashMap::new);
+
+    public Message encode(SessionID sessionId, String clOrdId, OrderSubmission submission) {
+        return templates.get()
+                .computeIfAbsent(sessionId, NewOrderSingleTemplate::new)
+                .encode(clOrdId, submission);
+    }
+}
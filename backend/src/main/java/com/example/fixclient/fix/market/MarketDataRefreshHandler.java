@@ -0,0 +1,128 @@
+package com.example.fixclient.fix.market;
+
+import com.fixclient.backend.market.MarketDataStore;
+import com.fixclient.backend.support.FixedPoint;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import quickfix.FieldMap;
+import quickfix.FieldNotFound;
+import quickfix.Group;
+import quickfix.Message;
+import quickfix.field.MDEntryPx;
+import quickfix.field.MDEntryType;
+import quickfix.field.MDUpdateAction;
+import quickfix.field.NoMDEntries;
+import quickfix.field.Symbol;
+
+/**
+ * Applies MarketDataSnapshotFullRefresh (35=W) and MarketDataIncrementalRefresh (35=X) messages to the
+ * {@link MarketDataStore}. Bid, offer and trade entries update bid, ask and last; other entry types and delete
+ * actions are ignored, leaving the previous value in place. Prices go straight from the message text to the store's
+ * fixed-point representation. When a {@link QuoteConflator} is configured, updates go through it instead of directly
+ * to the store.
+ */
+@Component
+public class MarketDataRefreshHandler {
+
+    static final String FIX_SOURCE = "FIX";
+
+    private final MarketDataStore store;
+    private final QuoteConflator conflator;
+    private final Clock clock;
+
+    public MarketDataRefreshHandler(MarketDataStore store) {
+        this(store, Optional.empty());
+    }
+
+    @Autowired
+    public MarketDataRefreshHandler(MarketDataStore store, Optional<QuoteConflator> conflator) {
+        this(store, conflator.orElse(null), Clock.systemUTC());
+    }
+
+    MarketDataRefreshHandler(MarketDataStore store, Clock clock) {
+        this(store, null, clock);
+    }
+
+    MarketDataRefreshHandler(MarketDataStore store, QuoteConflator conflator, Clock clock) {
+        this.store = store;
+        this.conflator = conflator;
+        this.clock = clock;
+    }
+
+    public void onSnapshot(Message message) throws FieldNotFound {
+        String symbol = message.getString(Symbol.FIELD);
+        TopOfBook book = new TopOfBook();
+        int entries = message.getGroupCount(NoMDEntries.FIELD);
+        for (int i = 1; i <= entries; i++) {
+            book.apply(message.getGroup(i, NoMDEntries.FIELD));
+        }
+        publish(symbol, book, Instant.now(clock));
+    }
+
+    public void onIncrementalRefresh(Message message) throws FieldNotFound {
+        String messageSymbol = message.isSetField(Symbol.FIELD) ? message.getString(Symbol.FIELD) : null;
+        Map<String, TopOfBook> books = new LinkedHashMap<>();
+        int entries = message.getGroupCount(NoMDEntries.FIELD);
+        for (int i = 1; i <= entries; i++) {
+            Group entry = message.getGroup(i, NoMDEntries.FIELD);
+            if (entry.isSetField(MDUpdateAction.FIELD) && entry.getChar(MDUpdateAction.FIELD) == MDUpdateAction.DELETE) {
+                continue;
+            }
+            String symbol = entry.isSetField(Symbol.FIELD) ? entry.getString(Symbol.FIELD) : messageSymbol;
+            if (symbol != null) {
+                books.computeIfAbsent(symbol, ignored -> new TopOfBook()).apply(entry);
+            }
+        }
+
+        Instant now = Instant.now(clock);
+        books.forEach((symbol, book) -> publish(symbol, book, now));
+    }
+
+    private void publish(String symbol, TopOfBook book, Instant updatedAt) {
+        if (book.isEmpty()) {
+            return;
+        }
+        if (conflator != null) {
+            conflator.offer(symbol, book.bid, book.ask, book.last, updatedAt, FIX_SOURCE);
+        } else {
+            store.upsertScaled(symbol, book.bid, book.ask, book.last, updatedAt, FIX_SOURCE);
+        }
+    }
+
+    private static final class TopOfBook {
+
+        private long bid = FixedPoint.NULL;
+        private long ask = FixedPoint.NULL;
+        private long last = FixedPoint.NULL;
+
+        private void apply(FieldMap entry) throws FieldNotFound {
+            if (!entry.isSetField(MDEntryType.FIELD) || !entry.isSetField(MDEntryPx.FIELD)) {
+                return;
+            }
+            long price;
+            try {
+                price = FixedPoint.parse(entry.getString(MDEntryPx.FIELD), MarketDataStore.PRICE_SCALE);
+            } catch (NumberFormatException | ArithmeticException ex) {
+                // A malformed or out-of-range price drops only this entry, not the rest of the message.
+                return;
+            }
+            switch (entry.getChar(MDEntryType.FIELD)) {
+                case MDEntryType.BID -> bid = price;
+                case MDEntryType.OFFER -> ask = price;
+                case MDEntryType.TRADE -> last = price;
+                default -> {
+                    // Depth, imbalance and statistics entries are not part of the quote.
+                }
+            }
+        }
+
+        private boolean isEmpty() {
+            return bid == FixedPoint.NULL && ask == FixedPoint.NULL && last == FixedPoint.NULL;
+        }
+    }
+}
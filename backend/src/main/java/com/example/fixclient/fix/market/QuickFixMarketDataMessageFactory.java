@@ -0,0 +1,52 @@
+package com.example.fixclient.fix.market;
+
+import java.util.List;
+import org.springframework.stereotype.Component;
+import quickfix.Group;
+import quickfix.Message;
+import quickfix.field.MDEntryType;
+import quickfix.field.MDReqID;
+import quickfix.field.MDUpdateType;
+import quickfix.field.MarketDepth;
+import quickfix.field.MsgType;
+import quickfix.field.NoMDEntryTypes;
+import quickfix.field.NoRelatedSym;
+import quickfix.field.SubscriptionRequestType;
+import quickfix.field.Symbol;
+
+@Component
+public class QuickFixMarketDataMessageFactory {
+
+    private static final char[] ENTRY_TYPES = {MDEntryType.BID, MDEntryType.OFFER, MDEntryType.TRADE};
+
+    /** Top-of-book snapshot plus incremental updates for every symbol in one MarketDataRequest (35=V). */
+    public Message buildSubscribe(String mdReqId, List<String> symbols) {
+        return build(mdReqId, SubscriptionRequestType.SNAPSHOT_UPDATES, symbols);
+    }
+
+    /** Disables the updates for {@code symbols} that were requested under {@code mdReqId}. */
+    public Message buildUnsubscribe(String mdReqId, List<String> symbols) {
+        return build(mdReqId, SubscriptionRequestType.DISABLE_PREVIOUS_SNAPSHOT_UPDATE_REQUEST, symbols);
+    }
+
+    private Message build(String mdReqId, char subscriptionRequestType, List<String> symbols) {
+        Message message = new Message();
+        message.getHeader().setString(MsgType.FIELD, MsgType.MARKET_DATA_REQUEST);
+        message.setString(MDReqID.FIELD, mdReqId);
+        message.setChar(SubscriptionRequestType.FIELD, subscriptionRequestType);
+        message.setInt(MarketDepth.FIELD, 1);
+        message.setInt(MDUpdateType.FIELD, MDUpdateType.INCREMENTAL_REFRESH);
+
+        for (char entryType : ENTRY_TYPES) {
+            Group group = new Group(NoMDEntryTypes.FIELD, MDEntryType.FIELD);
+            group.setChar(MDEntryType.FIELD, entryType);
+            message.addGroup(group);
+        }
+        for (String symbol : symbols) {
+            Group group = new Group(NoRelatedSym.FIELD, Symbol.FIELD);
+            group.setString(Symbol.FIELD, symbol);
+            message.addGroup(group);
+        }
+        return message;
+    }
+}
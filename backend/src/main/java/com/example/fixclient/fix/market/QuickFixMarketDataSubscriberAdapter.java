@@ -1,18 +1,196 @@
 package com.example.fixclient.fix.market;
 
+import com.example.fixclient.fix.FixSessionRouter;
+import com.example.fixclient.fix.RoutedSession;
 import com.fixclient.backend.market.MarketDataSubscriber;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import quickfix.SessionID;
 
+/**
+ * Reference-counted MarketDataRequest subscriptions over the first logged-on FIX session.
+ *
+ * <p>Only the first subscriber of a symbol and the last unsubscriber cause FIX traffic, and all symbols that change
+ * state in one call share a single request (chunked at {@code fix.marketdata.max-symbols-per-request}). Symbols
+ * subscribed while no session is logged on are requested as soon as one logs on, and are re-requested on another
+ * session when the one carrying them logs out.
+ *
+ * <p>The venue keys a subscription on its MDReqID, so a disable request cancels every symbol requested under that
+ * id. When only some of them are unsubscribed, the whole MDReqID is disabled and the rest are re-requested under a
+ * new one.
+ */
 @Component
 public class QuickFixMarketDataSubscriberAdapter implements MarketDataSubscriber {
 
+    static final int DEFAULT_MAX_SYMBOLS_PER_REQUEST = 100;
+
+    private final FixSessionRouter sessionRouter;
+    private final QuickFixMarketDataMessageFactory messageFactory;
+    private final int maxSymbolsPerRequest;
+    private final AtomicLong requestSequence = new AtomicLong();
+
+    // Guarded by this.
+    private final Map<String, Integer> refCounts = new HashMap<>();
+    private final Map<String, String> requestIdBySymbol = new HashMap<>();
+    private SessionID subscribedSession;
+
+    public QuickFixMarketDataSubscriberAdapter(
+            FixSessionRouter sessionRouter,
+            QuickFixMarketDataMessageFactory messageFactory) {
+        this(sessionRouter, messageFactory, DEFAULT_MAX_SYMBOLS_PER_REQUEST);
+    }
+
+    @Autowired
+    public QuickFixMarketDataSubscriberAdapter(
+            FixSessionRouter sessionRouter,
+            QuickFixMarketDataMessageFactory messageFactory,
+            @Value("${fix.marketdata.max-symbols-per-request:" + DEFAULT_MAX_SYMBOLS_PER_REQUEST + "}")
+            int maxSymbolsPerRequest) {
+        if (maxSymbolsPerRequest <= 0) {
+            throw new IllegalArgumentException("max symbols per request must be greater than 0");
+        }
+        this.sessionRouter = sessionRouter;
+        this.messageFactory = messageFactory;
+        this.maxSymbolsPerRequest = maxSymbolsPerRequest;
+    }
+
     @Override
     public void subscribe(String symbol) {
-        // Placeholder seam for future MarketDataRequest wiring.
+        subscribeAll(List.of(symbol));
     }
 
     @Override
     public void unsubscribe(String symbol) {
-        // Placeholder seam for future subscription lifecycle wiring.
+        unsubscribeAll(List.of(symbol));
+    }
+
+    @Override
+    public synchronized void subscribeAll(Collection<String> symbols) {
+        List<String> added = new ArrayList<>();
+        for (String symbol : symbols) {
+            if (refCounts.merge(symbol, 1, Integer::sum) == 1) {
+                added.add(symbol);
+            }
+        }
+        requestSymbols(added);
+    }
+
+    @Override
+    public synchronized void unsubscribeAll(Collection<String> symbols) {
+        Map<String, List<String>> removedByRequestId = new LinkedHashMap<>();
+        for (String symbol : symbols) {
+            Integer count = refCounts.get(symbol);
+            if (count == null) {
+                continue;
+            }
+            if (count > 1) {
+                refCounts.put(symbol, count - 1);
+                continue;
+            }
+            refCounts.remove(symbol);
+            String requestId = requestIdBySymbol.remove(symbol);
+            if (requestId != null) {
+                removedByRequestId.computeIfAbsent(requestId, ignored -> new ArrayList<>()).add(symbol);
+            }
+        }
+
+        RoutedSession session = currentSession();
+        if (session == null) {
+            return;
+        }
+        List<String> stillSubscribed = new ArrayList<>();
+        removedByRequestId.forEach((requestId, removed) -> {
+            List<String> remaining = releaseRequestId(requestId);
+            List<String> disabled = new ArrayList<>(removed);
+            disabled.addAll(remaining);
+            session.handle().send(messageFactory.buildUnsubscribe(requestId, disabled));
+            stillSubscribed.addAll(remaining);
+        });
+        requestSymbols(stillSubscribed);
+    }
+
+    @Override
+    public synchronized Set<String> subscribedSymbols() {
+        return new TreeSet<>(refCounts.keySet());
+    }
+
+    /** Requests every subscribed symbol that no logged-on session is carrying yet. */
+    public synchronized void onLogon(SessionID sessionID) {
+        requestSymbols(pendingSymbols());
+    }
+
+    public synchronized void onLogout(SessionID sessionID) {
+        if (!sessionID.equals(subscribedSession)) {
+            return;
+        }
+        subscribedSession = null;
+        requestIdBySymbol.clear();
+        requestSymbols(pendingSymbols());
+    }
+
+    /** Forgets the symbols still requested under {@code requestId} and returns them. */
+    private List<String> releaseRequestId(String requestId) {
+        List<String> released = new ArrayList<>();
+        requestIdBySymbol.entrySet().removeIf(entry -> {
+            if (!entry.getValue().equals(requestId)) {
+                return false;
+            }
+            released.add(entry.getKey());
+            return true;
+        });
+        return released;
+    }
+
+    private List<String> pendingSymbols() {
+        List<String> pending = new ArrayList<>();
+        for (String symbol : refCounts.keySet()) {
+            if (!requestIdBySymbol.containsKey(symbol)) {
+                pending.add(symbol);
+            }
+        }
+        return pending;
+    }
+
+    private void requestSymbols(List<String> symbols) {
+        if (symbols.isEmpty()) {
+            return;
+        }
+        RoutedSession session = currentSession();
+        if (session == null) {
+            return;
+        }
+        for (int from = 0; from < symbols.size(); from += maxSymbolsPerRequest) {
+            List<String> chunk = symbols.subList(from, Math.min(symbols.size(), from + maxSymbolsPerRequest));
+            String requestId = "MD-" + requestSequence.incrementAndGet();
+            if (session.handle().send(messageFactory.buildSubscribe(requestId, chunk))) {
+                for (String symbol : chunk) {
+                    requestIdBySymbol.put(symbol, requestId);
+                }
+                subscribedSession = session.sessionId();
+            }
+        }
+    }
+
+    private RoutedSession currentSession() {
+        List<RoutedSession> sessions = sessionRouter.activeSessions();
+        if (sessions.isEmpty()) {
+            return null;
+        }
+        for (RoutedSession session : sessions) {
+            if (session.sessionId().equals(subscribedSession)) {
+                return session;
+            }
+        }
+        return sessions.get(0);
     }
 }
@@ -0,0 +1,240 @@
+package com.example.fixclient.fix.market;
+
+import com.fixclient.backend.market.MarketDataStore;
+import com.fixclient.backend.support.FixedPoint;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conflates feed ticks per symbol before they reach the {@link MarketDataStore}.
+ *
+ * <p>Each tick is merged into the symbol's pending top of book on the feed thread. A symbol becomes dirty on its
+ * first tick after a publish and is queued once; a single publisher thread writes it to the store no sooner than
+ * its publish interval after the previous write. However bursty the feed, the store (and everything listening to
+ * it) sees at most one update per symbol per interval, and the latest prices always win. A publish that throws,
+ * in the store or in one of its change listeners, is counted and skipped, so the publisher thread keeps running.
+ */
+@Component
+@ConditionalOnProperty(name = "fix.marketdata.conflation.interval-ms")
+public class QuoteConflator {
+
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final MarketDataStore store;
+    private final long defaultIntervalNanos;
+    private final Map<String, Long> intervalNanosBySymbol;
+    private final ConcurrentHashMap<String, PendingQuote> pendingBySymbol = new ConcurrentHashMap<>();
+    private final LinkedBlockingQueue<PendingQuote> dirty = new LinkedBlockingQueue<>();
+    private final LongAdder offered = new LongAdder();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Thread publisher;
+    private volatile boolean running = true;
+
+    /**
+     * @param intervalMillis publish interval for symbols without their own
+     * @param symbolIntervals per-symbol overrides as {@code SYMBOL=millis} pairs separated by commas, e.g.
+     *     {@code AAPL=10,MSFT=10}
+     */
+    @Autowired
+    public QuoteConflator(
+            MarketDataStore store,
+            @Value("${fix.marketdata.conflation.interval-ms}") long intervalMillis,
+            @Value("${fix.marketdata.conflation.symbol-intervals:}") String symbolIntervals) {
+        if (intervalMillis < 0) {
+            throw new IllegalArgumentException("conflation interval must not be negative");
+        }
+        this.store = store;
+        this.defaultIntervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        this.intervalNanosBySymbol = parseSymbolIntervals(symbolIntervals);
+        this.publisher = new Thread(this::publishLoop, "market-data-conflator");
+        this.publisher.setDaemon(true);
+        this.publisher.start();
+    }
+
+    /** Merges one tick; prices are unscaled at {@link MarketDataStore#PRICE_SCALE}, {@link FixedPoint#NULL} if absent. */
+    public void offer(String symbol, long bid, long ask, long last, Instant updatedAt, String source) {
+        PendingQuote pending = pendingBySymbol.get(symbol);
+        if (pending == null) {
+            pending = pendingBySymbol.computeIfAbsent(symbol, this::newPending);
+        }
+        offered.increment();
+        if (pending.merge(bid, ask, last, updatedAt, source)) {
+            dirty.add(pending);
+        }
+    }
+
+    public long offeredCount() {
+        return offered.sum();
+    }
+
+    public long publishedCount() {
+        return published.sum();
+    }
+
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    long intervalNanos(String symbol) {
+        return intervalNanosBySymbol.getOrDefault(symbol, defaultIntervalNanos);
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+        publisher.interrupt();
+        try {
+            publisher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        // Whatever was still waiting for its interval goes out now rather than being lost.
+        for (PendingQuote pending : pendingBySymbol.values()) {
+            publish(pending, System.nanoTime());
+        }
+    }
+
+    private PendingQuote newPending(String symbol) {
+        return new PendingQuote(symbol, intervalNanos(symbol));
+    }
+
+    private void publishLoop() {
+        PriorityQueue<PendingQuote> waiting = new PriorityQueue<>(Comparator.comparingLong(PendingQuote::dueNanos));
+        while (running) {
+            long now = System.nanoTime();
+            PendingQuote next;
+            while ((next = dirty.poll()) != null) {
+                schedule(next, now, waiting);
+            }
+            while (!waiting.isEmpty() && waiting.peek().dueNanos() <= now) {
+                publish(waiting.poll(), now);
+            }
+
+            long waitNanos = waiting.isEmpty() ? IDLE_WAIT_NANOS : waiting.peek().dueNanos() - now;
+            try {
+                next = dirty.poll(waitNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                return;
+            }
+            if (next != null) {
+                schedule(next, System.nanoTime(), waiting);
+            }
+        }
+    }
+
+    private void schedule(PendingQuote pending, long now, PriorityQueue<PendingQuote> waiting) {
+        if (pending.dueNanos() <= now) {
+            publish(pending, now);
+        } else {
+            waiting.add(pending);
+        }
+    }
+
+    private void publish(PendingQuote pending, long now) {
+        long bid;
+        long ask;
+        long last;
+        Instant updatedAt;
+        String source;
+        synchronized (pending) {
+            if (!pending.dirty) {
+                return;
+            }
+            bid = pending.bid;
+            ask = pending.ask;
+            last = pending.last;
+            updatedAt = pending.updatedAt;
+            source = pending.source;
+            pending.clear(now);
+        }
+        try {
+            store.upsertScaled(pending.symbol, bid, ask, last, updatedAt, source);
+            published.increment();
+        } catch (RuntimeException ex) {
+            failed.increment();
+        }
+    }
+
+    private static Map<String, Long> parseSymbolIntervals(String value) {
+        Map<String, Long> intervals = new HashMap<>();
+        if (value == null || value.isBlank()) {
+            return intervals;
+        }
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalArgumentException("Invalid conflation symbol interval: " + entry.trim());
+            }
+            long millis = Long.parseLong(parts[1].trim());
+            if (millis < 0) {
+                throw new IllegalArgumentException("Invalid conflation symbol interval: " + entry.trim());
+            }
+            intervals.put(parts[0].trim().toUpperCase(Locale.ROOT), TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        return Map.copyOf(intervals);
+    }
+
+    /** Unpublished top of book for one symbol. Fields are guarded by the instance monitor. */
+    private static final class PendingQuote {
+
+        private final String symbol;
+        private final long intervalNanos;
+        private long bid = FixedPoint.NULL;
+        private long ask = FixedPoint.NULL;
+        private long last = FixedPoint.NULL;
+        private Instant updatedAt;
+        private String source;
+        private boolean dirty;
+        private volatile long lastPublishedNanos;
+
+        private PendingQuote(String symbol, long intervalNanos) {
+            this.symbol = symbol;
+            this.intervalNanos = intervalNanos;
+            this.lastPublishedNanos = System.nanoTime() - intervalNanos;
+        }
+
+        /** @return {@code true} if this tick made the symbol dirty and it must be queued for publishing */
+        private synchronized boolean merge(long bid, long ask, long last, Instant updatedAt, String source) {
+            if (bid != FixedPoint.NULL) {
+                this.bid = bid;
+            }
+            if (ask != FixedPoint.NULL) {
+                this.ask = ask;
+            }
+            if (last != FixedPoint.NULL) {
+                this.last = last;
+            }
+            this.updatedAt = updatedAt;
+            this.source = source;
+            boolean wasDirty = dirty;
+            dirty = true;
+            return !wasDirty;
+        }
+
+        private void clear(long publishedAtNanos) {
+            bid = FixedPoint.NULL;
+            ask = FixedPoint.NULL;
+            last = FixedPoint.NULL;
+            dirty = false;
+            lastPublishedNanos = publishedAtNanos;
+        }
+
+        private long dueNanos() {
+            return lastPublishedNanos + intervalNanos;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.fixclient.fix.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import quickfix.Log;
+import quickfix.LogFactory;
+import quickfix.SessionID;
+
+/**
+ * Wraps another {@link LogFactory} so session threads only enqueue log entries; one background thread drains them
+ * in batches into the wrapped logs.
+ *
+ * <p>All sessions share one bounded queue. When it is full, {@link LogOverflowPolicy#DROP} discards the entry and
+ * counts it, and {@link LogOverflowPolicy#BLOCK} makes the session thread wait. Error events always wait, so they are
+ * never dropped. {@link #close()} writes out everything still queued. The logs it creates are {@link Closeable}, so
+ * closing a session closes the wrapped log once the entries queued before it are written.
+ */
+public class AsyncLogFactory implements LogFactory, AutoCloseable {
+
+    private static final int MAX_DRAIN = 256;
+
+    private final LogFactory delegate;
+    private final LogOverflowPolicy overflowPolicy;
+    private final ArrayBlockingQueue<Entry> queue;
+    private final Thread writer;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private volatile boolean running = true;
+
+    public AsyncLogFactory(LogFactory delegate, int queueCapacity, LogOverflowPolicy overflowPolicy) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queue capacity must be greater than 0");
+        }
+        this.delegate = delegate;
+        this.overflowPolicy = overflowPolicy;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::drain, "quickfix-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public Log create(SessionID sessionID) {
+        return new AsyncLog(delegate.create(sessionID));
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public long writtenCount() {
+        return written.sum();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        drainQueued();
+    }
+
+    private void enqueue(Entry entry, boolean mayDrop) {
+        if (!running) {
+            // Late entries after close go straight to the wrapped log instead of being lost.
+            entry.writeTo();
+            return;
+        }
+        if (!queue.offer(entry)) {
+            if (mayDrop && overflowPolicy == LogOverflowPolicy.DROP) {
+                dropped.increment();
+                return;
+            }
+            try {
+                queue.put(entry);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                dropped.increment();
+                return;
+            }
+        }
+        if (!running) {
+            // close() may have stopped the writer between the check above and the offer; nobody else drains it now.
+            drainQueued();
+        }
+    }
+
+    private void drainQueued() {
+        Entry entry;
+        while ((entry = queue.poll()) != null) {
+            write(entry);
+        }
+    }
+
+    private void drain() {
+        List<Entry> batch = new ArrayList<>(MAX_DRAIN);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_DRAIN - 1);
+                for (Entry entry : batch) {
+                    write(entry);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(Entry entry) {
+        try {
+            entry.writeTo();
+        } catch (RuntimeException ex) {
+            dropped.increment();
+            return;
+        }
+        written.increment();
+    }
+
+    private enum Kind {
+        INCOMING,
+        OUTGOING,
+        EVENT,
+        ERROR_EVENT,
+        CLEAR,
+        CLOSE
+    }
+
+    private record Entry(Log log, Kind kind, String text) {
+
+        void writeTo() {
+            switch (kind) {
+                case INCOMING -> log.onIncoming(text);
+                case OUTGOING -> log.onOutgoing(text);
+                case EVENT -> log.onEvent(text);
+                case ERROR_EVENT -> log.onErrorEvent(text);
+                case CLEAR -> log.clear();
+                case CLOSE -> close(log);
+            }
+        }
+
+        private static void close(Log log) {
+            if (log instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        }
+    }
+
+    private final class AsyncLog implements Log, Closeable {
+
+        private final Log log;
+
+        private AsyncLog(Log log) {
+            this.log = log;
+        }
+
+        @Override
+        public void clear() {
+            enqueue(new Entry(log, Kind.CLEAR, null), false);
+        }
+
+        @Override
+        public void onIncoming(String message) {
+            enqueue(new Entry(log, Kind.INCOMING, message), true);
+        }
+
+        @Override
+        public void onOutgoing(String message) {
+            enqueue(new Entry(log, Kind.OUTGOING, message), true);
+        }
+
+        @Override
+        public void onEvent(String text) {
+            enqueue(new Entry(log, Kind.EVENT, text), true);
+        }
+
+        @Override
+        public void onErrorEvent(String text) {
+            enqueue(new Entry(log, Kind.ERROR_EVENT, text), false);
+        }
+
+        /** Closes the wrapped log after the entries queued before this call, as {@code Session.close()} expects. */
+        @Override
+        public void close() {
+            enqueue(new Entry(log, Kind.CLOSE, null), false);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.fixclient.fix.persistence;
+
+/** What an {@link AsyncLogFactory} log does when its queue is full. */
+public enum LogOverflowPolicy {
+    /** Discard the entry and count it; the session thread never waits. */
+    DROP,
+    /** Wait for the writer to make room. */
+    BLOCK
+}
@@ -0,0 +1,273 @@
+package com.example.fixclient.fix.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.CRC32C;
+import org.quickfixj.CharsetSupport;
+import quickfix.MessageStore;
+import quickfix.SystemTime;
+
+/**
+ * QuickFIX/J message store backed by two memory-mapped files per session.
+ *
+ * <p>The header file holds the next sender and target sequence numbers, the session creation time and the body chunk
+ * size; updating them is a store into mapped memory. The body file is an append-only log of
+ * {@code [length][seqNum][crc32c][bytes]} records, mapped one fixed-size chunk at a time, with the length written
+ * last so a record only becomes visible once it is complete. A record never spans two chunks; a length of -1 marks
+ * the unused end of a chunk. An in-memory index from sequence number to record offset serves resend requests.
+ * Nothing is forced to disk unless {@code forceEveryWrite} is set, so the store survives a process crash but not
+ * necessarily a power loss.
+ *
+ * <p>Opening the store scans the body and stops at the first empty or corrupt record.
+ */
+public final class MappedMessageStore implements MessageStore, Closeable {
+
+    private static final int MAGIC = 0x46584D53;
+    private static final int HEADER_SIZE = 32;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int SENDER_OFFSET = 4;
+    private static final int TARGET_OFFSET = 8;
+    private static final int CREATION_OFFSET = 16;
+    private static final int CHUNK_SIZE_OFFSET = 24;
+
+    private static final int RECORD_HEADER = 12;
+    private static final int END_OF_CHUNK = -1;
+
+    private final Path headerPath;
+    private final Path bodyPath;
+    private final int configuredChunkSize;
+    private final boolean forceEveryWrite;
+    private final Charset charset = CharsetSupport.getCharsetInstance();
+    private final CRC32C crc = new CRC32C();
+
+    private FileChannel headerChannel;
+    private FileChannel bodyChannel;
+    private MappedByteBuffer header;
+    private final List<MappedByteBuffer> chunks = new ArrayList<>();
+    private int chunkSize;
+    private long position;
+    /** Record offset plus one per sequence number; 0 means not stored. */
+    private long[] offsets = new long[1024];
+
+    /**
+     * @param chunkSize size of each mapped body chunk for a new store; an existing store keeps the size it was
+     *     created with
+     */
+    public MappedMessageStore(Path directory, String sessionFileName, int chunkSize, boolean forceEveryWrite)
+            throws IOException {
+        Files.createDirectories(directory);
+        this.headerPath = directory.resolve(sessionFileName + ".header");
+        this.bodyPath = directory.resolve(sessionFileName + ".body");
+        this.configuredChunkSize = chunkSize;
+        this.forceEveryWrite = forceEveryWrite;
+        open();
+    }
+
+    @Override
+    public synchronized boolean set(int sequence, String message) throws IOException {
+        byte[] bytes = message.getBytes(charset);
+        int recordSize = RECORD_HEADER + bytes.length;
+        // Every record is followed by room for the 4-byte length that ends the scan or marks the end of the chunk.
+        if (recordSize + 4 > chunkSize) {
+            throw new IOException("Message of " + bytes.length + " bytes does not fit a " + chunkSize + "-byte chunk");
+        }
+        int local = (int) (position % chunkSize);
+        if (local + recordSize + 4 > chunkSize) {
+            chunk(position).putInt(local, END_OF_CHUNK);
+            position += chunkSize - local;
+            local = 0;
+        }
+        MappedByteBuffer chunk = chunk(position);
+
+        crc.reset();
+        crc.update(bytes);
+        chunk.putInt(local + 4, sequence);
+        chunk.putInt(local + 8, (int) crc.getValue());
+        chunk.put(local + RECORD_HEADER, bytes);
+        chunk.putInt(local + recordSize, 0);
+        chunk.putInt(local, bytes.length);
+        index(sequence, position);
+        position += recordSize;
+        if (forceEveryWrite) {
+            chunk.force();
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void get(int startSequence, int endSequence, Collection<String> messages) {
+        int last = Math.min(endSequence, offsets.length - 1);
+        for (int sequence = Math.max(startSequence, 1); sequence <= last; sequence++) {
+            long offset = offsets[sequence] - 1;
+            if (offset >= 0) {
+                MappedByteBuffer chunk = chunks.get((int) (offset / chunkSize));
+                int local = (int) (offset % chunkSize);
+                byte[] bytes = new byte[chunk.getInt(local)];
+                chunk.get(local + RECORD_HEADER, bytes);
+                messages.add(new String(bytes, charset));
+            }
+        }
+    }
+
+    @Override
+    public synchronized int getNextSenderMsgSeqNum() {
+        return header.getInt(SENDER_OFFSET);
+    }
+
+    @Override
+    public synchronized int getNextTargetMsgSeqNum() {
+        return header.getInt(TARGET_OFFSET);
+    }
+
+    @Override
+    public synchronized void setNextSenderMsgSeqNum(int next) {
+        putHeaderInt(SENDER_OFFSET, next);
+    }
+
+    @Override
+    public synchronized void setNextTargetMsgSeqNum(int next) {
+        putHeaderInt(TARGET_OFFSET, next);
+    }
+
+    @Override
+    public synchronized void incrNextSenderMsgSeqNum() {
+        putHeaderInt(SENDER_OFFSET, header.getInt(SENDER_OFFSET) + 1);
+    }
+
+    @Override
+    public synchronized void incrNextTargetMsgSeqNum() {
+        putHeaderInt(TARGET_OFFSET, header.getInt(TARGET_OFFSET) + 1);
+    }
+
+    @Override
+    public synchronized Date getCreationTime() {
+        return new Date(header.getLong(CREATION_OFFSET));
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        initializeHeader();
+        // Truncating rather than zeroing guarantees no record of the previous session survives past the new tail.
+        chunks.clear();
+        bodyChannel.truncate(0);
+        position = 0;
+        Arrays.fill(offsets, 0);
+        MappedByteBuffer first = chunk(0);
+        if (forceEveryWrite) {
+            first.force();
+        }
+    }
+
+    @Override
+    public synchronized void refresh() throws IOException {
+        close();
+        open();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        header = null;
+        chunks.clear();
+        try {
+            headerChannel.close();
+        } finally {
+            bodyChannel.close();
+        }
+    }
+
+    private void open() throws IOException {
+        headerChannel = FileChannel.open(headerPath,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        bodyChannel = FileChannel.open(bodyPath,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        header = map(headerChannel, 0, HEADER_SIZE);
+        if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+            header.putInt(CHUNK_SIZE_OFFSET, configuredChunkSize);
+            initializeHeader();
+        }
+        chunkSize = header.getInt(CHUNK_SIZE_OFFSET);
+        chunks.clear();
+        Arrays.fill(offsets, 0);
+        position = scan();
+    }
+
+    private long scan() throws IOException {
+        long chunkCount = Math.max(1, (bodyChannel.size() + chunkSize - 1) / chunkSize);
+        long offset = 0;
+        while (offset / chunkSize < chunkCount) {
+            ByteBuffer chunk = chunk(offset);
+            int local = (int) (offset % chunkSize);
+            int length = chunk.getInt(local);
+            if (length == END_OF_CHUNK) {
+                offset += chunkSize - local;
+                continue;
+            }
+            if (length <= 0 || local + RECORD_HEADER + length + 4 > chunkSize) {
+                break;
+            }
+            crc.reset();
+            crc.update(chunk.slice(local + RECORD_HEADER, length));
+            if ((int) crc.getValue() != chunk.getInt(local + 8)) {
+                break;
+            }
+            index(chunk.getInt(local + 4), offset);
+            offset += RECORD_HEADER + length;
+        }
+        return offset;
+    }
+
+    private void initializeHeader() {
+        header.putInt(SENDER_OFFSET, 1);
+        header.putInt(TARGET_OFFSET, 1);
+        header.putLong(CREATION_OFFSET, SystemTime.currentTimeMillis());
+        header.putInt(MAGIC_OFFSET, MAGIC);
+        if (forceEveryWrite) {
+            header.force();
+        }
+    }
+
+    private void putHeaderInt(int offset, int value) {
+        header.putInt(offset, value);
+        if (forceEveryWrite) {
+            header.force();
+        }
+    }
+
+    private void index(int sequence, long offset) {
+        if (sequence <= 0) {
+            return;
+        }
+        if (sequence >= offsets.length) {
+            offsets = Arrays.copyOf(offsets, Math.max(offsets.length * 2, sequence + 1));
+        }
+        offsets[sequence] = offset + 1;
+    }
+
+    /** The chunk holding {@code offset}, mapping it (and growing the file) on first use. */
+    private MappedByteBuffer chunk(long offset) throws IOException {
+        int index = (int) (offset / chunkSize);
+        while (chunks.size() <= index) {
+            chunks.add(map(bodyChannel, (long) chunks.size() * chunkSize, chunkSize));
+        }
+        return chunks.get(index);
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long offset, int size) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, offset, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+}
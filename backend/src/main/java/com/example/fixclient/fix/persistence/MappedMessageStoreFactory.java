@@ -0,0 +1,37 @@
+package com.example.fixclient.fix.persistence;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import quickfix.ConfigError;
+import quickfix.FileStoreFactory;
+import quickfix.FileUtil;
+import quickfix.MessageStore;
+import quickfix.MessageStoreFactory;
+import quickfix.RuntimeError;
+import quickfix.SessionID;
+import quickfix.SessionSettings;
+
+/** Creates a {@link MappedMessageStore} per session under the session's {@code FileStorePath}. */
+public class MappedMessageStoreFactory implements MessageStoreFactory {
+
+    private final SessionSettings settings;
+    private final int chunkSize;
+    private final boolean forceEveryWrite;
+
+    public MappedMessageStoreFactory(SessionSettings settings, int chunkSize, boolean forceEveryWrite) {
+        this.settings = settings;
+        this.chunkSize = chunkSize;
+        this.forceEveryWrite = forceEveryWrite;
+    }
+
+    @Override
+    public MessageStore create(SessionID sessionID) {
+        try {
+            Path directory = Path.of(settings.getString(sessionID, FileStoreFactory.SETTING_FILE_STORE_PATH));
+            return new MappedMessageStore(
+                    directory, FileUtil.sessionIdFileName(sessionID), chunkSize, forceEveryWrite);
+        } catch (ConfigError | IOException ex) {
+            throw new RuntimeError(ex);
+        }
+    }
+}
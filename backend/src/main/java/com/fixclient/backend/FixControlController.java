@@ -1,6 +1,7 @@
 package com.fixclient.backend;
 
 import com.example.fixclient.fix.InitiatorServiceStatus;
+import com.example.fixclient.fix.SessionStatsSnapshot;
 import java.util.List;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -50,7 +51,8 @@ public class FixControlController {
                 new FixDiagnosticsResponse(
                         status.diagnostics().lastEvent(),
                         status.diagnostics().lastError() == null ? "" : status.diagnostics().lastError(),
-                        status.diagnostics().lastUpdatedAt().toString()));
+                        status.diagnostics().lastUpdatedAt().toString()),
+                status.sessionStats());
     }
 
     public record FixStatusResponse(
@@ -58,7 +60,8 @@ public class FixControlController {
             String details,
             List<String> sessions,
             FixConfigResponse config,
-            FixDiagnosticsResponse diagnostics) {
+            FixDiagnosticsResponse diagnostics,
+            List<SessionStatsSnapshot> sessionStats) {
     }
 
     public record FixConfigResponse(String senderCompId, String targetCompId, String host, Integer port) {
@@ -0,0 +1,30 @@
+package com.fixclient.backend.execution;
+
+import java.util.List;
+
+/**
+ * Execution report ingestion mode and, when sharded, the per-shard queue depth, throughput, lag and last failure
+ * ({@code null} until a shard fails to apply something).
+ */
+public record ExecutionPipelineStats(String mode, int shardCount, List<ShardStats> shards) {
+
+    public ExecutionPipelineStats {
+        shards = List.copyOf(shards);
+    }
+
+    public record ShardStats(
+            int shard,
+            int queueDepth,
+            int queueCapacity,
+            long processed,
+            long failed,
+            long blockedSubmits,
+            double lastLagMillis,
+            double maxLagMillis,
+            Failure lastFailure) {
+    }
+
+    /** The last report or order message a shard failed to apply: its ClOrdID (orderId when there is none). */
+    public record Failure(String clOrdId, String exception, String message) {
+    }
+}
@@ -51,6 +51,11 @@ public class ExecutionReportController {
         return stateStore.recentReports();
     }
 
+    @GetMapping("/exec-reports/pipeline")
+    public ExecutionPipelineStats pipelineStats() {
+        return ingestionService.pipelineStats();
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleValidation(IllegalArgumentException ex) {
@@ -0,0 +1,81 @@
+package com.fixclient.backend.execution;
+
+import com.fixclient.backend.support.FixedPoint;
+import java.time.Clock;
+import org.springframework.stereotype.Component;
+import quickfix.FieldNotFound;
+import quickfix.Message;
+import quickfix.field.AvgPx;
+import quickfix.field.ClOrdID;
+import quickfix.field.CumQty;
+import quickfix.field.ExecType;
+import quickfix.field.LastPx;
+import quickfix.field.LastQty;
+import quickfix.field.LeavesQty;
+import quickfix.field.OrdStatus;
+import quickfix.field.OrderID;
+import quickfix.field.Text;
+
+/**
+ * Decodes an execution report into the calling thread's {@link PrimitiveExecutionReport}.
+ *
+ * <p>Unlike {@link ExecutionReportMapper}, field values are read as the strings QuickFIX/J already holds and parsed
+ * in place, so a decode allocates nothing. The returned instance is overwritten by the next decode on the same
+ * thread.
+ */
+@Component
+public class ExecutionReportDecoder {
+
+    private final Clock clock;
+    private final ThreadLocal<PrimitiveExecutionReport> pooled = ThreadLocal.withInitial(PrimitiveExecutionReport::new);
+
+    public ExecutionReportDecoder() {
+        this(Clock.systemUTC());
+    }
+
+    ExecutionReportDecoder(Clock clock) {
+        this.clock = clock;
+    }
+
+    public PrimitiveExecutionReport decode(Message message) {
+        PrimitiveExecutionReport report = pooled.get();
+        report.reset();
+        report.setClOrdId(readString(message, ClOrdID.FIELD));
+        report.setOrderId(readString(message, OrderID.FIELD));
+        report.setExecType(readChar(message, ExecType.FIELD));
+        report.setOrdStatus(readChar(message, OrdStatus.FIELD));
+        report.setCumQty(readFixedPoint(message, CumQty.FIELD));
+        report.setLeavesQty(readFixedPoint(message, LeavesQty.FIELD));
+        report.setAvgPx(readFixedPoint(message, AvgPx.FIELD));
+        report.setLastPx(readFixedPoint(message, LastPx.FIELD));
+        report.setLastQty(readFixedPoint(message, LastQty.FIELD));
+        report.setText(readString(message, Text.FIELD));
+        report.setUpdatedAtMillis(clock.millis());
+        return report;
+    }
+
+    private String readString(Message message, int field) {
+        try {
+            return message.isSetField(field) ? message.getString(field) : null;
+        } catch (FieldNotFound ignored) {
+            return null;
+        }
+    }
+
+    private char readChar(Message message, int field) {
+        String value = readString(message, field);
+        return value != null && value.length() == 1 ? value.charAt(0) : PrimitiveExecutionReport.UNSET;
+    }
+
+    private long readFixedPoint(Message message, int field) {
+        String value = readString(message, field);
+        if (value == null) {
+            return FixedPoint.NULL;
+        }
+        try {
+            return FixedPoint.parse(value, PrimitiveExecutionReport.SCALE);
+        } catch (NumberFormatException | ArithmeticException ignored) {
+            return FixedPoint.NULL;
+        }
+    }
+}
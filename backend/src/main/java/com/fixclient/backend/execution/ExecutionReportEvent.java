@@ -14,5 +14,10 @@ public record ExecutionReportEvent(
         BigDecimal lastPx,
         BigDecimal lastQty,
         String text,
-        Instant updatedAt) {
+        Instant updatedAt) implements ExecutionReportView {
+
+    @Override
+    public ExecutionReportEvent toEvent() {
+        return this;
+    }
 }
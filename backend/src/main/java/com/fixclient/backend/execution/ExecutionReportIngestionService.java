@@ -1,30 +1,118 @@
 package com.fixclient.backend.execution;
 
 import com.fixclient.backend.orders.OrderService;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import quickfix.Message;
 
+/**
+ * Applies execution reports to the state store and the order book.
+ *
+ * <p>With {@code fix.execution.pipeline.shards} greater than 0, reports are handed to an
+ * {@link ExecutionReportPipeline} so the FIX session thread only decodes and enqueues; otherwise they are applied
+ * inline on the calling thread.
+ */
 @Service
 public class ExecutionReportIngestionService {
 
-    private final ExecutionReportMapper mapper;
+    static final int DEFAULT_QUEUE_CAPACITY = 4096;
+
+    private final ExecutionReportDecoder decoder;
     private final ExecutionReportStateStore stateStore;
     private final OrderService orderService;
+    private final ExecutionReportPipeline pipeline;
+    private final int shardCount;
 
     public ExecutionReportIngestionService(
-            ExecutionReportMapper mapper,
+            ExecutionReportDecoder decoder,
             ExecutionReportStateStore stateStore,
             OrderService orderService) {
-        this.mapper = mapper;
+        this(decoder, stateStore, orderService, 0, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    @Autowired
+    public ExecutionReportIngestionService(
+            ExecutionReportDecoder decoder,
+            ExecutionReportStateStore stateStore,
+            OrderService orderService,
+            @Value("${fix.execution.pipeline.shards:0}") int shardCount,
+            @Value("${fix.execution.pipeline.queue-capacity:" + DEFAULT_QUEUE_CAPACITY + "}") int queueCapacity) {
+        if (shardCount < 0) {
+            throw new IllegalArgumentException("shard count must not be negative");
+        }
+        this.decoder = decoder;
         this.stateStore = stateStore;
         this.orderService = orderService;
+        this.shardCount = shardCount;
+        this.pipeline = shardCount == 0 ? null : new ExecutionReportPipeline(shardCount, queueCapacity, this::apply);
     }
 
     public void ingest(Message executionReportMessage) {
-        ingest(mapper.fromFixMessage(executionReportMessage));
+        PrimitiveExecutionReport report = decoder.decode(executionReportMessage);
+        if (pipeline != null) {
+            pipeline.submit(report.copy());
+        } else {
+            stateStore.update(report);
+            orderService.applyExecutionReport(report);
+        }
     }
 
     public void ingest(ExecutionReportEvent event) {
+        if (pipeline != null) {
+            pipeline.submit(event);
+        } else {
+            apply(event);
+        }
+    }
+
+    /**
+     * Applies an OrderCancelReject (35=9) for the request {@code clOrdId}. With the pipeline it runs on the shard
+     * that applies the order's reports, so it cannot interleave with them.
+     */
+    public void ingestCancelReject(String clOrdId, String text) {
+        if (pipeline != null) {
+            pipeline.execute(clOrdId, () -> orderService.applyCancelReject(clOrdId, text));
+        } else {
+            orderService.applyCancelReject(clOrdId, text);
+        }
+    }
+
+    /** Applies an OrderMassCancelReport (35=r), on the shard for {@code clOrdId} like cancel rejects. */
+    public void ingestMassCancelReport(String clOrdId, boolean rejected) {
+        if (pipeline != null) {
+            pipeline.execute(clOrdId, () -> orderService.applyMassCancelReport(clOrdId, rejected));
+        } else {
+            orderService.applyMassCancelReport(clOrdId, rejected);
+        }
+    }
+
+    public ExecutionPipelineStats pipelineStats() {
+        if (pipeline == null) {
+            return new ExecutionPipelineStats("inline", 0, List.of());
+        }
+        return new ExecutionPipelineStats("sharded", shardCount, pipeline.stats());
+    }
+
+    @PreDestroy
+    public void close() {
+        if (pipeline != null) {
+            pipeline.close();
+        }
+    }
+
+    private void apply(ExecutionReportView report) {
+        if (report instanceof PrimitiveExecutionReport primitive) {
+            stateStore.updateOwned(primitive);
+            orderService.applyExecutionReport(primitive);
+        } else {
+            apply(report.toEvent());
+        }
+    }
+
+    private void apply(ExecutionReportEvent event) {
         stateStore.update(event);
         orderService.applyExecutionReport(event);
     }
@@ -0,0 +1,208 @@
+package com.fixclient.backend.execution;
+
+import com.fixclient.backend.ids.ClOrdIdChain;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Hands execution reports from the FIX session thread to a fixed set of single-threaded shards.
+ *
+ * <p>Reports are partitioned by root clOrdId (orderId when there is none), so every report for one order, including
+ * those on its cancel and replace requests, is applied by the same thread in arrival order while different orders
+ * are applied in parallel. A full shard makes the submitting thread wait rather than drop a report; those waits are
+ * counted in the shard stats. A report or task that throws is counted as failed, kept as the shard's last failure and
+ * handed to the failure handler, if any; the shard then goes on with the next one.
+ */
+final class ExecutionReportPipeline {
+
+    private static final int MAX_DRAIN = 256;
+
+    private final Shard[] shards;
+    private volatile boolean running = true;
+
+    ExecutionReportPipeline(int shardCount, int queueCapacity, Consumer<ExecutionReportView> handler) {
+        this(shardCount, queueCapacity, handler, null);
+    }
+
+    /** {@code failureHandler} receives the ClOrdID (orderId when there is none) and exception of each failure. */
+    ExecutionReportPipeline(
+            int shardCount,
+            int queueCapacity,
+            Consumer<ExecutionReportView> handler,
+            BiConsumer<String, RuntimeException> failureHandler) {
+        if (shardCount <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("shard count and queue capacity must be greater than 0");
+        }
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i, queueCapacity, handler, failureHandler);
+        }
+    }
+
+    /** Enqueues a report that the caller no longer mutates; pooled decoder instances must be copied first. */
+    void submit(ExecutionReportView report) {
+        if (!running) {
+            throw new IllegalStateException("Execution report pipeline is closed");
+        }
+        String id = report.clOrdId() != null ? report.clOrdId() : report.orderId();
+        String key = report.clOrdId() != null ? ClOrdIdChain.rootOf(report.clOrdId()) : report.orderId();
+        shards[shardFor(key)].enqueue(new PendingReport(report, null, id, System.nanoTime()));
+    }
+
+    /**
+     * Runs {@code task} on the shard that applies reports for {@code clOrdId}, after the reports already queued
+     * there. Used for other order messages (cancel rejects, mass cancel reports) so they never race a report.
+     */
+    void execute(String clOrdId, Runnable task) {
+        if (!running) {
+            throw new IllegalStateException("Execution report pipeline is closed");
+        }
+        String key = clOrdId == null ? null : ClOrdIdChain.rootOf(clOrdId);
+        shards[shardFor(key)].enqueue(new PendingReport(null, task, clOrdId, System.nanoTime()));
+    }
+
+    List<ExecutionPipelineStats.ShardStats> stats() {
+        List<ExecutionPipelineStats.ShardStats> stats = new ArrayList<>(shards.length);
+        for (Shard shard : shards) {
+            stats.add(shard.stats());
+        }
+        return stats;
+    }
+
+    void close() {
+        running = false;
+        for (Shard shard : shards) {
+            shard.close();
+        }
+    }
+
+    private int shardFor(String key) {
+        int hash = key == null ? 0 : key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), shards.length);
+    }
+
+    private final class Shard {
+
+        private final int index;
+        private final int capacity;
+        private final ArrayBlockingQueue<PendingReport> queue;
+        private final Consumer<ExecutionReportView> handler;
+        private final BiConsumer<String, RuntimeException> failureHandler;
+        private final Thread consumer;
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder blockedSubmits = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private volatile long lastLagNanos;
+        private volatile long maxLagNanos;
+        private volatile ExecutionPipelineStats.Failure lastFailure;
+
+        private Shard(
+                int index,
+                int capacity,
+                Consumer<ExecutionReportView> handler,
+                BiConsumer<String, RuntimeException> failureHandler) {
+            this.index = index;
+            this.capacity = capacity;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.handler = handler;
+            this.failureHandler = failureHandler;
+            this.consumer = new Thread(this::drain, "exec-report-shard-" + index);
+            this.consumer.setDaemon(true);
+            this.consumer.start();
+        }
+
+        private void enqueue(PendingReport pending) {
+            if (queue.offer(pending)) {
+                return;
+            }
+            blockedSubmits.increment();
+            try {
+                queue.put(pending);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for execution report shard " + index, ex);
+            }
+        }
+
+        private void drain() {
+            List<PendingReport> batch = new ArrayList<>(MAX_DRAIN);
+            while (running || !queue.isEmpty()) {
+                try {
+                    PendingReport first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, MAX_DRAIN - 1);
+                    for (PendingReport pending : batch) {
+                        apply(pending);
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        private void apply(PendingReport pending) {
+            long lag = System.nanoTime() - pending.enqueuedAtNanos();
+            lastLagNanos = lag;
+            if (lag > maxLagNanos) {
+                maxLagNanos = lag;
+            }
+            try {
+                if (pending.task() != null) {
+                    pending.task().run();
+                } else {
+                    handler.accept(pending.report());
+                }
+            } catch (RuntimeException ex) {
+                failed(pending.clOrdId(), ex);
+            }
+            processed.increment();
+        }
+
+        private void failed(String clOrdId, RuntimeException ex) {
+            failed.increment();
+            lastFailure = new ExecutionPipelineStats.Failure(clOrdId, ex.getClass().getName(), ex.getMessage());
+            if (failureHandler != null) {
+                try {
+                    failureHandler.accept(clOrdId, ex);
+                } catch (RuntimeException ignored) {
+                    // A failing handler must not stop the shard; the failure is already in the stats.
+                }
+            }
+        }
+
+        private ExecutionPipelineStats.ShardStats stats() {
+            return new ExecutionPipelineStats.ShardStats(
+                    index,
+                    queue.size(),
+                    capacity,
+                    processed.sum(),
+                    failed.sum(),
+                    blockedSubmits.sum(),
+                    lastLagNanos / 1_000_000.0,
+                    maxLagNanos / 1_000_000.0,
+                    lastFailure);
+        }
+
+        private void close() {
+            try {
+                consumer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private record PendingReport(ExecutionReportView report, Runnable task, String clOrdId, long enqueuedAtNanos) {
+    }
+}
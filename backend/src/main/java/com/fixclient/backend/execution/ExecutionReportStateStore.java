@@ -1,77 +1,144 @@
 package com.fixclient.backend.execution;
 
-import java.time.Instant;
+import com.fixclient.backend.support.ChangeListeners;
+import com.fixclient.backend.support.SequencedRing;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Component;
 
+/**
+ * Latest execution state per order plus a window of the most recent reports.
+ *
+ * <p>Each order has one canonical {@link ExecutionStateCell} that both its clOrdId and orderId map to, and reports
+ * are merged into it under the cell's own lock, so concurrent reports for one order never lose an update. The
+ * recent window is a lock-free ring, so retaining a report is O(1).
+ */
 @Component
 public class ExecutionReportStateStore {
 
     private static final int MAX_RECENT = 200;
 
-    private final ConcurrentHashMap<String, OrderExecutionState> latestByOrderKey = new ConcurrentHashMap<>();
-    private final ConcurrentLinkedDeque<ExecutionReportEvent> recentReports = new ConcurrentLinkedDeque<>();
+    private final ConcurrentHashMap<String, ExecutionStateCell> latestByOrderKey = new ConcurrentHashMap<>();
+    private final SequencedRing<ExecutionReportView> recentReports = new SequencedRing<>(MAX_RECENT);
+    private final ChangeListeners<String> changeListeners = new ChangeListeners<>();
 
     public void update(ExecutionReportEvent event) {
-        Set<String> keys = keys(event);
-        if (keys.isEmpty()) {
+        ExecutionStateCell cell = cellFor(event);
+        if (cell == null) {
             return;
         }
+        cell.merge(event);
+        recentReports.publish(event);
+        changeListeners.fire(orderKey(event));
+    }
 
-        String primaryKey = keys.iterator().next();
-        OrderExecutionState current = latestByOrderKey.get(primaryKey);
-        OrderExecutionState merged = merge(current, event);
-
-        for (String key : keys) {
-            latestByOrderKey.put(key, merged);
+    /** Applies a decoded report; the pooled instance is copied before it is retained. */
+    public void update(PrimitiveExecutionReport report) {
+        ExecutionStateCell cell = cellFor(report);
+        if (cell == null) {
+            return;
         }
+        cell.merge(report);
+        recentReports.publish(report.copy());
+        changeListeners.fire(orderKey(report));
+    }
 
-        recentReports.addFirst(event);
-        while (recentReports.size() > MAX_RECENT) {
-            recentReports.pollLast();
+    /** Like {@link #update(PrimitiveExecutionReport)} for a report nobody else mutates, so it is retained as is. */
+    void updateOwned(PrimitiveExecutionReport report) {
+        ExecutionStateCell cell = cellFor(report);
+        if (cell == null) {
+            return;
         }
+        cell.merge(report);
+        recentReports.publish(report);
+        changeListeners.fire(orderKey(report));
+    }
+
+    /** Notified after each merge with the report's clOrdId, or its orderId when it has none. */
+    public void addChangeListener(Consumer<String> listener) {
+        changeListeners.add(listener);
     }
 
     public OrderExecutionState latestFor(String orderKey) {
-        return latestByOrderKey.get(orderKey);
+        ExecutionStateCell cell = latestByOrderKey.get(orderKey);
+        return cell == null ? null : cell.toState();
     }
 
-    public List<ExecutionReportEvent> recentReports() {
-        return List.copyOf(new ArrayList<>(recentReports));
+    /** Latest state per order, one entry per canonical cell with all of its keys. */
+    public List<ExecutionStateSnapshot> snapshotStates() {
+        Map<ExecutionStateCell, List<String>> keysByCell = new IdentityHashMap<>();
+        latestByOrderKey.forEach((key, cell) -> keysByCell.computeIfAbsent(cell, ignored -> new ArrayList<>()).add(key));
+        List<ExecutionStateSnapshot> snapshots = new ArrayList<>(keysByCell.size());
+        keysByCell.forEach((cell, keys) -> snapshots.add(new ExecutionStateSnapshot(keys, cell.toState())));
+        return snapshots;
     }
 
-    private OrderExecutionState merge(OrderExecutionState current, ExecutionReportEvent event) {
-        Instant now = event.updatedAt() == null ? Instant.now() : event.updatedAt();
-        return new OrderExecutionState(
-                firstNonNull(event.execType(), current == null ? null : current.execType()),
-                firstNonNull(event.ordStatus(), current == null ? null : current.ordStatus()),
-                firstNonNull(event.cumQty(), current == null ? null : current.filledQty()),
-                firstNonNull(event.leavesQty(), current == null ? null : current.leavesQty()),
-                firstNonNull(event.avgPx(), current == null ? null : current.avgPx()),
-                firstNonNull(event.lastPx(), current == null ? null : current.lastPx()),
-                firstNonNull(event.lastQty(), current == null ? null : current.lastQty()),
-                firstNonNull(event.text(), current == null ? null : current.text()),
-                now);
+    /** Restores states taken with {@link #snapshotStates()}; keys that already have state are left alone. */
+    public void restoreStates(List<ExecutionStateSnapshot> snapshots) {
+        for (ExecutionStateSnapshot snapshot : snapshots) {
+            OrderExecutionState state = snapshot.state();
+            ExecutionStateCell cell = new ExecutionStateCell();
+            cell.merge(new ExecutionReportEvent(
+                    null,
+                    null,
+                    state.execType(),
+                    state.ordStatus(),
+                    state.filledQty(),
+                    state.leavesQty(),
+                    state.avgPx(),
+                    state.lastPx(),
+                    state.lastQty(),
+                    state.text(),
+                    state.updatedAt()));
+            for (String key : snapshot.orderKeys()) {
+                latestByOrderKey.putIfAbsent(key, cell);
+            }
+        }
     }
 
-    private <T> T firstNonNull(T preferred, T fallback) {
-        return preferred == null ? fallback : preferred;
+    public List<ExecutionReportEvent> recentReports() {
+        long head = recentReports.headSequence();
+        long oldest = Math.max(recentReports.oldestRetainedSequence(), head - MAX_RECENT);
+        List<ExecutionReportEvent> events = new ArrayList<>(MAX_RECENT);
+        for (long sequence = head - 1; sequence >= oldest; sequence--) {
+            ExecutionReportView report = recentReports.get(sequence);
+            if (report != null) {
+                events.add(report.toEvent());
+            }
+        }
+        return List.copyOf(events);
     }
 
-    private Set<String> keys(ExecutionReportEvent event) {
-        Set<String> keys = new LinkedHashSet<>();
-        if (notBlank(event.clOrdId())) {
-            keys.add(event.clOrdId());
+    private ExecutionStateCell cellFor(ExecutionReportView report) {
+        String clOrdId = notBlank(report.clOrdId()) ? report.clOrdId() : null;
+        String orderId = notBlank(report.orderId()) ? report.orderId() : null;
+        if (clOrdId == null && orderId == null) {
+            return null;
         }
-        if (notBlank(event.orderId())) {
-            keys.add(event.orderId());
+        if (clOrdId == null) {
+            return latestByOrderKey.computeIfAbsent(orderId, ignored -> new ExecutionStateCell());
         }
-        return keys;
+
+        // An earlier report may have known only the orderId; adopt its cell so that state is not dropped.
+        ExecutionStateCell cell = latestByOrderKey.computeIfAbsent(clOrdId, ignored -> {
+            ExecutionStateCell byOrderId = orderId == null ? null : latestByOrderKey.get(orderId);
+            return byOrderId != null ? byOrderId : new ExecutionStateCell();
+        });
+        if (orderId != null && !orderId.equals(clOrdId)) {
+            ExecutionStateCell aliased = latestByOrderKey.putIfAbsent(orderId, cell);
+            if (aliased != null && aliased != cell) {
+                latestByOrderKey.replace(orderId, aliased, cell);
+            }
+        }
+        return cell;
+    }
+
+    private String orderKey(ExecutionReportView report) {
+        return notBlank(report.clOrdId()) ? report.clOrdId() : report.orderId();
     }
 
     private boolean notBlank(String value) {
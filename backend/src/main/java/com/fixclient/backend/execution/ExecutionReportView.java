@@ -0,0 +1,15 @@
+package com.fixclient.backend.execution;
+
+/**
+ * An execution report as retained by {@link ExecutionReportStateStore}: either the REST-facing
+ * {@link ExecutionReportEvent} or a {@link PrimitiveExecutionReport} decoded straight from FIX.
+ */
+public interface ExecutionReportView {
+
+    String clOrdId();
+
+    String orderId();
+
+    /** The REST representation; primitive reports materialize it on demand. */
+    ExecutionReportEvent toEvent();
+}
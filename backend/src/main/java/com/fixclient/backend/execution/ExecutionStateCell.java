@@ -0,0 +1,79 @@
+package com.fixclient.backend.execution;
+
+import com.fixclient.backend.support.FixedPoint;
+import java.time.Instant;
+
+/**
+ * Latest execution state of one order, shared by its clOrdId and orderId keys and merged in place so that
+ * applying a decoded report allocates nothing. {@link #toState()} materializes the REST view.
+ *
+ * <p>Cumulative quantity never decreases, so a late report cannot undo a fill that was already applied.
+ */
+final class ExecutionStateCell {
+
+    private static final int SCALE = PrimitiveExecutionReport.SCALE;
+
+    private String execType;
+    private String ordStatus;
+    private long filledQty = FixedPoint.NULL;
+    private long leavesQty = FixedPoint.NULL;
+    private long avgPx = FixedPoint.NULL;
+    private long lastPx = FixedPoint.NULL;
+    private long lastQty = FixedPoint.NULL;
+    private String text;
+    private long updatedAtSecond;
+    private int updatedAtNano;
+
+    synchronized void merge(ExecutionReportEvent event) {
+        execType = firstNonNull(event.execType(), execType);
+        ordStatus = firstNonNull(event.ordStatus(), ordStatus);
+        filledQty = maxNonNull(FixedPoint.fromBigDecimal(event.cumQty(), SCALE), filledQty);
+        leavesQty = firstNonNull(FixedPoint.fromBigDecimal(event.leavesQty(), SCALE), leavesQty);
+        avgPx = firstNonNull(FixedPoint.fromBigDecimal(event.avgPx(), SCALE), avgPx);
+        lastPx = firstNonNull(FixedPoint.fromBigDecimal(event.lastPx(), SCALE), lastPx);
+        lastQty = firstNonNull(FixedPoint.fromBigDecimal(event.lastQty(), SCALE), lastQty);
+        text = firstNonNull(event.text(), text);
+        Instant updatedAt = event.updatedAt() == null ? Instant.now() : event.updatedAt();
+        updatedAtSecond = updatedAt.getEpochSecond();
+        updatedAtNano = updatedAt.getNano();
+    }
+
+    synchronized void merge(PrimitiveExecutionReport report) {
+        execType = firstNonNull(PrimitiveExecutionReport.charAsString(report.execType()), execType);
+        ordStatus = firstNonNull(PrimitiveExecutionReport.charAsString(report.ordStatus()), ordStatus);
+        filledQty = maxNonNull(report.cumQty(), filledQty);
+        leavesQty = firstNonNull(report.leavesQty(), leavesQty);
+        avgPx = firstNonNull(report.avgPx(), avgPx);
+        lastPx = firstNonNull(report.lastPx(), lastPx);
+        lastQty = firstNonNull(report.lastQty(), lastQty);
+        text = firstNonNull(report.text(), text);
+        updatedAtSecond = Math.floorDiv(report.updatedAtMillis(), 1000L);
+        updatedAtNano = (int) Math.floorMod(report.updatedAtMillis(), 1000L) * 1_000_000;
+    }
+
+    synchronized OrderExecutionState toState() {
+        return new OrderExecutionState(
+                execType,
+                ordStatus,
+                FixedPoint.toBigDecimal(filledQty, SCALE),
+                FixedPoint.toBigDecimal(leavesQty, SCALE),
+                FixedPoint.toBigDecimal(avgPx, SCALE),
+                FixedPoint.toBigDecimal(lastPx, SCALE),
+                FixedPoint.toBigDecimal(lastQty, SCALE),
+                text,
+                Instant.ofEpochSecond(updatedAtSecond, updatedAtNano));
+    }
+
+    private static String firstNonNull(String preferred, String fallback) {
+        return preferred == null ? fallback : preferred;
+    }
+
+    private static long firstNonNull(long preferred, long fallback) {
+        return preferred == FixedPoint.NULL ? fallback : preferred;
+    }
+
+    private static long maxNonNull(long candidate, long current) {
+        // FixedPoint.NULL is Long.MIN_VALUE, so it never wins against a value.
+        return Math.max(candidate, current);
+    }
+}
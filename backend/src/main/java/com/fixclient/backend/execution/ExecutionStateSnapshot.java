@@ -0,0 +1,11 @@
+package com.fixclient.backend.execution;
+
+import java.util.List;
+
+/** Latest execution state of one order together with every key (clOrdId, orderId) it is stored under. */
+public record ExecutionStateSnapshot(List<String> orderKeys, OrderExecutionState state) {
+
+    public ExecutionStateSnapshot {
+        orderKeys = List.copyOf(orderKeys);
+    }
+}
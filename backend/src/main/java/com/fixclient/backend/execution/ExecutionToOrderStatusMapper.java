@@ -3,8 +3,34 @@ package com.fixclient.backend.execution;
 import com.fixclient.backend.orders.OrderStatus;
 import java.util.Locale;
 
+/**
+ * Maps FIX OrdStatus (39) and ExecType (150) to an {@link OrderStatus}, preferring OrdStatus.
+ *
+ * <p>Both tags share their status codes, so a single 128-entry table indexed by the code char serves both. String
+ * values of one character go through the same table; longer names (as posted to the REST simulator) are normalized
+ * and matched by name. ExecTypes that carry no status (trade, restated, order status) map to {@code null}.
+ */
 public final class ExecutionToOrderStatusMapper {
 
+    private static final OrderStatus[] BY_CODE = new OrderStatus[128];
+
+    static {
+        BY_CODE['0'] = OrderStatus.NEW;
+        BY_CODE['1'] = OrderStatus.PARTIALLY_FILLED;
+        BY_CODE['2'] = OrderStatus.FILLED;
+        BY_CODE['3'] = OrderStatus.DONE_FOR_DAY;
+        BY_CODE['4'] = OrderStatus.CANCELED;
+        BY_CODE['5'] = OrderStatus.REPLACED;
+        BY_CODE['6'] = OrderStatus.PENDING_CANCEL;
+        BY_CODE['7'] = OrderStatus.STOPPED;
+        BY_CODE['8'] = OrderStatus.REJECTED;
+        BY_CODE['9'] = OrderStatus.SUSPENDED;
+        BY_CODE['A'] = OrderStatus.PENDING_NEW;
+        BY_CODE['B'] = OrderStatus.CALCULATED;
+        BY_CODE['C'] = OrderStatus.EXPIRED;
+        BY_CODE['E'] = OrderStatus.PENDING_REPLACE;
+    }
+
     private ExecutionToOrderStatusMapper() {
     }
 
@@ -16,32 +42,68 @@ public final class ExecutionToOrderStatusMapper {
         return fromExecType(execType);
     }
 
+    /** FIX char codes as decoded by {@link ExecutionReportDecoder}; {@link PrimitiveExecutionReport#UNSET} if absent. */
+    public static OrderStatus map(char execType, char ordStatus) {
+        OrderStatus fromOrdStatus = fromCode(ordStatus);
+        if (fromOrdStatus != null) {
+            return fromOrdStatus;
+        }
+        return fromCode(execType);
+    }
+
+    private static OrderStatus fromCode(char code) {
+        return code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+
     private static OrderStatus fromOrdStatus(String ordStatus) {
+        if (ordStatus != null && ordStatus.length() == 1) {
+            return fromCode(ordStatus.charAt(0));
+        }
         String normalized = normalize(ordStatus);
         if (normalized == null) {
             return null;
         }
         return switch (normalized) {
-            case "0", "NEW" -> OrderStatus.NEW;
-            case "1", "PARTIALLY_FILLED" -> OrderStatus.PARTIALLY_FILLED;
-            case "2", "FILLED" -> OrderStatus.FILLED;
-            case "4", "CANCELED", "CANCELLED" -> OrderStatus.CANCELED;
-            case "8", "REJECTED" -> OrderStatus.REJECTED;
-            default -> null;
+            case "CANCELLED" -> OrderStatus.CANCELED;
+            default -> byName(normalized);
         };
     }
 
     private static OrderStatus fromExecType(String execType) {
+        if (execType != null && execType.length() == 1) {
+            return fromCode(execType.charAt(0));
+        }
         String normalized = normalize(execType);
         if (normalized == null) {
             return null;
         }
         return switch (normalized) {
-            case "0", "NEW" -> OrderStatus.NEW;
-            case "1", "PARTIAL_FILL", "PARTIALLY_FILLED" -> OrderStatus.PARTIALLY_FILLED;
-            case "2", "FILL", "FILLED" -> OrderStatus.FILLED;
-            case "4", "CANCELED", "CANCELLED" -> OrderStatus.CANCELED;
-            case "8", "REJECTED" -> OrderStatus.REJECTED;
+            case "PARTIAL_FILL" -> OrderStatus.PARTIALLY_FILLED;
+            case "FILL" -> OrderStatus.FILLED;
+            case "CANCELLED" -> OrderStatus.CANCELED;
+            default -> byName(normalized);
+        };
+    }
+
+    private static OrderStatus byName(String normalized) {
+        if (normalized.length() == 1) {
+            return fromCode(normalized.charAt(0));
+        }
+        return switch (normalized) {
+            case "NEW" -> OrderStatus.NEW;
+            case "PARTIALLY_FILLED" -> OrderStatus.PARTIALLY_FILLED;
+            case "FILLED" -> OrderStatus.FILLED;
+            case "DONE_FOR_DAY" -> OrderStatus.DONE_FOR_DAY;
+            case "CANCELED" -> OrderStatus.CANCELED;
+            case "REPLACED" -> OrderStatus.REPLACED;
+            case "PENDING_CANCEL" -> OrderStatus.PENDING_CANCEL;
+            case "STOPPED" -> OrderStatus.STOPPED;
+            case "REJECTED" -> OrderStatus.REJECTED;
+            case "SUSPENDED" -> OrderStatus.SUSPENDED;
+            case "PENDING_NEW" -> OrderStatus.PENDING_NEW;
+            case "CALCULATED" -> OrderStatus.CALCULATED;
+            case "EXPIRED" -> OrderStatus.EXPIRED;
+            case "PENDING_REPLACE" -> OrderStatus.PENDING_REPLACE;
             default -> null;
         };
     }
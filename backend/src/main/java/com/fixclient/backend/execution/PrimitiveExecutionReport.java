@@ -0,0 +1,185 @@
+package com.fixclient.backend.execution;
+
+import com.fixclient.backend.support.FixedPoint;
+import java.time.Instant;
+
+/**
+ * Mutable execution report with quantities and prices held as unscaled longs at {@link #SCALE}
+ * ({@link FixedPoint#NULL} when absent) and ExecType/OrdStatus as chars ({@link #UNSET} when absent).
+ *
+ * <p>Instances handed out by {@link ExecutionReportDecoder} are pooled per thread; use {@link #copy()} to keep one
+ * beyond the current call.
+ */
+public final class PrimitiveExecutionReport implements ExecutionReportView {
+
+    public static final int SCALE = 8;
+    public static final char UNSET = 0;
+
+    private static final String[] ASCII_STRINGS = new String[128];
+
+    static {
+        for (char c = 0; c < ASCII_STRINGS.length; c++) {
+            ASCII_STRINGS[c] = String.valueOf(c);
+        }
+    }
+
+    private String clOrdId;
+    private String orderId;
+    private char execType;
+    private char ordStatus;
+    private long cumQty;
+    private long leavesQty;
+    private long avgPx;
+    private long lastPx;
+    private long lastQty;
+    private String text;
+    private long updatedAtMillis;
+
+    public PrimitiveExecutionReport() {
+        reset();
+    }
+
+    /** The one-character string for a FIX char value without allocating for ASCII, or {@code null} when unset. */
+    public static String charAsString(char value) {
+        if (value == UNSET) {
+            return null;
+        }
+        return value < ASCII_STRINGS.length ? ASCII_STRINGS[value] : String.valueOf(value);
+    }
+
+    void reset() {
+        clOrdId = null;
+        orderId = null;
+        execType = UNSET;
+        ordStatus = UNSET;
+        cumQty = FixedPoint.NULL;
+        leavesQty = FixedPoint.NULL;
+        avgPx = FixedPoint.NULL;
+        lastPx = FixedPoint.NULL;
+        lastQty = FixedPoint.NULL;
+        text = null;
+        updatedAtMillis = 0L;
+    }
+
+    public PrimitiveExecutionReport copy() {
+        PrimitiveExecutionReport copy = new PrimitiveExecutionReport();
+        copy.clOrdId = clOrdId;
+        copy.orderId = orderId;
+        copy.execType = execType;
+        copy.ordStatus = ordStatus;
+        copy.cumQty = cumQty;
+        copy.leavesQty = leavesQty;
+        copy.avgPx = avgPx;
+        copy.lastPx = lastPx;
+        copy.lastQty = lastQty;
+        copy.text = text;
+        copy.updatedAtMillis = updatedAtMillis;
+        return copy;
+    }
+
+    @Override
+    public ExecutionReportEvent toEvent() {
+        return new ExecutionReportEvent(
+                clOrdId,
+                orderId,
+                charAsString(execType),
+                charAsString(ordStatus),
+                FixedPoint.toBigDecimal(cumQty, SCALE),
+                FixedPoint.toBigDecimal(leavesQty, SCALE),
+                FixedPoint.toBigDecimal(avgPx, SCALE),
+                FixedPoint.toBigDecimal(lastPx, SCALE),
+                FixedPoint.toBigDecimal(lastQty, SCALE),
+                text,
+                Instant.ofEpochMilli(updatedAtMillis));
+    }
+
+    @Override
+    public String clOrdId() {
+        return clOrdId;
+    }
+
+    @Override
+    public String orderId() {
+        return orderId;
+    }
+
+    public char execType() {
+        return execType;
+    }
+
+    public char ordStatus() {
+        return ordStatus;
+    }
+
+    public long cumQty() {
+        return cumQty;
+    }
+
+    public long leavesQty() {
+        return leavesQty;
+    }
+
+    public long avgPx() {
+        return avgPx;
+    }
+
+    public long lastPx() {
+        return lastPx;
+    }
+
+    public long lastQty() {
+        return lastQty;
+    }
+
+    public String text() {
+        return text;
+    }
+
+    public long updatedAtMillis() {
+        return updatedAtMillis;
+    }
+
+    void setClOrdId(String clOrdId) {
+        this.clOrdId = clOrdId;
+    }
+
+    void setOrderId(String orderId) {
+        this.orderId = orderId;
+    }
+
+    void setExecType(char execType) {
+        this.execType = execType;
+    }
+
+    void setOrdStatus(char ordStatus) {
+        this.ordStatus = ordStatus;
+    }
+
+    void setCumQty(long cumQty) {
+        this.cumQty = cumQty;
+    }
+
+    void setLeavesQty(long leavesQty) {
+        this.leavesQty = leavesQty;
+    }
+
+    void setAvgPx(long avgPx) {
+        this.avgPx = avgPx;
+    }
+
+    void setLastPx(long lastPx) {
+        this.lastPx = lastPx;
+    }
+
+    void setLastQty(long lastQty) {
+        this.lastQty = lastQty;
+    }
+
+    void setText(String text) {
+        this.text = text;
+    }
+
+    void setUpdatedAtMillis(long updatedAtMillis) {
+        this.updatedAtMillis = updatedAtMillis;
+    }
+}
@@ -0,0 +1,35 @@
+package com.fixclient.backend.ids;
+
+/**
+ * ClOrdIDs of cancel and cancel/replace requests, derived from the ClOrdID of the order they act on.
+ *
+ * <p>A request's ClOrdID is the order's root ClOrdID, a {@value #SEPARATOR} and a fresh request id, so every ClOrdID
+ * in a chain of replaces names its root. Resolving any of them to the order is a scan up to the separator followed
+ * by the usual root lookup, and issuing one needs no index entry. Root ClOrdIDs never contain the separator.
+ */
+public final class ClOrdIdChain {
+
+    public static final char SEPARATOR = '.';
+
+    private ClOrdIdChain() {
+    }
+
+    /** ClOrdID for a new request on the order whose root ClOrdID is {@code rootClOrdId}. */
+    public static String next(String rootClOrdId, long requestId) {
+        return rootClOrdId + SEPARATOR + SnowflakeOrderIdGenerator.toClOrdId(requestId);
+    }
+
+    /** The root ClOrdID of {@code clOrdId}, which is {@code clOrdId} itself for an order's own ClOrdID. */
+    public static String rootOf(String clOrdId) {
+        if (clOrdId == null) {
+            return null;
+        }
+        int separator = clOrdId.indexOf(SEPARATOR);
+        return separator < 0 ? clOrdId : clOrdId.substring(0, separator);
+    }
+
+    /** Whether {@code clOrdId} belongs to a cancel or replace request rather than to the order itself. */
+    public static boolean isRequest(String clOrdId) {
+        return clOrdId != null && clOrdId.indexOf(SEPARATOR) >= 0;
+    }
+}
@@ -0,0 +1,7 @@
+package com.fixclient.backend.ids;
+
+import java.util.UUID;
+
+/** The internal order id and the ClOrdID (11) sent to the venue for one new order. */
+public record GeneratedOrderId(UUID orderId, String clOrdId) {
+}
@@ -0,0 +1,12 @@
+package com.fixclient.backend.ids;
+
+/**
+ * Source of identifiers for new orders.
+ *
+ * <p>Implementations are called on the request thread for every order, concurrently, and must never return the same
+ * identifiers twice.
+ */
+public interface OrderIdGenerator {
+
+    GeneratedOrderId next();
+}
@@ -0,0 +1,17 @@
+package com.fixclient.backend.ids;
+
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** Random UUIDs, with the UUID string as the ClOrdID. Each call draws from {@code SecureRandom}. */
+@Component
+@ConditionalOnProperty(name = "fix.orders.id.generator", havingValue = "uuid")
+public class RandomUuidOrderIdGenerator implements OrderIdGenerator {
+
+    @Override
+    public GeneratedOrderId next() {
+        UUID orderId = UUID.randomUUID();
+        return new GeneratedOrderId(orderId, orderId.toString());
+    }
+}
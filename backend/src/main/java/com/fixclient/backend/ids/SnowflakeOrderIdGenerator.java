@@ -0,0 +1,122 @@
+package com.fixclient.backend.ids;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Time-ordered 63-bit ids: 41 bits of milliseconds since 2024-01-01, a 10-bit node id and a 12-bit sequence.
+ *
+ * <p>The millisecond and sequence live in one {@link AtomicLong} that is advanced with a CAS to the larger of its next
+ * value and the current time, so ids are strictly increasing without a lock. When more than 4096 ids are taken in
+ * one millisecond the sequence carries into the millisecond field, and the generator runs slightly ahead of the
+ * clock until demand drops. A clock that steps backwards is handled the same way.
+ *
+ * <p>The ClOrdID is the id in base 36, zero-padded to {@value #CL_ORD_ID_LENGTH} characters, so ClOrdIDs sort in
+ * creation order. The order id is a UUID with a fixed version-8 upper half and the id as its lower half, so either
+ * form can be turned back into the id with {@link #parseClOrdId} or {@link #idOf}.
+ */
+@Component
+@ConditionalOnProperty(name = "fix.orders.id.generator", havingValue = "snowflake", matchIfMissing = true)
+public class SnowflakeOrderIdGenerator implements OrderIdGenerator {
+
+    public static final int CL_ORD_ID_LENGTH = 13;
+    public static final int MAX_NODE_ID = 1023;
+
+    static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    static final long UUID_MOST_SIGNIFICANT_BITS = 0x0000_0000_0000_8000L;
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final int NODE_BITS = 10;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_MILLIS = (1L << (63 - NODE_BITS - SEQUENCE_BITS)) - 1;
+    private static final int RADIX = 36;
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeOrderIdGenerator() {
+        this(0);
+    }
+
+    @Autowired
+    public SnowflakeOrderIdGenerator(@Value("${fix.orders.id.node-id:0}") int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeOrderIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("fix.orders.id.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    @Override
+    public GeneratedOrderId next() {
+        long id = nextId();
+        return new GeneratedOrderId(toOrderId(id), toClOrdId(id));
+    }
+
+    /** Next id, strictly greater than every id this generator returned before. */
+    public long nextId() {
+        long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long previous;
+        long next;
+        do {
+            previous = state.get();
+            next = Math.max(previous + 1, now);
+        } while (!state.compareAndSet(previous, next));
+
+        long millis = next >>> SEQUENCE_BITS;
+        if (millis > MAX_MILLIS) {
+            throw new IllegalStateException("Order id timestamp overflowed");
+        }
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    public static UUID toOrderId(long id) {
+        return new UUID(UUID_MOST_SIGNIFICANT_BITS, id);
+    }
+
+    /** Whether {@code orderId} was made by {@link #toOrderId}. */
+    public static boolean isGenerated(UUID orderId) {
+        return orderId.getMostSignificantBits() == UUID_MOST_SIGNIFICANT_BITS && orderId.getLeastSignificantBits() >= 0;
+    }
+
+    public static long idOf(UUID orderId) {
+        return orderId.getLeastSignificantBits();
+    }
+
+    public static String toClOrdId(long id) {
+        char[] digits = new char[CL_ORD_ID_LENGTH];
+        long remaining = id;
+        for (int i = CL_ORD_ID_LENGTH - 1; i >= 0; i--) {
+            digits[i] = Character.forDigit((int) (remaining % RADIX), RADIX);
+            remaining /= RADIX;
+        }
+        return new String(digits);
+    }
+
+    /** The id a ClOrdID made by {@link #toClOrdId} encodes, or -1 for any other ClOrdID. */
+    public static long parseClOrdId(String clOrdId) {
+        if (clOrdId == null || clOrdId.length() != CL_ORD_ID_LENGTH) {
+            return -1;
+        }
+        long id = 0;
+        for (int i = 0; i < CL_ORD_ID_LENGTH; i++) {
+            char c = clOrdId.charAt(i);
+            int digit = c >= '0' && c <= '9' ? c - '0' : c >= 'a' && c <= 'z' ? c - 'a' + 10 : -1;
+            if (digit < 0 || id > (Long.MAX_VALUE - digit) / RADIX) {
+                return -1;
+            }
+            id = id * RADIX + digit;
+        }
+        return id;
+    }
+}
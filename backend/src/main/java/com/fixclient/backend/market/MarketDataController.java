@@ -33,6 +33,21 @@ public class MarketDataController {
         return marketDataService.quotes();
     }
 
+    @GetMapping("/subscriptions")
+    public MarketSubscriptionResponse subscriptions() {
+        return marketDataService.subscriptions();
+    }
+
+    @PostMapping("/subscribe")
+    public MarketSubscriptionResponse subscribe(@RequestBody MarketSubscriptionRequest request) {
+        return marketDataService.subscribe(request);
+    }
+
+    @PostMapping("/unsubscribe")
+    public MarketSubscriptionResponse unsubscribe(@RequestBody MarketSubscriptionRequest request) {
+        return marketDataService.unsubscribe(request);
+    }
+
     @PostMapping("/simulate")
     public MarketQuote simulate(@RequestBody SimulateQuoteRequest request) {
         return marketDataService.simulate(request);
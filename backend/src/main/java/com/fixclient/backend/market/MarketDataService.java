@@ -3,6 +3,7 @@ package com.fixclient.backend.market;
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -13,22 +14,34 @@ import org.springframework.web.server.ResponseStatusException;
 public class MarketDataService {
 
     static final String SIMULATED_SOURCE = "SIMULATED";
+    static final int MAX_SUBSCRIPTION_SYMBOLS = 1000;
 
     private final MarketDataStore store;
+    private final MarketDataSubscriber subscriber;
     private final Clock clock;
 
     @Autowired
-    public MarketDataService(MarketDataStore store) {
-        this(store, Clock.systemUTC());
+    public MarketDataService(MarketDataStore store, MarketDataSubscriber subscriber) {
+        this(store, subscriber, Clock.systemUTC());
     }
 
     MarketDataService(MarketDataStore store, Clock clock) {
+        this(store, null, clock);
+    }
+
+    MarketDataService(MarketDataStore store, MarketDataSubscriber subscriber, Clock clock) {
         this.store = store;
+        this.subscriber = subscriber;
         this.clock = clock;
     }
 
     public MarketStatusResponse status() {
-        return new MarketStatusResponse(store.symbolsTracked(), store.latestUpdateAt());
+        return new MarketStatusResponse(
+                store.symbolsTracked(),
+                store.latestUpdateAt(),
+                store.updateCount(),
+                store.updatesPerSecond(),
+                store.quotesBySource());
     }
 
     public MarketQuote quote(String symbol) {
@@ -53,18 +66,50 @@ public class MarketDataService {
         return store.upsert(symbol, request.bid(), request.ask(), request.last(), now, SIMULATED_SOURCE);
     }
 
-    private String normalizeSymbol(String symbol) {
-        if (symbol == null || symbol.isBlank()) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "symbol is required");
+    public MarketSubscriptionResponse subscribe(MarketSubscriptionRequest request) {
+        requireSubscriber().subscribeAll(normalizeSymbols(request));
+        return subscriptions();
+    }
+
+    public MarketSubscriptionResponse unsubscribe(MarketSubscriptionRequest request) {
+        requireSubscriber().unsubscribeAll(normalizeSymbols(request));
+        return subscriptions();
+    }
+
+    public MarketSubscriptionResponse subscriptions() {
+        return new MarketSubscriptionResponse(List.copyOf(requireSubscriber().subscribedSymbols()));
+    }
+
+    private MarketDataSubscriber requireSubscriber() {
+        if (subscriber == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Market data subscriptions are not available");
         }
+        return subscriber;
+    }
 
-        String normalized = symbol.trim().toUpperCase();
-        if (!normalized.matches("[A-Z0-9._-]{1,24}")) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "symbol has invalid format");
+    private List<String> normalizeSymbols(MarketSubscriptionRequest request) {
+        if (request == null || request.symbols() == null || request.symbols().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "symbols must contain at least one symbol");
+        }
+        if (request.symbols().size() > MAX_SUBSCRIPTION_SYMBOLS) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "symbols must not contain more than " + MAX_SUBSCRIPTION_SYMBOLS + " entries");
+        }
+        List<String> normalized = new ArrayList<>(request.symbols().size());
+        for (String symbol : request.symbols()) {
+            normalized.add(normalizeSymbol(symbol));
         }
         return normalized;
     }
 
+    private String normalizeSymbol(String symbol) {
+        try {
+            return store.symbols().canonicalize(symbol);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+    }
+
     private void validateQuoteValues(BigDecimal bid, BigDecimal ask, BigDecimal last) {
         if (bid == null && ask == null && last == null) {
             throw new ResponseStatusException(
@@ -72,18 +117,31 @@ public class MarketDataService {
                     "At least one of bid, ask, or last must be provided");
         }
 
-        validateNonNegative("bid", bid);
-        validateNonNegative("ask", ask);
-        validateNonNegative("last", last);
+        validatePrice("bid", bid);
+        validatePrice("ask", ask);
+        validatePrice("last", last);
 
         if (bid != null && ask != null && ask.compareTo(bid) < 0) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ask must be greater than or equal to bid");
         }
     }
 
-    private void validateNonNegative(String field, BigDecimal value) {
-        if (value != null && value.signum() < 0) {
+    /** Prices are stored as unscaled longs, so they must fit that range and scale rather than be rounded. */
+    private void validatePrice(String field, BigDecimal value) {
+        if (value == null) {
+            return;
+        }
+        if (value.signum() < 0) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, field + " must be non-negative");
         }
+        if (value.compareTo(MarketDataStore.MAX_PRICE) > 0) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, field + " must not exceed " + MarketDataStore.MAX_PRICE.toPlainString());
+        }
+        if (value.stripTrailingZeros().scale() > MarketDataStore.PRICE_SCALE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    field + " must not have more than " + MarketDataStore.PRICE_SCALE + " decimal places");
+        }
     }
 }
@@ -1,18 +1,73 @@
 package com.fixclient.backend.market;
 
+import com.fixclient.backend.support.ChangeListeners;
+import com.fixclient.backend.support.FixedPoint;
+import com.fixclient.backend.symbols.SymbolRegistry;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+/**
+ * Latest quote per symbol, kept in a {@link QuoteBook} of fixed-point longs. {@link MarketQuote} records are only
+ * built when a quote is read.
+ *
+ * <p>Status figures are maintained on write rather than computed per request: the newest update time is an atomic
+ * max and updates are counted in a {@link LongAdder}. {@link #all()} walks symbol ids in an order that is only
+ * re-sorted when a symbol is added, and returns the previous list as long as no update has been counted since it
+ * was built.
+ */
 @Component
 public class MarketDataStore {
 
-    private final ConcurrentHashMap<String, MarketQuote> quotesBySymbol = new ConcurrentHashMap<>();
+    /** Scale of the unscaled prices accepted by {@link #upsertScaled}. */
+    public static final int PRICE_SCALE = QuoteBook.SCALE;
+
+    /** Largest price that fits an unscaled {@code long} at {@link #PRICE_SCALE}. */
+    public static final BigDecimal MAX_PRICE = BigDecimal.valueOf(Long.MAX_VALUE, PRICE_SCALE);
+
+    private static final long NO_UPDATE = Long.MIN_VALUE;
+    private static final long RATE_SAMPLE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final SymbolRegistry symbols;
+    private final QuoteBook book;
+    private final AtomicInteger symbolsTracked = new AtomicInteger();
+    private final AtomicLong latestUpdateNanos = new AtomicLong(NO_UPDATE);
+    private final LongAdder updates = new LongAdder();
+    private final ChangeListeners<String> changeListeners = new ChangeListeners<>();
+
+    private volatile SortedSymbols sortedSymbols = new SortedSymbols(new int[0]);
+    private volatile QuoteSnapshot snapshot = new QuoteSnapshot(sortedSymbols, 0, List.of());
+
+    private long rateSampledAtNanos = System.nanoTime();
+    private long rateSampledUpdates;
+    private double updatesPerSecond;
+
+    public MarketDataStore() {
+        this(new SymbolRegistry());
+    }
+
+    @Autowired
+    public MarketDataStore(SymbolRegistry symbols) {
+        this.symbols = symbols;
+        this.book = new QuoteBook(symbols);
+    }
+
+    /** Registry the store's symbol ids come from. */
+    public SymbolRegistry symbols() {
+        return symbols;
+    }
 
     public MarketQuote upsert(
             String symbol,
@@ -21,32 +76,144 @@ public class MarketDataStore {
             BigDecimal last,
             Instant updatedAt,
             String source) {
-        return quotesBySymbol.compute(symbol, (ignored, existing) -> {
-            BigDecimal nextBid = bid != null ? bid : existing != null ? existing.bid() : null;
-            BigDecimal nextAsk = ask != null ? ask : existing != null ? existing.ask() : null;
-            BigDecimal nextLast = last != null ? last : existing != null ? existing.last() : null;
-            return new MarketQuote(symbol, nextBid, nextAsk, nextLast, updatedAt, source);
-        });
+        int id = book.symbolId(symbol);
+        boolean first = book.write(
+                id,
+                QuoteBook.toScaled(bid),
+                QuoteBook.displayScale(bid),
+                QuoteBook.toScaled(ask),
+                QuoteBook.displayScale(ask),
+                QuoteBook.toScaled(last),
+                QuoteBook.displayScale(last),
+                updatedAt.getEpochSecond(),
+                updatedAt.getNano(),
+                book.sourceId(source));
+        recordUpdate(first, updatedAt);
+        changeListeners.fire(symbol);
+        return book.read(id);
+    }
+
+    /**
+     * Allocation-free variant of {@link #upsert} for feed handlers. Prices are unscaled at {@link #PRICE_SCALE};
+     * {@link FixedPoint#NULL} keeps the current value.
+     */
+    public void upsertScaled(String symbol, long bid, long ask, long last, Instant updatedAt, String source) {
+        boolean first = book.write(
+                book.symbolId(symbol),
+                bid,
+                QuoteBook.STRIPPED,
+                ask,
+                QuoteBook.STRIPPED,
+                last,
+                QuoteBook.STRIPPED,
+                updatedAt.getEpochSecond(),
+                updatedAt.getNano(),
+                book.sourceId(source));
+        recordUpdate(first, updatedAt);
+        changeListeners.fire(symbol);
     }
 
     public Optional<MarketQuote> find(String symbol) {
-        return Optional.ofNullable(quotesBySymbol.get(symbol));
+        int id = book.existingSymbolId(symbol);
+        return id < 0 ? Optional.empty() : Optional.ofNullable(book.read(id));
     }
 
     public List<MarketQuote> all() {
-        List<MarketQuote> values = new ArrayList<>(quotesBySymbol.values());
-        values.sort(Comparator.comparing(MarketQuote::symbol));
-        return List.copyOf(values);
+        // Read the counter first: any update it includes is already visible in the book, and any update it misses
+        // will change it, so a later call rebuilds.
+        long updateCount = updates.sum();
+        SortedSymbols symbols = sortedSymbols();
+        QuoteSnapshot current = snapshot;
+        if (current.symbols() == symbols && current.updateCount() == updateCount) {
+            return current.quotes();
+        }
+
+        List<MarketQuote> values = new ArrayList<>(symbols.ids().length);
+        for (int id : symbols.ids()) {
+            MarketQuote quote = book.read(id);
+            if (quote != null) {
+                values.add(quote);
+            }
+        }
+        List<MarketQuote> quotes = List.copyOf(values);
+        snapshot = new QuoteSnapshot(symbols, updateCount, quotes);
+        return quotes;
     }
 
     public int symbolsTracked() {
-        return quotesBySymbol.size();
+        return symbolsTracked.get();
     }
 
     public Instant latestUpdateAt() {
-        return quotesBySymbol.values().stream()
-                .map(MarketQuote::updatedAt)
-                .max(Instant::compareTo)
-                .orElse(null);
+        long nanos = latestUpdateNanos.get();
+        return nanos == NO_UPDATE ? null : Instant.ofEpochSecond(0, nanos);
     }
+
+    public long updateCount() {
+        return updates.sum();
+    }
+
+    /**
+     * Updates per second between the two most recent samples. A new sample is taken when at least a second has
+     * passed since the previous one, so frequent polling does not shorten the window.
+     */
+    public synchronized double updatesPerSecond() {
+        long now = System.nanoTime();
+        long elapsed = now - rateSampledAtNanos;
+        if (elapsed >= RATE_SAMPLE_NANOS) {
+            long count = updates.sum();
+            updatesPerSecond = (count - rateSampledUpdates) * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+            rateSampledUpdates = count;
+            rateSampledAtNanos = now;
+        }
+        return updatesPerSecond;
+    }
+
+    /** Number of quotes whose latest update came from each source. */
+    public Map<String, Long> quotesBySource() {
+        return book.quotesBySource();
+    }
+
+    /** Notified with the symbol after each upsert. */
+    public void addChangeListener(Consumer<String> listener) {
+        changeListeners.add(listener);
+    }
+
+    private void recordUpdate(boolean first, Instant updatedAt) {
+        if (first) {
+            symbolsTracked.incrementAndGet();
+        }
+        long nanos = updatedAt.getEpochSecond() * 1_000_000_000L + updatedAt.getNano();
+        long latest = latestUpdateNanos.get();
+        while (nanos > latest && !latestUpdateNanos.compareAndSet(latest, nanos)) {
+            latest = latestUpdateNanos.get();
+        }
+        updates.increment();
+    }
+
+    private SortedSymbols sortedSymbols() {
+        SortedSymbols current = sortedSymbols;
+        if (current.ids().length == book.symbolCount()) {
+            return current;
+        }
+        synchronized (this) {
+            current = sortedSymbols;
+            int count = book.symbolCount();
+            if (current.ids().length == count) {
+                return current;
+            }
+            Integer[] ids = new Integer[count];
+            for (int id = 0; id < count; id++) {
+                ids[id] = id;
+            }
+            Arrays.sort(ids, Comparator.comparing(book::symbol));
+            SortedSymbols sorted = new SortedSymbols(Arrays.stream(ids).mapToInt(Integer::intValue).toArray());
+            sortedSymbols = sorted;
+            return sorted;
+        }
+    }
+
+    private record SortedSymbols(int[] ids) {}
+
+    private record QuoteSnapshot(SortedSymbols symbols, long updateCount, List<MarketQuote> quotes) {}
 }
@@ -1,8 +1,22 @@
 package com.fixclient.backend.market;
 
+import java.util.Collection;
+import java.util.Set;
+
 public interface MarketDataSubscriber {
 
     void subscribe(String symbol);
 
     void unsubscribe(String symbol);
+
+    /** Subscribes several symbols at once; implementations may combine them into one venue request. */
+    default void subscribeAll(Collection<String> symbols) {
+        symbols.forEach(this::subscribe);
+    }
+
+    default void unsubscribeAll(Collection<String> symbols) {
+        symbols.forEach(this::unsubscribe);
+    }
+
+    Set<String> subscribedSymbols();
 }
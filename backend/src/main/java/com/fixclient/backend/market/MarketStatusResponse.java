@@ -1,5 +1,11 @@
 package com.fixclient.backend.market;
 
 import java.time.Instant;
+import java.util.Map;
 
-public record MarketStatusResponse(int symbolsTracked, Instant updatedAt) {}
+public record MarketStatusResponse(
+        int symbolsTracked,
+        Instant updatedAt,
+        long updateCount,
+        double updatesPerSecond,
+        Map<String, Long> quotesBySource) {}
@@ -0,0 +1,5 @@
+package com.fixclient.backend.market;
+
+import java.util.List;
+
+public record MarketSubscriptionResponse(List<String> subscribedSymbols) {}
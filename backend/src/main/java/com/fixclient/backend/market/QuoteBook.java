@@ -0,0 +1,268 @@
+package com.fixclient.backend.market;
+
+import com.fixclient.backend.support.FixedPoint;
+import com.fixclient.backend.symbols.SymbolRegistry;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Quotes held as fixed-point longs in symbol-indexed primitive arrays.
+ *
+ * <p>Every symbol is interned to an int id by the {@link SymbolRegistry} and owns one 64-byte stripe of eight longs: a
+ * sequence word followed by bid, ask, last, the update time and a packed word with the source id and the display scale
+ * of each price. Writers take the stripe by moving the sequence from even to odd with a CAS and release it by bumping
+ * it to the next even value; readers copy the stripe and retry if the sequence moved underneath them (a seqlock).
+ * Nothing is allocated on the write path once a symbol and source are known. The number of quotes currently attributed
+ * to each source is adjusted by the writer that changes a stripe's source.
+ */
+final class QuoteBook {
+
+    /** Prices are stored as unscaled values at this scale. */
+    static final int SCALE = 8;
+
+    /** Display-scale marker for prices that should be shown without trailing zeros. */
+    static final int STRIPPED = 0xFF;
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private static final int STRIDE = 8;
+    private static final int SEQUENCE = 0;
+    private static final int BID = 1;
+    private static final int ASK = 2;
+    private static final int LAST = 3;
+    private static final int UPDATED_SECOND = 4;
+    private static final int UPDATED_NANO = 5;
+    private static final int META = 6;
+
+    private static final int CHUNK_SHIFT = 8;
+    private static final int CHUNK_SYMBOLS = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SYMBOLS - 1;
+
+    private final SymbolRegistry symbols;
+    private final ConcurrentHashMap<String, Integer> sourceIds = new ConcurrentHashMap<>();
+    private volatile long[][] chunks = new long[0][];
+    private volatile String[] sources = new String[0];
+    private volatile LongAdder[] quotesPerSource = new LongAdder[0];
+
+    QuoteBook(SymbolRegistry symbols) {
+        this.symbols = symbols;
+    }
+
+    /** Id for {@code symbol}, registering it and allocating its stripe on first use. */
+    int symbolId(String symbol) {
+        int id = symbols.register(symbol);
+        if (id >= capacity()) {
+            grow(id);
+        }
+        return id;
+    }
+
+    /** Id for {@code symbol}, or -1 if it has no stripe yet. */
+    int existingSymbolId(String symbol) {
+        int id = symbols.existingId(symbol);
+        return id < capacity() ? id : -1;
+    }
+
+    /** Upper bound of the ids that have a stripe. Ids registered for orders only may be missing quotes. */
+    int symbolCount() {
+        return Math.min(symbols.size(), capacity());
+    }
+
+    String symbol(int id) {
+        return symbols.symbol(id);
+    }
+
+    int sourceId(String source) {
+        Integer id = sourceIds.get(source);
+        return id != null ? id : registerSource(source);
+    }
+
+    /** Number of written quotes per source, in source registration order. */
+    Map<String, Long> quotesBySource() {
+        String[] names = sources;
+        LongAdder[] counts = quotesPerSource;
+        Map<String, Long> bySource = new LinkedHashMap<>();
+        for (int i = 0; i < Math.min(names.length, counts.length); i++) {
+            long count = counts[i].sum();
+            if (count > 0) {
+                bySource.put(names[i], count);
+            }
+        }
+        return bySource;
+    }
+
+    /**
+     * Merges one update into a symbol's stripe. Prices equal to {@link FixedPoint#NULL} keep the current value;
+     * scales are display scales (0..{@value #SCALE}) or {@link #STRIPPED}.
+     *
+     * @return {@code true} if this was the first write for the symbol
+     */
+    boolean write(
+            int id,
+            long bid,
+            int bidScale,
+            long ask,
+            int askScale,
+            long last,
+            int lastScale,
+            long updatedSecond,
+            int updatedNano,
+            int sourceId) {
+        long[] chunk = chunks[id >>> CHUNK_SHIFT];
+        int base = (id & CHUNK_MASK) * STRIDE;
+
+        long sequence;
+        while (true) {
+            sequence = (long) LONGS.getVolatile(chunk, base + SEQUENCE);
+            if ((sequence & 1) == 0 && LONGS.compareAndSet(chunk, base + SEQUENCE, sequence, sequence + 1)) {
+                break;
+            }
+            Thread.onSpinWait();
+        }
+
+        long meta = (long) LONGS.getOpaque(chunk, base + META);
+        if (bid != FixedPoint.NULL) {
+            LONGS.setOpaque(chunk, base + BID, bid);
+            meta = withScale(meta, 16, bidScale);
+        }
+        if (ask != FixedPoint.NULL) {
+            LONGS.setOpaque(chunk, base + ASK, ask);
+            meta = withScale(meta, 24, askScale);
+        }
+        if (last != FixedPoint.NULL) {
+            LONGS.setOpaque(chunk, base + LAST, last);
+            meta = withScale(meta, 32, lastScale);
+        }
+        LONGS.setOpaque(chunk, base + UPDATED_SECOND, updatedSecond);
+        LONGS.setOpaque(chunk, base + UPDATED_NANO, (long) updatedNano);
+        LONGS.setOpaque(chunk, base + META, (meta & ~0xFFFFL) | (sourceId & 0xFFFFL));
+
+        LONGS.setRelease(chunk, base + SEQUENCE, sequence + 2);
+
+        boolean first = sequence == 0;
+        int previousSourceId = (int) (meta & 0xFFFF);
+        if (first || previousSourceId != sourceId) {
+            LongAdder[] counts = quotesPerSource;
+            counts[sourceId].increment();
+            if (!first) {
+                counts[previousSourceId].decrement();
+            }
+        }
+        return first;
+    }
+
+    /** A consistent copy of the symbol's quote, or {@code null} if nothing was written for it yet. */
+    MarketQuote read(int id) {
+        long[] chunk = chunks[id >>> CHUNK_SHIFT];
+        int base = (id & CHUNK_MASK) * STRIDE;
+
+        while (true) {
+            long sequence = (long) LONGS.getAcquire(chunk, base + SEQUENCE);
+            if (sequence == 0) {
+                return null;
+            }
+            if ((sequence & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            long bid = (long) LONGS.getOpaque(chunk, base + BID);
+            long ask = (long) LONGS.getOpaque(chunk, base + ASK);
+            long last = (long) LONGS.getOpaque(chunk, base + LAST);
+            long second = (long) LONGS.getOpaque(chunk, base + UPDATED_SECOND);
+            long nano = (long) LONGS.getOpaque(chunk, base + UPDATED_NANO);
+            long meta = (long) LONGS.getOpaque(chunk, base + META);
+            VarHandle.loadLoadFence();
+            if ((long) LONGS.getOpaque(chunk, base + SEQUENCE) != sequence) {
+                continue;
+            }
+            return new MarketQuote(
+                    symbols.symbol(id),
+                    toDecimal(bid, scaleAt(meta, 16)),
+                    toDecimal(ask, scaleAt(meta, 24)),
+                    toDecimal(last, scaleAt(meta, 32)),
+                    Instant.ofEpochSecond(second, nano),
+                    sources[(int) (meta & 0xFFFF)]);
+        }
+    }
+
+    /** Unscaled value at {@link #SCALE} for a decimal, or {@link FixedPoint#NULL}. */
+    static long toScaled(BigDecimal value) {
+        return FixedPoint.fromBigDecimal(value, SCALE);
+    }
+
+    /** Display scale to remember for a decimal written with {@link #toScaled}. */
+    static int displayScale(BigDecimal value) {
+        if (value == null || value.scale() < 0 || value.scale() > SCALE) {
+            return STRIPPED;
+        }
+        return value.scale();
+    }
+
+    private int capacity() {
+        return chunks.length << CHUNK_SHIFT;
+    }
+
+    private synchronized void grow(int id) {
+        int needed = (id >>> CHUNK_SHIFT) + 1;
+        if (chunks.length >= needed) {
+            return;
+        }
+        long[][] grown = Arrays.copyOf(chunks, needed);
+        for (int i = chunks.length; i < needed; i++) {
+            grown[i] = newChunk();
+        }
+        chunks = grown;
+    }
+
+    private synchronized int registerSource(String source) {
+        Integer existing = sourceIds.get(source);
+        if (existing != null) {
+            return existing;
+        }
+        int id = sources.length;
+        if (id > 0xFFFF) {
+            throw new IllegalStateException("Too many distinct market data sources");
+        }
+        LongAdder[] grownCounts = Arrays.copyOf(quotesPerSource, id + 1);
+        grownCounts[id] = new LongAdder();
+        quotesPerSource = grownCounts;
+        String[] grown = Arrays.copyOf(sources, id + 1);
+        grown[id] = source;
+        sources = grown;
+        sourceIds.put(source, id);
+        return id;
+    }
+
+    private static long[] newChunk() {
+        long[] chunk = new long[CHUNK_SYMBOLS * STRIDE];
+        for (int base = 0; base < chunk.length; base += STRIDE) {
+            chunk[base + BID] = FixedPoint.NULL;
+            chunk[base + ASK] = FixedPoint.NULL;
+            chunk[base + LAST] = FixedPoint.NULL;
+        }
+        return chunk;
+    }
+
+    private static long withScale(long meta, int shift, int scale) {
+        return (meta & ~(0xFFL << shift)) | ((long) (scale & 0xFF) << shift);
+    }
+
+    private static int scaleAt(long meta, int shift) {
+        return (int) ((meta >>> shift) & 0xFF);
+    }
+
+    private static BigDecimal toDecimal(long unscaled, int displayScale) {
+        if (unscaled == FixedPoint.NULL) {
+            return null;
+        }
+        BigDecimal value = FixedPoint.toBigDecimal(unscaled, SCALE);
+        return displayScale == STRIPPED ? value : value.setScale(displayScale);
+    }
+}
@@ -0,0 +1,31 @@
+package com.fixclient.backend.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnProperty(name = "fix.metrics.latency.enabled", havingValue = "true", matchIfMissing = true)
+@RequestMapping("/metrics/latency")
+public class LatencyController {
+
+    private final OrderLatencyTracker tracker;
+
+    public LatencyController(OrderLatencyTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @GetMapping
+    public LatencyReport latency() {
+        return tracker.report();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> reset() {
+        tracker.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.fixclient.backend.metrics;
+
+import java.util.Map;
+
+/**
+ * Order round-trip latency percentiles keyed by stage label, for all orders and per session and symbol, plus the
+ * orders still being timed, those that could not be because too many were already in flight, and those that stopped
+ * being timed because they outlived the maximum order age.
+ */
+public record LatencyReport(
+        Map<String, StageLatency> overall,
+        Map<String, Map<String, StageLatency>> bySession,
+        Map<String, Map<String, StageLatency>> bySymbol,
+        int inFlightOrders,
+        long untrackedOrders,
+        long expiredOrders) {}
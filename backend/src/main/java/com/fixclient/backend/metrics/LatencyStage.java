@@ -0,0 +1,24 @@
+package com.fixclient.backend.metrics;
+
+/** Points in an order's round trip, each measured from the moment {@code OrderService} received the order. */
+public enum LatencyStage {
+    /** The FIX message was built for the chosen session. */
+    ENCODED("encode"),
+    /** The session accepted the message for sending. */
+    SENT("send"),
+    /** The first execution report for the order was applied. */
+    ACKNOWLEDGED("ack"),
+    /** An execution report moved the order to a terminal status. */
+    TERMINAL("terminal");
+
+    private final String label;
+
+    LatencyStage(String label) {
+        this.label = label;
+    }
+
+    /** Name used in the latency report and as the Micrometer {@code stage} tag. */
+    public String label() {
+        return label;
+    }
+}
@@ -0,0 +1,277 @@
+package com.fixclient.backend.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.PackedHistogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every order from {@code OrderService} entry through encoding, sending, the first execution report and a
+ * terminal status, and keeps HdrHistogram distributions of each stage overall, per FIX session and per symbol.
+ *
+ * <p>Each order's {@link System#nanoTime()} timestamps live in a timeline keyed by clOrdId until it reaches a terminal
+ * status. Orders that never do, such as ones that rest past the day or whose last report is lost, are evicted once they
+ * are older than {@code fix.metrics.latency.max-order-age-ms}. The sweep runs on the recording path when the tracker is
+ * full, and at most once per oldest remaining order's expiry, so untracked orders only appear when more than the limit
+ * are genuinely younger than the maximum age. Stage latencies are recorded into {@link Recorder}s, which are wait-free
+ * for the recording thread; readers fold them into cumulative histograms. Per-symbol recorders are packed, so the many
+ * symbols only pay for the buckets they use, at roughly twice the recording cost of the flat overall and per-session
+ * ones. When a {@link MeterRegistry} is available, p50/p99/p99.9 of every stage are also published as
+ * {@code fix.order.latency} gauges.
+ */
+@Component
+@ConditionalOnProperty(name = "fix.metrics.latency.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderLatencyTracker {
+
+    static final String METER_NAME = "fix.order.latency";
+    static final long DEFAULT_MAX_ORDER_AGE_MS = 300_000;
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double[] PUBLISHED_PERCENTILES = {50.0, 99.0, 99.9};
+    private static final LatencyStage[] STAGES = LatencyStage.values();
+
+    private final ConcurrentHashMap<String, Timeline> inFlight = new ConcurrentHashMap<>();
+    private final int maxTrackedOrders;
+    private final long maxOrderAgeNanos;
+    private final LongAdder untracked = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    // When the oldest timeline kept by the last sweep expires, or null if no sweep bound is known.
+    private volatile Long nextExpiryNanos;
+    private final StageHistograms overall;
+    private final ConcurrentHashMap<String, StageHistograms> bySession = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, StageHistograms> bySymbol = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public OrderLatencyTracker() {
+        this(100_000, Optional.empty());
+    }
+
+    public OrderLatencyTracker(int maxTrackedOrders, Optional<MeterRegistry> meterRegistry) {
+        this(maxTrackedOrders, DEFAULT_MAX_ORDER_AGE_MS, meterRegistry);
+    }
+
+    @Autowired
+    public OrderLatencyTracker(
+            @Value("${fix.metrics.latency.max-tracked-orders:100000}") int maxTrackedOrders,
+            @Value("${fix.metrics.latency.max-order-age-ms:" + DEFAULT_MAX_ORDER_AGE_MS + "}") long maxOrderAgeMillis,
+            Optional<MeterRegistry> meterRegistry) {
+        if (maxOrderAgeMillis <= 0) {
+            throw new IllegalArgumentException("max order age must be greater than 0");
+        }
+        this.maxTrackedOrders = maxTrackedOrders;
+        this.maxOrderAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxOrderAgeMillis);
+        this.meterRegistry = meterRegistry.orElse(null);
+        this.overall = newHistograms(Tags.empty(), false);
+    }
+
+    /** Starts timing an order; {@code receivedAtNanos} is taken when the order request was received. */
+    public void onCreated(String clOrdId, String symbol, long receivedAtNanos) {
+        if (inFlight.size() >= maxTrackedOrders && !evictExpired(receivedAtNanos)) {
+            untracked.increment();
+            return;
+        }
+        inFlight.put(clOrdId, new Timeline(symbol, receivedAtNanos));
+    }
+
+    public void onEncoded(String clOrdId, String sessionId, long nanos) {
+        Timeline timeline = inFlight.get(clOrdId);
+        if (timeline != null) {
+            timeline.sessionId = sessionId;
+            record(timeline, LatencyStage.ENCODED, nanos);
+        }
+    }
+
+    public void onSent(String clOrdId, long nanos) {
+        Timeline timeline = inFlight.get(clOrdId);
+        if (timeline != null) {
+            record(timeline, LatencyStage.SENT, nanos);
+        }
+    }
+
+    /** Records the first report as the acknowledgement and stops timing once the order is terminal. */
+    public void onExecutionReport(String clOrdId, boolean terminal, long nanos) {
+        Timeline timeline = terminal ? inFlight.remove(clOrdId) : inFlight.get(clOrdId);
+        if (timeline == null) {
+            return;
+        }
+        if (timeline.acknowledged.compareAndSet(false, true)) {
+            record(timeline, LatencyStage.ACKNOWLEDGED, nanos);
+        }
+        if (terminal) {
+            record(timeline, LatencyStage.TERMINAL, nanos);
+        }
+    }
+
+    /** Stops timing an order that will not reach the venue, e.g. one rejected before sending. */
+    public void discard(String clOrdId) {
+        inFlight.remove(clOrdId);
+    }
+
+    public LatencyReport report() {
+        return new LatencyReport(
+                overall.snapshot(),
+                snapshots(bySession),
+                snapshots(bySymbol),
+                inFlight.size(),
+                untracked.sum(),
+                expired.sum());
+    }
+
+    /** Clears every distribution and forgets orders in flight; registered gauges stay and read zero. */
+    public void reset() {
+        inFlight.clear();
+        nextExpiryNanos = null;
+        untracked.reset();
+        expired.reset();
+        overall.reset();
+        bySession.values().forEach(StageHistograms::reset);
+        bySymbol.values().forEach(StageHistograms::reset);
+    }
+
+    /**
+     * Drops timelines older than the maximum age, unless none can have expired since the last sweep or another thread
+     * is sweeping.
+     *
+     * @return {@code true} if there is room for another order afterwards
+     */
+    private boolean evictExpired(long nowNanos) {
+        Long nextExpiry = nextExpiryNanos;
+        if ((nextExpiry != null && nowNanos - nextExpiry < 0) || !sweeping.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            boolean kept = false;
+            long oldestKept = 0;
+            for (Iterator<Timeline> timelines = inFlight.values().iterator(); timelines.hasNext(); ) {
+                Timeline timeline = timelines.next();
+                if (nowNanos - timeline.receivedAtNanos >= maxOrderAgeNanos) {
+                    timelines.remove();
+                    expired.increment();
+                } else if (!kept || timeline.receivedAtNanos - oldestKept < 0) {
+                    oldestKept = timeline.receivedAtNanos;
+                    kept = true;
+                }
+            }
+            nextExpiryNanos = kept ? oldestKept + maxOrderAgeNanos : null;
+            return inFlight.size() < maxTrackedOrders;
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private void record(Timeline timeline, LatencyStage stage, long nanos) {
+        long latency = Math.max(0, nanos - timeline.receivedAtNanos);
+        overall.record(stage, latency);
+        bySymbol.computeIfAbsent(timeline.symbol, symbol -> newHistograms(Tags.of("symbol", symbol), true))
+                .record(stage, latency);
+        String sessionId = timeline.sessionId;
+        if (sessionId != null) {
+            bySession.computeIfAbsent(sessionId, session -> newHistograms(Tags.of("session", session), false))
+                    .record(stage, latency);
+        }
+    }
+
+    private StageHistograms newHistograms(Tags tags, boolean packed) {
+        StageHistograms histograms = new StageHistograms(packed);
+        if (meterRegistry != null) {
+            for (LatencyStage stage : STAGES) {
+                for (double percentile : PUBLISHED_PERCENTILES) {
+                    Gauge.builder(METER_NAME, histograms, h -> h.percentileNanos(stage, percentile))
+                            .tags(tags)
+                            .tag("stage", stage.label())
+                            .tag("percentile", Double.toString(percentile / 100))
+                            .baseUnit("nanoseconds")
+                            .register(meterRegistry);
+                }
+            }
+        }
+        return histograms;
+    }
+
+    private static Map<String, Map<String, StageLatency>> snapshots(Map<String, StageHistograms> byKey) {
+        Map<String, Map<String, StageLatency>> snapshots = new TreeMap<>();
+        byKey.forEach((key, histograms) -> snapshots.put(key, histograms.snapshot()));
+        return snapshots;
+    }
+
+    private static final class Timeline {
+
+        private final String symbol;
+        private final long receivedAtNanos;
+        private final AtomicBoolean acknowledged = new AtomicBoolean();
+        private volatile String sessionId;
+
+        private Timeline(String symbol, long receivedAtNanos) {
+            this.symbol = symbol;
+            this.receivedAtNanos = receivedAtNanos;
+        }
+    }
+
+    /** One recorder per stage; readers drain them into cumulative histograms under this object's lock. */
+    private static final class StageHistograms {
+
+        private final Recorder[] recorders = new Recorder[STAGES.length];
+        private final Histogram[] cumulative = new Histogram[STAGES.length];
+        private final Histogram[] intervals = new Histogram[STAGES.length];
+
+        private StageHistograms(boolean packed) {
+            for (int i = 0; i < STAGES.length; i++) {
+                recorders[i] = new Recorder(SIGNIFICANT_DIGITS, packed);
+                cumulative[i] = packed ? new PackedHistogram(SIGNIFICANT_DIGITS) : new Histogram(SIGNIFICANT_DIGITS);
+            }
+        }
+
+        void record(LatencyStage stage, long nanos) {
+            recorders[stage.ordinal()].recordValue(nanos);
+        }
+
+        synchronized Map<String, StageLatency> snapshot() {
+            Map<String, StageLatency> byStage = new LinkedHashMap<>();
+            for (LatencyStage stage : STAGES) {
+                Histogram histogram = drain(stage);
+                if (histogram.getTotalCount() > 0) {
+                    byStage.put(stage.label(), new StageLatency(
+                            histogram.getTotalCount(),
+                            histogram.getValueAtPercentile(50.0),
+                            histogram.getValueAtPercentile(99.0),
+                            histogram.getValueAtPercentile(99.9),
+                            histogram.getMaxValue()));
+                }
+            }
+            return byStage;
+        }
+
+        synchronized double percentileNanos(LatencyStage stage, double percentile) {
+            return drain(stage).getValueAtPercentile(percentile);
+        }
+
+        synchronized void reset() {
+            for (int i = 0; i < STAGES.length; i++) {
+                recorders[i].reset();
+                cumulative[i].reset();
+            }
+        }
+
+        private Histogram drain(LatencyStage stage) {
+            int index = stage.ordinal();
+            intervals[index] = recorders[index].getIntervalHistogram(intervals[index]);
+            cumulative[index].add(intervals[index]);
+            return cumulative[index];
+        }
+    }
+}
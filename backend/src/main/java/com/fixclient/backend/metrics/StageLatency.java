@@ -0,0 +1,4 @@
+package com.fixclient.backend.metrics;
+
+/** Latency distribution of one stage, in nanoseconds. */
+public record StageLatency(long count, long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos) {}
@@ -0,0 +1,8 @@
+package com.fixclient.backend.orders;
+
+public record BatchOrderResult(int index, boolean accepted, OrderRecord order, String message) {
+
+    static BatchOrderResult invalid(int index, String message) {
+        return new BatchOrderResult(index, false, null, message);
+    }
+}
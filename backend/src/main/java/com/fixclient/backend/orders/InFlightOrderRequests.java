@@ -0,0 +1,72 @@
+package com.fixclient.backend.orders;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cancel and replace requests that were sent and not answered yet, at most one per order.
+ *
+ * <p>A request's ClOrdID names its root order (see {@link com.fixclient.backend.ids.ClOrdIdChain}), so a report on any
+ * ClOrdID of the chain is resolved to the order first and the request is then found by order id. Starting a request
+ * is a single {@code putIfAbsent}, which also refuses a second request while one is outstanding.
+ */
+final class InFlightOrderRequests {
+
+    enum Kind {
+        CANCEL("Cancel", OrderStatus.PENDING_CANCEL),
+        REPLACE("Replace", OrderStatus.PENDING_REPLACE);
+
+        private final String label;
+        private final OrderStatus pendingStatus;
+
+        Kind(String label, OrderStatus pendingStatus) {
+            this.label = label;
+            this.pendingStatus = pendingStatus;
+        }
+
+        String label() {
+            return label;
+        }
+
+        OrderStatus pendingStatus() {
+            return pendingStatus;
+        }
+    }
+
+    /**
+     * One outstanding request. {@code qty} and {@code price} are what the order becomes once a replace is accepted;
+     * {@code previousStatus} is restored when the request is rejected.
+     */
+    record Request(
+            Kind kind,
+            String clOrdId,
+            String origClOrdId,
+            Integer qty,
+            BigDecimal price,
+            OrderStatus previousStatus) {
+    }
+
+    private final ConcurrentHashMap<UUID, Request> byOrderId = new ConcurrentHashMap<>();
+
+    /** Records {@code request} for the order, or returns {@code false} if another one is still outstanding. */
+    boolean begin(UUID orderId, Request request) {
+        return byOrderId.putIfAbsent(orderId, request) == null;
+    }
+
+    /** The outstanding request of the order if its ClOrdID is {@code clOrdId}, otherwise {@code null}. */
+    Request find(UUID orderId, String clOrdId) {
+        Request request = byOrderId.get(orderId);
+        return request != null && request.clOrdId().equals(clOrdId) ? request : null;
+    }
+
+    /** Forgets {@code request}; {@code false} if it was already answered. */
+    boolean complete(UUID orderId, Request request) {
+        return byOrderId.remove(orderId, request);
+    }
+
+    /** Forgets whatever the order has outstanding, e.g. once the order is done. */
+    void clear(UUID orderId) {
+        byOrderId.remove(orderId);
+    }
+}
@@ -1,30 +1,71 @@
 package com.fixclient.backend.orders;
 
+import com.fixclient.backend.ids.SnowflakeOrderIdGenerator;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(name = "fix.orders.store.type", havingValue = "memory", matchIfMissing = true)
 public class InMemoryOrderStore implements OrderStore {
 
     private final ConcurrentHashMap<UUID, OrderRecord> byOrderId = new ConcurrentHashMap<>();
+    // Only ClOrdIDs that do not decode to their order id (see SnowflakeOrderIdGenerator) need an entry here.
     private final ConcurrentHashMap<String, UUID> clOrdIdToOrderId = new ConcurrentHashMap<>();
     private final ConcurrentLinkedDeque<UUID> orderSequence = new ConcurrentLinkedDeque<>();
+    // Request threads may be virtual; contending on a monitor would pin their carriers, a ReentrantLock does not.
+    private final ReentrantLock writeLock = new ReentrantLock();
 
     @Override
-    public synchronized void add(OrderRecord order) {
-        byOrderId.put(order.orderId(), order);
-        clOrdIdToOrderId.put(order.clOrdId(), order.orderId());
-        orderSequence.addFirst(order.orderId());
+    public void add(OrderRecord order) {
+        writeLock.lock();
+        try {
+            index(order);
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
-    public synchronized void update(OrderRecord order) {
-        byOrderId.put(order.orderId(), order);
+    public void addAll(List<OrderRecord> orders) {
+        writeLock.lock();
+        try {
+            for (OrderRecord order : orders) {
+                index(order);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void update(OrderRecord order) {
+        writeLock.lock();
+        try {
+            byOrderId.put(order.orderId(), order);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean replace(OrderRecord expected, OrderRecord order) {
+        writeLock.lock();
+        try {
+            if (byOrderId.get(order.orderId()) != expected) {
+                return false;
+            }
+            byOrderId.put(order.orderId(), order);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
@@ -34,10 +75,30 @@ public class InMemoryOrderStore implements OrderStore {
 
     @Override
     public Optional<OrderRecord> findByClOrdId(String clOrdId) {
+        long id = SnowflakeOrderIdGenerator.parseClOrdId(clOrdId);
+        if (id >= 0) {
+            OrderRecord order = byOrderId.get(SnowflakeOrderIdGenerator.toOrderId(id));
+            if (order != null && order.clOrdId().equals(clOrdId)) {
+                return Optional.of(order);
+            }
+        }
         UUID orderId = clOrdIdToOrderId.get(clOrdId);
         return orderId == null ? Optional.empty() : findByOrderId(orderId);
     }
 
+    private void index(OrderRecord order) {
+        byOrderId.put(order.orderId(), order);
+        if (!isDecodable(order)) {
+            clOrdIdToOrderId.put(order.clOrdId(), order.orderId());
+        }
+        orderSequence.addFirst(order.orderId());
+    }
+
+    private static boolean isDecodable(OrderRecord order) {
+        return SnowflakeOrderIdGenerator.isGenerated(order.orderId())
+                && SnowflakeOrderIdGenerator.parseClOrdId(order.clOrdId()) == SnowflakeOrderIdGenerator.idOf(order.orderId());
+    }
+
     @Override
     public List<OrderRecord> listRecent() {
         List<OrderRecord> orders = new ArrayList<>();
@@ -49,4 +110,15 @@ public class InMemoryOrderStore implements OrderStore {
         }
         return List.copyOf(orders);
     }
+
+    @Override
+    public List<OrderRecord> listWorking() {
+        List<OrderRecord> orders = new ArrayList<>();
+        for (OrderRecord order : byOrderId.values()) {
+            if (!order.status().isTerminal()) {
+                orders.add(order);
+            }
+        }
+        return orders;
+    }
 }
@@ -0,0 +1,11 @@
+package com.fixclient.backend.orders;
+
+/** When the order journal forces written records from the page cache to disk. */
+public enum JournalForcePolicy {
+    /** Leave it to the OS; survives a process crash but not a host crash. */
+    NEVER,
+    /** Every {@code fix.orders.journal.force-interval-ms} on a background thread. */
+    INTERVAL,
+    /** Before every append returns; durable but bound by disk flush latency. */
+    EVERY_WRITE
+}
@@ -0,0 +1,275 @@
+package com.fixclient.backend.orders;
+
+import com.fixclient.backend.execution.ExecutionReportStateStore;
+import com.fixclient.backend.execution.ExecutionStateSnapshot;
+import com.fixclient.backend.symbols.SymbolRegistry;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Order store that keeps orders in memory and appends every creation and status change to an {@link OrderJournal},
+ * replaying it on startup so order state survives a restart.
+ *
+ * <p>Only the order's status and message change after creation, so an update is journaled as a transition record
+ * rather than a copy of the whole order. Once a replace was accepted, the transition also carries the order's
+ * quantity, price and current ClOrdID. The FIX session an order was sent on is journaled when it becomes known.
+ * Free-text messages are journaled up to {@value OrderJournal#MESSAGE_BYTES} UTF-8 bytes.
+ *
+ * <p>Every {@code fix.orders.journal.snapshot-interval-ms} (and on shutdown) the orders and, when available, the
+ * execution state are written to an {@link OrderStateSnapshot}, and journal segments the snapshot covers are
+ * deleted. Startup loads the newest snapshot and replays only the journal records written after it. Execution
+ * state is not journaled, so after a crash it is as recent as the last snapshot. Recovered symbols are interned in
+ * the {@link SymbolRegistry}, so they share ids and instances with orders created after the restart.
+ */
+@Component
+@ConditionalOnProperty(name = "fix.orders.store.type", havingValue = "journal")
+public class JournaledOrderStore implements OrderStore, AutoCloseable {
+
+    static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    static final long DEFAULT_SNAPSHOT_INTERVAL_MS = 60_000;
+
+    private final InMemoryOrderStore orders = new InMemoryOrderStore();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Path directory;
+    private final OrderJournal journal;
+    private final ExecutionReportStateStore executionStateStore;
+    private final SymbolRegistry symbols;
+    private final ScheduledExecutorService snapshotter;
+    private final long snapshotIntervalMillis;
+
+    public JournaledOrderStore(
+            Path directory,
+            int segmentSize,
+            JournalForcePolicy forcePolicy,
+            long forceIntervalMillis) {
+        this(directory, segmentSize, forcePolicy, forceIntervalMillis, 0, Optional.empty(), Optional.empty());
+    }
+
+    @Autowired
+    public JournaledOrderStore(
+            @Value("${fix.orders.journal.dir:data/orders-journal}") Path directory,
+            @Value("${fix.orders.journal.segment-size:" + DEFAULT_SEGMENT_SIZE + "}") int segmentSize,
+            @Value("${fix.orders.journal.force-policy:INTERVAL}") JournalForcePolicy forcePolicy,
+            @Value("${fix.orders.journal.force-interval-ms:1000}") long forceIntervalMillis,
+            @Value("${fix.orders.journal.snapshot-interval-ms:" + DEFAULT_SNAPSHOT_INTERVAL_MS + "}")
+                    long snapshotIntervalMillis,
+            Optional<ExecutionReportStateStore> executionStateStore,
+            Optional<SymbolRegistry> symbols) {
+        this.directory = directory;
+        this.journal = new OrderJournal(directory, segmentSize, forcePolicy, forceIntervalMillis);
+        this.executionStateStore = executionStateStore.orElse(null);
+        this.symbols = symbols.orElse(null);
+        this.snapshotIntervalMillis = snapshotIntervalMillis;
+        recover();
+
+        if (snapshotIntervalMillis > 0) {
+            this.snapshotter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "order-journal-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            snapshotter.scheduleWithFixedDelay(
+                    this::snapshot, snapshotIntervalMillis, snapshotIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.snapshotter = null;
+        }
+    }
+
+    @Override
+    public void add(OrderRecord order) {
+        lock.lock();
+        try {
+            journal.appendCreated(order);
+            journalRouted(null, order);
+            orders.add(order);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void addAll(List<OrderRecord> batch) {
+        lock.lock();
+        try {
+            for (OrderRecord order : batch) {
+                journal.appendCreated(order);
+                journalRouted(null, order);
+            }
+            orders.addAll(batch);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void update(OrderRecord order) {
+        lock.lock();
+        try {
+            journal.appendUpdated(order);
+            journalRouted(orders.findByOrderId(order.orderId()).orElse(null), order);
+            orders.update(order);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean replace(OrderRecord expected, OrderRecord order) {
+        lock.lock();
+        try {
+            if (orders.findByOrderId(order.orderId()).orElse(null) != expected) {
+                return false;
+            }
+            journal.appendUpdated(order);
+            journalRouted(expected, order);
+            orders.update(order);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<OrderRecord> findByOrderId(UUID orderId) {
+        return orders.findByOrderId(orderId);
+    }
+
+    @Override
+    public Optional<OrderRecord> findByClOrdId(String clOrdId) {
+        return orders.findByClOrdId(clOrdId);
+    }
+
+    @Override
+    public List<OrderRecord> listRecent() {
+        return orders.listRecent();
+    }
+
+    @Override
+    public List<OrderRecord> listWorking() {
+        return orders.listWorking();
+    }
+
+    /**
+     * Writes a snapshot of the current state and deletes the journal segments and older snapshots it supersedes.
+     * Orders are captured under the store lock so the snapshot matches its journal sequence exactly; the file is
+     * written outside of it.
+     */
+    public void snapshot() {
+        List<OrderRecord> current;
+        long lastSequence;
+        long currentSegment;
+        lock.lock();
+        try {
+            current = new ArrayList<>(orders.listRecent());
+            lastSequence = journal.nextSequence() - 1;
+            currentSegment = journal.currentSegment();
+        } finally {
+            lock.unlock();
+        }
+        Collections.reverse(current);
+        List<ExecutionStateSnapshot> executionStates =
+                executionStateStore == null ? List.of() : executionStateStore.snapshotStates();
+
+        Path written = new OrderStateSnapshot(lastSequence, current, executionStates).writeTo(directory);
+        OrderStateSnapshot.deleteOlderThan(directory, written);
+        journal.deleteSegmentsBefore(currentSegment);
+    }
+
+    @Override
+    @PreDestroy
+    public void close() {
+        if (snapshotter != null) {
+            // Not interrupted: a snapshot being written finishes before the final one is taken.
+            snapshotter.shutdown();
+            try {
+                snapshotter.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            snapshot();
+        }
+        journal.close();
+    }
+
+    private void journalRouted(OrderRecord previous, OrderRecord order) {
+        if (order.sessionId() != null && (previous == null || !order.sessionId().equals(previous.sessionId()))) {
+            journal.appendRouted(order.orderId(), order.sessionId());
+        }
+    }
+
+    private void recover() {
+        OrderStateSnapshot snapshot = OrderStateSnapshot.readLatest(directory);
+        long afterSequence = 0;
+        if (snapshot != null) {
+            List<OrderRecord> restored = new ArrayList<>(snapshot.orders().size());
+            for (OrderRecord order : snapshot.orders()) {
+                restored.add(internSymbol(order));
+            }
+            orders.addAll(restored);
+            if (executionStateStore != null) {
+                executionStateStore.restoreStates(snapshot.executionStates());
+            }
+            afterSequence = snapshot.lastSequence();
+        }
+        journal.replay(afterSequence, new OrderJournal.Listener() {
+            @Override
+            public void created(long sequence, OrderRecord order) {
+                orders.add(internSymbol(order));
+            }
+
+            @Override
+            public void updated(long sequence, UUID orderId, OrderStatus status, String message) {
+                OrderRecord order = orders.findByOrderId(orderId).orElse(null);
+                if (order != null) {
+                    orders.update(order.withStatusAndMessage(status, message));
+                }
+            }
+
+            @Override
+            public void amended(
+                    long sequence,
+                    UUID orderId,
+                    Integer qty,
+                    BigDecimal price,
+                    String currentClOrdId,
+                    OrderStatus status,
+                    String message) {
+                OrderRecord order = orders.findByOrderId(orderId).orElse(null);
+                if (order != null) {
+                    orders.update(order.withReplacement(qty, price, currentClOrdId).withStatusAndMessage(status, message));
+                }
+            }
+
+            @Override
+            public void routed(long sequence, UUID orderId, String sessionId) {
+                OrderRecord order = orders.findByOrderId(orderId).orElse(null);
+                if (order != null) {
+                    orders.update(order.withSessionId(sessionId));
+                }
+            }
+        });
+    }
+
+    private OrderRecord internSymbol(OrderRecord order) {
+        if (symbols == null || order.symbol() == null) {
+            return order;
+        }
+        return new OrderRecord(order.orderId(), order.clOrdId(), order.createdAt(), symbols.intern(order.symbol()),
+                order.side(), order.qty(), order.type(), order.price(), order.tif(), order.status(), order.message(),
+                order.currentClOrdId(), order.sessionId());
+    }
+}
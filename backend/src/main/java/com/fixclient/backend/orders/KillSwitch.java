@@ -0,0 +1,59 @@
+package com.fixclient.backend.orders;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gate that every order submission passes through, and that the kill switch shuts.
+ *
+ * <p>A submission counts itself in and then checks the switch; {@link #engage()} sets the switch and then waits for
+ * the count to drain. Both sides write before they read, so a submission either sees the switch and backs out, or
+ * is waited for and has stored its order by the time {@code engage} returns. Orders cancelled after that therefore
+ * include every order that will ever be sent until the switch is released, without a lock on the submission path.
+ */
+@Component
+public class KillSwitch {
+
+    private static final long DRAIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile boolean engaged;
+
+    /** Admits one submission, or returns {@code false} if the switch is engaged. Admitted callers must {@link #exit}. */
+    public boolean tryEnter() {
+        inFlight.incrementAndGet();
+        if (engaged) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public void exit() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Engages the switch and returns once no admitted submission is still running.
+     *
+     * @return {@code true} if this call engaged it, {@code false} if it already was
+     */
+    public boolean engage() {
+        boolean engagedNow = !engaged;
+        engaged = true;
+        while (inFlight.get() != 0) {
+            LockSupport.parkNanos(DRAIN_PARK_NANOS);
+        }
+        return engagedNow;
+    }
+
+    public void release() {
+        engaged = false;
+    }
+
+    public boolean isEngaged() {
+        return engaged;
+    }
+}
@@ -0,0 +1,8 @@
+package com.fixclient.backend.orders;
+
+public class KillSwitchEngagedException extends RuntimeException {
+
+    public KillSwitchEngagedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fixclient.backend.orders;
+
+/**
+ * Whether new orders are blocked, how many orders are still open, and the mass cancel the kill switch issued when it
+ * was engaged.
+ */
+public record KillSwitchStatus(boolean engaged, int openOrders, MassCancelResult cancel) {
+}
@@ -0,0 +1,7 @@
+package com.fixclient.backend.orders;
+
+/** Which open orders a mass cancel applies to; {@code null} fields match every order. */
+public record MassCancelRequest(String symbol, OrderSide side, String sessionId) {
+
+    static final MassCancelRequest ALL = new MassCancelRequest(null, null, null);
+}
@@ -0,0 +1,24 @@
+package com.fixclient.backend.orders;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a mass cancel. With {@code venueRequest} a single OrderMassCancelRequest (35=q) went out under
+ * {@code clOrdId}; otherwise {@code cancelsSent} individual cancels were sent for the {@code matchedOrders} open
+ * orders, {@code skippedOrders} already had a cancel or replace in flight, were done or were not sent yet, and the orders in
+ * {@code refusedOrderIds} are still working because their cancel could not be sent.
+ */
+public record MassCancelResult(
+        boolean venueRequest,
+        String clOrdId,
+        int matchedOrders,
+        int cancelsSent,
+        int skippedOrders,
+        String message,
+        List<UUID> refusedOrderIds) {
+
+    public MassCancelResult {
+        refusedOrderIds = List.copyOf(refusedOrderIds);
+    }
+}
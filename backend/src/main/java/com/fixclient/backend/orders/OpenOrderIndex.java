@@ -0,0 +1,50 @@
+package com.fixclient.backend.orders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Orders that are not terminal, with the symbol, side and FIX session a mass cancel filters on.
+ *
+ * <p>{@link OrderService} updates it on every order it stores, so a mass cancel only walks the open orders rather
+ * than the whole order store. An order is added once and removed when it reaches a terminal status.
+ */
+final class OpenOrderIndex {
+
+    private record Entry(String symbol, OrderSide side, String sessionId) {
+    }
+
+    private final ConcurrentHashMap<UUID, Entry> open = new ConcurrentHashMap<>();
+
+    /** Tracks {@code order} after it was stored, under the session it was sent on if that is known. */
+    void track(OrderRecord order) {
+        if (order.status().isTerminal()) {
+            open.remove(order.orderId());
+            return;
+        }
+        Entry entry = open.get(order.orderId());
+        if (entry == null || !Objects.equals(entry.sessionId(), order.sessionId())) {
+            open.put(order.orderId(), new Entry(order.symbol(), order.side(), order.sessionId()));
+        }
+    }
+
+    /** Ids of the open orders matching {@code filter}. */
+    List<UUID> matching(MassCancelRequest filter) {
+        List<UUID> matches = new ArrayList<>();
+        open.forEach((orderId, entry) -> {
+            if ((filter.symbol() == null || filter.symbol().equals(entry.symbol()))
+                    && (filter.side() == null || filter.side() == entry.side())
+                    && (filter.sessionId() == null || filter.sessionId().equals(entry.sessionId()))) {
+                matches.add(orderId);
+            }
+        });
+        return matches;
+    }
+
+    int size() {
+        return open.size();
+    }
+}
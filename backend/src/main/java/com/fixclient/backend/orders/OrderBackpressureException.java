@@ -0,0 +1,8 @@
+package com.fixclient.backend.orders;
+
+public class OrderBackpressureException extends RuntimeException {
+
+    public OrderBackpressureException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fixclient.backend.orders;
+
+public class OrderConflictException extends RuntimeException {
+
+    public OrderConflictException(String message) {
+        super(message);
+    }
+}
@@ -2,11 +2,13 @@ package com.fixclient.backend.orders;
 
 import java.util.List;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -24,11 +26,53 @@ public class OrderController {
         return orderService.createOrder(request);
     }
 
+    @PostMapping("/orders/batch")
+    public List<BatchOrderResult> createOrders(@RequestBody List<CreateOrderRequest> requests) {
+        return orderService.createOrders(requests);
+    }
+
+    @PostMapping("/orders/{orderId}/cancel")
+    public OrderRequestResult cancelOrder(@PathVariable String orderId) {
+        return orderService.cancelOrder(orderId);
+    }
+
+    @PostMapping("/orders/{orderId}/replace")
+    public OrderRequestResult replaceOrder(@PathVariable String orderId, @RequestBody ReplaceOrderRequest request) {
+        return orderService.replaceOrder(orderId, request);
+    }
+
+    @PostMapping("/orders/mass-cancel")
+    public MassCancelResult massCancel(@RequestBody(required = false) MassCancelRequest request) {
+        return orderService.massCancel(request);
+    }
+
+    @PostMapping("/orders/kill-switch")
+    public KillSwitchStatus engageKillSwitch() {
+        return orderService.engageKillSwitch();
+    }
+
+    @DeleteMapping("/orders/kill-switch")
+    public KillSwitchStatus releaseKillSwitch() {
+        return orderService.releaseKillSwitch();
+    }
+
+    @GetMapping("/orders/kill-switch")
+    public KillSwitchStatus killSwitchStatus() {
+        return orderService.killSwitchStatus();
+    }
+
     @GetMapping("/orders")
     public List<OrderRecord> listOrders() {
         return orderService.listOrders();
     }
 
+    @GetMapping("/orders/page")
+    public OrderPage pageOrders(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return orderService.listOrders(cursor, limit);
+    }
+
     @GetMapping("/orders/{orderId}")
     public OrderRecord getOrder(@PathVariable String orderId) {
         return orderService.getOrderById(orderId);
@@ -46,6 +90,24 @@ public class OrderController {
         return new ErrorResponse(ex.getMessage());
     }
 
+    @ExceptionHandler(OrderConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleConflict(OrderConflictException ex) {
+        return new ErrorResponse(ex.getMessage());
+    }
+
+    @ExceptionHandler(KillSwitchEngagedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleKillSwitch(KillSwitchEngagedException ex) {
+        return new ErrorResponse(ex.getMessage());
+    }
+
+    @ExceptionHandler(OrderBackpressureException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ErrorResponse handleBackpressure(OrderBackpressureException ex) {
+        return new ErrorResponse(ex.getMessage());
+    }
+
     public record ErrorResponse(String message) {
     }
 }
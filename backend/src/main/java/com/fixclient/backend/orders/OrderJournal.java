@@ -0,0 +1,529 @@
+package com.fixclient.backend.orders;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only order journal made of memory-mapped segment files holding fixed-size 256-byte records.
+ *
+ * <p>Every record starts with a CRC32C of the rest of the record, so a record torn by a crash (or the zeroed space
+ * after the last write) fails the check and ends replay; the next append overwrites it. A record is either the full
+ * order at creation, a status/message transition for an existing order, which for a replaced order also carries
+ * its quantity, price and current ClOrdID, or the FIX session an order was sent on. Every record has a sequence
+ * number that increases across segments.
+ *
+ * <p>Writes land in the page cache as soon as they are copied into the mapping, so they survive a process crash.
+ * Surviving an OS crash or power loss additionally needs {@link MappedByteBuffer#force()}, which is issued according
+ * to the {@link JournalForcePolicy}.
+ */
+final class OrderJournal implements AutoCloseable {
+
+    static final int RECORD_SIZE = 256;
+
+    static final int CL_ORD_ID_BYTES = 64;
+    static final int SYMBOL_BYTES = 48;
+    static final int MESSAGE_BYTES = 81;
+    static final int SESSION_ID_BYTES = 113;
+
+    private static final byte CREATED = 1;
+    private static final byte UPDATED = 2;
+    private static final byte AMENDED = 3;
+    private static final byte ROUTED = 4;
+    private static final byte ABSENT = (byte) 0xFF;
+    private static final int NULL_QTY = Integer.MIN_VALUE;
+    private static final long NULL_PRICE = Long.MIN_VALUE;
+
+    private static final int CRC = 0;
+    private static final int KIND = 4;
+    private static final int STATUS = 5;
+    private static final int SIDE = 6;
+    private static final int TYPE = 7;
+    private static final int TIF = 8;
+    private static final int PRICE_SCALE = 9;
+    private static final int SEQUENCE = 12;
+    private static final int ORDER_ID_MSB = 20;
+    private static final int ORDER_ID_LSB = 28;
+    private static final int CREATED_SECOND = 36;
+    private static final int CREATED_NANO = 44;
+    private static final int QTY = 48;
+    private static final int PRICE = 52;
+    private static final int CL_ORD_ID = 60;
+    private static final int SYMBOL = CL_ORD_ID + 1 + CL_ORD_ID_BYTES;
+    private static final int MESSAGE = SYMBOL + 1 + SYMBOL_BYTES;
+    // A routed record has no ClOrdID, symbol or message; the session id takes their place.
+    private static final int SESSION_ID = CL_ORD_ID;
+
+    private static final String SEGMENT_PREFIX = "orders-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final OrderSide[] SIDES = OrderSide.values();
+    private static final OrderType[] TYPES = OrderType.values();
+    private static final TimeInForce[] TIFS = TimeInForce.values();
+
+    /** Receives journal records in write order during {@link #replay}. */
+    interface Listener {
+
+        void created(long sequence, OrderRecord order);
+
+        void updated(long sequence, UUID orderId, OrderStatus status, String message);
+
+        void amended(
+                long sequence,
+                UUID orderId,
+                Integer qty,
+                BigDecimal price,
+                String currentClOrdId,
+                OrderStatus status,
+                String message);
+
+        void routed(long sequence, UUID orderId, String sessionId);
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final JournalForcePolicy forcePolicy;
+    private final ScheduledExecutorService forcer;
+    // Appends run on request threads, which may be virtual; a monitor held across force() would pin them.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final byte[] scratch = new byte[RECORD_SIZE];
+    private final ByteBuffer record = ByteBuffer.wrap(scratch).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32C crc = new CRC32C();
+
+    private long segmentIndex;
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private int position;
+    private long nextSequence = 1;
+    private boolean dirty;
+    private boolean closed;
+
+    OrderJournal(Path directory, int segmentSize, JournalForcePolicy forcePolicy, long forceIntervalMillis) {
+        if (segmentSize < RECORD_SIZE || segmentSize % RECORD_SIZE != 0) {
+            throw new IllegalArgumentException("segment size must be a positive multiple of " + RECORD_SIZE);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.forcePolicy = forcePolicy;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot create order journal directory " + directory, ex);
+        }
+        if (forcePolicy == JournalForcePolicy.INTERVAL) {
+            this.forcer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "order-journal-force");
+                thread.setDaemon(true);
+                return thread;
+            });
+            forcer.scheduleWithFixedDelay(this::force, forceIntervalMillis, forceIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.forcer = null;
+        }
+    }
+
+    /**
+     * Replays every valid record with a sequence after {@code afterSequence} (the sequence a snapshot was taken at,
+     * or 0) and positions the journal after the last one. Must be called once, before the first append.
+     */
+    void replay(long afterSequence, Listener listener) {
+        lock.lock();
+        try {
+            nextSequence = Math.max(nextSequence, afterSequence + 1);
+            List<Long> segments = segmentIndexes();
+            if (segments.isEmpty()) {
+                openSegment(1);
+                return;
+            }
+            for (int i = 0; i < segments.size(); i++) {
+                openSegment(segments.get(i));
+                int end = replaySegment(afterSequence, listener);
+                if (end < segmentSize || i == segments.size() - 1) {
+                    position = end;
+                    // Records after a torn one were never acknowledged; drop later segments so they cannot resurface.
+                    deleteSegments(segments.subList(i + 1, segments.size()));
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long appendCreated(OrderRecord order) {
+        lock.lock();
+        try {
+            record.clear();
+            Arrays.fill(scratch, (byte) 0);
+            record.put(KIND, CREATED);
+            record.put(STATUS, ordinal(order.status()));
+            record.put(SIDE, ordinal(order.side()));
+            record.put(TYPE, ordinal(order.type()));
+            record.put(TIF, ordinal(order.tif()));
+            record.putLong(ORDER_ID_MSB, order.orderId().getMostSignificantBits());
+            record.putLong(ORDER_ID_LSB, order.orderId().getLeastSignificantBits());
+            record.putLong(CREATED_SECOND, order.createdAt().getEpochSecond());
+            record.putInt(CREATED_NANO, order.createdAt().getNano());
+            record.putInt(QTY, order.qty() == null ? NULL_QTY : order.qty());
+            putPrice(order.price());
+            putAscii(CL_ORD_ID, CL_ORD_ID_BYTES, order.clOrdId(), "clOrdId");
+            putAscii(SYMBOL, SYMBOL_BYTES, order.symbol(), "symbol");
+            putMessage(order.message());
+            return write();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long appendUpdated(OrderRecord order) {
+        lock.lock();
+        try {
+            record.clear();
+            Arrays.fill(scratch, (byte) 0);
+            record.put(STATUS, ordinal(order.status()));
+            record.putLong(ORDER_ID_MSB, order.orderId().getMostSignificantBits());
+            record.putLong(ORDER_ID_LSB, order.orderId().getLeastSignificantBits());
+            if (order.isAmended()) {
+                record.put(KIND, AMENDED);
+                record.putInt(QTY, order.qty() == null ? NULL_QTY : order.qty());
+                putPrice(order.price());
+                putAscii(CL_ORD_ID, CL_ORD_ID_BYTES, order.currentClOrdId(), "clOrdId");
+            } else {
+                record.put(KIND, UPDATED);
+            }
+            putMessage(order.message());
+            return write();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records that the order was sent on the FIX session {@code sessionId}. Returns {@code -1} without writing when
+     * the id is longer than {@link #SESSION_ID_BYTES} characters or not ASCII; the order's cancels then go to any
+     * logged-on session after a restart.
+     */
+    long appendRouted(UUID orderId, String sessionId) {
+        if (sessionId.length() > SESSION_ID_BYTES || !isAscii(sessionId)) {
+            return -1;
+        }
+        lock.lock();
+        try {
+            record.clear();
+            Arrays.fill(scratch, (byte) 0);
+            record.put(KIND, ROUTED);
+            record.putLong(ORDER_ID_MSB, orderId.getMostSignificantBits());
+            record.putLong(ORDER_ID_LSB, orderId.getLeastSignificantBits());
+            putAscii(SESSION_ID, SESSION_ID_BYTES, sessionId, "sessionId");
+            return write();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Sequence number the next record will get. */
+    long nextSequence() {
+        lock.lock();
+        try {
+            return nextSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Index of the segment being appended to; earlier segments only hold records before {@link #nextSequence()}. */
+    long currentSegment() {
+        lock.lock();
+        try {
+            return segmentIndex;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Deletes segments before {@code segment}, once a snapshot covers every record in them. */
+    void deleteSegmentsBefore(long segment) {
+        lock.lock();
+        try {
+            List<Long> obsolete = new ArrayList<>();
+            for (long index : segmentIndexes()) {
+                if (index < segment) {
+                    obsolete.add(index);
+                }
+            }
+            deleteSegments(obsolete);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forces the current segment to disk. The segment is picked under the lock but forced outside of it, so appends
+     * on request threads do not wait for the disk; records they write meanwhile mark the journal dirty again. With
+     * {@link JournalForcePolicy#EVERY_WRITE} the appending thread already holds the lock and forces its own record.
+     */
+    void force() {
+        MappedByteBuffer segment;
+        lock.lock();
+        try {
+            if (!dirty || closed) {
+                return;
+            }
+            segment = mapped;
+            dirty = false;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            segment.force();
+        } catch (RuntimeException ex) {
+            lock.lock();
+            try {
+                dirty = true;
+            } finally {
+                lock.unlock();
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (forcer != null) {
+                forcer.shutdownNow();
+            }
+            force();
+            closed = true;
+            closeChannel();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long write() {
+        if (closed) {
+            throw new IllegalStateException("Order journal is closed");
+        }
+        if (position == segmentSize) {
+            rollSegment();
+        }
+        long sequence = nextSequence++;
+        record.putLong(SEQUENCE, sequence);
+        crc.reset();
+        crc.update(scratch, KIND, RECORD_SIZE - KIND);
+        record.putInt(CRC, (int) crc.getValue());
+        mapped.put(position, scratch);
+        position += RECORD_SIZE;
+        dirty = true;
+        if (forcePolicy == JournalForcePolicy.EVERY_WRITE) {
+            force();
+        }
+        return sequence;
+    }
+
+    private int replaySegment(long afterSequence, Listener listener) {
+        ByteBuffer buffer = mapped.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        for (int offset = 0; offset < segmentSize; offset += RECORD_SIZE) {
+            buffer.get(offset, scratch);
+            byte kind = record.get(KIND);
+            if (kind != CREATED && kind != UPDATED && kind != AMENDED && kind != ROUTED) {
+                return offset;
+            }
+            crc.reset();
+            crc.update(scratch, KIND, RECORD_SIZE - KIND);
+            if (record.getInt(CRC) != (int) crc.getValue()) {
+                return offset;
+            }
+            long sequence = record.getLong(SEQUENCE);
+            if (sequence <= afterSequence) {
+                continue;
+            }
+            UUID orderId = new UUID(record.getLong(ORDER_ID_MSB), record.getLong(ORDER_ID_LSB));
+            OrderStatus status = valueAt(STATUSES, record.get(STATUS));
+            if (kind == ROUTED) {
+                listener.routed(sequence, orderId, getAscii(SESSION_ID));
+            } else if (kind == CREATED) {
+                int qty = record.getInt(QTY);
+                listener.created(sequence, new OrderRecord(
+                        orderId,
+                        getAscii(CL_ORD_ID),
+                        Instant.ofEpochSecond(record.getLong(CREATED_SECOND), record.getInt(CREATED_NANO)),
+                        getAscii(SYMBOL),
+                        valueAt(SIDES, record.get(SIDE)),
+                        qty == NULL_QTY ? null : qty,
+                        valueAt(TYPES, record.get(TYPE)),
+                        getPrice(),
+                        valueAt(TIFS, record.get(TIF)),
+                        status,
+                        getMessage()));
+            } else if (kind == AMENDED) {
+                int qty = record.getInt(QTY);
+                listener.amended(sequence, orderId, qty == NULL_QTY ? null : qty, getPrice(), getAscii(CL_ORD_ID), status,
+                        getMessage());
+            } else {
+                listener.updated(sequence, orderId, status, getMessage());
+            }
+            nextSequence = sequence + 1;
+        }
+        return segmentSize;
+    }
+
+    private void rollSegment() {
+        mapped.force();
+        dirty = false;
+        closeChannel();
+        openSegment(segmentIndex + 1);
+    }
+
+    private void openSegment(long index) {
+        Path path = directory.resolve(segmentName(index));
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot map order journal segment " + path, ex);
+        }
+        segmentIndex = index;
+        position = 0;
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot close order journal segment", ex);
+        }
+    }
+
+    private List<Long> segmentIndexes() {
+        List<Long> indexes = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .forEach(indexes::add);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot list order journal directory " + directory, ex);
+        }
+        return indexes;
+    }
+
+    private void deleteSegments(List<Long> indexes) {
+        for (long index : indexes) {
+            try {
+                Files.deleteIfExists(directory.resolve(segmentName(index)));
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Cannot delete order journal segment " + index, ex);
+            }
+        }
+    }
+
+    static String segmentName(long index) {
+        return SEGMENT_PREFIX + String.format("%012d", index) + SEGMENT_SUFFIX;
+    }
+
+    private void putPrice(BigDecimal price) {
+        if (price == null) {
+            record.putLong(PRICE, NULL_PRICE);
+            return;
+        }
+        BigInteger unscaled = price.unscaledValue();
+        if (unscaled.bitLength() > 63 || price.scale() < Byte.MIN_VALUE || price.scale() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("price cannot be journaled: " + price);
+        }
+        record.putLong(PRICE, unscaled.longValue());
+        record.put(PRICE_SCALE, (byte) price.scale());
+    }
+
+    private BigDecimal getPrice() {
+        long unscaled = record.getLong(PRICE);
+        return unscaled == NULL_PRICE ? null : BigDecimal.valueOf(unscaled, record.get(PRICE_SCALE));
+    }
+
+    private void putAscii(int offset, int capacity, String value, String field) {
+        if (value == null) {
+            record.put(offset, ABSENT);
+            return;
+        }
+        if (value.length() > capacity) {
+            throw new IllegalArgumentException(field + " is longer than " + capacity + " characters: " + value);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c > 0x7F) {
+                throw new IllegalArgumentException(field + " must be ASCII: " + value);
+            }
+            scratch[offset + 1 + i] = (byte) c;
+        }
+        record.put(offset, (byte) value.length());
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String getAscii(int offset) {
+        int length = record.get(offset) & 0xFF;
+        return length == 0xFF ? null : new String(scratch, offset + 1, length, StandardCharsets.US_ASCII);
+    }
+
+    /** Messages are free text; anything beyond {@link #MESSAGE_BYTES} UTF-8 bytes is cut at a character boundary. */
+    private void putMessage(String message) {
+        if (message == null) {
+            record.put(MESSAGE, ABSENT);
+            return;
+        }
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, MESSAGE_BYTES);
+        while (length < bytes.length && length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        System.arraycopy(bytes, 0, scratch, MESSAGE + 1, length);
+        record.put(MESSAGE, (byte) length);
+    }
+
+    private String getMessage() {
+        int length = record.get(MESSAGE) & 0xFF;
+        return length == 0xFF ? null : new String(scratch, MESSAGE + 1, length, StandardCharsets.UTF_8);
+    }
+
+    private static byte ordinal(Enum<?> value) {
+        return value == null ? ABSENT : (byte) value.ordinal();
+    }
+
+    private static <E> E valueAt(E[] values, byte ordinal) {
+        return ordinal == ABSENT ? null : values[ordinal];
+    }
+}
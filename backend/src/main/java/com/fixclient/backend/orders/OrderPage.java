@@ -0,0 +1,10 @@
+package com.fixclient.backend.orders;
+
+import java.util.List;
+
+public record OrderPage(List<OrderRecord> orders, Long nextCursor) {
+
+    public OrderPage {
+        orders = List.copyOf(orders);
+    }
+}
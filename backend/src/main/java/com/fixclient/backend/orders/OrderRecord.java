@@ -2,8 +2,15 @@ package com.fixclient.backend.orders;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Objects;
 import java.util.UUID;
 
+/**
+ * An order as this client last knew it. {@code clOrdId} is the ClOrdID the order was created with;
+ * {@code currentClOrdId} is the one the venue knows it by now, which changes with every accepted replace.
+ * {@code sessionId} is the FIX session the order was sent on, or {@code null} while that is not known; its cancels
+ * and replaces go to the same session.
+ */
 public record OrderRecord(
         UUID orderId,
         String clOrdId,
@@ -15,7 +22,46 @@ public record OrderRecord(
         BigDecimal price,
         TimeInForce tif,
         OrderStatus status,
-        String message) {
+        String message,
+        String currentClOrdId,
+        String sessionId) {
+
+    public OrderRecord {
+        if (currentClOrdId == null) {
+            currentClOrdId = clOrdId;
+        }
+    }
+
+    public OrderRecord(
+            UUID orderId,
+            String clOrdId,
+            Instant createdAt,
+            String symbol,
+            OrderSide side,
+            Integer qty,
+            OrderType type,
+            BigDecimal price,
+            TimeInForce tif,
+            OrderStatus status,
+            String message,
+            String currentClOrdId) {
+        this(orderId, clOrdId, createdAt, symbol, side, qty, type, price, tif, status, message, currentClOrdId, null);
+    }
+
+    public OrderRecord(
+            UUID orderId,
+            String clOrdId,
+            Instant createdAt,
+            String symbol,
+            OrderSide side,
+            Integer qty,
+            OrderType type,
+            BigDecimal price,
+            TimeInForce tif,
+            OrderStatus status,
+            String message) {
+        this(orderId, clOrdId, createdAt, symbol, side, qty, type, price, tif, status, message, clOrdId, null);
+    }
 
     public OrderRecord withStatusAndMessage(OrderStatus nextStatus, String nextMessage) {
         return new OrderRecord(
@@ -29,6 +75,25 @@ public record OrderRecord(
                 price,
                 tif,
                 nextStatus,
-                nextMessage == null ? message : nextMessage);
+                nextMessage == null ? message : nextMessage,
+                currentClOrdId,
+                sessionId);
+    }
+
+    /** This order after the venue accepted the replace request {@code replacedBy}. */
+    public OrderRecord withReplacement(Integer nextQty, BigDecimal nextPrice, String replacedBy) {
+        return new OrderRecord(orderId, clOrdId, createdAt, symbol, side, nextQty, type, nextPrice, tif, status, message,
+                replacedBy, sessionId);
+    }
+
+    /** This order as sent on the FIX session {@code nextSessionId}. */
+    public OrderRecord withSessionId(String nextSessionId) {
+        return new OrderRecord(orderId, clOrdId, createdAt, symbol, side, qty, type, price, tif, status, message,
+                currentClOrdId, nextSessionId);
+    }
+
+    /** Whether the venue already knows this order by another ClOrdID than it was created with. */
+    boolean isAmended() {
+        return !Objects.equals(currentClOrdId, clOrdId);
     }
 }
@@ -0,0 +1,5 @@
+package com.fixclient.backend.orders;
+
+/** Outcome of a cancel or replace request: its ClOrdID and the order as it stands after the request was sent. */
+public record OrderRequestResult(boolean accepted, String clOrdId, OrderRecord order, String message) {
+}
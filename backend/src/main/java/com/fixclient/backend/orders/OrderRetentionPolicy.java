@@ -0,0 +1,6 @@
+package com.fixclient.backend.orders;
+
+public enum OrderRetentionPolicy {
+    RETAIN_ALL,
+    EVICT_TERMINAL
+}
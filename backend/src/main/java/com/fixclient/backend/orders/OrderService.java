@@ -1,97 +1,760 @@
 package com.fixclient.backend.orders;
 
+import com.example.fixclient.fix.OrderCancelSubmission;
+import com.example.fixclient.fix.OrderMassCancelSubmission;
+import com.example.fixclient.fix.OrderReplaceSubmission;
 import com.example.fixclient.fix.OrderSendResult;
 import com.example.fixclient.fix.OrderSender;
 import com.example.fixclient.fix.OrderSubmission;
 import com.fixclient.backend.execution.ExecutionReportEvent;
 import com.fixclient.backend.execution.ExecutionToOrderStatusMapper;
+import com.fixclient.backend.execution.PrimitiveExecutionReport;
+import com.fixclient.backend.ids.ClOrdIdChain;
+import com.fixclient.backend.ids.GeneratedOrderId;
+import com.fixclient.backend.ids.OrderIdGenerator;
+import com.fixclient.backend.ids.SnowflakeOrderIdGenerator;
+import com.fixclient.backend.metrics.OrderLatencyTracker;
+import com.fixclient.backend.support.ChangeListeners;
+import com.fixclient.backend.symbols.SymbolRegistry;
+import jakarta.annotation.PreDestroy;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 @Service
 public class OrderService {
 
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_BATCH_SIZE = 1000;
+    static final long DEFAULT_MASS_CANCEL_TIMEOUT_MS = 5_000;
+    static final long DEFAULT_REQUEST_TIMEOUT_MS = 10_000;
+    private static final int UUID_LENGTH = 36;
+    private static final char REPLACED_EXEC_TYPE = '5';
+
     private final OrderSender orderSender;
     private final OrderStore orderStore;
+    private final OrderSubmissionQueue submissionQueue;
+    private final OrderLatencyTracker latencyTracker;
+    private final OrderIdGenerator idGenerator;
+    private final SymbolRegistry symbols;
+    private final SnowflakeOrderIdGenerator requestIds;
+    private final InFlightOrderRequests inFlightRequests = new InFlightOrderRequests();
+    private final OpenOrderIndex openOrders = new OpenOrderIndex();
+    private final ConcurrentHashMap<String, MassCancelRequest> pendingMassCancels = new ConcurrentHashMap<>();
+    private final KillSwitch killSwitch;
+    private final boolean venueMassCancel;
+    private final long massCancelTimeoutMillis;
+    private final long requestTimeoutMillis;
+    private final ScheduledExecutorService requestTimer;
+    private volatile MassCancelResult lastKillSwitchCancel;
+    private final ChangeListeners<UUID> changeListeners = new ChangeListeners<>();
+
+    public OrderService(OrderSender orderSender, OrderStore orderStore) {
+        this(orderSender, orderStore, Optional.empty(), Optional.empty());
+    }
+
+    public OrderService(
+            OrderSender orderSender,
+            OrderStore orderStore,
+            Optional<OrderSubmissionQueue> submissionQueue) {
+        this(orderSender, orderStore, submissionQueue, Optional.empty());
+    }
+
+    public OrderService(
+            OrderSender orderSender,
+            OrderStore orderStore,
+            Optional<OrderSubmissionQueue> submissionQueue,
+            Optional<OrderLatencyTracker> latencyTracker) {
+        this(orderSender, orderStore, submissionQueue, latencyTracker, Optional.empty(), Optional.empty());
+    }
+
+    public OrderService(
+            OrderSender orderSender,
+            OrderStore orderStore,
+            Optional<OrderSubmissionQueue> submissionQueue,
+            Optional<OrderLatencyTracker> latencyTracker,
+            Optional<OrderIdGenerator> idGenerator,
+            Optional<SymbolRegistry> symbols) {
+        this(orderSender, orderStore, submissionQueue, latencyTracker, idGenerator, symbols, Optional.empty(), false);
+    }
+
+    public OrderService(
+            OrderSender orderSender,
+            OrderStore orderStore,
+            Optional<OrderSubmissionQueue> submissionQueue,
+            Optional<OrderLatencyTracker> latencyTracker,
+            Optional<OrderIdGenerator> idGenerator,
+            Optional<SymbolRegistry> symbols,
+            Optional<KillSwitch> killSwitch,
+            boolean venueMassCancel) {
+        this(orderSender, orderStore, submissionQueue, latencyTracker, idGenerator, symbols, killSwitch,
+                venueMassCancel, DEFAULT_MASS_CANCEL_TIMEOUT_MS);
+    }
+
+    public OrderService(
+            OrderSender orderSender,
+            OrderStore orderStore,
+            Optional<OrderSubmissionQueue> submissionQueue,
+            Optional<OrderLatencyTracker> latencyTracker,
+            Optional<OrderIdGenerator> idGenerator,
+            Optional<SymbolRegistry> symbols,
+            Optional<KillSwitch> killSwitch,
+            boolean venueMassCancel,
+            long massCancelTimeoutMillis) {
+        this(orderSender, orderStore, submissionQueue, latencyTracker, idGenerator, symbols, killSwitch,
+                venueMassCancel, massCancelTimeoutMillis, DEFAULT_REQUEST_TIMEOUT_MS);
+    }
 
-    public OrderService(@Lazy OrderSender orderSender, OrderStore orderStore) {
+    @Autowired
+    public OrderService(
+            @Lazy OrderSender orderSender,
+            OrderStore orderStore,
+            Optional<OrderSubmissionQueue> submissionQueue,
+            Optional<OrderLatencyTracker> latencyTracker,
+            Optional<OrderIdGenerator> idGenerator,
+            Optional<SymbolRegistry> symbols,
+            Optional<KillSwitch> killSwitch,
+            @Value("${fix.orders.mass-cancel.venue:false}") boolean venueMassCancel,
+            @Value("${fix.orders.mass-cancel.timeout-ms:" + DEFAULT_MASS_CANCEL_TIMEOUT_MS + "}")
+                    long massCancelTimeoutMillis,
+            @Value("${fix.orders.request-timeout-ms:" + DEFAULT_REQUEST_TIMEOUT_MS + "}") long requestTimeoutMillis) {
+        if (massCancelTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("mass cancel timeout must be greater than 0");
+        }
+        if (requestTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("request timeout must be greater than 0");
+        }
         this.orderSender = orderSender;
         this.orderStore = orderStore;
+        this.submissionQueue = submissionQueue.orElse(null);
+        this.latencyTracker = latencyTracker.orElse(null);
+        this.idGenerator = idGenerator.orElseGet(SnowflakeOrderIdGenerator::new);
+        this.symbols = symbols.orElseGet(SymbolRegistry::new);
+        // Request ids only have to be unique under their root ClOrdID, so they need no node id.
+        this.requestIds = this.idGenerator instanceof SnowflakeOrderIdGenerator snowflake
+                ? snowflake
+                : new SnowflakeOrderIdGenerator();
+        this.killSwitch = killSwitch.orElseGet(KillSwitch::new);
+        this.venueMassCancel = venueMassCancel;
+        this.massCancelTimeoutMillis = massCancelTimeoutMillis;
+        this.requestTimeoutMillis = requestTimeoutMillis;
+        // Its thread is only started by the first cancel, replace or venue mass cancel that is sent.
+        this.requestTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-request-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Orders recovered by the store keep the session they were sent on, so session filters still match them.
+        for (OrderRecord order : orderStore.listWorking()) {
+            openOrders.track(order);
+        }
     }
 
     public OrderRecord createOrder(CreateOrderRequest request) {
-        validate(request);
+        long receivedAtNanos = System.nanoTime();
+        String symbol = validate(request);
+        enterSubmission();
+        try {
+            return submit(request, symbol, receivedAtNanos);
+        } finally {
+            killSwitch.exit();
+        }
+    }
 
-        UUID orderId = UUID.randomUUID();
-        String clOrdId = orderId.toString();
-        BigDecimal normalizedPrice = request.type() == OrderType.MARKET ? null : request.price();
+    public List<BatchOrderResult> createOrders(List<CreateOrderRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one order is required");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch may contain at most " + MAX_BATCH_SIZE + " orders");
+        }
+
+        enterSubmission();
+        try {
+            return submitAll(requests);
+        } finally {
+            killSwitch.exit();
+        }
+    }
 
-        OrderSubmission submission = new OrderSubmission(
-                orderId,
+    /** Sends an OrderCancelRequest (35=F) for a working order and marks it {@code PENDING_CANCEL}. */
+    public OrderRequestResult cancelOrder(String orderId) {
+        return cancel(getOrderById(orderId));
+    }
+
+    private OrderRequestResult cancel(OrderRecord current) {
+        InFlightOrderRequests.Request request = begin(current, InFlightOrderRequests.Kind.CANCEL, null, null);
+        OrderSendResult sendResult = orderSender.cancel(new OrderCancelSubmission(
+                current.orderId(),
+                request.clOrdId(),
+                request.origClOrdId(),
                 Instant.now(),
-                request.symbol().trim().toUpperCase(Locale.ROOT),
-                request.side(),
+                current.symbol(),
+                current.side(),
                 request.qty(),
-                request.type(),
-                normalizedPrice,
-                request.tif());
+                current.sessionId()));
+        return finish(current.orderId(), request, sendResult);
+    }
 
-        OrderSendResult sendResult = orderSender.send(submission);
-        OrderStatus initialStatus = sendResult.accepted() ? OrderStatus.ACCEPTED : OrderStatus.REJECTED;
+    /**
+     * Sends an OrderCancelReplaceRequest (35=G) with a new quantity and/or limit price and marks the order
+     * {@code PENDING_REPLACE}. The order takes the new values when the venue confirms the replace.
+     */
+    public OrderRequestResult replaceOrder(String orderId, ReplaceOrderRequest replacement) {
+        if (replacement == null || (replacement.qty() == null && replacement.price() == null)) {
+            throw new IllegalArgumentException("qty or price is required");
+        }
+        if (replacement.qty() != null && replacement.qty() <= 0) {
+            throw new IllegalArgumentException("qty must be greater than 0");
+        }
+        if (replacement.price() != null && replacement.price().signum() <= 0) {
+            throw new IllegalArgumentException("price must be greater than 0");
+        }
+        OrderRecord current = getOrderById(orderId);
+        if (replacement.price() != null && current.type() != OrderType.LIMIT) {
+            throw new IllegalArgumentException("price can only be replaced on LIMIT orders");
+        }
+        // Entered like new orders, so a kill switch engaged while this runs waits for it before cancelling.
+        enterSubmission();
+        try {
+            InFlightOrderRequests.Request request = begin(
+                    current, InFlightOrderRequests.Kind.REPLACE, replacement.qty(), replacement.price());
+            OrderSendResult sendResult = orderSender.replace(new OrderReplaceSubmission(
+                    current.orderId(),
+                    request.clOrdId(),
+                    request.origClOrdId(),
+                    Instant.now(),
+                    current.symbol(),
+                    current.side(),
+                    request.qty(),
+                    current.type(),
+                    request.price(),
+                    current.tif(),
+                    current.sessionId()));
+            return finish(current.orderId(), request, sendResult);
+        } finally {
+            killSwitch.exit();
+        }
+    }
 
-        OrderRecord record = new OrderRecord(
-                submission.orderId(),
-                clOrdId,
-                submission.createdAt(),
-                submission.symbol(),
-                submission.side(),
-                submission.qty(),
-                submission.type(),
-                submission.price(),
-                submission.tif(),
-                initialStatus,
-                sendResult.message());
+    /** Applies an OrderCancelReject (35=9): the request is dropped and the order returns to its prior status. */
+    public void applyCancelReject(String clOrdId, String text) {
+        if (clOrdId == null || clOrdId.isBlank()) {
+            return;
+        }
+        Optional<OrderRecord> order = orderStore.findByClOrdId(ClOrdIdChain.rootOf(clOrdId));
+        if (order.isEmpty()) {
+            return;
+        }
+        UUID orderId = order.get().orderId();
+        InFlightOrderRequests.Request request = inFlightRequests.find(orderId, clOrdId);
+        if (request == null || !inFlightRequests.complete(orderId, request)) {
+            return;
+        }
+        String message = request.kind().label() + " rejected" + (text == null ? "" : ": " + text);
+        OrderRecord current = order.get();
+        while (true) {
+            // A report may have moved the order on in the meantime; only undo our own pending status.
+            OrderStatus nextStatus = current.status() == request.kind().pendingStatus()
+                    ? request.previousStatus()
+                    : current.status();
+            OrderRecord updated = current.withStatusAndMessage(nextStatus, message);
+            if (orderStore.replace(current, updated)) {
+                stored(updated);
+                return;
+            }
+            current = orderStore.findByOrderId(orderId).orElse(null);
+            if (current == null) {
+                return;
+            }
+        }
+    }
 
-        orderStore.add(record);
-        return record;
+    /**
+     * Cancels the open orders matching {@code request}. With {@code fix.orders.mass-cancel.venue=true} this is one
+     * OrderMassCancelRequest (35=q); when that cannot be sent, the venue rejects it, or it gets no report within
+     * {@code fix.orders.mass-cancel.timeout-ms}, a cancel is sent for each matching order still open instead.
+     */
+    public MassCancelResult massCancel(MassCancelRequest request) {
+        MassCancelRequest filter = request == null
+                ? MassCancelRequest.ALL
+                : new MassCancelRequest(
+                        request.symbol() == null ? null : symbols.canonicalize(request.symbol()),
+                        request.side(),
+                        request.sessionId());
+        List<UUID> matches = openOrders.matching(filter);
+        if (!venueMassCancel) {
+            return cancelEach(matches, "");
+        }
+        String clOrdId = SnowflakeOrderIdGenerator.toClOrdId(requestIds.nextId());
+        pendingMassCancels.put(clOrdId, filter);
+        OrderSendResult sendResult = orderSender.massCancel(new OrderMassCancelSubmission(
+                clOrdId, Instant.now(), filter.symbol(), filter.side(), filter.sessionId()));
+        if (sendResult.accepted()) {
+            requestTimer.schedule(() -> expireMassCancel(clOrdId), massCancelTimeoutMillis, TimeUnit.MILLISECONDS);
+            return new MassCancelResult(true, clOrdId, matches.size(), 0, 0, sendResult.message(), List.of());
+        }
+        pendingMassCancels.remove(clOrdId);
+        return cancelEach(matches, sendResult.message() + "; ");
+    }
+
+    /**
+     * Applies an OrderMassCancelReport (35=r), or a BusinessMessageReject (35=j) of the request with
+     * {@code rejected} set; a rejected mass cancel falls back to one cancel per order.
+     */
+    public void applyMassCancelReport(String clOrdId, boolean rejected) {
+        MassCancelRequest filter = clOrdId == null ? null : pendingMassCancels.remove(clOrdId);
+        if (filter != null && rejected) {
+            fellBack(clOrdId, cancelEach(openOrders.matching(filter), "Mass cancel " + clOrdId + " rejected; "));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        requestTimer.shutdownNow();
+    }
+
+    /**
+     * Blocks new orders and replaces, waits for submissions already under way to be stored, then cancels every open
+     * order. Cancels are still allowed while the switch is engaged.
+     */
+    public KillSwitchStatus engageKillSwitch() {
+        killSwitch.engage();
+        MassCancelResult cancel = massCancel(MassCancelRequest.ALL);
+        lastKillSwitchCancel = cancel;
+        return new KillSwitchStatus(true, openOrders.size(), cancel);
+    }
+
+    public KillSwitchStatus releaseKillSwitch() {
+        killSwitch.release();
+        lastKillSwitchCancel = null;
+        return killSwitchStatus();
+    }
+
+    public KillSwitchStatus killSwitchStatus() {
+        return new KillSwitchStatus(killSwitch.isEngaged(), openOrders.size(), lastKillSwitchCancel);
     }
 
     public List<OrderRecord> listOrders() {
         return orderStore.listRecent();
     }
 
+    public OrderPage listOrders(Long cursor, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (cursor != null && cursor < 0) {
+            throw new IllegalArgumentException("cursor must not be negative");
+        }
+        return orderStore.page(cursor, limit);
+    }
+
     public OrderRecord getOrderById(String orderId) {
         return orderStore.findByOrderId(parseUuid(orderId))
                 .orElseThrow(() -> new OrderNotFoundException("Order not found: " + orderId));
     }
 
+    /** Notified with the order id after every order is stored or updated. */
+    public void addChangeListener(Consumer<UUID> listener) {
+        changeListeners.add(listener);
+    }
+
+    public Optional<OrderRecord> findOrder(UUID orderId) {
+        return orderStore.findByOrderId(orderId);
+    }
+
+    /** Applies a simulated report as given, so any status can be simulated. */
     public void applyExecutionReport(ExecutionReportEvent event) {
-        Optional<OrderRecord> order = findByIdentifiers(event.orderId(), event.clOrdId());
-        if (order.isEmpty()) {
-            return;
+        applyExecutionReport(
+                event.orderId(),
+                event.clOrdId(),
+                String.valueOf(REPLACED_EXEC_TYPE).equals(event.execType()),
+                ExecutionToOrderStatusMapper.map(event.execType(), event.ordStatus()),
+                event.text(),
+                false);
+    }
+
+    /** Applies a report from the FIX session, ignoring status changes {@link OrderStatusTransitions} forbids. */
+    public void applyExecutionReport(PrimitiveExecutionReport report) {
+        applyExecutionReport(
+                report.orderId(),
+                report.clOrdId(),
+                report.execType() == REPLACED_EXEC_TYPE,
+                ExecutionToOrderStatusMapper.map(report.execType(), report.ordStatus()),
+                report.text(),
+                true);
+    }
+
+    private void enterSubmission() {
+        if (!killSwitch.tryEnter()) {
+            throw killSwitchEngaged();
+        }
+    }
+
+    private static KillSwitchEngagedException killSwitchEngaged() {
+        return new KillSwitchEngagedException("Kill switch engaged; new orders are blocked");
+    }
+
+    /** Falls back to single cancels for a mass cancel the venue never answered; a no-op once it has. */
+    private void expireMassCancel(String clOrdId) {
+        MassCancelRequest filter = pendingMassCancels.remove(clOrdId);
+        if (filter != null) {
+            fellBack(clOrdId, cancelEach(openOrders.matching(filter), "Mass cancel " + clOrdId + " timed out; "));
+        }
+    }
+
+    /** When the kill switch's venue mass cancel fell back to single cancels, its status reports those instead. */
+    private void fellBack(String clOrdId, MassCancelResult result) {
+        MassCancelResult killSwitchCancel = lastKillSwitchCancel;
+        if (killSwitchCancel != null && clOrdId.equals(killSwitchCancel.clOrdId())) {
+            lastKillSwitchCancel = result;
+        }
+    }
+
+    /** Sends a cancel per order; orders whose cancel could not be sent are returned, not counted as skipped. */
+    private MassCancelResult cancelEach(List<UUID> orderIds, String messagePrefix) {
+        int sent = 0;
+        int skipped = 0;
+        List<UUID> refused = new ArrayList<>();
+        for (UUID orderId : orderIds) {
+            OrderRecord order = orderStore.findByOrderId(orderId).orElse(null);
+            if (order == null || order.status().isTerminal() || order.status() == OrderStatus.QUEUED) {
+                skipped++;
+                continue;
+            }
+            try {
+                if (cancel(order).accepted()) {
+                    sent++;
+                } else {
+                    refused.add(orderId);
+                }
+            } catch (OrderConflictException ex) {
+                // A cancel or replace is already in flight for this order, or it was done in the meantime.
+                skipped++;
+            }
+        }
+        String message = messagePrefix + "Sent " + sent + " of " + orderIds.size() + " cancels";
+        if (!refused.isEmpty()) {
+            message += "; " + refused.size() + " could not be sent and are still working";
+        }
+        return new MassCancelResult(false, null, orderIds.size(), sent, skipped, message, refused);
+    }
+
+    private OrderRecord submit(CreateOrderRequest request, String symbol, long receivedAtNanos) {
+        OrderSubmission submission = toSubmission(request, symbol, idGenerator.next(), Instant.now());
+        String clOrdId = submission.clOrdId();
+        if (latencyTracker != null) {
+            latencyTracker.onCreated(clOrdId, submission.symbol(), receivedAtNanos);
+        }
+
+        if (submissionQueue != null) {
+            return enqueue(submission, clOrdId);
         }
 
-        OrderStatus mappedStatus = ExecutionToOrderStatusMapper.map(event.execType(), event.ordStatus());
-        if (mappedStatus == null && event.text() == null) {
+        OrderSendResult sendResult = orderSender.send(submission);
+        OrderStatus initialStatus = sendResult.accepted() ? OrderStatus.ACCEPTED : OrderStatus.REJECTED;
+        if (!sendResult.accepted() && latencyTracker != null) {
+            latencyTracker.discard(clOrdId);
+        }
+
+        OrderRecord record = toRecord(submission, clOrdId, initialStatus, sendResult.message())
+                .withSessionId(sendResult.sessionId());
+        orderStore.add(record);
+        stored(record);
+        return record;
+    }
+
+    private List<BatchOrderResult> submitAll(List<CreateOrderRequest> requests) {
+        long receivedAtNanos = System.nanoTime();
+        Instant createdAt = Instant.now();
+        BatchOrderResult[] results = new BatchOrderResult[requests.size()];
+        List<OrderSubmission> submissions = new ArrayList<>(requests.size());
+        int[] positions = new int[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            CreateOrderRequest request = requests.get(i);
+            String symbol;
+            try {
+                symbol = validate(request);
+            } catch (IllegalArgumentException ex) {
+                results[i] = BatchOrderResult.invalid(i, ex.getMessage());
+                continue;
+            }
+            positions[submissions.size()] = i;
+            OrderSubmission submission = toSubmission(request, symbol, idGenerator.next(), createdAt);
+            submissions.add(submission);
+            if (latencyTracker != null) {
+                latencyTracker.onCreated(submission.clOrdId(), submission.symbol(), receivedAtNanos);
+            }
+        }
+
+        if (!submissions.isEmpty()) {
+            // Stored before they are sent, as enqueue does: the venue may answer an order before sendBatch returns.
+            List<OrderRecord> records = new ArrayList<>(submissions.size());
+            for (OrderSubmission submission : submissions) {
+                records.add(toRecord(
+                        submission, submission.clOrdId(), OrderStatus.QUEUED, "Order queued for FIX submission"));
+            }
+            orderStore.addAll(records);
+            for (OrderRecord record : records) {
+                stored(record);
+            }
+
+            List<OrderSendResult> sendResults = orderSender.sendBatch(submissions);
+            for (int i = 0; i < submissions.size(); i++) {
+                OrderSendResult sendResult = sendResults.get(i);
+                OrderRecord record = completeQueued(submissions.get(i).orderId(), sendResult, null);
+                results[positions[i]] = new BatchOrderResult(
+                        positions[i], sendResult.accepted(), record, sendResult.message());
+            }
+        }
+
+        return List.of(results);
+    }
+
+    /**
+     * Registers a cancel or replace and marks the order pending. {@code qty} and {@code price} default to the
+     * order's own. The pending status is only written over the record that was read; if a report got there first,
+     * the request is rebuilt from the order as the report left it.
+     */
+    private InFlightOrderRequests.Request begin(
+            OrderRecord current, InFlightOrderRequests.Kind kind, Integer qty, BigDecimal price) {
+        while (true) {
+            if (current.status().isTerminal() || current.status() == OrderStatus.QUEUED) {
+                throw new OrderConflictException(
+                        kind.label() + " not possible: order " + current.orderId() + " is " + current.status());
+            }
+            InFlightOrderRequests.Request request = new InFlightOrderRequests.Request(
+                    kind,
+                    ClOrdIdChain.next(current.clOrdId(), requestIds.nextId()),
+                    current.currentClOrdId(),
+                    qty != null ? qty : current.qty(),
+                    price != null ? price : current.price(),
+                    current.status());
+            if (!inFlightRequests.begin(current.orderId(), request)) {
+                throw new OrderConflictException(
+                        kind.label() + " not possible: order " + current.orderId()
+                                + " already has a request in flight");
+            }
+            // Marked pending before sending, so the venue's answer always finds the pending status to move on from.
+            OrderRecord pending = current.withStatusAndMessage(
+                    kind.pendingStatus(), kind.label() + " " + request.clOrdId() + " requested");
+            if (orderStore.replace(current, pending)) {
+                stored(pending);
+                return request;
+            }
+            inFlightRequests.complete(current.orderId(), request);
+            UUID orderId = current.orderId();
+            current = orderStore.findByOrderId(orderId)
+                    .orElseThrow(() -> new OrderNotFoundException("Order not found: " + orderId));
+        }
+    }
+
+    private OrderRequestResult finish(UUID orderId, InFlightOrderRequests.Request request, OrderSendResult sendResult) {
+        OrderRecord order = orderStore.findByOrderId(orderId).orElseThrow();
+        // An order whose session was not known went out on some logged-on session; its next requests follow it there.
+        while (sendResult.accepted() && sendResult.sessionId() != null && order.sessionId() == null) {
+            OrderRecord routed = order.withSessionId(sendResult.sessionId());
+            if (orderStore.replace(order, routed)) {
+                stored(routed);
+                order = routed;
+                break;
+            }
+            order = orderStore.findByOrderId(orderId).orElseThrow();
+        }
+        if (sendResult.accepted()) {
+            requestTimer.schedule(() -> expireRequest(orderId, request), requestTimeoutMillis, TimeUnit.MILLISECONDS);
+        } else if (inFlightRequests.complete(orderId, request)) {
+            order = revert(order, request, sendResult.message());
+        }
+        return new OrderRequestResult(sendResult.accepted(), request.clOrdId(), order, sendResult.message());
+    }
+
+    /**
+     * Drops a cancel or replace the venue did not answer within {@code fix.orders.request-timeout-ms}, so the order
+     * takes new requests again; a no-op once it was answered.
+     */
+    private void expireRequest(UUID orderId, InFlightOrderRequests.Request request) {
+        if (!inFlightRequests.complete(orderId, request)) {
             return;
         }
+        orderStore.findByOrderId(orderId).ifPresent(order -> revert(order, request,
+                request.kind().label() + " " + request.clOrdId() + " timed out without an answer from the venue"));
+    }
 
-        OrderRecord current = order.get();
-        OrderRecord updated = current.withStatusAndMessage(
-                mappedStatus == null ? current.status() : mappedStatus,
-                event.text());
+    /** Restores the status the order had before {@code request}, while it still shows the request's pending status. */
+    private OrderRecord revert(OrderRecord order, InFlightOrderRequests.Request request, String message) {
+        while (order.status() == request.kind().pendingStatus()) {
+            OrderRecord reverted = order.withStatusAndMessage(request.previousStatus(), message);
+            if (orderStore.replace(order, reverted)) {
+                stored(reverted);
+                return reverted;
+            }
+            UUID orderId = order.orderId();
+            order = orderStore.findByOrderId(orderId).orElseThrow();
+        }
+        return order;
+    }
 
-        orderStore.update(updated);
+    /** Bookkeeping after {@code order} was written to the store. */
+    private void stored(OrderRecord order) {
+        openOrders.track(order);
+        changeListeners.fire(order.orderId());
+    }
+
+    private OrderRecord enqueue(OrderSubmission submission, String clOrdId) {
+        // Stored before it is queued: the writer may send it, and the venue answer it, before submit returns.
+        OrderRecord record = toRecord(submission, clOrdId, OrderStatus.QUEUED, "Order queued for FIX submission");
+        orderStore.add(record);
+        stored(record);
+
+        CompletableFuture<OrderSendResult> pending;
+        try {
+            pending = submissionQueue.submit(submission);
+        } catch (OrderBackpressureException ex) {
+            completeQueued(record.orderId(), new OrderSendResult(false, ex.getMessage()), null);
+            throw ex;
+        }
+        pending.whenComplete((sendResult, error) -> completeQueued(record.orderId(), sendResult, error));
+        return record;
+    }
+
+    /** Moves a queued order on by its send result and returns the order as it is stored afterwards. */
+    private OrderRecord completeQueued(UUID orderId, OrderSendResult sendResult, Throwable error) {
+        while (true) {
+            OrderRecord current = orderStore.findByOrderId(orderId).orElse(null);
+            if (current == null) {
+                return null;
+            }
+            if (current.status() != OrderStatus.QUEUED) {
+                // An execution report already moved the order on; keep the venue's view, but record its session.
+                if (error != null || !sendResult.accepted() || sendResult.sessionId() == null
+                        || current.sessionId() != null) {
+                    return current;
+                }
+                OrderRecord routed = current.withSessionId(sendResult.sessionId());
+                if (orderStore.replace(current, routed)) {
+                    stored(routed);
+                    return routed;
+                }
+                continue;
+            }
+            OrderRecord updated = error != null
+                    ? current.withStatusAndMessage(OrderStatus.REJECTED, "Order submission failed: " + error.getMessage())
+                    : current.withStatusAndMessage(
+                            sendResult.accepted() ? OrderStatus.ACCEPTED : OrderStatus.REJECTED,
+                            sendResult.message()).withSessionId(sendResult.sessionId());
+            if (orderStore.replace(current, updated)) {
+                if (updated.status() == OrderStatus.REJECTED && latencyTracker != null) {
+                    latencyTracker.discard(current.clOrdId());
+                }
+                stored(updated);
+                return updated;
+            }
+        }
+    }
+
+    private OrderSubmission toSubmission(
+            CreateOrderRequest request, String symbol, GeneratedOrderId id, Instant createdAt) {
+        BigDecimal normalizedPrice = request.type() == OrderType.MARKET ? null : request.price();
+        return new OrderSubmission(
+                id.orderId(),
+                id.clOrdId(),
+                createdAt,
+                symbols.intern(symbol),
+                request.side(),
+                request.qty(),
+                request.type(),
+                normalizedPrice,
+                request.tif());
+    }
+
+    private OrderRecord toRecord(OrderSubmission submission, String clOrdId, OrderStatus status, String message) {
+        return new OrderRecord(
+                submission.orderId(),
+                clOrdId,
+                submission.createdAt(),
+                submission.symbol(),
+                submission.side(),
+                submission.qty(),
+                submission.type(),
+                submission.price(),
+                submission.tif(),
+                status,
+                message);
+    }
+
+    private void applyExecutionReport(
+            String orderId,
+            String clOrdId,
+            boolean replaced,
+            OrderStatus mappedStatus,
+            String text,
+            boolean checkTransition) {
+        if (mappedStatus == null && text == null) {
+            return;
+        }
+        boolean tracked = false;
+        InFlightOrderRequests.Request replacement = null;
+        // Written only over the record that was read, so a cancel or replace marked pending meanwhile is not lost.
+        while (true) {
+            Optional<OrderRecord> order = findByIdentifiers(orderId, clOrdId);
+            if (order.isEmpty()) {
+                return;
+            }
+
+            OrderRecord current = order.get();
+            if (checkTransition && mappedStatus != null
+                    && !OrderStatusTransitions.isAllowed(current.status(), mappedStatus)) {
+                // Late or out-of-order report, e.g. a partial fill arriving after the fill.
+                return;
+            }
+            if (latencyTracker != null && !tracked) {
+                latencyTracker.onExecutionReport(
+                        current.clOrdId(), mappedStatus != null && mappedStatus.isTerminal(), System.nanoTime());
+                tracked = true;
+            }
+            if (replaced && clOrdId != null && replacement == null) {
+                InFlightOrderRequests.Request request = inFlightRequests.find(current.orderId(), clOrdId);
+                if (request != null && request.kind() == InFlightOrderRequests.Kind.REPLACE
+                        && inFlightRequests.complete(current.orderId(), request)) {
+                    replacement = request;
+                }
+            }
+            OrderRecord next = replacement == null
+                    ? current
+                    : current.withReplacement(replacement.qty(), replacement.price(), replacement.clOrdId());
+            OrderStatus nextStatus = mappedStatus == null ? current.status() : mappedStatus;
+            if (nextStatus.isTerminal()) {
+                inFlightRequests.clear(current.orderId());
+            }
+            if (next == current && nextStatus == current.status()
+                    && (text == null || text.equals(current.message()))) {
+                return;
+            }
+            OrderRecord updated = next.withStatusAndMessage(nextStatus, text);
+            if (orderStore.replace(current, updated)) {
+                stored(updated);
+                return;
+            }
+        }
     }
 
     private Optional<OrderRecord> findByIdentifiers(String orderId, String clOrdId) {
-        if (orderId != null && !orderId.isBlank()) {
+        // Venue OrderIDs are rarely ours; skip the UUID parse (and its exception) unless the shape matches.
+        if (orderId != null && orderId.length() == UUID_LENGTH) {
             try {
                 Optional<OrderRecord> byOrderId = orderStore.findByOrderId(parseUuid(orderId));
                 if (byOrderId.isPresent()) {
@@ -102,7 +765,8 @@ public class OrderService {
             }
         }
         if (clOrdId != null && !clOrdId.isBlank()) {
-            return orderStore.findByClOrdId(clOrdId);
+            // Reports on a cancel or replace carry the request's ClOrdID, which names the order's root ClOrdID.
+            return orderStore.findByClOrdId(ClOrdIdChain.rootOf(clOrdId));
         }
         return Optional.empty();
     }
@@ -115,13 +779,12 @@ public class OrderService {
         }
     }
 
-    private void validate(CreateOrderRequest request) {
+    /** Validates the request and returns its canonical symbol. */
+    private String validate(CreateOrderRequest request) {
         if (request == null) {
             throw new IllegalArgumentException("Request body is required");
         }
-        if (request.symbol() == null || request.symbol().isBlank()) {
-            throw new IllegalArgumentException("symbol is required");
-        }
+        String symbol = symbols.canonicalize(request.symbol());
         if (request.side() == null) {
             throw new IllegalArgumentException("side is required");
         }
@@ -140,5 +803,6 @@ public class OrderService {
         if (request.type() == OrderType.LIMIT && request.price().signum() <= 0) {
             throw new IllegalArgumentException("price must be greater than 0");
         }
+        return symbol;
     }
 }
@@ -0,0 +1,284 @@
+package com.fixclient.backend.orders;
+
+import com.fixclient.backend.execution.ExecutionStateSnapshot;
+import com.fixclient.backend.execution.OrderExecutionState;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Compact binary snapshot of every order and its execution state as of one journal sequence.
+ *
+ * <p>The file is a header (magic, version, last journal sequence, counts), the orders in creation order, the
+ * execution states, and a CRC32C of everything before it. It is written to a temporary file and atomically renamed,
+ * so a crash mid-write leaves the previous snapshot in place.
+ */
+record OrderStateSnapshot(long lastSequence, List<OrderRecord> orders, List<ExecutionStateSnapshot> executionStates) {
+
+    private static final int MAGIC = 0x4F534E50;
+    private static final int VERSION = 3;
+    // Version 1 predates replaces; its orders are still known by their original ClOrdID.
+    private static final int VERSION_WITHOUT_CURRENT_CL_ORD_ID = 1;
+    // Version 2 predates session ids; its orders are sent on whichever session is logged on.
+    private static final int VERSION_WITHOUT_SESSION_ID = 2;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".bin";
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final OrderSide[] SIDES = OrderSide.values();
+    private static final OrderType[] TYPES = OrderType.values();
+    private static final TimeInForce[] TIFS = TimeInForce.values();
+
+    /** Writes this snapshot to {@code directory} and returns its path. */
+    Path writeTo(Path directory) {
+        Path target = directory.resolve(fileName(lastSequence));
+        Path temporary = directory.resolve(fileName(lastSequence) + ".tmp");
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream file = Channels.newOutputStream(channel);
+            DataOutputStream out = new DataOutputStream(
+                    new CheckedOutputStream(new BufferedOutputStream(file, 1 << 16), crc));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(lastSequence);
+            out.writeInt(orders.size());
+            out.writeInt(executionStates.size());
+            for (OrderRecord order : orders) {
+                writeOrder(out, order);
+            }
+            for (ExecutionStateSnapshot state : executionStates) {
+                writeExecutionState(out, state);
+            }
+            out.flush();
+            // The checksum itself is written past the CheckedOutputStream.
+            new DataOutputStream(file).writeInt((int) crc.getValue());
+            // Journal segments are deleted once this snapshot exists, so it has to be on disk first.
+            channel.force(true);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot write order snapshot " + target, ex);
+        }
+        try {
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot write order snapshot " + target, ex);
+        }
+        return target;
+    }
+
+    /** Most recent readable snapshot in {@code directory}, or {@code null}. Unreadable snapshots are skipped. */
+    static OrderStateSnapshot readLatest(Path directory) {
+        List<Path> snapshots = list(directory);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            try {
+                return read(snapshots.get(i));
+            } catch (IOException | RuntimeException ignored) {
+                // Fall back to an older snapshot.
+            }
+        }
+        return null;
+    }
+
+    /** Deletes every snapshot older than {@code keep}. */
+    static void deleteOlderThan(Path directory, Path keep) {
+        for (Path snapshot : list(directory)) {
+            if (snapshot.getFileName().toString().compareTo(keep.getFileName().toString()) < 0) {
+                try {
+                    Files.deleteIfExists(snapshot);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException("Cannot delete order snapshot " + snapshot, ex);
+                }
+            }
+        }
+    }
+
+    static OrderStateSnapshot read(Path path) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (InputStream file = new BufferedInputStream(Files.newInputStream(path), 1 << 16);
+                DataInputStream in = new DataInputStream(new CheckedInputStream(file, crc))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not an order snapshot: " + path);
+            }
+            int version = in.readInt();
+            if (version < VERSION_WITHOUT_CURRENT_CL_ORD_ID || version > VERSION) {
+                throw new IOException("Unsupported order snapshot version " + version + ": " + path);
+            }
+            long lastSequence = in.readLong();
+            int orderCount = in.readInt();
+            int stateCount = in.readInt();
+            List<OrderRecord> orders = new ArrayList<>(orderCount);
+            for (int i = 0; i < orderCount; i++) {
+                orders.add(readOrder(in, version));
+            }
+            List<ExecutionStateSnapshot> states = new ArrayList<>(stateCount);
+            for (int i = 0; i < stateCount; i++) {
+                states.add(readExecutionState(in));
+            }
+            int expected = (int) crc.getValue();
+            if (new DataInputStream(file).readInt() != expected) {
+                throw new IOException("Order snapshot checksum mismatch: " + path);
+            }
+            return new OrderStateSnapshot(lastSequence, orders, states);
+        }
+    }
+
+    private static List<Path> list(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot list order snapshots in " + directory, ex);
+        }
+    }
+
+    private static String fileName(long lastSequence) {
+        return PREFIX + String.format("%019d", lastSequence) + SUFFIX;
+    }
+
+    private static void writeOrder(DataOutputStream out, OrderRecord order) throws IOException {
+        out.writeLong(order.orderId().getMostSignificantBits());
+        out.writeLong(order.orderId().getLeastSignificantBits());
+        writeString(out, order.clOrdId());
+        writeInstant(out, order.createdAt());
+        writeString(out, order.symbol());
+        writeEnum(out, order.side());
+        out.writeInt(order.qty() == null ? Integer.MIN_VALUE : order.qty());
+        writeEnum(out, order.type());
+        writeDecimal(out, order.price());
+        writeEnum(out, order.tif());
+        writeEnum(out, order.status());
+        writeString(out, order.message());
+        writeString(out, order.currentClOrdId());
+        writeString(out, order.sessionId());
+    }
+
+    private static OrderRecord readOrder(DataInputStream in, int version) throws IOException {
+        UUID orderId = new UUID(in.readLong(), in.readLong());
+        String clOrdId = readString(in);
+        Instant createdAt = readInstant(in);
+        String symbol = readString(in);
+        OrderSide side = readEnum(in, SIDES);
+        int qty = in.readInt();
+        OrderType type = readEnum(in, TYPES);
+        BigDecimal price = readDecimal(in);
+        TimeInForce tif = readEnum(in, TIFS);
+        OrderStatus status = readEnum(in, STATUSES);
+        String message = readString(in);
+        String currentClOrdId = version == VERSION_WITHOUT_CURRENT_CL_ORD_ID ? clOrdId : readString(in);
+        String sessionId = version < VERSION ? null : readString(in);
+        return new OrderRecord(orderId, clOrdId, createdAt, symbol, side, qty == Integer.MIN_VALUE ? null : qty, type,
+                price, tif, status, message, currentClOrdId, sessionId);
+    }
+
+    private static void writeExecutionState(DataOutputStream out, ExecutionStateSnapshot snapshot) throws IOException {
+        out.writeShort(snapshot.orderKeys().size());
+        for (String key : snapshot.orderKeys()) {
+            writeString(out, key);
+        }
+        OrderExecutionState state = snapshot.state();
+        writeString(out, state.execType());
+        writeString(out, state.ordStatus());
+        writeDecimal(out, state.filledQty());
+        writeDecimal(out, state.leavesQty());
+        writeDecimal(out, state.avgPx());
+        writeDecimal(out, state.lastPx());
+        writeDecimal(out, state.lastQty());
+        writeString(out, state.text());
+        writeInstant(out, state.updatedAt());
+    }
+
+    private static ExecutionStateSnapshot readExecutionState(DataInputStream in) throws IOException {
+        int keyCount = in.readUnsignedShort();
+        List<String> keys = new ArrayList<>(keyCount);
+        for (int i = 0; i < keyCount; i++) {
+            keys.add(readString(in));
+        }
+        return new ExecutionStateSnapshot(keys, new OrderExecutionState(
+                readString(in),
+                readString(in),
+                readDecimal(in),
+                readDecimal(in),
+                readDecimal(in),
+                readDecimal(in),
+                readDecimal(in),
+                readString(in),
+                readInstant(in)));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.getEpochSecond());
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        return in.readBoolean() ? Instant.ofEpochSecond(in.readLong(), in.readInt()) : null;
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        if (value == null) {
+            out.writeByte(0);
+            return;
+        }
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeByte(unscaled.length);
+        out.write(unscaled);
+        out.writeInt(value.scale());
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        int length = in.readUnsignedByte();
+        if (length == 0) {
+            return null;
+        }
+        byte[] unscaled = in.readNBytes(length);
+        return new BigDecimal(new BigInteger(unscaled), in.readInt());
+    }
+
+    private static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+        out.writeByte(value == null ? -1 : value.ordinal());
+    }
+
+    private static <E> E readEnum(DataInputStream in, E[] values) throws IOException {
+        byte ordinal = in.readByte();
+        return ordinal < 0 ? null : values[ordinal];
+    }
+}
@@ -1,10 +1,27 @@
 package com.fixclient.backend.orders;
 
+/**
+ * Order status. The journal and snapshots persist the ordinal, so new constants are only ever appended.
+ */
 public enum OrderStatus {
     ACCEPTED,
     NEW,
     PARTIALLY_FILLED,
     FILLED,
     CANCELED,
-    REJECTED
+    REJECTED,
+    QUEUED,
+    PENDING_NEW,
+    PENDING_CANCEL,
+    PENDING_REPLACE,
+    REPLACED,
+    EXPIRED,
+    DONE_FOR_DAY,
+    STOPPED,
+    SUSPENDED,
+    CALCULATED;
+
+    public boolean isTerminal() {
+        return this == FILLED || this == CANCELED || this == REJECTED || this == EXPIRED;
+    }
 }
@@ -0,0 +1,66 @@
+package com.fixclient.backend.orders;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Which status changes an execution report may make, following the FIX 4.4 order state matrices.
+ *
+ * <p>The table is computed once from a few rules:
+ * <ul>
+ *   <li>A report repeating the current status is always accepted, so its text can still be applied.</li>
+ *   <li>Terminal statuses ({@link OrderStatus#isTerminal()}) are final. A late partial fill after a fill, or a
+ *       cancel after an expiry, is ignored.</li>
+ *   <li>{@code QUEUED} and {@code ACCEPTED} are this client's own states before the venue answered, and may move to
+ *       any venue status. Venue statuses never move back to them.</li>
+ *   <li>{@code PENDING_NEW} is only reachable before the venue acknowledged the order.</li>
+ *   <li>An order with fills ({@code PARTIALLY_FILLED}) does not go back to {@code NEW}, and only orders the venue has
+ *       not started working can be {@code REJECTED}.</li>
+ * </ul>
+ */
+public final class OrderStatusTransitions {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final Set<OrderStatus> LOCAL = EnumSet.of(OrderStatus.QUEUED, OrderStatus.ACCEPTED);
+    private static final Set<OrderStatus> REJECTABLE =
+            EnumSet.of(OrderStatus.QUEUED, OrderStatus.ACCEPTED, OrderStatus.PENDING_NEW, OrderStatus.NEW);
+
+    private static final boolean[][] ALLOWED = new boolean[STATUSES.length][STATUSES.length];
+
+    static {
+        for (OrderStatus from : STATUSES) {
+            for (OrderStatus to : STATUSES) {
+                ALLOWED[from.ordinal()][to.ordinal()] = compute(from, to);
+            }
+        }
+    }
+
+    private OrderStatusTransitions() {
+    }
+
+    public static boolean isAllowed(OrderStatus from, OrderStatus to) {
+        return ALLOWED[from.ordinal()][to.ordinal()];
+    }
+
+    private static boolean compute(OrderStatus from, OrderStatus to) {
+        if (from == to) {
+            return true;
+        }
+        if (from.isTerminal()) {
+            return false;
+        }
+        if (LOCAL.contains(from)) {
+            return to != OrderStatus.QUEUED;
+        }
+        if (LOCAL.contains(to) || to == OrderStatus.PENDING_NEW) {
+            return false;
+        }
+        if (to == OrderStatus.REJECTED) {
+            return REJECTABLE.contains(from);
+        }
+        if (to == OrderStatus.NEW) {
+            return from != OrderStatus.PARTIALLY_FILLED;
+        }
+        return true;
+    }
+}
@@ -8,11 +8,39 @@ public interface OrderStore {
 
     void add(OrderRecord order);
 
+    default void addAll(List<OrderRecord> orders) {
+        for (OrderRecord order : orders) {
+            add(order);
+        }
+    }
+
     void update(OrderRecord order);
 
+    /**
+     * Stores {@code order} only if the record currently stored under its id is {@code expected}, so a change computed
+     * from a stale read cannot overwrite one made in between.
+     *
+     * @return {@code false} if the order changed since {@code expected} was read, or is not stored
+     */
+    boolean replace(OrderRecord expected, OrderRecord order);
+
     Optional<OrderRecord> findByOrderId(UUID orderId);
 
     Optional<OrderRecord> findByClOrdId(String clOrdId);
 
     List<OrderRecord> listRecent();
+
+    /** Every stored order that is not in a terminal status, however old, in no particular order. */
+    List<OrderRecord> listWorking();
+
+    /**
+     * Returns up to {@code limit} orders, most recent first. {@code cursor} is the opaque
+     * {@link OrderPage#nextCursor()} of a previous page, or {@code null} to start from the newest order.
+     */
+    default OrderPage page(Long cursor, int limit) {
+        List<OrderRecord> recent = listRecent();
+        int from = cursor == null ? 0 : (int) Math.min(Math.max(cursor, 0), recent.size());
+        int to = Math.min(from + limit, recent.size());
+        return new OrderPage(recent.subList(from, to), to < recent.size() ? Long.valueOf(to) : null);
+    }
 }
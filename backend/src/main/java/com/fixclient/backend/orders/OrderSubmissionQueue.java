@@ -0,0 +1,135 @@
+package com.fixclient.backend.orders;
+
+import com.example.fixclient.fix.OrderSendResult;
+import com.example.fixclient.fix.OrderSender;
+import com.example.fixclient.fix.OrderSubmission;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded hand-off between request threads and the FIX session.
+ *
+ * <p>Request threads only enqueue; a single writer thread drains the queue in batches and performs every
+ * send, so the QuickFIX/J session is never contended by request threads. A full queue is reported with
+ * {@link OrderBackpressureException} instead of blocking the caller. Queued orders still pass the {@link KillSwitch}
+ * when they are sent, and are rejected once it is engaged.
+ */
+@Component
+@ConditionalOnProperty(name = "fix.orders.submission.mode", havingValue = "async")
+public class OrderSubmissionQueue {
+
+    static final int DEFAULT_CAPACITY = 1024;
+    static final int DEFAULT_MAX_BATCH = 64;
+
+    private final OrderSender orderSender;
+    private final KillSwitch killSwitch;
+    private final ArrayBlockingQueue<PendingSubmission> queue;
+    private final int capacity;
+    private final int maxBatch;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public OrderSubmissionQueue(OrderSender orderSender, int capacity, int maxBatch) {
+        this(orderSender, capacity, maxBatch, Optional.empty());
+    }
+
+    @Autowired
+    public OrderSubmissionQueue(
+            @Lazy OrderSender orderSender,
+            @Value("${fix.orders.submission.queue-capacity:" + DEFAULT_CAPACITY + "}") int capacity,
+            @Value("${fix.orders.submission.max-batch:" + DEFAULT_MAX_BATCH + "}") int maxBatch,
+            Optional<KillSwitch> killSwitch) {
+        if (capacity <= 0 || maxBatch <= 0) {
+            throw new IllegalArgumentException("queue capacity and max batch must be greater than 0");
+        }
+        this.orderSender = orderSender;
+        this.killSwitch = killSwitch.orElseGet(KillSwitch::new);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.maxBatch = maxBatch;
+        this.writer = new Thread(this::drain, "order-submission-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public CompletableFuture<OrderSendResult> submit(OrderSubmission submission) {
+        PendingSubmission pending = new PendingSubmission(submission, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            throw new OrderBackpressureException(
+                    "Order submission queue is full (capacity " + capacity + "); retry later");
+        }
+        return pending.result();
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        PendingSubmission abandoned;
+        while ((abandoned = queue.poll()) != null) {
+            abandoned.result().completeExceptionally(new IllegalStateException("Order submission queue closed"));
+        }
+    }
+
+    private void drain() {
+        List<PendingSubmission> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingSubmission first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+                sendBatch(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void sendBatch(List<PendingSubmission> batch) {
+        for (PendingSubmission pending : batch) {
+            if (!killSwitch.tryEnter()) {
+                pending.result().complete(new OrderSendResult(false, "Order rejected: kill switch engaged"));
+                continue;
+            }
+            // Completing runs the order's status update, which has to happen before the kill switch stops waiting.
+            try {
+                pending.result().complete(orderSender.send(pending.submission()));
+            } catch (RuntimeException ex) {
+                pending.result().completeExceptionally(ex);
+            } finally {
+                killSwitch.exit();
+            }
+        }
+    }
+
+    private record PendingSubmission(OrderSubmission submission, CompletableFuture<OrderSendResult> result) {
+    }
+}
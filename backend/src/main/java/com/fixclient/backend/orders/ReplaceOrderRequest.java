@@ -0,0 +1,7 @@
+package com.fixclient.backend.orders;
+
+import java.math.BigDecimal;
+
+/** New quantity and/or limit price for a working order; a {@code null} field keeps the current value. */
+public record ReplaceOrderRequest(Integer qty, BigDecimal price) {
+}
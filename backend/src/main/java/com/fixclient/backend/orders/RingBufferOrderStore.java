@@ -0,0 +1,166 @@
+package com.fixclient.backend.orders;
+
+import com.fixclient.backend.support.SequencedRing;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Order store that keeps a bounded window of the most recent orders in a lock-free ring.
+ *
+ * <p>Listing and paging walk only the requested slice of the window. Orders that leave the window stay
+ * addressable by id while they are working; with {@link OrderRetentionPolicy#EVICT_TERMINAL} they are
+ * dropped once they are both outside the window and in a terminal status.
+ */
+@Component
+@ConditionalOnProperty(name = "fix.orders.store.type", havingValue = "ring")
+public class RingBufferOrderStore implements OrderStore {
+
+    static final int DEFAULT_CAPACITY = 4096;
+
+    private final ConcurrentHashMap<UUID, StoredOrder> byOrderId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, UUID> clOrdIdToOrderId = new ConcurrentHashMap<>();
+    private final SequencedRing<UUID> recentOrderIds;
+    private final OrderRetentionPolicy retentionPolicy;
+
+    public RingBufferOrderStore() {
+        this(DEFAULT_CAPACITY, OrderRetentionPolicy.EVICT_TERMINAL);
+    }
+
+    @Autowired
+    public RingBufferOrderStore(
+            @Value("${fix.orders.store.capacity:" + DEFAULT_CAPACITY + "}") int capacity,
+            @Value("${fix.orders.store.retention:EVICT_TERMINAL}") OrderRetentionPolicy retentionPolicy) {
+        this.recentOrderIds = new SequencedRing<>(capacity, this::onLeftWindow);
+        this.retentionPolicy = retentionPolicy;
+    }
+
+    @Override
+    public void add(OrderRecord order) {
+        byOrderId.put(order.orderId(), new StoredOrder(order));
+        clOrdIdToOrderId.put(order.clOrdId(), order.orderId());
+        recentOrderIds.publish(order.orderId());
+    }
+
+    @Override
+    public void addAll(List<OrderRecord> orders) {
+        List<UUID> orderIds = new ArrayList<>(orders.size());
+        for (OrderRecord order : orders) {
+            byOrderId.put(order.orderId(), new StoredOrder(order));
+            clOrdIdToOrderId.put(order.clOrdId(), order.orderId());
+            orderIds.add(order.orderId());
+        }
+        recentOrderIds.publishAll(orderIds);
+    }
+
+    @Override
+    public void update(OrderRecord order) {
+        StoredOrder stored = byOrderId.get(order.orderId());
+        if (stored == null) {
+            return;
+        }
+        stored.record = order;
+        if (stored.outsideWindow) {
+            evictIfRetired(stored);
+        }
+    }
+
+    @Override
+    public boolean replace(OrderRecord expected, OrderRecord order) {
+        StoredOrder stored = byOrderId.get(order.orderId());
+        if (stored == null || !StoredOrder.RECORD.compareAndSet(stored, expected, order)) {
+            return false;
+        }
+        if (stored.outsideWindow) {
+            evictIfRetired(stored);
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<OrderRecord> findByOrderId(UUID orderId) {
+        StoredOrder stored = byOrderId.get(orderId);
+        return stored == null ? Optional.empty() : Optional.of(stored.record);
+    }
+
+    @Override
+    public Optional<OrderRecord> findByClOrdId(String clOrdId) {
+        UUID orderId = clOrdIdToOrderId.get(clOrdId);
+        return orderId == null ? Optional.empty() : findByOrderId(orderId);
+    }
+
+    @Override
+    public List<OrderRecord> listRecent() {
+        return page(null, recentOrderIds.capacity()).orders();
+    }
+
+    /** Includes working orders that have left the window; they stay in the id map until they are retired. */
+    @Override
+    public List<OrderRecord> listWorking() {
+        List<OrderRecord> orders = new ArrayList<>();
+        for (StoredOrder stored : byOrderId.values()) {
+            OrderRecord order = stored.record;
+            if (!order.status().isTerminal()) {
+                orders.add(order);
+            }
+        }
+        return orders;
+    }
+
+    @Override
+    public OrderPage page(Long cursor, int limit) {
+        long head = recentOrderIds.headSequence();
+        long floor = recentOrderIds.oldestRetainedSequence();
+        long sequence = (cursor == null ? head : Math.min(cursor, head)) - 1;
+
+        List<OrderRecord> orders = new ArrayList<>(Math.min(limit, recentOrderIds.capacity()));
+        while (sequence >= floor && orders.size() < limit) {
+            UUID orderId = recentOrderIds.get(sequence--);
+            StoredOrder stored = orderId == null ? null : byOrderId.get(orderId);
+            if (stored != null) {
+                orders.add(stored.record);
+            }
+        }
+        return new OrderPage(orders, sequence >= floor ? Long.valueOf(sequence + 1) : null);
+    }
+
+    int capacity() {
+        return recentOrderIds.capacity();
+    }
+
+    private void onLeftWindow(UUID orderId) {
+        StoredOrder stored = byOrderId.get(orderId);
+        if (stored == null) {
+            return;
+        }
+        stored.outsideWindow = true;
+        evictIfRetired(stored);
+    }
+
+    private void evictIfRetired(StoredOrder stored) {
+        OrderRecord order = stored.record;
+        if (retentionPolicy == OrderRetentionPolicy.EVICT_TERMINAL && order.status().isTerminal()) {
+            byOrderId.remove(order.orderId(), stored);
+            clOrdIdToOrderId.remove(order.clOrdId(), order.orderId());
+        }
+    }
+
+    private static final class StoredOrder {
+        private static final AtomicReferenceFieldUpdater<StoredOrder, OrderRecord> RECORD =
+                AtomicReferenceFieldUpdater.newUpdater(StoredOrder.class, OrderRecord.class, "record");
+
+        private volatile OrderRecord record;
+        private volatile boolean outsideWindow;
+
+        private StoredOrder(OrderRecord record) {
+            this.record = record;
+        }
+    }
+}
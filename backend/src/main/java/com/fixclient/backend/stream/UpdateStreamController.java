@@ -0,0 +1,38 @@
+package com.fixclient.backend.stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/stream")
+public class UpdateStreamController {
+
+    private final UpdateStreamHub hub;
+
+    public UpdateStreamController(UpdateStreamHub hub) {
+        this.hub = hub;
+    }
+
+    @GetMapping(path = "/quotes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter quotes() {
+        return hub.subscribe(UpdateStreamHub.QUOTES);
+    }
+
+    @GetMapping(path = "/orders", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter orders() {
+        return hub.subscribe(UpdateStreamHub.ORDERS);
+    }
+
+    @GetMapping(path = "/exec-reports", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter executionReports() {
+        return hub.subscribe(UpdateStreamHub.EXECUTIONS);
+    }
+
+    @GetMapping("/stats")
+    public UpdateStreamStats stats() {
+        return hub.stats();
+    }
+}
@@ -0,0 +1,348 @@
+package com.fixclient.backend.stream;
+
+import com.fixclient.backend.execution.ExecutionReportStateStore;
+import com.fixclient.backend.market.MarketDataStore;
+import com.fixclient.backend.market.MarketQuote;
+import com.fixclient.backend.orders.OrderRecord;
+import com.fixclient.backend.orders.OrderService;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes quote, order and execution state changes to Server-Sent Event clients.
+ *
+ * <p>Stores only report the key of what changed. Each client keeps a set of dirty keys, so repeated changes to one
+ * symbol or order between flushes collapse into a single entry whose latest value is read when the client is
+ * flushed, at most once per {@code fix.stream.flush-interval-ms}. Each flush is one SSE event carrying a JSON array
+ * of changed values. A client whose dirty set exceeds {@code fix.stream.max-pending} keys, or whose oldest unsent
+ * change is older than {@code fix.stream.max-lag-ms}, is disconnected rather than buffered without bound.
+ *
+ * <p>The flush threads only collect values. The socket write runs on a separate writer thread, so a client whose
+ * connection stalls holds up only its own stream. A write that has not finished after {@code fix.stream.max-lag-ms}
+ * disconnects that client.
+ */
+@Component
+public class UpdateStreamHub {
+
+    static final String QUOTES = "quotes";
+    static final String ORDERS = "orders";
+    static final String EXECUTIONS = "exec-reports";
+
+    static final long DEFAULT_FLUSH_INTERVAL_MS = 50;
+    static final int DEFAULT_MAX_PENDING = 10_000;
+    static final long DEFAULT_MAX_LAG_MS = 5_000;
+
+    private final Map<String, Topic<?>> topics = new LinkedHashMap<>();
+    private final ScheduledExecutorService flusher;
+    private final ExecutorService writers;
+    private final long flushIntervalMillis;
+    private final int maxPending;
+    private final long maxLagMillis;
+    private final long maxLagNanos;
+    private final long timeoutMillis;
+    private final LongAdder droppedClients = new LongAdder();
+
+    public UpdateStreamHub(
+            MarketDataStore marketDataStore,
+            OrderService orderService,
+            ExecutionReportStateStore executionStateStore) {
+        this(marketDataStore, orderService, executionStateStore,
+                DEFAULT_FLUSH_INTERVAL_MS, DEFAULT_MAX_PENDING, DEFAULT_MAX_LAG_MS, 1, 0);
+    }
+
+    @Autowired
+    public UpdateStreamHub(
+            MarketDataStore marketDataStore,
+            OrderService orderService,
+            ExecutionReportStateStore executionStateStore,
+            @Value("${fix.stream.flush-interval-ms:" + DEFAULT_FLUSH_INTERVAL_MS + "}") long flushIntervalMillis,
+            @Value("${fix.stream.max-pending:" + DEFAULT_MAX_PENDING + "}") int maxPending,
+            @Value("${fix.stream.max-lag-ms:" + DEFAULT_MAX_LAG_MS + "}") long maxLagMillis,
+            @Value("${fix.stream.flush-threads:2}") int flushThreads,
+            @Value("${fix.stream.timeout-ms:0}") long timeoutMillis) {
+        if (flushIntervalMillis < 0 || maxPending <= 0 || maxLagMillis <= 0 || flushThreads <= 0) {
+            throw new IllegalArgumentException("Invalid update stream settings");
+        }
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxPending = maxPending;
+        this.maxLagMillis = maxLagMillis;
+        this.maxLagNanos = TimeUnit.MILLISECONDS.toNanos(maxLagMillis);
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(flushThreads, runnable -> {
+            Thread thread = new Thread(runnable, "update-stream-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        this.flusher = executor;
+        // One thread per client with a write in progress, so a blocked socket write never stalls other clients.
+        AtomicInteger writerIndex = new AtomicInteger();
+        this.writers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "update-stream-writer-" + writerIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Topic<String> quotes = addTopic(
+                QUOTES,
+                symbol -> marketDataStore.find(symbol).orElse(null),
+                () -> marketDataStore.all().stream().map(MarketQuote::symbol).toList());
+        marketDataStore.addChangeListener(quotes::changed);
+
+        Topic<UUID> orders = addTopic(
+                ORDERS,
+                orderId -> orderService.findOrder(orderId).orElse(null),
+                () -> orderService.listOrders().stream().map(OrderRecord::orderId).toList());
+        orderService.addChangeListener(orders::changed);
+
+        Topic<String> executions = addTopic(EXECUTIONS, executionStateStore::latestFor, List::of);
+        executionStateStore.addChangeListener(executions::changed);
+    }
+
+    /**
+     * Opens a stream for {@code topicName}. The first event carries every current value of the topic (none for
+     * execution reports); later events carry only what changed.
+     */
+    public SseEmitter subscribe(String topicName) {
+        Topic<?> topic = topics.get(topicName);
+        if (topic == null) {
+            throw new IllegalArgumentException("Unknown stream: " + topicName);
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        subscribe(topic, emitter);
+        return emitter;
+    }
+
+    public UpdateStreamStats stats() {
+        Map<String, Integer> clients = new LinkedHashMap<>();
+        topics.forEach((name, topic) -> clients.put(name, topic.clients.size()));
+        return new UpdateStreamStats(clients, droppedClients.sum());
+    }
+
+    @PreDestroy
+    public void close() {
+        flusher.shutdownNow();
+        writers.shutdownNow();
+        for (Topic<?> topic : topics.values()) {
+            for (Client client : topic.clients) {
+                client.emitter.complete();
+            }
+            topic.clients.clear();
+        }
+    }
+
+    void subscribe(String topicName, SseEmitter emitter) {
+        subscribe(topics.get(topicName), emitter);
+    }
+
+    private <K> void subscribe(Topic<K> topic, SseEmitter emitter) {
+        Client client = new Client(topic, emitter);
+        emitter.onCompletion(() -> topic.clients.remove(client));
+        emitter.onTimeout(() -> topic.clients.remove(client));
+        emitter.onError(error -> topic.clients.remove(client));
+        topic.clients.add(client);
+
+        Collection<K> initialKeys = topic.initialKeys.get();
+        synchronized (client) {
+            client.dirty.addAll(initialKeys);
+            client.pendingSinceNanos = System.nanoTime();
+            client.flushScheduled = true;
+        }
+        scheduleFlush(client, 0);
+    }
+
+    private <K> Topic<K> addTopic(String name, Function<K, Object> lookup, Supplier<Collection<K>> initialKeys) {
+        Topic<K> topic = new Topic<>(name, lookup, initialKeys);
+        topics.put(name, topic);
+        return topic;
+    }
+
+    private void mark(Client client, Object key) {
+        long now = System.nanoTime();
+        boolean schedule = false;
+        boolean slow = false;
+        synchronized (client) {
+            if (client.closed) {
+                return;
+            }
+            if (client.dirty.isEmpty()) {
+                client.pendingSinceNanos = now;
+            }
+            client.dirty.add(key);
+            if (client.dirty.size() > maxPending || now - client.pendingSinceNanos > maxLagNanos) {
+                client.closed = true;
+                client.dirty.clear();
+                slow = true;
+            } else if (!client.flushScheduled) {
+                client.flushScheduled = true;
+                schedule = true;
+            }
+        }
+        if (slow) {
+            drop(client);
+        } else if (schedule) {
+            scheduleFlush(client, flushIntervalMillis);
+        }
+    }
+
+    /**
+     * Collects the client's dirty values and hands them to a writer thread. Only one flush or write per client runs
+     * at a time, so events stay in order.
+     */
+    private void flush(Client client) {
+        List<Object> keys;
+        synchronized (client) {
+            if (client.closed) {
+                return;
+            }
+            keys = new ArrayList<>(client.dirty);
+            client.dirty.clear();
+        }
+
+        List<Object> values = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            Object value = client.topic.lookup(key);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        if (values.isEmpty()) {
+            flushed(client);
+            return;
+        }
+        try {
+            ScheduledFuture<?> watchdog =
+                    flusher.schedule(() -> writeTimedOut(client), maxLagMillis, TimeUnit.MILLISECONDS);
+            writers.execute(() -> write(client, values, watchdog));
+        } catch (RejectedExecutionException ignored) {
+            // Shutting down; close() completes every emitter.
+        }
+    }
+
+    private void write(Client client, List<Object> values, ScheduledFuture<?> watchdog) {
+        try {
+            client.emitter.send(SseEmitter.event().name(client.topic.name).data(values, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException ex) {
+            synchronized (client) {
+                client.closed = true;
+            }
+            client.topic.clients.remove(client);
+            return;
+        } finally {
+            watchdog.cancel(false);
+        }
+        flushed(client);
+    }
+
+    private void writeTimedOut(Client client) {
+        synchronized (client) {
+            if (client.closed) {
+                return;
+            }
+            client.closed = true;
+            client.dirty.clear();
+        }
+        drop(client);
+    }
+
+    private void flushed(Client client) {
+        boolean reschedule;
+        synchronized (client) {
+            reschedule = !client.closed && !client.dirty.isEmpty();
+            client.flushScheduled = reschedule;
+        }
+        if (reschedule) {
+            scheduleFlush(client, flushIntervalMillis);
+        }
+    }
+
+    private void scheduleFlush(Client client, long delayMillis) {
+        try {
+            flusher.schedule(() -> flush(client), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ignored) {
+            // Shutting down; close() completes every emitter.
+        }
+    }
+
+    private void drop(Client client) {
+        droppedClients.increment();
+        client.topic.clients.remove(client);
+        // Completing waits for a write still blocked on the client's socket, so it must not run on the caller.
+        try {
+            writers.execute(() -> client.emitter.completeWithError(
+                    new IllegalStateException("Stream client too slow; disconnected")));
+        } catch (RejectedExecutionException ignored) {
+            // Shutting down; close() completes every emitter.
+        }
+    }
+
+    private final class Topic<K> {
+
+        private final String name;
+        private final Function<K, Object> lookup;
+        private final Supplier<Collection<K>> initialKeys;
+        private final List<Client> clients = new CopyOnWriteArrayList<>();
+
+        private Topic(String name, Function<K, Object> lookup, Supplier<Collection<K>> initialKeys) {
+            this.name = name;
+            this.lookup = lookup;
+            this.initialKeys = initialKeys;
+        }
+
+        private void changed(K key) {
+            if (clients.isEmpty()) {
+                return;
+            }
+            for (Client client : clients) {
+                mark(client, key);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object lookup(Object key) {
+            return lookup.apply((K) key);
+        }
+    }
+
+    private static final class Client {
+
+        private final Topic<?> topic;
+        private final SseEmitter emitter;
+        private final Set<Object> dirty = new LinkedHashSet<>();
+        private long pendingSinceNanos;
+        private boolean flushScheduled;
+        private boolean closed;
+
+        private Client(Topic<?> topic, SseEmitter emitter) {
+            this.topic = topic;
+            this.emitter = emitter;
+        }
+    }
+}
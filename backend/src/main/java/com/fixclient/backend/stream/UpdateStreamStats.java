@@ -0,0 +1,6 @@
+package com.fixclient.backend.stream;
+
+import java.util.Map;
+
+/** Connected stream clients per topic and the number disconnected for falling behind. */
+public record UpdateStreamStats(Map<String, Integer> clients, long droppedClients) {}
@@ -0,0 +1,29 @@
+package com.fixclient.backend.support;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Copy-on-write set of listeners notified with the key of whatever changed.
+ *
+ * <p>Listeners are few and registered at startup, so {@link #fire} reads a plain array without locking or
+ * allocating. Listeners run on the writer's thread and must only record the key, not do I/O.
+ */
+public final class ChangeListeners<K> {
+
+    private volatile Object[] listeners = new Object[0];
+
+    public synchronized void add(Consumer<? super K> listener) {
+        Object[] grown = Arrays.copyOf(listeners, listeners.length + 1);
+        grown[listeners.length] = listener;
+        listeners = grown;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void fire(K key) {
+        Object[] current = listeners;
+        for (Object listener : current) {
+            ((Consumer<? super K>) listener).accept(key);
+        }
+    }
+}
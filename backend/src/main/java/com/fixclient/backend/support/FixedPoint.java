@@ -0,0 +1,137 @@
+package com.fixclient.backend.support;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Formatting helpers for decimals carried as an unscaled {@code long} plus a scale, so prices and
+ * quantities never round-trip through {@code double}.
+ */
+public final class FixedPoint {
+
+    /** Longest plain rendering: a sign, 19 digits (including any leading zero) and a decimal point. */
+    public static final int MAX_FORMATTED_LENGTH = 21;
+
+    /** Marks an absent value in fields that hold unscaled decimals. */
+    public static final long NULL = Long.MIN_VALUE;
+
+    private static final int MAX_SCALE = 18;
+
+    private FixedPoint() {
+    }
+
+    /**
+     * Writes {@code unscaled * 10^-scale} in plain notation with trailing fractional zeros dropped, e.g.
+     * {@code (12345, 2)} as {@code 123.45} and {@code (1000, 1)} as {@code 100}.
+     *
+     * @return the position just past the last character written
+     * @throws ArithmeticException when the value cannot be rendered from a {@code long} at this scale
+     */
+    public static int format(long unscaled, int scale, char[] buffer, int offset) {
+        while (scale > 0 && unscaled % 10 == 0) {
+            unscaled /= 10;
+            scale--;
+        }
+        while (scale < 0) {
+            unscaled = Math.multiplyExact(unscaled, 10L);
+            scale++;
+        }
+        if (scale > MAX_SCALE || unscaled == Long.MIN_VALUE) {
+            throw new ArithmeticException("value is outside the fixed-point range");
+        }
+
+        boolean negative = unscaled < 0;
+        long remaining = Math.abs(unscaled);
+        int digits = digitCount(remaining);
+        int integerDigits = Math.max(digits - scale, 1);
+        int length = (negative ? 1 : 0) + integerDigits + (scale > 0 ? scale + 1 : 0);
+
+        int position = offset + length;
+        for (int i = 0; i < scale; i++) {
+            buffer[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        if (scale > 0) {
+            buffer[--position] = '.';
+        }
+        do {
+            buffer[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (negative) {
+            buffer[--position] = '-';
+        }
+        return offset + length;
+    }
+
+    /**
+     * Parses a plain decimal such as {@code -101.55} into its unscaled value at {@code scale}, truncating extra
+     * fractional digits. No intermediate {@code double} or {@code BigDecimal} is created.
+     *
+     * @throws NumberFormatException when the text is not a plain decimal
+     * @throws ArithmeticException when the value does not fit a {@code long} at this scale
+     */
+    public static long parse(CharSequence text, int scale) {
+        int length = text.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            index++;
+        }
+
+        long unscaled = 0;
+        boolean sawDigit = false;
+        int fractionDigits = -1;
+        for (; index < length; index++) {
+            char c = text.charAt(index);
+            if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Not a plain decimal: " + text);
+            }
+            sawDigit = true;
+            if (fractionDigits == scale) {
+                continue;
+            }
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+            unscaled = Math.addExact(Math.multiplyExact(unscaled, 10L), c - '0');
+        }
+        if (!sawDigit) {
+            throw new NumberFormatException("Not a plain decimal: " + text);
+        }
+        for (int i = Math.max(fractionDigits, 0); i < scale; i++) {
+            unscaled = Math.multiplyExact(unscaled, 10L);
+        }
+        return negative ? -unscaled : unscaled;
+    }
+
+    /** Unscaled value of {@code value} at {@code scale} (rounded half-up), or {@link #NULL} for {@code null}. */
+    public static long fromBigDecimal(BigDecimal value, int scale) {
+        if (value == null) {
+            return NULL;
+        }
+        return value.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /** The decimal for an unscaled value without trailing zeros, or {@code null} for {@link #NULL}. */
+    public static BigDecimal toBigDecimal(long unscaled, int scale) {
+        if (unscaled == NULL) {
+            return null;
+        }
+        return BigDecimal.valueOf(unscaled, scale).stripTrailingZeros();
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+}
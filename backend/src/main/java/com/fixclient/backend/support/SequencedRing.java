@@ -0,0 +1,106 @@
+package com.fixclient.backend.support;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Fixed-capacity, multi-writer ring addressed by a monotonically increasing sequence.
+ *
+ * <p>Writers claim sequences with a single atomic increment and publish into their slot with a CAS, so
+ * no monitor is taken on either the write or the read path. Readers address entries by sequence and get
+ * {@code null} for sequences that have not been published yet or have already been overwritten.
+ */
+public final class SequencedRing<T> {
+
+    private final AtomicReferenceArray<Slot<T>> slots;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final int mask;
+    private final Consumer<T> evictionListener;
+
+    public SequencedRing(int requestedCapacity) {
+        this(requestedCapacity, null);
+    }
+
+    public SequencedRing(int requestedCapacity, Consumer<T> evictionListener) {
+        if (requestedCapacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        int capacity = Integer.highestOneBit(requestedCapacity);
+        if (capacity < requestedCapacity) {
+            capacity <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.evictionListener = evictionListener;
+    }
+
+    public long publish(T value) {
+        long sequence = nextSequence.getAndIncrement();
+        store(sequence, value);
+        return sequence;
+    }
+
+    public long publishAll(List<? extends T> values) {
+        long first = nextSequence.getAndAdd(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            store(first + i, values.get(i));
+        }
+        return first;
+    }
+
+    public T get(long sequence) {
+        if (sequence < 0) {
+            return null;
+        }
+        Slot<T> slot = slots.get(index(sequence));
+        return slot != null && slot.sequence == sequence ? slot.value : null;
+    }
+
+    /** Sequence that the next published value will receive; every retained entry is below it. */
+    public long headSequence() {
+        return nextSequence.get();
+    }
+
+    /** Lowest sequence that may still be retained, given the current head. */
+    public long oldestRetainedSequence() {
+        return Math.max(0, nextSequence.get() - slots.length());
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    private void store(long sequence, T value) {
+        int index = index(sequence);
+        Slot<T> next = new Slot<>(sequence, value);
+        while (true) {
+            Slot<T> current = slots.get(index);
+            if (current != null && current.sequence > sequence) {
+                // A writer that lapped us already owns the slot; this value is evicted on arrival.
+                evict(value);
+                return;
+            }
+            if (slots.compareAndSet(index, current, next)) {
+                if (current != null) {
+                    evict(current.value);
+                }
+                return;
+            }
+        }
+    }
+
+    private void evict(T value) {
+        if (evictionListener != null) {
+            evictionListener.accept(value);
+        }
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+
+    private record Slot<T>(long sequence, T value) {
+    }
+}
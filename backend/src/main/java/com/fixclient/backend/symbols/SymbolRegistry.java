@@ -0,0 +1,150 @@
+package com.fixclient.backend.symbols;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * Interns symbols to stable int ids, shared by market data and orders.
+ *
+ * <p>Ids are dense, start at 0 and are never reused, so per-symbol state can live in arrays indexed by id. Each
+ * symbol's canonical string is kept once and handed back by {@link #canonicalize} and {@link #intern}, so records
+ * holding the same symbol share one instance (and its cached hash code).
+ *
+ * <p>User input goes through {@link #canonicalize}: it is trimmed, upper-cased and checked against a char table of
+ * {@code [A-Z0-9._-]}, up to {@value #MAX_LENGTH} characters. Symbols from the venue are registered as they are.
+ */
+@Component
+public class SymbolRegistry {
+
+    public static final int MAX_LENGTH = 24;
+
+    /** Canonical form of each ASCII char, or 0 for chars that may not appear in a symbol. */
+    private static final char[] CANONICAL = new char[128];
+
+    static {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CANONICAL[c] = c;
+            CANONICAL[Character.toLowerCase(c)] = c;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CANONICAL[c] = c;
+        }
+        CANONICAL['.'] = '.';
+        CANONICAL['_'] = '_';
+        CANONICAL['-'] = '-';
+    }
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final ReentrantLock registerLock = new ReentrantLock();
+    private volatile String[] symbols = new String[0];
+    private volatile boolean[] canonical = new boolean[0];
+
+    /**
+     * Trimmed, upper-cased form of a user-supplied symbol; the registered instance when the symbol is known. Does not
+     * register it.
+     *
+     * @throws IllegalArgumentException if the symbol is blank or has an invalid format
+     */
+    public String canonicalize(String raw) {
+        if (raw == null) {
+            throw new IllegalArgumentException("symbol is required");
+        }
+        Integer known = ids.get(raw);
+        if (known != null && canonical[known]) {
+            return symbols[known];
+        }
+
+        int start = 0;
+        int end = raw.length();
+        while (start < end && raw.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && raw.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            throw new IllegalArgumentException("symbol is required");
+        }
+        if (end - start > MAX_LENGTH) {
+            throw new IllegalArgumentException("symbol has invalid format");
+        }
+
+        char[] chars = new char[end - start];
+        boolean changed = start > 0 || end < raw.length();
+        for (int i = start; i < end; i++) {
+            char c = raw.charAt(i);
+            char mapped = c < CANONICAL.length ? CANONICAL[c] : 0;
+            if (mapped == 0) {
+                throw new IllegalArgumentException("symbol has invalid format");
+            }
+            changed |= mapped != c;
+            chars[i - start] = mapped;
+        }
+        String symbol = changed ? new String(chars) : raw;
+        Integer id = ids.get(symbol);
+        return id == null ? symbol : symbols[id];
+    }
+
+    /** Id for {@code symbol}, registering it as given on first use. */
+    public int register(String symbol) {
+        Integer id = ids.get(symbol);
+        return id != null ? id : registerNew(symbol);
+    }
+
+    /** The registered instance equal to {@code symbol}, registering it first if needed. */
+    public String intern(String symbol) {
+        int id = register(symbol);
+        return symbols[id];
+    }
+
+    /** Id for {@code symbol}, or -1 if it was never registered. */
+    public int existingId(String symbol) {
+        Integer id = ids.get(symbol);
+        return id == null ? -1 : id;
+    }
+
+    public String symbol(int id) {
+        return symbols[id];
+    }
+
+    /** Number of registered symbols; ids run from 0 to {@code size() - 1}. */
+    public int size() {
+        return symbols.length;
+    }
+
+    private int registerNew(String symbol) {
+        registerLock.lock();
+        try {
+            Integer existing = ids.get(symbol);
+            if (existing != null) {
+                return existing;
+            }
+            int id = symbols.length;
+            boolean[] grownCanonical = Arrays.copyOf(canonical, id + 1);
+            grownCanonical[id] = isCanonical(symbol);
+            canonical = grownCanonical;
+            String[] grown = Arrays.copyOf(symbols, id + 1);
+            grown[id] = symbol;
+            symbols = grown;
+            ids.put(symbol, id);
+            return id;
+        } finally {
+            registerLock.unlock();
+        }
+    }
+
+    private static boolean isCanonical(String symbol) {
+        if (symbol.isEmpty() || symbol.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < symbol.length(); i++) {
+            char c = symbol.charAt(i);
+            if (c >= CANONICAL.length || CANONICAL[c] != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
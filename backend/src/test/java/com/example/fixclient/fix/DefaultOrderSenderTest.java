@@ -1,22 +1,31 @@
 package com.example.fixclient.fix;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.fixclient.backend.ids.ClOrdIdChain;
 import com.fixclient.backend.orders.OrderSide;
 import com.fixclient.backend.orders.OrderType;
 import com.fixclient.backend.orders.TimeInForce;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
+import quickfix.Message;
+import quickfix.SessionID;
+import quickfix.field.MsgType;
 
 class DefaultOrderSenderTest {
 
     @Test
     void rejectsWhenFixNotRunning() {
         FixInitiatorService initiatorService = new FixInitiatorService(settings -> new NoOpInitiator());
-        DefaultOrderSender sender = new DefaultOrderSender(initiatorService, new QuickFixOrderMessageFactory());
+        DefaultOrderSender sender = new DefaultOrderSender(initiatorService, new QuickFixOrderMessageFactory(), new FixSessionRouter());
 
         OrderSendResult result = sender.send(sampleOrder(OrderType.MARKET));
 
@@ -29,16 +38,156 @@ class DefaultOrderSenderTest {
         FixInitiatorService initiatorService = new FixInitiatorService(settings -> new NoOpInitiator());
         initiatorService.start();
 
-        DefaultOrderSender sender = new DefaultOrderSender(initiatorService, new QuickFixOrderMessageFactory());
+        DefaultOrderSender sender = new DefaultOrderSender(initiatorService, new QuickFixOrderMessageFactory(), new FixSessionRouter());
         OrderSendResult result = sender.send(sampleOrder(OrderType.LIMIT));
 
         assertTrue(result.accepted());
         assertTrue(result.message().contains("accepted"));
     }
 
+    @Test
+    void sendsToLoggedOnSessionChosenByRouter() throws Exception {
+        FixInitiatorService initiatorService = new FixInitiatorService(settings -> new NoOpInitiator());
+        initiatorService.start();
+        FixSessionRouter router = new FixSessionRouter();
+        RecordingSession session = new RecordingSession("FIX.4.4:SENDER->TARGET");
+        router.register(session);
+
+        DefaultOrderSender sender = new DefaultOrderSender(initiatorService, new QuickFixOrderMessageFactory(), router);
+        OrderSendResult result = sender.send(sampleOrder(OrderType.LIMIT));
+
+        assertTrue(result.accepted());
+        assertEquals("Order accepted and sent to FIX session FIX.4.4:SENDER->TARGET", result.message());
+        assertEquals(1, session.sent.size());
+        assertEquals(MsgType.ORDER_SINGLE, session.sent.get(0).getHeader().getString(MsgType.FIELD));
+    }
+
+    @Test
+    void sendsOneNewOrderListPerRoutedSession() throws Exception {
+        FixInitiatorService initiatorService = new FixInitiatorService(settings -> new NoOpInitiator());
+        initiatorService.start();
+        FixSessionRouter router = new FixSessionRouter();
+        RecordingSession first = new RecordingSession("FIX.4.4:A->TARGET");
+        RecordingSession second = new RecordingSession("FIX.4.4:B->TARGET");
+        router.register(first);
+        router.register(second);
+        DefaultOrderSender sender = new DefaultOrderSender(
+                initiatorService, new QuickFixOrderMessageFactory(), router, true, Optional.empty(), Optional.empty());
+
+        List<OrderSendResult> results = sender.sendBatch(List.of(
+                sampleOrder("cl-1", OrderType.LIMIT), sampleOrder("cl-2", OrderType.LIMIT), sampleOrder("cl-3", OrderType.LIMIT)));
+
+        assertEquals(1, first.sent.size());
+        assertEquals(1, second.sent.size());
+        assertEquals(MsgType.ORDER_LIST, first.sent.get(0).getHeader().getString(MsgType.FIELD));
+        assertEquals(MsgType.ORDER_LIST, second.sent.get(0).getHeader().getString(MsgType.FIELD));
+        assertEquals(results.get(0).sessionId(), results.get(2).sessionId());
+        assertNotEquals(results.get(0).sessionId(), results.get(1).sessionId());
+        assertTrue(results.get(1).message().startsWith("Order accepted and sent in list L-cl-2"));
+    }
+
+    @Test
+    void reportsNewOrderListsTheSessionDidNotSendAsNotConfirmed() {
+        FixInitiatorService initiatorService = new FixInitiatorService(settings -> new NoOpInitiator());
+        initiatorService.start();
+        FixSessionRouter router = new FixSessionRouter();
+        RecordingSession session = new RecordingSession("FIX.4.4:SENDER->TARGET");
+        session.accepting = false;
+        router.register(session);
+        DefaultOrderSender sender = new DefaultOrderSender(
+                initiatorService, new QuickFixOrderMessageFactory(), router, true, Optional.empty(), Optional.empty());
+
+        List<OrderSendResult> results = sender.sendBatch(List.of(
+                sampleOrder("cl-1", OrderType.LIMIT), sampleOrder("cl-2", OrderType.LIMIT)));
+
+        assertEquals(
+                "Order accepted; FIX list send attempted but not confirmed: session FIX.4.4:SENDER->TARGET"
+                        + " did not send list L-cl-1",
+                results.get(0).message());
+        assertEquals(results.get(0), results.get(1));
+    }
+
+    @Test
+    void sendsCancelsToTheOrdersSessionAcrossALogoutAndLogon() throws Exception {
+        FixInitiatorService initiatorService = new FixInitiatorService(settings -> new NoOpInitiator());
+        initiatorService.start();
+        FixSessionRouter router = new FixSessionRouter();
+        RecordingSession first = new RecordingSession("FIX.4.4:A->TARGET");
+        RecordingSession second = new RecordingSession("FIX.4.4:B->TARGET");
+        router.register(first);
+        DefaultOrderSender sender = new DefaultOrderSender(initiatorService, new QuickFixOrderMessageFactory(), router);
+        String sessionId = sender.send(sampleOrder(OrderType.LIMIT)).sessionId();
+
+        router.register(second);
+        router.onLogout(first.sessionId());
+        OrderSendResult whileLoggedOut = sender.cancel(sampleCancel("cl-1.1", sessionId));
+
+        assertFalse(whileLoggedOut.accepted());
+        assertTrue(second.sent.isEmpty());
+
+        router.register(first);
+        OrderSendResult cancel = sender.cancel(sampleCancel("cl-1.2", sessionId));
+
+        assertTrue(cancel.accepted());
+        assertEquals("FIX.4.4:A->TARGET", cancel.sessionId());
+        assertEquals(MsgType.ORDER_CANCEL_REQUEST, first.sent.get(1).getHeader().getString(MsgType.FIELD));
+    }
+
+    @Test
+    void sendsCancelsForOrdersWithoutAKnownSessionToALoggedOnSession() throws Exception {
+        FixInitiatorService initiatorService = new FixInitiatorService(settings -> new NoOpInitiator());
+        initiatorService.start();
+        FixSessionRouter router = new FixSessionRouter();
+        DefaultOrderSender sender = new DefaultOrderSender(initiatorService, new QuickFixOrderMessageFactory(), router);
+
+        assertFalse(sender.cancel(sampleCancel("cl-1.1", null)).accepted());
+
+        RecordingSession session = new RecordingSession("FIX.4.4:SENDER->TARGET");
+        router.register(session);
+        OrderSendResult cancel = sender.cancel(sampleCancel("cl-1.2", null));
+
+        assertTrue(cancel.accepted());
+        assertEquals("FIX.4.4:SENDER->TARGET", cancel.sessionId());
+        assertEquals(MsgType.ORDER_CANCEL_REQUEST, session.sent.get(0).getHeader().getString(MsgType.FIELD));
+    }
+
+    @Test
+    void reportsCancelsTheSessionDidNotSendAsNotAccepted() {
+        FixInitiatorService initiatorService = new FixInitiatorService(settings -> new NoOpInitiator());
+        initiatorService.start();
+        FixSessionRouter router = new FixSessionRouter();
+        RecordingSession session = new RecordingSession("FIX.4.4:SENDER->TARGET");
+        router.register(session);
+        DefaultOrderSender sender = new DefaultOrderSender(initiatorService, new QuickFixOrderMessageFactory(), router);
+        String sessionId = sender.send(sampleOrder(OrderType.LIMIT)).sessionId();
+        session.accepting = false;
+
+        OrderSendResult cancel = sender.cancel(sampleCancel("cl-1.1", sessionId));
+
+        assertFalse(cancel.accepted());
+        assertTrue(cancel.message().contains("did not send"));
+    }
+
+    private static OrderCancelSubmission sampleCancel(String clOrdId, String sessionId) {
+        return new OrderCancelSubmission(
+                UUID.randomUUID(),
+                clOrdId,
+                ClOrdIdChain.rootOf(clOrdId),
+                Instant.parse("2026-02-23T00:00:01Z"),
+                "AAPL",
+                OrderSide.BUY,
+                100,
+                sessionId);
+    }
+
     private static OrderSubmission sampleOrder(OrderType orderType) {
+        return sampleOrder("cl-1", orderType);
+    }
+
+    private static OrderSubmission sampleOrder(String clOrdId, OrderType orderType) {
         return new OrderSubmission(
                 UUID.randomUUID(),
+                clOrdId,
                 Instant.parse("2026-02-23T00:00:00Z"),
                 "AAPL",
                 OrderSide.BUY,
@@ -48,6 +197,30 @@ class DefaultOrderSenderTest {
                 TimeInForce.DAY);
     }
 
+    static class RecordingSession implements FixSessionHandle {
+        private final SessionID sessionId;
+        final List<Message> sent = new ArrayList<>();
+        boolean accepting = true;
+
+        RecordingSession(String sessionId) {
+            this.sessionId = new SessionID(sessionId);
+        }
+
+        @Override
+        public SessionID sessionId() {
+            return sessionId;
+        }
+
+        @Override
+        public boolean send(Message message) {
+            if (!accepting) {
+                return false;
+            }
+            sent.add(message);
+            return true;
+        }
+    }
+
     private static class NoOpInitiator implements QuickFixInitiator {
         @Override
         public void start() {
@@ -0,0 +1,119 @@
+package com.example.fixclient.fix;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.fixclient.fix.DefaultOrderSenderTest.RecordingSession;
+import com.fixclient.backend.orders.OrderSide;
+import com.fixclient.backend.orders.OrderType;
+import com.fixclient.backend.orders.TimeInForce;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import quickfix.Message;
+import quickfix.SessionID;
+import quickfix.field.OrdStatus;
+
+class FixSessionRouterTest {
+
+    @Test
+    void routesNothingUntilASessionLogsOn() {
+        FixSessionRouter router = new FixSessionRouter();
+
+        assertNull(router.route(order("AAPL")));
+    }
+
+    @Test
+    void roundRobinSpreadsOrdersAcrossSessions() {
+        FixSessionRouter router = new FixSessionRouter("round-robin");
+        RecordingSession first = new RecordingSession("FIX.4.4:A->VENUE");
+        RecordingSession second = new RecordingSession("FIX.4.4:B->VENUE");
+        router.register(first);
+        router.register(second);
+
+        assertSame(first, router.route(order("AAPL")).handle());
+        assertSame(second, router.route(order("AAPL")).handle());
+        assertSame(first, router.route(order("AAPL")).handle());
+    }
+
+    @Test
+    void symbolRoutingIsStickyAndLogoutRemovesSession() {
+        FixSessionRouter router = new FixSessionRouter("symbol");
+        RecordingSession first = new RecordingSession("FIX.4.4:A->VENUE");
+        RecordingSession second = new RecordingSession("FIX.4.4:B->VENUE");
+        router.register(first);
+        router.register(second);
+
+        FixSessionHandle chosen = router.route(order("MSFT")).handle();
+        assertSame(chosen, router.route(order("MSFT")).handle());
+
+        router.onLogout(new SessionID("FIX.4.4:A->VENUE"));
+
+        assertEquals(1, router.activeSessions().size());
+        assertSame(second, router.route(order("MSFT")).handle());
+    }
+
+    @Test
+    void leastOutstandingPrefersSessionWithFewestWorkingOrdersAndTracksStats() throws Exception {
+        FixSessionRouter router = new FixSessionRouter("least-outstanding");
+        RecordingSession busy = new RecordingSession("FIX.4.4:A->VENUE");
+        RecordingSession idle = new RecordingSession("FIX.4.4:B->VENUE");
+        router.register(busy);
+        router.register(idle);
+        RoutedSession busyRoute = router.activeSessions().get(0);
+        busyRoute.send(new Message(), "cl-1");
+        busyRoute.send(new Message(), "cl-2");
+
+        assertSame(idle, router.route(order("AAPL")).handle());
+
+        router.onExecutionReport(busy.sessionId(), "cl-1", OrdStatus.NEW);
+        router.onExecutionReport(busy.sessionId(), "cl-2", OrdStatus.FILLED);
+
+        SessionStatsSnapshot stats = router.sessionStats().get(0);
+        assertEquals("FIX.4.4:A->VENUE", stats.sessionId());
+        assertTrue(stats.loggedOn());
+        assertEquals(2, stats.ordersSent());
+        assertEquals(1, stats.outstandingOrders());
+        assertNotNull(stats.avgAckLatencyMillis());
+
+        router.onLogout(busy.sessionId());
+        assertFalse(router.sessionStats().get(0).loggedOn());
+    }
+
+    @Test
+    void doneForDayAndLogoutStopOrdersCountingAsOutstanding() {
+        FixSessionRouter router = new FixSessionRouter("least-outstanding");
+        RecordingSession session = new RecordingSession("FIX.4.4:A->VENUE");
+        router.register(session);
+        RoutedSession routed = router.activeSessions().get(0);
+        routed.send(new Message(), "cl-1");
+        routed.send(new Message(), "cl-2");
+        routed.send(new Message(), "cl-3");
+
+        router.onExecutionReport(session.sessionId(), "cl-1", OrdStatus.DONE_FOR_DAY);
+        assertEquals(2, routed.stats().outstandingOrders());
+
+        router.onLogout(session.sessionId());
+        router.register(session);
+
+        assertEquals(0, router.activeSessions().get(0).stats().outstandingOrders());
+        assertEquals(3, router.sessionStats().get(0).ordersSent());
+    }
+
+    private static OrderSubmission order(String symbol) {
+        return new OrderSubmission(
+                UUID.randomUUID(),
+                "cl-" + symbol,
+                Instant.parse("2026-02-23T00:00:00Z"),
+                symbol,
+                OrderSide.BUY,
+                1,
+                OrderType.MARKET,
+                null,
+                TimeInForce.DAY);
+    }
+}
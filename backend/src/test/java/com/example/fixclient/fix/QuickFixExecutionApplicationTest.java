@@ -5,15 +5,30 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import com.fixclient.backend.execution.ExecutionReportIngestionService;
-import com.fixclient.backend.execution.ExecutionReportMapper;
+import com.fixclient.backend.execution.ExecutionReportDecoder;
 import com.fixclient.backend.execution.ExecutionReportStateStore;
+import com.fixclient.backend.orders.CreateOrderRequest;
 import com.fixclient.backend.orders.InMemoryOrderStore;
+import com.fixclient.backend.orders.OrderRecord;
+import com.fixclient.backend.orders.OrderRequestResult;
 import com.fixclient.backend.orders.OrderService;
+import com.fixclient.backend.orders.OrderSide;
+import com.fixclient.backend.orders.OrderStatus;
+import com.fixclient.backend.orders.OrderType;
+import com.fixclient.backend.orders.TimeInForce;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import quickfix.Message;
 import quickfix.SessionID;
+import quickfix.field.BusinessRejectReason;
+import quickfix.field.BusinessRejectRefID;
 import quickfix.field.ClOrdID;
 import quickfix.field.MsgType;
+import quickfix.field.OrigClOrdID;
+import quickfix.field.RefMsgType;
+import quickfix.field.Text;
 
 class QuickFixExecutionApplicationTest {
 
@@ -24,8 +39,8 @@ class QuickFixExecutionApplicationTest {
         ExecutionReportStateStore stateStore = new ExecutionReportStateStore();
         OrderService orderService = new OrderService(ACCEPTING_SENDER, new InMemoryOrderStore());
         ExecutionReportIngestionService service =
-                new ExecutionReportIngestionService(new ExecutionReportMapper(), stateStore, orderService);
-        QuickFixExecutionApplication app = new QuickFixExecutionApplication(service);
+                new ExecutionReportIngestionService(new ExecutionReportDecoder(), stateStore, orderService);
+        QuickFixExecutionApplication app = new QuickFixExecutionApplication(service, new FixSessionRouter());
 
         Message message = new Message();
         message.getHeader().setString(MsgType.FIELD, MsgType.EXECUTION_REPORT);
@@ -42,8 +57,8 @@ class QuickFixExecutionApplicationTest {
         ExecutionReportStateStore stateStore = new ExecutionReportStateStore();
         OrderService orderService = new OrderService(ACCEPTING_SENDER, new InMemoryOrderStore());
         ExecutionReportIngestionService service =
-                new ExecutionReportIngestionService(new ExecutionReportMapper(), stateStore, orderService);
-        QuickFixExecutionApplication app = new QuickFixExecutionApplication(service);
+                new ExecutionReportIngestionService(new ExecutionReportDecoder(), stateStore, orderService);
+        QuickFixExecutionApplication app = new QuickFixExecutionApplication(service, new FixSessionRouter());
 
         Message message = new Message();
         message.getHeader().setString(MsgType.FIELD, MsgType.ORDER_SINGLE);
@@ -54,4 +69,80 @@ class QuickFixExecutionApplicationTest {
         assertEquals(0, stateStore.recentReports().size());
         assertNull(stateStore.latestFor("cl-2"));
     }
+
+    @Test
+    void treatsABusinessRejectOfAMassCancelAsARejection() throws Exception {
+        List<OrderCancelSubmission> cancels = new ArrayList<>();
+        OrderService orderService = new OrderService(new OrderSender() {
+            @Override
+            public OrderSendResult send(OrderSubmission submission) {
+                return new OrderSendResult(true, "accepted");
+            }
+
+            @Override
+            public OrderSendResult cancel(OrderCancelSubmission cancel) {
+                cancels.add(cancel);
+                return new OrderSendResult(true, "sent");
+            }
+
+            @Override
+            public OrderSendResult massCancel(OrderMassCancelSubmission massCancel) {
+                return new OrderSendResult(true, "mass cancel sent");
+            }
+        }, new InMemoryOrderStore(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), true);
+        ExecutionReportIngestionService service = new ExecutionReportIngestionService(
+                new ExecutionReportDecoder(), new ExecutionReportStateStore(), orderService);
+        QuickFixExecutionApplication app = new QuickFixExecutionApplication(service, new FixSessionRouter());
+        try {
+            orderService.createOrder(
+                    new CreateOrderRequest("AAPL", OrderSide.BUY, 10, OrderType.MARKET, null, TimeInForce.DAY));
+            String massCancelClOrdId = orderService.massCancel(null).clOrdId();
+
+            Message reject = new Message();
+            reject.getHeader().setString(MsgType.FIELD, MsgType.BUSINESS_MESSAGE_REJECT);
+            reject.setString(RefMsgType.FIELD, MsgType.ORDER_MASS_CANCEL_REQUEST);
+            reject.setString(BusinessRejectRefID.FIELD, massCancelClOrdId);
+            reject.setInt(BusinessRejectReason.FIELD, BusinessRejectReason.UNSUPPORTED_MESSAGE_TYPE);
+
+            app.fromApp(reject, new SessionID("FIX.4.4:SENDER->TARGET"));
+
+            assertEquals(1, cancels.size());
+        } finally {
+            orderService.close();
+        }
+    }
+
+    @Test
+    void appliesCancelRejectsToThePendingOrder() throws Exception {
+        OrderService orderService = new OrderService(new OrderSender() {
+            @Override
+            public OrderSendResult send(OrderSubmission submission) {
+                return new OrderSendResult(true, "accepted");
+            }
+
+            @Override
+            public OrderSendResult cancel(OrderCancelSubmission cancel) {
+                return new OrderSendResult(true, "sent");
+            }
+        }, new InMemoryOrderStore());
+        ExecutionReportIngestionService service = new ExecutionReportIngestionService(
+                new ExecutionReportDecoder(), new ExecutionReportStateStore(), orderService);
+        QuickFixExecutionApplication app = new QuickFixExecutionApplication(service, new FixSessionRouter());
+        OrderRecord order = orderService.createOrder(
+                new CreateOrderRequest("AAPL", OrderSide.BUY, 10, OrderType.MARKET, null, TimeInForce.DAY));
+        OrderRequestResult cancel = orderService.cancelOrder(order.orderId().toString());
+
+        Message reject = new Message();
+        reject.getHeader().setString(MsgType.FIELD, MsgType.ORDER_CANCEL_REJECT);
+        reject.setString(ClOrdID.FIELD, cancel.clOrdId());
+        reject.setString(OrigClOrdID.FIELD, order.clOrdId());
+        reject.setString(Text.FIELD, "unknown order");
+
+        app.fromApp(reject, new SessionID("FIX.4.4:SENDER->TARGET"));
+
+        OrderRecord restored = orderService.getOrderById(order.orderId().toString());
+        assertEquals(OrderStatus.ACCEPTED, restored.status());
+        assertEquals("Cancel rejected: unknown order", restored.message());
+    }
 }
@@ -8,8 +8,10 @@ import com.fixclient.backend.orders.OrderType;
 import com.fixclient.backend.orders.TimeInForce;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
+import quickfix.Group;
 import quickfix.Message;
 import quickfix.field.MsgType;
 
@@ -21,6 +23,7 @@ class QuickFixOrderMessageFactoryTest {
 
         Message message = factory.build(new OrderSubmission(
                 UUID.fromString("00000000-0000-0000-0000-000000000001"),
+                "CL-1",
                 Instant.parse("2026-02-23T00:00:00Z"),
                 "AAPL",
                 OrderSide.BUY,
@@ -30,7 +33,7 @@ class QuickFixOrderMessageFactoryTest {
                 TimeInForce.GTC));
 
         assertEquals(MsgType.ORDER_SINGLE, message.getHeader().getString(MsgType.FIELD));
-        assertEquals("00000000-0000-0000-0000-000000000001", message.getString(11));
+        assertEquals("CL-1", message.getString(11));
         assertEquals("AAPL", message.getString(55));
         assertEquals('1', message.getChar(54));
         assertEquals('2', message.getChar(40));
@@ -44,6 +47,7 @@ class QuickFixOrderMessageFactoryTest {
 
         Message message = factory.build(new OrderSubmission(
                 UUID.fromString("00000000-0000-0000-0000-000000000002"),
+                "CL-2",
                 Instant.parse("2026-02-23T00:00:00Z"),
                 "MSFT",
                 OrderSide.SELL,
@@ -57,4 +61,87 @@ class QuickFixOrderMessageFactoryTest {
         assertEquals('3', message.getChar(59));
         assertFalse(message.isSetField(44));
     }
+
+    @Test
+    void buildsNewOrderListWithOneGroupPerOrder() throws Exception {
+        QuickFixOrderMessageFactory factory = new QuickFixOrderMessageFactory();
+
+        Message message = factory.buildList("L-1", List.of(
+                new OrderSubmission(
+                        UUID.fromString("00000000-0000-0000-0000-000000000003"),
+                        "CL-3",
+                        Instant.parse("2026-02-23T00:00:00Z"),
+                        "AAPL",
+                        OrderSide.BUY,
+                        100,
+                        OrderType.LIMIT,
+                        new BigDecimal("123.45"),
+                        TimeInForce.DAY),
+                new OrderSubmission(
+                        UUID.fromString("00000000-0000-0000-0000-000000000004"),
+                        "CL-4",
+                        Instant.parse("2026-02-23T00:00:00Z"),
+                        "MSFT",
+                        OrderSide.SELL,
+                        5,
+                        OrderType.MARKET,
+                        null,
+                        TimeInForce.IOC)));
+
+        assertEquals(MsgType.ORDER_LIST, message.getHeader().getString(MsgType.FIELD));
+        assertEquals("L-1", message.getString(66));
+        assertEquals(2, message.getInt(68));
+        assertEquals(2, message.getGroupCount(73));
+
+        Group second = message.getGroup(2, 73);
+        assertEquals("CL-4", second.getString(11));
+        assertEquals(2, second.getInt(67));
+        assertEquals("MSFT", second.getString(55));
+        assertFalse(second.isSetField(44));
+        assertEquals(123.45d, message.getGroup(1, 73).getDouble(44));
+    }
+
+    @Test
+    void buildsCancelAndReplaceRequestsAgainstTheCurrentClOrdId() throws Exception {
+        QuickFixOrderMessageFactory factory = new QuickFixOrderMessageFactory();
+        UUID orderId = UUID.fromString("00000000-0000-0000-0000-000000000003");
+        Instant transactTime = Instant.parse("2026-02-23T00:00:01Z");
+
+        Message cancel = factory.buildCancel(new OrderCancelSubmission(
+                orderId, "CL-3.2", "CL-3.1", transactTime, "AAPL", OrderSide.SELL, 40));
+        Message replace = factory.buildReplace(new OrderReplaceSubmission(
+                orderId, "CL-3.1", "CL-3", transactTime, "AAPL", OrderSide.SELL, 40, OrderType.LIMIT,
+                new BigDecimal("99.5"), TimeInForce.DAY));
+
+        assertEquals(MsgType.ORDER_CANCEL_REQUEST, cancel.getHeader().getString(MsgType.FIELD));
+        assertEquals("CL-3.2", cancel.getString(11));
+        assertEquals("CL-3.1", cancel.getString(41));
+        assertEquals('2', cancel.getChar(54));
+        assertEquals(40d, cancel.getDouble(38));
+        assertEquals(MsgType.ORDER_CANCEL_REPLACE_REQUEST, replace.getHeader().getString(MsgType.FIELD));
+        assertEquals("CL-3.1", replace.getString(11));
+        assertEquals("CL-3", replace.getString(41));
+        assertEquals('2', replace.getChar(40));
+        assertEquals(99.5d, replace.getDouble(44));
+        assertEquals('0', replace.getChar(59));
+    }
+
+    @Test
+    void buildsMassCancelForOneSymbolOrForEverything() throws Exception {
+        QuickFixOrderMessageFactory factory = new QuickFixOrderMessageFactory();
+        Instant transactTime = Instant.parse("2026-02-23T00:00:02Z");
+
+        Message bySymbol = factory.buildMassCancel(
+                new OrderMassCancelSubmission("M-1", transactTime, "AAPL", OrderSide.BUY, null));
+        Message all = factory.buildMassCancel(new OrderMassCancelSubmission("M-2", transactTime, null, null, null));
+
+        assertEquals(MsgType.ORDER_MASS_CANCEL_REQUEST, bySymbol.getHeader().getString(MsgType.FIELD));
+        assertEquals("M-1", bySymbol.getString(11));
+        assertEquals('1', bySymbol.getChar(530));
+        assertEquals("AAPL", bySymbol.getString(55));
+        assertEquals('1', bySymbol.getChar(54));
+        assertEquals('7', all.getChar(530));
+        assertFalse(all.isSetField(55));
+        assertFalse(all.isSetField(54));
+    }
 }
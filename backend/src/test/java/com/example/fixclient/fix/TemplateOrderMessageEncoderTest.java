@@ -0,0 +1,86 @@
+package com.example.fixclient.fix;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.fixclient.backend.orders.OrderSide;
+import com.fixclient.backend.orders.OrderType;
+import com.fixclient.backend.orders.TimeInForce;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import quickfix.Message;
+import quickfix.SessionID;
+import quickfix.field.MsgType;
+import quickfix.field.SenderCompID;
+import quickfix.field.TargetCompID;
+
+class TemplateOrderMessageEncoderTest {
+
+    private static final SessionID SESSION = new SessionID("FIX.4.4", "SENDER", "TARGET");
+
+    private final TemplateOrderMessageEncoder encoder = new TemplateOrderMessageEncoder();
+
+    @Test
+    void encodesSameFieldsAsMessageFactory() throws Exception {
+        OrderSubmission submission = order(OrderType.LIMIT, new BigDecimal("123.450"), "2026-02-23T13:45:07.123456789Z");
+        Message expected = new QuickFixOrderMessageFactory().build(submission);
+
+        Message message = encoder.encode(SESSION, submission.clOrdId(), submission);
+
+        assertEquals(MsgType.ORDER_SINGLE, message.getHeader().getString(MsgType.FIELD));
+        assertEquals("SENDER", message.getHeader().getString(SenderCompID.FIELD));
+        assertEquals("TARGET", message.getHeader().getString(TargetCompID.FIELD));
+        for (int tag : new int[] {11, 55, 54, 38, 40, 59}) {
+            assertEquals(expected.getString(tag), message.getString(tag), "tag " + tag);
+        }
+        assertEquals("123.45", message.getString(44));
+        assertEquals("20260223-13:45:07.123", message.getString(60));
+        assertEquals(expected.getUtcTimeStamp(60), message.getUtcTimeStamp(60));
+    }
+
+    @Test
+    void reusesMessagePerSessionAndClearsPriceForMarketOrders() throws Exception {
+        OrderSubmission limit = order(OrderType.LIMIT, new BigDecimal("10"), "2026-02-23T00:00:00Z");
+        OrderSubmission market = order(OrderType.MARKET, new BigDecimal("10"), "2026-02-24T23:59:59.999Z");
+
+        Message first = encoder.encode(SESSION, "A", limit);
+        assertEquals("10", first.getString(44));
+        Message second = encoder.encode(SESSION, "B", market);
+
+        assertSame(first, second);
+        assertEquals("B", second.getString(11));
+        assertFalse(second.isSetField(44));
+        assertEquals("20260224-23:59:59.999", second.getString(60));
+        assertNotSame(second, encoder.encode(new SessionID("FIX.4.4", "SENDER", "OTHER"), "C", market));
+    }
+
+    @Test
+    void formatsDatesAcrossCalendarBoundaries() throws Exception {
+        for (String timestamp : new String[] {
+                "1970-01-01T00:00:00Z", "2000-02-29T12:00:00Z", "2024-12-31T23:59:59.5Z", "2100-03-01T00:00:00.001Z"}) {
+            Instant instant = Instant.parse(timestamp);
+            Message message = encoder.encode(SESSION, "A", order(OrderType.MARKET, null, timestamp));
+
+            assertEquals(LocalDateTime.ofInstant(instant, ZoneOffset.UTC), message.getUtcTimeStamp(60), timestamp);
+        }
+    }
+
+    private static OrderSubmission order(OrderType type, BigDecimal price, String createdAt) {
+        return new OrderSubmission(
+                UUID.fromString("00000000-0000-0000-0000-000000000001"),
+                "CL-1",
+                Instant.parse(createdAt),
+                "AAPL",
+                OrderSide.BUY,
+                100,
+                type,
+                price,
+                TimeInForce.GTC);
+    }
+}
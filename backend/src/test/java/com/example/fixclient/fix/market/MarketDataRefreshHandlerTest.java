@@ -0,0 +1,98 @@
+package com.example.fixclient.fix.market;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.fixclient.backend.market.MarketDataStore;
+import com.fixclient.backend.market.MarketQuote;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import quickfix.Group;
+import quickfix.Message;
+import quickfix.field.MDEntryPx;
+import quickfix.field.MDEntryType;
+import quickfix.field.MDUpdateAction;
+import quickfix.field.MsgType;
+import quickfix.field.NoMDEntries;
+import quickfix.field.Symbol;
+
+class MarketDataRefreshHandlerTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-23T14:00:00Z");
+
+    private final MarketDataStore store = new MarketDataStore();
+    private final MarketDataRefreshHandler handler =
+            new MarketDataRefreshHandler(store, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void snapshotSetsTopOfBookForItsSymbol() throws Exception {
+        Message snapshot = new Message();
+        snapshot.getHeader().setString(MsgType.FIELD, MsgType.MARKET_DATA_SNAPSHOT_FULL_REFRESH);
+        snapshot.setString(Symbol.FIELD, "AAPL");
+        snapshot.addGroup(entry(null, MDEntryType.BID, "185.20"));
+        snapshot.addGroup(entry(null, MDEntryType.OFFER, "185.40"));
+        snapshot.addGroup(entry(null, MDEntryType.TRADE, "185.30"));
+
+        handler.onSnapshot(snapshot);
+
+        MarketQuote quote = store.find("AAPL").orElseThrow();
+        assertEquals(new BigDecimal("185.2"), quote.bid());
+        assertEquals(new BigDecimal("185.4"), quote.ask());
+        assertEquals(new BigDecimal("185.3"), quote.last());
+        assertEquals(NOW, quote.updatedAt());
+        assertEquals("FIX", quote.source());
+    }
+
+    @Test
+    void incrementalRefreshUpdatesEachSymbolOnceAndSkipsDeletes() throws Exception {
+        store.upsert("MSFT", new BigDecimal("410"), new BigDecimal("411"), null, NOW.minusSeconds(1), "FIX");
+
+        Message refresh = new Message();
+        refresh.getHeader().setString(MsgType.FIELD, MsgType.MARKET_DATA_INCREMENTAL_REFRESH);
+        refresh.addGroup(entry("MSFT", MDEntryType.BID, "410.5"));
+        refresh.addGroup(entry("IBM", MDEntryType.TRADE, "190.1"));
+        Group delete = entry("MSFT", MDEntryType.OFFER, "0");
+        delete.setChar(MDUpdateAction.FIELD, MDUpdateAction.DELETE);
+        refresh.addGroup(delete);
+
+        handler.onIncrementalRefresh(refresh);
+
+        MarketQuote msft = store.find("MSFT").orElseThrow();
+        assertEquals(new BigDecimal("410.5"), msft.bid());
+        assertEquals(new BigDecimal("411"), msft.ask());
+        assertEquals(NOW, msft.updatedAt());
+        assertEquals(new BigDecimal("190.1"), store.find("IBM").orElseThrow().last());
+        assertNull(store.find("IBM").orElseThrow().bid());
+    }
+
+    @Test
+    void skipsEntriesWhosePriceCannotBeParsed() throws Exception {
+        Message snapshot = new Message();
+        snapshot.getHeader().setString(MsgType.FIELD, MsgType.MARKET_DATA_SNAPSHOT_FULL_REFRESH);
+        snapshot.setString(Symbol.FIELD, "AAPL");
+        snapshot.addGroup(entry(null, MDEntryType.BID, "185.20"));
+        snapshot.addGroup(entry(null, MDEntryType.OFFER, "100000000000"));
+        snapshot.addGroup(entry(null, MDEntryType.TRADE, "1.2.3"));
+
+        handler.onSnapshot(snapshot);
+
+        MarketQuote quote = store.find("AAPL").orElseThrow();
+        assertEquals(new BigDecimal("185.2"), quote.bid());
+        assertNull(quote.ask());
+        assertNull(quote.last());
+    }
+
+    private static Group entry(String symbol, char type, String price) {
+        Group group = new Group(NoMDEntries.FIELD, MDEntryType.FIELD);
+        group.setChar(MDUpdateAction.FIELD, MDUpdateAction.NEW);
+        group.setChar(MDEntryType.FIELD, type);
+        group.setString(MDEntryPx.FIELD, price);
+        if (symbol != null) {
+            group.setString(Symbol.FIELD, symbol);
+        }
+        return group;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.fixclient.fix.market;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.fixclient.fix.FixSessionHandle;
+import com.example.fixclient.fix.FixSessionRouter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import quickfix.FieldNotFound;
+import quickfix.Message;
+import quickfix.SessionID;
+import quickfix.field.MDReqID;
+import quickfix.field.MsgType;
+import quickfix.field.NoMDEntryTypes;
+import quickfix.field.NoRelatedSym;
+import quickfix.field.SubscriptionRequestType;
+import quickfix.field.Symbol;
+
+class QuickFixMarketDataSubscriberAdapterTest {
+
+    private final FixSessionRouter router = new FixSessionRouter();
+    private final RecordingSession session = new RecordingSession(new SessionID("FIX.4.4", "SENDER", "TARGET"));
+
+    @Test
+    void batchesNewSymbolsAndReferenceCountsRepeatSubscriptions() throws Exception {
+        router.register(session);
+        QuickFixMarketDataSubscriberAdapter adapter =
+                new QuickFixMarketDataSubscriberAdapter(router, new QuickFixMarketDataMessageFactory());
+
+        adapter.subscribeAll(List.of("AAPL", "MSFT"));
+        adapter.subscribe("AAPL");
+
+        assertEquals(1, session.sent.size());
+        Message request = session.sent.get(0);
+        assertEquals(MsgType.MARKET_DATA_REQUEST, request.getHeader().getString(MsgType.FIELD));
+        assertEquals(SubscriptionRequestType.SNAPSHOT_UPDATES, request.getChar(SubscriptionRequestType.FIELD));
+        assertEquals(3, request.getGroupCount(NoMDEntryTypes.FIELD));
+        assertEquals(List.of("AAPL", "MSFT"), symbols(request));
+
+        adapter.unsubscribe("AAPL");
+        assertEquals(1, session.sent.size());
+
+        adapter.unsubscribe("AAPL");
+        assertEquals(3, session.sent.size());
+        Message cancel = session.sent.get(1);
+        assertEquals(
+                SubscriptionRequestType.DISABLE_PREVIOUS_SNAPSHOT_UPDATE_REQUEST,
+                cancel.getChar(SubscriptionRequestType.FIELD));
+        assertEquals(request.getString(MDReqID.FIELD), cancel.getString(MDReqID.FIELD));
+        assertEquals(Set.of("MSFT"), adapter.subscribedSymbols());
+    }
+
+    @Test
+    void unsubscribingPartOfABatchDisablesItsRequestAndReRequestsTheRest() throws Exception {
+        router.register(session);
+        QuickFixMarketDataSubscriberAdapter adapter =
+                new QuickFixMarketDataSubscriberAdapter(router, new QuickFixMarketDataMessageFactory());
+        adapter.subscribeAll(List.of("AAPL", "MSFT"));
+        String batchRequestId = session.sent.get(0).getString(MDReqID.FIELD);
+
+        adapter.unsubscribe("AAPL");
+
+        assertEquals(3, session.sent.size());
+        Message disable = session.sent.get(1);
+        assertEquals(
+                SubscriptionRequestType.DISABLE_PREVIOUS_SNAPSHOT_UPDATE_REQUEST,
+                disable.getChar(SubscriptionRequestType.FIELD));
+        assertEquals(batchRequestId, disable.getString(MDReqID.FIELD));
+        assertEquals(List.of("AAPL", "MSFT"), symbols(disable));
+
+        Message resubscribe = session.sent.get(2);
+        assertEquals(SubscriptionRequestType.SNAPSHOT_UPDATES, resubscribe.getChar(SubscriptionRequestType.FIELD));
+        assertNotEquals(batchRequestId, resubscribe.getString(MDReqID.FIELD));
+        assertEquals(List.of("MSFT"), symbols(resubscribe));
+
+        adapter.unsubscribe("MSFT");
+
+        assertEquals(4, session.sent.size());
+        assertEquals(resubscribe.getString(MDReqID.FIELD), session.sent.get(3).getString(MDReqID.FIELD));
+        assertEquals(List.of("MSFT"), symbols(session.sent.get(3)));
+        assertTrue(adapter.subscribedSymbols().isEmpty());
+    }
+
+    @Test
+    void chunksLargeBatchesIntoSeveralRequests() throws Exception {
+        router.register(session);
+        QuickFixMarketDataSubscriberAdapter adapter =
+                new QuickFixMarketDataSubscriberAdapter(router, new QuickFixMarketDataMessageFactory(), 2);
+
+        adapter.subscribeAll(List.of("A", "B", "C"));
+
+        assertEquals(2, session.sent.size());
+        assertEquals(List.of("A", "B"), symbols(session.sent.get(0)));
+        assertEquals(List.of("C"), symbols(session.sent.get(1)));
+    }
+
+    @Test
+    void requestsPendingSymbolsOnLogonAndMovesThemWhenSessionLogsOut() throws Exception {
+        QuickFixMarketDataSubscriberAdapter adapter =
+                new QuickFixMarketDataSubscriberAdapter(router, new QuickFixMarketDataMessageFactory());
+        adapter.subscribeAll(List.of("AAPL", "MSFT"));
+        assertTrue(session.sent.isEmpty());
+
+        router.register(session);
+        adapter.onLogon(session.sessionId());
+        assertEquals(1, session.sent.size());
+        assertEquals(2, symbols(session.sent.get(0)).size());
+
+        RecordingSession backup = new RecordingSession(new SessionID("FIX.4.4", "SENDER", "BACKUP"));
+        router.register(backup);
+        adapter.onLogon(backup.sessionId());
+        assertTrue(backup.sent.isEmpty());
+
+        router.onLogout(session.sessionId());
+        adapter.onLogout(session.sessionId());
+        assertEquals(1, backup.sent.size());
+        assertEquals(2, symbols(backup.sent.get(0)).size());
+    }
+
+    private static List<String> symbols(Message message) throws FieldNotFound {
+        List<String> symbols = new ArrayList<>();
+        for (int i = 1; i <= message.getGroupCount(NoRelatedSym.FIELD); i++) {
+            symbols.add(message.getGroup(i, NoRelatedSym.FIELD).getString(Symbol.FIELD));
+        }
+        symbols.sort(null);
+        return symbols;
+    }
+
+    private static final class RecordingSession implements FixSessionHandle {
+        private final SessionID sessionId;
+        private final List<Message> sent = new ArrayList<>();
+
+        private RecordingSession(SessionID sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        @Override
+        public SessionID sessionId() {
+            return sessionId;
+        }
+
+        @Override
+        public boolean send(Message message) {
+            sent.add(message);
+            return true;
+        }
+    }
+}
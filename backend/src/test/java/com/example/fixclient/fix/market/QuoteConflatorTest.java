@@ -0,0 +1,105 @@
+package com.example.fixclient.fix.market;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fixclient.backend.market.MarketDataStore;
+import com.fixclient.backend.market.MarketQuote;
+import com.fixclient.backend.support.FixedPoint;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+
+class QuoteConflatorTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-23T14:00:00Z");
+
+    private final MarketDataStore store = new MarketDataStore();
+
+    @Test
+    void burstsArePublishedAtMostOncePerIntervalWithLatestPrices() throws Exception {
+        QuoteConflator conflator = new QuoteConflator(store, 200, "");
+        try {
+            for (int i = 1; i <= 1_000; i++) {
+                conflator.offer("AAPL", price(i), FixedPoint.NULL, price(i), NOW, "FIX");
+            }
+            conflator.offer("AAPL", FixedPoint.NULL, price(2_000), FixedPoint.NULL, NOW, "FIX");
+
+            awaitQuote(quote -> quote.ask() != null && quote.ask().compareTo(BigDecimal.valueOf(2_000)) == 0);
+            MarketQuote quote = store.find("AAPL").orElseThrow();
+            assertEquals(0, quote.bid().compareTo(BigDecimal.valueOf(1_000)));
+            assertEquals(0, quote.last().compareTo(BigDecimal.valueOf(1_000)));
+            assertEquals(1_001, conflator.offeredCount());
+            assertTrue(conflator.publishedCount() <= 3, "published " + conflator.publishedCount());
+        } finally {
+            conflator.close();
+        }
+    }
+
+    @Test
+    void symbolsCanHaveTheirOwnInterval() {
+        QuoteConflator conflator = new QuoteConflator(store, 100, "aapl=10, MSFT=0");
+        try {
+            assertEquals(TimeUnit.MILLISECONDS.toNanos(10), conflator.intervalNanos("AAPL"));
+            assertEquals(0, conflator.intervalNanos("MSFT"));
+            assertEquals(TimeUnit.MILLISECONDS.toNanos(100), conflator.intervalNanos("IBM"));
+        } finally {
+            conflator.close();
+        }
+        assertThrows(IllegalArgumentException.class, () -> new QuoteConflator(store, 100, "AAPL"));
+    }
+
+    @Test
+    void keepsPublishingAfterAPublishThrows() throws Exception {
+        store.addChangeListener(symbol -> {
+            if (symbol.equals("BAD")) {
+                throw new IllegalStateException("listener failed");
+            }
+        });
+        QuoteConflator conflator = new QuoteConflator(store, 0, "");
+        try {
+            conflator.offer("BAD", price(1), FixedPoint.NULL, FixedPoint.NULL, NOW, "FIX");
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (conflator.failedCount() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, conflator.failedCount());
+
+            conflator.offer("AAPL", price(5), FixedPoint.NULL, FixedPoint.NULL, NOW, "FIX");
+
+            awaitQuote(quote -> quote.bid() != null && quote.bid().compareTo(BigDecimal.valueOf(5)) == 0);
+        } finally {
+            conflator.close();
+        }
+    }
+
+    @Test
+    void closePublishesWhatIsStillPending() {
+        QuoteConflator conflator = new QuoteConflator(store, 60_000, "");
+        conflator.offer("IBM", price(1), FixedPoint.NULL, FixedPoint.NULL, NOW, "FIX");
+        conflator.offer("IBM", price(2), FixedPoint.NULL, FixedPoint.NULL, NOW, "FIX");
+        conflator.offer("IBM", price(3), FixedPoint.NULL, FixedPoint.NULL, NOW, "FIX");
+
+        conflator.close();
+
+        assertEquals(0, store.find("IBM").orElseThrow().bid().compareTo(BigDecimal.valueOf(3)));
+    }
+
+    private void awaitQuote(Predicate<MarketQuote> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (store.find("AAPL").filter(condition).isPresent()) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("quote was not published");
+    }
+
+    private static long price(long units) {
+        return units * 100_000_000L;
+    }
+}
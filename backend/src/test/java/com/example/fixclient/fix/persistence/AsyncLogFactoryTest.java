@@ -0,0 +1,149 @@
+package com.example.fixclient.fix.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import quickfix.Log;
+import quickfix.SessionID;
+
+class AsyncLogFactoryTest {
+
+    private static final SessionID SESSION_ID = new SessionID("FIX.4.4", "SENDER", "TARGET");
+
+    @Test
+    void writesEntriesInOrderAndFlushesOnClose() {
+        RecordingLog recording = new RecordingLog(null);
+        AsyncLogFactory factory = new AsyncLogFactory(sessionID -> recording, 16, LogOverflowPolicy.BLOCK);
+        Log log = factory.create(SESSION_ID);
+
+        for (int i = 0; i < 100; i++) {
+            log.onOutgoing("out-" + i);
+        }
+        log.onEvent("event");
+        factory.close();
+
+        assertEquals(101, recording.entries.size());
+        assertEquals("out:out-0", recording.entries.get(0));
+        assertEquals("event:event", recording.entries.get(100));
+        assertEquals(101, factory.writtenCount());
+        assertEquals(0, factory.droppedCount());
+    }
+
+    @Test
+    void dropsMessagesButNotErrorsWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingLog recording = new RecordingLog(release);
+        AsyncLogFactory factory = new AsyncLogFactory(sessionID -> recording, 2, LogOverflowPolicy.DROP);
+        Log log = factory.create(SESSION_ID);
+
+        log.onIncoming("blocks-writer");
+        assertTrue(recording.writing.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            log.onIncoming("in-" + i);
+        }
+        Thread releaser = new Thread(() -> {
+            sleepQuietly();
+            release.countDown();
+        });
+        releaser.start();
+        log.onErrorEvent("error");
+        factory.close();
+
+        assertEquals(8, factory.droppedCount());
+        assertEquals(List.of("in:blocks-writer", "in:in-0", "in:in-1", "error:error"), recording.entries);
+    }
+
+    @Test
+    void closingASessionLogClosesTheWrappedLogAfterItsQueuedEntries() throws IOException {
+        RecordingLog recording = new RecordingLog(null);
+        AsyncLogFactory factory = new AsyncLogFactory(sessionID -> recording, 16, LogOverflowPolicy.BLOCK);
+        Log log = factory.create(SESSION_ID);
+
+        log.onEvent("logout");
+        assertTrue(log instanceof Closeable);
+        ((Closeable) log).close();
+        factory.close();
+
+        assertEquals(List.of("event:logout", "closed"), recording.entries);
+    }
+
+    @Test
+    void entriesLoggedAfterCloseAreWrittenDirectly() {
+        RecordingLog recording = new RecordingLog(null);
+        AsyncLogFactory factory = new AsyncLogFactory(sessionID -> recording, 16, LogOverflowPolicy.BLOCK);
+        Log log = factory.create(SESSION_ID);
+        factory.close();
+
+        log.onEvent("late");
+
+        assertEquals(List.of("event:late"), recording.entries);
+    }
+
+    private static void sleepQuietly() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class RecordingLog implements Log, Closeable {
+
+        private final List<String> entries = new CopyOnWriteArrayList<>();
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        private RecordingLog(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void clear() {
+            entries.clear();
+        }
+
+        @Override
+        public void onIncoming(String message) {
+            record("in:" + message);
+        }
+
+        @Override
+        public void onOutgoing(String message) {
+            record("out:" + message);
+        }
+
+        @Override
+        public void onEvent(String text) {
+            record("event:" + text);
+        }
+
+        @Override
+        public void onErrorEvent(String text) {
+            record("error:" + text);
+        }
+
+        @Override
+        public void close() {
+            entries.add("closed");
+        }
+
+        private void record(String entry) {
+            entries.add(entry);
+            writing.countDown();
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
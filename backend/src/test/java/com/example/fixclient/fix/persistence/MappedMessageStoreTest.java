@@ -0,0 +1,112 @@
+package com.example.fixclient.fix.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedMessageStoreTest {
+
+    private static final String SESSION = "FIX.4.4-SENDER-TARGET";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void servesResendRangesAndKeepsSequenceNumbersAcrossReopen() throws IOException {
+        long creationTime;
+        try (MappedMessageStore store = open(4096)) {
+            for (int sequence = 1; sequence <= 5; sequence++) {
+                store.set(sequence, message(sequence));
+                store.incrNextSenderMsgSeqNum();
+            }
+            store.setNextTargetMsgSeqNum(42);
+            creationTime = store.getCreationTime().getTime();
+        }
+
+        try (MappedMessageStore reopened = open(4096)) {
+            assertEquals(6, reopened.getNextSenderMsgSeqNum());
+            assertEquals(42, reopened.getNextTargetMsgSeqNum());
+            assertEquals(creationTime, reopened.getCreationTime().getTime());
+            assertEquals(List.of(message(2), message(3), message(4)), range(reopened, 2, 4));
+            assertEquals(List.of(message(5)), range(reopened, 5, Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void spreadsRecordsOverChunksAndKeepsLatestCopyOfASequenceNumber() throws IOException {
+        try (MappedMessageStore store = open(256)) {
+            for (int sequence = 1; sequence <= 2000; sequence++) {
+                store.set(sequence, message(sequence));
+            }
+            store.set(7, message(7) + "|resent");
+        }
+
+        // The chunk size is fixed when the store is created.
+        try (MappedMessageStore reopened = open(4096)) {
+            List<String> messages = range(reopened, 1, 2000);
+            assertEquals(2000, messages.size());
+            assertEquals(message(7) + "|resent", messages.get(6));
+            assertEquals(message(2000), messages.get(1999));
+        }
+    }
+
+    @Test
+    void resetStartsANewSessionWithoutOldMessages() throws IOException {
+        try (MappedMessageStore store = open(4096)) {
+            for (int sequence = 1; sequence <= 20; sequence++) {
+                store.set(sequence, message(sequence) + "-previous-session-padding");
+            }
+            store.setNextSenderMsgSeqNum(21);
+            store.reset();
+            store.set(1, message(1));
+
+            assertEquals(1, store.getNextSenderMsgSeqNum());
+            assertEquals(List.of(message(1)), range(store, 1, 20));
+        }
+
+        try (MappedMessageStore reopened = open(4096)) {
+            assertEquals(List.of(message(1)), range(reopened, 1, 20));
+        }
+    }
+
+    @Test
+    void stopsAtCorruptRecordOnReopen() throws IOException {
+        try (MappedMessageStore store = open(4096)) {
+            store.set(1, message(1));
+            store.set(2, message(2));
+            store.set(3, message(3));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve(SESSION + ".body").toFile(), "rw")) {
+            int secondRecord = 12 + message(1).length();
+            file.seek(secondRecord + 12 + 3);
+            file.write('X');
+        }
+
+        try (MappedMessageStore reopened = open(4096)) {
+            assertEquals(List.of(message(1)), range(reopened, 1, 3));
+            reopened.set(2, message(2));
+            assertTrue(range(reopened, 1, 3).contains(message(2)));
+        }
+    }
+
+    private MappedMessageStore open(int chunkSize) throws IOException {
+        return new MappedMessageStore(directory, SESSION, chunkSize, false);
+    }
+
+    private static List<String> range(MappedMessageStore store, int start, int end) {
+        List<String> messages = new ArrayList<>();
+        store.get(start, end, messages);
+        return messages;
+    }
+
+    private static String message(int sequence) {
+        return "8=FIX.4.4\u00019=20\u000135=D\u000134=" + sequence + "\u000110=000\u0001";
+    }
+}
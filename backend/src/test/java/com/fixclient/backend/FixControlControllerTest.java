@@ -13,6 +13,7 @@ import com.example.fixclient.fix.FixSessionConfig;
 import com.example.fixclient.fix.InitiatorDiagnostics;
 import com.example.fixclient.fix.InitiatorServiceStatus;
 import com.example.fixclient.fix.InitiatorStatus;
+import com.example.fixclient.fix.SessionStatsSnapshot;
 import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -46,7 +47,24 @@ class FixControlControllerTest {
                 .andExpect(jsonPath("$.config.port").value(9876))
                 .andExpect(jsonPath("$.diagnostics.lastEvent").value("Initiator stopped"))
                 .andExpect(jsonPath("$.diagnostics.lastError").value(""))
-                .andExpect(jsonPath("$.diagnostics.lastUpdatedAt").isNotEmpty());
+                .andExpect(jsonPath("$.diagnostics.lastUpdatedAt").isNotEmpty())
+                .andExpect(jsonPath("$.sessionStats").isArray());
+    }
+
+    @Test
+    void statusIncludesPerSessionThroughputStats() throws Exception {
+        when(fixControlService.getStatus()).thenReturn(
+                statusResponse(InitiatorStatus.RUNNING, null, List.of("FIX.4.4:A->VENUE"))
+                        .withSessionStats(List.of(new SessionStatsSnapshot("FIX.4.4:A->VENUE", true, 42, 12.5, 3, 1.25, 4.0))));
+
+        mockMvc.perform(get("/fix/status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sessionStats[0].sessionId").value("FIX.4.4:A->VENUE"))
+                .andExpect(jsonPath("$.sessionStats[0].loggedOn").value(true))
+                .andExpect(jsonPath("$.sessionStats[0].ordersSent").value(42))
+                .andExpect(jsonPath("$.sessionStats[0].sendRatePerSecond").value(12.5))
+                .andExpect(jsonPath("$.sessionStats[0].outstandingOrders").value(3))
+                .andExpect(jsonPath("$.sessionStats[0].avgAckLatencyMillis").value(1.25));
     }
 
     @Test
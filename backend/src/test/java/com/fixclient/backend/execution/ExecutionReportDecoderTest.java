@@ -0,0 +1,92 @@
+package com.fixclient.backend.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.fixclient.backend.support.FixedPoint;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import quickfix.Message;
+import quickfix.field.AvgPx;
+import quickfix.field.ClOrdID;
+import quickfix.field.CumQty;
+import quickfix.field.ExecType;
+import quickfix.field.LastPx;
+import quickfix.field.LastQty;
+import quickfix.field.LeavesQty;
+import quickfix.field.MsgType;
+import quickfix.field.OrdStatus;
+import quickfix.field.OrderID;
+import quickfix.field.Text;
+
+class ExecutionReportDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-23T12:30:00.250Z");
+
+    private final ExecutionReportDecoder decoder = new ExecutionReportDecoder(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void decodesFieldsIntoFixedPointPrimitives() {
+        Message message = new Message();
+        message.getHeader().setString(MsgType.FIELD, MsgType.EXECUTION_REPORT);
+        message.setString(ClOrdID.FIELD, "cl-100");
+        message.setString(OrderID.FIELD, "ord-501");
+        message.setChar(ExecType.FIELD, ExecType.TRADE);
+        message.setChar(OrdStatus.FIELD, OrdStatus.PARTIALLY_FILLED);
+        message.setString(CumQty.FIELD, "40");
+        message.setString(LeavesQty.FIELD, "60.5");
+        message.setString(AvgPx.FIELD, "101.55");
+        message.setString(LastPx.FIELD, "0.00000001");
+        message.setString(LastQty.FIELD, "-3.123456789");
+        message.setString(Text.FIELD, "partial");
+
+        PrimitiveExecutionReport report = decoder.decode(message);
+
+        assertEquals("cl-100", report.clOrdId());
+        assertEquals("ord-501", report.orderId());
+        assertEquals(ExecType.TRADE, report.execType());
+        assertEquals(OrdStatus.PARTIALLY_FILLED, report.ordStatus());
+        assertEquals(4_000_000_000L, report.cumQty());
+        assertEquals(6_050_000_000L, report.leavesQty());
+        assertEquals(10_155_000_000L, report.avgPx());
+        assertEquals(1L, report.lastPx());
+        assertEquals(-312_345_678L, report.lastQty());
+        assertEquals(NOW.toEpochMilli(), report.updatedAtMillis());
+
+        ExecutionReportEvent event = report.toEvent();
+        assertEquals("F", event.execType());
+        assertEquals(new BigDecimal("101.55"), event.avgPx());
+        assertEquals("60.5", event.leavesQty().toPlainString());
+        assertEquals("partial", event.text());
+        assertEquals(NOW, event.updatedAt());
+    }
+
+    @Test
+    void reusesPooledInstanceAndResetsMissingFields() {
+        Message first = new Message();
+        first.setString(ClOrdID.FIELD, "cl-1");
+        first.setString(CumQty.FIELD, "10");
+        first.setString(Text.FIELD, "ack");
+        Message second = new Message();
+        second.setString(OrderID.FIELD, "ord-2");
+        second.setString(AvgPx.FIELD, "not-a-number");
+
+        PrimitiveExecutionReport decodedFirst = decoder.decode(first);
+        PrimitiveExecutionReport copy = decodedFirst.copy();
+        PrimitiveExecutionReport decodedSecond = decoder.decode(second);
+
+        assertSame(decodedFirst, decodedSecond);
+        assertNull(decodedSecond.clOrdId());
+        assertNull(decodedSecond.text());
+        assertEquals(FixedPoint.NULL, decodedSecond.cumQty());
+        assertEquals(FixedPoint.NULL, decodedSecond.avgPx());
+        assertEquals(PrimitiveExecutionReport.UNSET, decodedSecond.execType());
+        assertEquals("cl-1", copy.clOrdId());
+        assertEquals(1_000_000_000L, copy.cumQty());
+        assertNull(copy.toEvent().execType());
+    }
+}
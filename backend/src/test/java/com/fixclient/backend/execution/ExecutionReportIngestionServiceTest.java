@@ -0,0 +1,153 @@
+package com.fixclient.backend.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.fixclient.fix.OrderCancelSubmission;
+import com.example.fixclient.fix.OrderSendResult;
+import com.example.fixclient.fix.OrderSender;
+import com.example.fixclient.fix.OrderSubmission;
+import com.fixclient.backend.orders.CreateOrderRequest;
+import com.fixclient.backend.orders.InMemoryOrderStore;
+import com.fixclient.backend.orders.OrderRecord;
+import com.fixclient.backend.orders.OrderService;
+import com.fixclient.backend.orders.OrderSide;
+import com.fixclient.backend.orders.OrderStatus;
+import com.fixclient.backend.orders.OrderType;
+import com.fixclient.backend.orders.TimeInForce;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import quickfix.Message;
+import quickfix.field.ClOrdID;
+import quickfix.field.CumQty;
+import quickfix.field.ExecType;
+import quickfix.field.OrdStatus;
+
+class ExecutionReportIngestionServiceTest {
+
+    @Test
+    void inlineModeAppliesOnCallingThread() {
+        OrderService orderService = orderService();
+        ExecutionReportStateStore stateStore = new ExecutionReportStateStore();
+        ExecutionReportIngestionService service =
+                new ExecutionReportIngestionService(new ExecutionReportDecoder(), stateStore, orderService);
+        OrderRecord order = createOrder(orderService);
+
+        service.ingest(fill(order.clOrdId(), 100, OrdStatus.FILLED));
+
+        assertEquals(OrderStatus.FILLED, orderService.getOrderById(order.orderId().toString()).status());
+        assertEquals("inline", service.pipelineStats().mode());
+        assertTrue(service.pipelineStats().shards().isEmpty());
+    }
+
+    @Test
+    void shardedModeKeepsPerOrderOrderingAcrossParallelShards() throws Exception {
+        OrderService orderService = orderService();
+        ExecutionReportStateStore stateStore = new ExecutionReportStateStore();
+        ExecutionReportIngestionService service =
+                new ExecutionReportIngestionService(new ExecutionReportDecoder(), stateStore, orderService, 4, 16);
+        List<OrderRecord> orders = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            orders.add(createOrder(orderService));
+        }
+
+        try {
+            for (int qty = 1; qty <= 50; qty++) {
+                for (OrderRecord order : orders) {
+                    service.ingest(fill(order.clOrdId(), qty, qty == 50 ? OrdStatus.FILLED : OrdStatus.PARTIALLY_FILLED));
+                }
+            }
+            awaitProcessed(service, 400);
+
+            for (OrderRecord order : orders) {
+                assertEquals("50", stateStore.latestFor(order.clOrdId()).filledQty().toPlainString());
+                assertEquals(OrderStatus.FILLED, orderService.getOrderById(order.orderId().toString()).status());
+            }
+            ExecutionPipelineStats stats = service.pipelineStats();
+            assertEquals("sharded", stats.mode());
+            assertEquals(4, stats.shards().size());
+            assertEquals(0, stats.shards().stream().mapToLong(ExecutionPipelineStats.ShardStats::failed).sum());
+            assertTrue(stats.shards().stream().allMatch(shard -> shard.queueCapacity() == 16));
+        } finally {
+            service.close();
+        }
+    }
+
+    @Test
+    void shardedModeAppliesCancelRejectsAfterTheOrdersQueuedReports() throws Exception {
+        OrderService orderService = new OrderService(new OrderSender() {
+            @Override
+            public OrderSendResult send(OrderSubmission submission) {
+                return new OrderSendResult(true, "accepted");
+            }
+
+            @Override
+            public OrderSendResult cancel(OrderCancelSubmission cancel) {
+                return new OrderSendResult(true, "sent");
+            }
+        }, new InMemoryOrderStore());
+        ExecutionReportIngestionService service = new ExecutionReportIngestionService(
+                new ExecutionReportDecoder(), new ExecutionReportStateStore(), orderService, 1, 16);
+        OrderRecord order = createOrder(orderService);
+
+        try {
+            String cancelClOrdId = orderService.cancelOrder(order.orderId().toString()).clOrdId();
+            service.ingest(fill(order.clOrdId(), 20, OrdStatus.PARTIALLY_FILLED));
+            service.ingestCancelReject(cancelClOrdId, "too late to cancel");
+            awaitProcessed(service, 2);
+
+            OrderRecord current = orderService.getOrderById(order.orderId().toString());
+            assertEquals(OrderStatus.PARTIALLY_FILLED, current.status());
+            assertEquals("Cancel rejected: too late to cancel", current.message());
+        } finally {
+            service.close();
+        }
+    }
+
+    private static void awaitProcessed(ExecutionReportIngestionService service, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            long processed = service.pipelineStats().shards().stream()
+                    .mapToLong(ExecutionPipelineStats.ShardStats::processed)
+                    .sum();
+            if (processed >= expected) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("pipeline did not process " + expected + " reports in time");
+    }
+
+    @Test
+    void lateReportsCannotMoveATerminalOrderBack() {
+        OrderService orderService = orderService();
+        ExecutionReportIngestionService service = new ExecutionReportIngestionService(
+                new ExecutionReportDecoder(), new ExecutionReportStateStore(), orderService);
+        OrderRecord order = createOrder(orderService);
+
+        service.ingest(fill(order.clOrdId(), 50, OrdStatus.FILLED));
+        service.ingest(fill(order.clOrdId(), 20, OrdStatus.PARTIALLY_FILLED));
+
+        assertEquals(OrderStatus.FILLED, orderService.getOrderById(order.orderId().toString()).status());
+    }
+
+    private static OrderService orderService() {
+        return new OrderService(submission -> new OrderSendResult(true, "accepted"), new InMemoryOrderStore());
+    }
+
+    private static OrderRecord createOrder(OrderService orderService) {
+        return orderService.createOrder(
+                new CreateOrderRequest("AAPL", OrderSide.BUY, 50, OrderType.LIMIT, new BigDecimal("10.5"), TimeInForce.DAY));
+    }
+
+    private static Message fill(String clOrdId, int cumQty, char ordStatus) {
+        Message message = new Message();
+        message.setString(ClOrdID.FIELD, clOrdId);
+        message.setChar(ExecType.FIELD, ExecType.TRADE);
+        message.setChar(OrdStatus.FIELD, ordStatus);
+        message.setInt(CumQty.FIELD, cumQty);
+        return message;
+    }
+}
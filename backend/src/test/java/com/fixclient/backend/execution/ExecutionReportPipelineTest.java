@@ -0,0 +1,68 @@
+package com.fixclient.backend.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ExecutionReportPipelineTest {
+
+    @Test
+    void recordsFailuresAndKeepsApplyingLaterReports() throws Exception {
+        List<String> failures = new CopyOnWriteArrayList<>();
+        CountDownLatch applied = new CountDownLatch(1);
+        ExecutionReportPipeline pipeline = new ExecutionReportPipeline(
+                1,
+                16,
+                report -> {
+                    if (report.clOrdId().equals("cl-bad")) {
+                        throw new IllegalStateException("cannot apply");
+                    }
+                    applied.countDown();
+                },
+                (clOrdId, ex) -> failures.add(clOrdId + " " + ex.getMessage()));
+
+        try {
+            assertNull(pipeline.stats().get(0).lastFailure());
+
+            pipeline.submit(report("cl-bad"));
+            pipeline.execute("cl-task.1", () -> {
+                throw new IllegalArgumentException("task failed");
+            });
+            pipeline.submit(report("cl-good"));
+
+            assertTrue(applied.await(5, TimeUnit.SECONDS));
+            ExecutionPipelineStats.ShardStats stats = pipeline.stats().get(0);
+            assertEquals(List.of("cl-bad cannot apply", "cl-task.1 task failed"), failures);
+            assertEquals(2, stats.failed());
+            assertEquals(
+                    new ExecutionPipelineStats.Failure(
+                            "cl-task.1", IllegalArgumentException.class.getName(), "task failed"),
+                    stats.lastFailure());
+        } finally {
+            pipeline.close();
+        }
+    }
+
+    private static ExecutionReportEvent report(String clOrdId) {
+        return new ExecutionReportEvent(
+                clOrdId,
+                "VENUE-1",
+                "0",
+                "0",
+                BigDecimal.ZERO,
+                BigDecimal.TEN,
+                null,
+                null,
+                null,
+                "new",
+                Instant.parse("2026-02-23T17:30:00Z"));
+    }
+}
@@ -3,10 +3,28 @@ package com.fixclient.backend.execution;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
+import quickfix.Message;
+import quickfix.field.ClOrdID;
+import quickfix.field.CumQty;
+import quickfix.field.ExecType;
+import quickfix.field.LastPx;
+import quickfix.field.LeavesQty;
+import quickfix.field.OrdStatus;
+import quickfix.field.OrderID;
 
 class ExecutionReportStateStoreTest {
 
@@ -57,6 +75,99 @@ class ExecutionReportStateStoreTest {
         assertEquals("partial", store.recentReports().get(0).text());
     }
 
+    @Test
+    void mergesDecodedReportsWithEventsAndMaterializesOnRead() {
+        ExecutionReportStateStore store = new ExecutionReportStateStore();
+        Instant now = Instant.parse("2026-02-23T15:00:00Z");
+        store.update(new ExecutionReportEvent(
+                "cl-1", null, "0", "0", BigDecimal.ZERO, BigDecimal.TEN, null, null, null, "ack", now));
+
+        Message fill = new Message();
+        fill.setString(ClOrdID.FIELD, "cl-1");
+        fill.setString(OrderID.FIELD, "ord-1");
+        fill.setChar(ExecType.FIELD, ExecType.TRADE);
+        fill.setChar(OrdStatus.FIELD, OrdStatus.FILLED);
+        fill.setString(CumQty.FIELD, "10");
+        fill.setString(LeavesQty.FIELD, "0");
+        fill.setString(LastPx.FIELD, "100.25");
+        store.update(new ExecutionReportDecoder(Clock.fixed(now.plusSeconds(1), ZoneOffset.UTC)).decode(fill));
+
+        OrderExecutionState state = store.latestFor("ord-1");
+        assertSame(store.latestFor("cl-1").ordStatus(), state.ordStatus());
+        assertEquals("F", state.execType());
+        assertEquals("2", state.ordStatus());
+        assertEquals("10", state.filledQty().toPlainString());
+        assertEquals("0", state.leavesQty().toPlainString());
+        assertEquals("100.25", state.lastPx().toPlainString());
+        assertEquals("ack", state.text());
+        assertEquals(now.plusSeconds(1), state.updatedAt());
+        assertEquals("2", store.recentReports().get(0).ordStatus());
+        assertEquals("0", store.recentReports().get(1).ordStatus());
+    }
+
+    @Test
+    void adoptsStateRecordedUnderOrderIdWhenClOrdIdArrives() {
+        ExecutionReportStateStore store = new ExecutionReportStateStore();
+        Instant now = Instant.parse("2026-02-23T15:00:00Z");
+
+        store.update(new ExecutionReportEvent(
+                null, "ord-9", "0", "0", null, BigDecimal.TEN, null, null, null, "venue ack", now));
+        store.update(new ExecutionReportEvent(
+                "cl-9", "ord-9", "1", "1", BigDecimal.ONE, null, null, null, null, null, now.plusSeconds(1)));
+
+        assertEquals("10", store.latestFor("cl-9").leavesQty().toPlainString());
+        assertEquals("venue ack", store.latestFor("cl-9").text());
+        assertEquals(store.latestFor("cl-9"), store.latestFor("ord-9"));
+    }
+
+    @Test
+    void keepsMostRecentWindowUnderConcurrentUpdates() throws Exception {
+        ExecutionReportStateStore store = new ExecutionReportStateStore();
+        int threads = 8;
+        int reportsPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String text = "writer-" + t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < reportsPerThread; i++) {
+                    store.update(new ExecutionReportEvent(
+                            "cl-shared", "ord-shared", "1", "1", BigDecimal.valueOf(i), null, null, null, null, text,
+                            Instant.now()));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(200, store.recentReports().size());
+        assertEquals(store.latestFor("cl-shared"), store.latestFor("ord-shared"));
+        // The last sequence claimed belongs to some writer's final report.
+        assertEquals(String.valueOf(reportsPerThread - 1), store.recentReports().get(0).cumQty().toPlainString());
+        assertEquals(String.valueOf(reportsPerThread - 1), store.latestFor("cl-shared").filledQty().toPlainString());
+    }
+
+    @Test
+    void lateReportDoesNotReduceFilledQuantity() {
+        ExecutionReportStateStore store = new ExecutionReportStateStore();
+        Instant now = Instant.parse("2026-02-23T15:00:00Z");
+
+        store.update(new ExecutionReportEvent(
+                "cl-1", null, "F", "2", BigDecimal.TEN, BigDecimal.ZERO, null, null, null, "filled", now));
+        store.update(new ExecutionReportEvent(
+                "cl-1", null, "F", "1", BigDecimal.valueOf(4), BigDecimal.valueOf(6), null, null, null, null, now));
+        store.update(new ExecutionReportEvent(
+                "cl-1", null, "3", "3", null, null, null, null, null, null, now));
+
+        assertEquals("10", store.latestFor("cl-1").filledQty().toPlainString());
+    }
+
     @Test
     void ignoresEventsWithNoOrderKeys() {
         ExecutionReportStateStore store = new ExecutionReportStateStore();
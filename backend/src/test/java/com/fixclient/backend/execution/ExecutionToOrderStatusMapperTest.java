@@ -24,6 +24,26 @@ class ExecutionToOrderStatusMapperTest {
         assertEquals(OrderStatus.CANCELED, ExecutionToOrderStatusMapper.map("CANCELED", null));
     }
 
+    @Test
+    void mapsDecodedCharCodes() {
+        assertEquals(OrderStatus.FILLED, ExecutionToOrderStatusMapper.map('F', '2'));
+        assertEquals(OrderStatus.CANCELED, ExecutionToOrderStatusMapper.map('4', PrimitiveExecutionReport.UNSET));
+        assertNull(ExecutionToOrderStatusMapper.map('F', PrimitiveExecutionReport.UNSET));
+    }
+
+    @Test
+    void mapsFix44PendingAndReplaceStates() {
+        assertEquals(OrderStatus.PENDING_NEW, ExecutionToOrderStatusMapper.map('A', 'A'));
+        assertEquals(OrderStatus.PENDING_CANCEL, ExecutionToOrderStatusMapper.map('6', '6'));
+        assertEquals(OrderStatus.PENDING_REPLACE, ExecutionToOrderStatusMapper.map('E', PrimitiveExecutionReport.UNSET));
+        assertEquals(OrderStatus.PARTIALLY_FILLED, ExecutionToOrderStatusMapper.map('5', '1'));
+        assertEquals(OrderStatus.REPLACED, ExecutionToOrderStatusMapper.map("REPLACED", null));
+        assertEquals(OrderStatus.EXPIRED, ExecutionToOrderStatusMapper.map("C", "C"));
+        assertEquals(OrderStatus.DONE_FOR_DAY, ExecutionToOrderStatusMapper.map(null, "done for day"));
+        assertNull(ExecutionToOrderStatusMapper.map('I', PrimitiveExecutionReport.UNSET));
+        assertNull(ExecutionToOrderStatusMapper.map('\u20AC', '\u20AC'));
+    }
+
     @Test
     void returnsNullWhenUnrecognized() {
         assertNull(ExecutionToOrderStatusMapper.map("x", "y"));
@@ -0,0 +1,128 @@
+package com.fixclient.backend.ids;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fixclient.backend.orders.InMemoryOrderStore;
+import com.fixclient.backend.orders.OrderRecord;
+import com.fixclient.backend.orders.OrderSide;
+import com.fixclient.backend.orders.OrderStatus;
+import com.fixclient.backend.orders.OrderType;
+import com.fixclient.backend.orders.TimeInForce;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeOrderIdGeneratorTest {
+
+    @Test
+    void idsAreUniqueAndIncreasingPerThreadUnderContention() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(7);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    long[] ids = new long[perThread];
+                    for (int i = 0; i < perThread; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+            Set<Long> seen = new HashSet<>();
+            for (Future<long[]> result : results) {
+                long[] ids = result.get(10, TimeUnit.SECONDS);
+                for (int i = 0; i < ids.length; i++) {
+                    assertTrue(i == 0 || ids[i] > ids[i - 1]);
+                    assertTrue(seen.add(ids[i]), "duplicate id " + ids[i]);
+                }
+            }
+            assertEquals(threads * perThread, seen.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void sequenceOverflowCarriesIntoTheNextMillisecond() {
+        AtomicLong clock = new AtomicLong(SnowflakeOrderIdGenerator.EPOCH_MILLIS + 1_000);
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(3, clock::get);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long next = generator.nextId();
+            assertTrue(next > previous);
+            assertEquals(3, (next >>> 12) & 1023);
+            previous = next;
+        }
+
+        clock.addAndGet(-500);
+        assertTrue(generator.nextId() > previous);
+    }
+
+    @Test
+    void clOrdIdsAreFixedWidthSortableAndDecodable() {
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(1);
+        GeneratedOrderId first = generator.next();
+        GeneratedOrderId second = generator.next();
+
+        assertEquals(SnowflakeOrderIdGenerator.CL_ORD_ID_LENGTH, first.clOrdId().length());
+        assertTrue(first.clOrdId().compareTo(second.clOrdId()) < 0);
+        assertTrue(SnowflakeOrderIdGenerator.isGenerated(first.orderId()));
+        assertEquals(SnowflakeOrderIdGenerator.idOf(first.orderId()), SnowflakeOrderIdGenerator.parseClOrdId(first.clOrdId()));
+        assertEquals(first.orderId(), UUID.fromString(first.orderId().toString()));
+        assertEquals(Long.MAX_VALUE, SnowflakeOrderIdGenerator.parseClOrdId(SnowflakeOrderIdGenerator.toClOrdId(Long.MAX_VALUE)));
+
+        assertEquals(-1, SnowflakeOrderIdGenerator.parseClOrdId("zzzzzzzzzzzzz"));
+        assertEquals(-1, SnowflakeOrderIdGenerator.parseClOrdId("ABCDEFGHIJKLM"));
+        assertEquals(-1, SnowflakeOrderIdGenerator.parseClOrdId(UUID.randomUUID().toString()));
+        assertFalse(SnowflakeOrderIdGenerator.isGenerated(UUID.randomUUID()));
+    }
+
+    @Test
+    void rejectsNodeIdsOutsideTenBits() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeOrderIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeOrderIdGenerator(1024));
+    }
+
+    @Test
+    void inMemoryStoreFindsGeneratedAndForeignClOrdIds() {
+        InMemoryOrderStore store = new InMemoryOrderStore();
+        GeneratedOrderId generated = new SnowflakeOrderIdGenerator().next();
+        OrderRecord snowflake = order(generated.orderId(), generated.clOrdId());
+        UUID legacyId = UUID.randomUUID();
+        OrderRecord legacy = order(legacyId, legacyId.toString());
+        OrderRecord renamed = order(SnowflakeOrderIdGenerator.toOrderId(42), "custom-42");
+        store.add(snowflake);
+        store.add(legacy);
+        store.add(renamed);
+
+        assertEquals(snowflake, store.findByClOrdId(generated.clOrdId()).orElseThrow());
+        assertEquals(legacy, store.findByClOrdId(legacyId.toString()).orElseThrow());
+        assertEquals(renamed, store.findByClOrdId("custom-42").orElseThrow());
+        assertFalse(store.findByClOrdId(SnowflakeOrderIdGenerator.toClOrdId(42)).isPresent());
+    }
+
+    private static OrderRecord order(UUID orderId, String clOrdId) {
+        return new OrderRecord(orderId, clOrdId, Instant.now(), "AAPL", OrderSide.BUY, 100, OrderType.MARKET, null,
+                TimeInForce.DAY, OrderStatus.ACCEPTED, "accepted");
+    }
+}
@@ -38,4 +38,29 @@ class MarketDataControllerIntegrationTest {
                 .andExpect(jsonPath("$.updatedAt").isNotEmpty())
                 .andExpect(jsonPath("$.source").value("SIMULATED"));
     }
+
+    @Test
+    void subscribeRecordsSymbolsUntilLastUnsubscribe() throws Exception {
+        mockMvc.perform(post("/market/subscribe")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"symbols\":[\"msft\",\"IBM\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.subscribedSymbols[0]").value("IBM"))
+                .andExpect(jsonPath("$.subscribedSymbols[1]").value("MSFT"));
+
+        mockMvc.perform(post("/market/unsubscribe")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"symbols\":[\"IBM\"]}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/market/subscriptions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.subscribedSymbols.length()").value(1))
+                .andExpect(jsonPath("$.subscribedSymbols[0]").value("MSFT"));
+
+        mockMvc.perform(post("/market/subscribe")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"symbols\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
 }
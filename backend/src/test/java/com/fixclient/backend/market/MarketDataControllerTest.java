@@ -32,7 +32,10 @@ class MarketDataControllerTest {
         mockMvc.perform(get("/market/status"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.symbolsTracked").value(1))
-                .andExpect(jsonPath("$.updatedAt").isNotEmpty());
+                .andExpect(jsonPath("$.updatedAt").isNotEmpty())
+                .andExpect(jsonPath("$.updateCount").value(1))
+                .andExpect(jsonPath("$.updatesPerSecond").isNumber())
+                .andExpect(jsonPath("$.quotesBySource.SIMULATED").value(1));
 
         mockMvc.perform(get("/market/quote").param("symbol", "AAPL"))
                 .andExpect(status().isOk())
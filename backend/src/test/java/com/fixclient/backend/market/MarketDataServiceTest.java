@@ -41,6 +41,22 @@ class MarketDataServiceTest {
                 () -> service.simulate(new SimulateQuoteRequest("AAPL", BigDecimal.TEN, BigDecimal.ONE, null)));
     }
 
+    @Test
+    void simulateRejectsPricesTheStoreCannotHoldExactly() {
+        MarketDataService service = new MarketDataService(new MarketDataStore(), Clock.systemUTC());
+
+        assertStatus(HttpStatus.BAD_REQUEST,
+                () -> service.simulate(new SimulateQuoteRequest("AAPL", new BigDecimal("1e11"), null, null)));
+        assertStatus(HttpStatus.BAD_REQUEST,
+                () -> service.simulate(new SimulateQuoteRequest("AAPL", null, null, new BigDecimal("1.123456789"))));
+
+        MarketQuote quote = service.simulate(new SimulateQuoteRequest(
+                "AAPL", MarketDataStore.MAX_PRICE, null, new BigDecimal("1.123456780")));
+
+        assertEquals(MarketDataStore.MAX_PRICE, quote.bid());
+        assertEquals("1.12345678", quote.last().stripTrailingZeros().toPlainString());
+    }
+
     @Test
     void quoteReturnsNotFoundForUnknownSymbol() {
         MarketDataService service = new MarketDataService(new MarketDataStore(), Clock.systemUTC());
@@ -1,10 +1,17 @@
 package com.fixclient.backend.market;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.fixclient.backend.support.FixedPoint;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.Test;
 
 class MarketDataStoreTest {
@@ -42,4 +49,84 @@ class MarketDataStoreTest {
         assertEquals("AAPL", store.all().get(0).symbol());
         assertEquals("MSFT", store.all().get(1).symbol());
     }
+
+    @Test
+    void maintainsLatestUpdateAndPerSourceCounts() {
+        MarketDataStore store = new MarketDataStore();
+        Instant later = Instant.parse("2026-02-23T11:00:00.5Z");
+
+        store.upsert("AAPL", BigDecimal.ONE, null, null, later, "SIMULATED");
+        store.upsert("MSFT", BigDecimal.ONE, null, null, later.minusSeconds(60), "SIMULATED");
+        store.upsertScaled("MSFT", FixedPoint.NULL, 200_000_000L, FixedPoint.NULL, later.minusSeconds(30), "FIX");
+
+        assertEquals(later, store.latestUpdateAt());
+        assertEquals(3, store.updateCount());
+        assertEquals(2, store.symbolsTracked());
+        assertEquals(Map.of("SIMULATED", 1L, "FIX", 1L), store.quotesBySource());
+    }
+
+    @Test
+    void allReusesSnapshotUntilQuotesOrSymbolsChange() {
+        MarketDataStore store = new MarketDataStore();
+        Instant now = Instant.parse("2026-02-23T12:00:00Z");
+        store.upsert("MSFT", BigDecimal.ONE, null, null, now, "SIMULATED");
+        store.upsert("AAPL", BigDecimal.ONE, null, null, now, "SIMULATED");
+
+        List<MarketQuote> first = store.all();
+        assertSame(first, store.all());
+
+        store.upsert("AAPL", BigDecimal.TEN, null, null, now, "SIMULATED");
+        List<MarketQuote> updated = store.all();
+        assertNotSame(first, updated);
+        assertEquals(BigDecimal.TEN, updated.get(0).bid());
+
+        store.upsert("IBM", BigDecimal.ONE, null, null, now, "SIMULATED");
+        assertEquals(List.of("AAPL", "IBM", "MSFT"), store.all().stream().map(MarketQuote::symbol).toList());
+    }
+
+    @Test
+    void keepsDisplayScaleOfDecimalsAndStripsScaledUpdates() {
+        MarketDataStore store = new MarketDataStore();
+        Instant t1 = Instant.parse("2026-02-23T12:00:00.123456789Z");
+
+        MarketQuote quote = store.upsert("IBM", new BigDecimal("190.10"), new BigDecimal("-0.5"), null, t1, "SIMULATED");
+        assertEquals(new BigDecimal("190.10"), quote.bid());
+        assertEquals(new BigDecimal("-0.5"), quote.ask());
+        assertNull(quote.last());
+        assertEquals(t1, quote.updatedAt());
+
+        store.upsertScaled("IBM", FixedPoint.NULL, FixedPoint.NULL, 19_025_000_000L, t1.plusSeconds(1), "FIX");
+        MarketQuote merged = store.find("IBM").orElseThrow();
+        assertEquals(new BigDecimal("190.10"), merged.bid());
+        assertEquals(new BigDecimal("190.25"), merged.last());
+        assertEquals("FIX", merged.source());
+        assertTrue(store.find("MSFT").isEmpty());
+    }
+
+    @Test
+    void readersNeverSeeTornQuotes() throws Exception {
+        MarketDataStore store = new MarketDataStore();
+        Instant t0 = Instant.parse("2026-02-23T12:00:00Z");
+        store.upsertScaled("AAPL", 0, 0, 0, t0, "FIX");
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Thread writer = new Thread(() -> {
+            for (long i = 1; running.get(); i++) {
+                store.upsertScaled("AAPL", i, i, i, t0.plusSeconds(i), "FIX");
+            }
+        });
+        writer.start();
+        try {
+            for (int i = 0; i < 100_000; i++) {
+                MarketQuote quote = store.find("AAPL").orElseThrow();
+                assertEquals(quote.bid(), quote.ask());
+                assertEquals(quote.bid(), quote.last());
+                assertEquals(quote.bid().movePointRight(MarketDataStore.PRICE_SCALE).longValueExact(),
+                        quote.updatedAt().getEpochSecond() - t0.getEpochSecond());
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
 }
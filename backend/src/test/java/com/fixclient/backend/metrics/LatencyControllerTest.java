@@ -0,0 +1,40 @@
+package com.fixclient.backend.metrics;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class LatencyControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderLatencyTracker tracker;
+
+    @Test
+    void reportsAndResetsLatencyPercentiles() throws Exception {
+        tracker.onCreated("latency-test", "IBM", 0);
+        tracker.onExecutionReport("latency-test", true, 2_000_000);
+
+        mockMvc.perform(get("/metrics/latency"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bySymbol.IBM.ack.count").value(1))
+                .andExpect(jsonPath("$.bySymbol.IBM.terminal.p99Nanos").isNumber());
+
+        mockMvc.perform(delete("/metrics/latency")).andExpect(status().isNoContent());
+        mockMvc.perform(get("/metrics/latency"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bySymbol.IBM.ack").doesNotExist())
+                .andExpect(jsonPath("$.inFlightOrders").value(0));
+    }
+}
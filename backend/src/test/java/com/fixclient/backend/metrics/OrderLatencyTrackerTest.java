@@ -0,0 +1,106 @@
+package com.fixclient.backend.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.fixclient.fix.OrderSendResult;
+import com.fixclient.backend.execution.ExecutionReportEvent;
+import com.fixclient.backend.orders.CreateOrderRequest;
+import com.fixclient.backend.orders.InMemoryOrderStore;
+import com.fixclient.backend.orders.OrderRecord;
+import com.fixclient.backend.orders.OrderService;
+import com.fixclient.backend.orders.OrderSide;
+import com.fixclient.backend.orders.OrderType;
+import com.fixclient.backend.orders.TimeInForce;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class OrderLatencyTrackerTest {
+
+    @Test
+    void recordsEachStageFromOrderReceiptOverallAndPerSessionAndSymbol() {
+        OrderLatencyTracker tracker = new OrderLatencyTracker();
+        tracker.onCreated("cl-1", "AAPL", 1_000);
+        tracker.onEncoded("cl-1", "FIX.4.4:SENDER->TARGET", 3_000);
+        tracker.onSent("cl-1", 11_000);
+        tracker.onExecutionReport("cl-1", false, 101_000);
+        tracker.onExecutionReport("cl-1", false, 201_000);
+        tracker.onExecutionReport("cl-1", true, 1_001_000);
+
+        LatencyReport report = tracker.report();
+
+        assertEquals(0, report.inFlightOrders());
+        StageLatency ack = report.overall().get("ack");
+        assertEquals(1, ack.count());
+        assertEquals(100_000, ack.p50Nanos(), 100);
+        assertEquals(2_000, report.overall().get("encode").p99Nanos(), 10);
+        assertEquals(10_000, report.bySymbol().get("AAPL").get("send").p999Nanos(), 10);
+        assertEquals(1_000_000, report.bySession().get("FIX.4.4:SENDER->TARGET").get("terminal").maxNanos(), 1_000);
+    }
+
+    @Test
+    void stopsTrackingWhenTooManyOrdersAreInFlight() {
+        OrderLatencyTracker tracker = new OrderLatencyTracker(1, Optional.empty());
+        tracker.onCreated("cl-1", "AAPL", 0);
+        tracker.onCreated("cl-2", "AAPL", 0);
+        tracker.discard("cl-1");
+
+        LatencyReport report = tracker.report();
+        assertEquals(0, report.inFlightOrders());
+        assertEquals(1, report.untrackedOrders());
+    }
+
+    @Test
+    void evictsOrdersOlderThanTheMaxAgeToMakeRoom() {
+        OrderLatencyTracker tracker = new OrderLatencyTracker(1, 1, Optional.empty());
+        tracker.onCreated("cl-resting", "AAPL", 0);
+        tracker.onCreated("cl-young", "AAPL", 500_000);
+        tracker.onCreated("cl-next", "AAPL", 2_000_000);
+
+        LatencyReport report = tracker.report();
+        assertEquals(1, report.inFlightOrders());
+        assertEquals(1, report.untrackedOrders());
+        assertEquals(1, report.expiredOrders());
+
+        tracker.onExecutionReport("cl-next", true, 3_000_000);
+        assertEquals(1_000_000, tracker.report().overall().get("terminal").maxNanos(), 1_000);
+    }
+
+    @Test
+    void publishesPercentileGaugesToMicrometer() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OrderLatencyTracker tracker = new OrderLatencyTracker(100, Optional.of(registry));
+        tracker.onCreated("cl-1", "MSFT", 0);
+        tracker.onExecutionReport("cl-1", true, 5_000_000);
+
+        double p99 = registry.get(OrderLatencyTracker.METER_NAME)
+                .tags("symbol", "MSFT", "stage", "terminal", "percentile", "0.99")
+                .gauge()
+                .value();
+        assertEquals(5_000_000, p99, 5_000);
+    }
+
+    @Test
+    void orderServiceTimesCreationToFill() {
+        OrderLatencyTracker tracker = new OrderLatencyTracker();
+        OrderService service = new OrderService(
+                submission -> new OrderSendResult(true, "accepted"),
+                new InMemoryOrderStore(),
+                Optional.empty(),
+                Optional.of(tracker));
+        OrderRecord accepted = service.createOrder(
+                new CreateOrderRequest("AAPL", OrderSide.BUY, 10, OrderType.LIMIT, BigDecimal.TEN, TimeInForce.DAY));
+        service.createOrder(new CreateOrderRequest("AAPL", OrderSide.BUY, 10, OrderType.MARKET, null, TimeInForce.DAY));
+        assertEquals(2, tracker.report().inFlightOrders());
+
+        service.applyExecutionReport(new ExecutionReportEvent(
+                accepted.clOrdId(), null, "F", "2", null, null, null, null, null, null, null));
+
+        LatencyReport report = tracker.report();
+        assertEquals(1, report.inFlightOrders());
+        assertEquals(1, report.bySymbol().get("AAPL").get("terminal").count());
+        assertTrue(report.overall().get("ack").p50Nanos() > 0);
+    }
+}
@@ -0,0 +1,244 @@
+package com.fixclient.backend.orders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.fixclient.backend.execution.ExecutionReportEvent;
+import com.fixclient.backend.execution.ExecutionReportStateStore;
+import com.fixclient.backend.execution.OrderExecutionState;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournaledOrderStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void restoresOrdersAndTransitionsAfterRestart() {
+        OrderRecord limit = order("AAPL", new BigDecimal("187.250"));
+        OrderRecord market = new OrderRecord(
+                UUID.randomUUID(), "cl-2", Instant.parse("2026-02-23T13:45:07.123456789Z"), "MSFT", OrderSide.SELL,
+                5, OrderType.MARKET, null, TimeInForce.IOC, OrderStatus.QUEUED, null);
+        try (JournaledOrderStore store = open(JournaledOrderStore.DEFAULT_SEGMENT_SIZE)) {
+            store.add(limit);
+            store.addAll(List.of(market));
+            store.update(limit.withStatusAndMessage(OrderStatus.PARTIALLY_FILLED, "partial fill"));
+            store.update(market.withStatusAndMessage(OrderStatus.REJECTED, "Rejected: ünknown symbol"));
+        }
+
+        try (JournaledOrderStore restored = open(JournaledOrderStore.DEFAULT_SEGMENT_SIZE)) {
+            assertEquals(
+                    List.of(
+                            market.withStatusAndMessage(OrderStatus.REJECTED, "Rejected: ünknown symbol"),
+                            limit.withStatusAndMessage(OrderStatus.PARTIALLY_FILLED, "partial fill")),
+                    restored.listRecent());
+            assertEquals(new BigDecimal("187.250"), restored.findByClOrdId("cl-AAPL").orElseThrow().price());
+        }
+    }
+
+    @Test
+    void rollsOverSegmentsAndReplaysThemInOrder() throws IOException {
+        List<OrderRecord> added = new ArrayList<>();
+        try (JournaledOrderStore store = open(4 * OrderJournal.RECORD_SIZE)) {
+            for (int i = 0; i < 10; i++) {
+                OrderRecord order = order("SYM" + i, BigDecimal.ONE);
+                store.add(order);
+                added.add(0, order.withStatusAndMessage(OrderStatus.FILLED, "filled " + i));
+                store.update(added.get(0));
+            }
+        }
+
+        assertEquals(5, segmentFiles().size());
+        try (JournaledOrderStore restored = open(4 * OrderJournal.RECORD_SIZE)) {
+            assertEquals(added, restored.listRecent());
+        }
+    }
+
+    @Test
+    void stopsReplayAtTornRecordAndOverwritesIt() throws IOException {
+        OrderRecord order = order("AAPL", BigDecimal.TEN);
+        try (JournaledOrderStore store = open(JournaledOrderStore.DEFAULT_SEGMENT_SIZE)) {
+            store.add(order);
+            store.update(order.withStatusAndMessage(OrderStatus.FILLED, "filled"));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segmentFiles().get(0).toFile(), "rw")) {
+            file.seek(OrderJournal.RECORD_SIZE + 40);
+            file.write(0x5A);
+        }
+
+        try (JournaledOrderStore restored = open(JournaledOrderStore.DEFAULT_SEGMENT_SIZE)) {
+            assertEquals(OrderStatus.ACCEPTED, restored.findByOrderId(order.orderId()).orElseThrow().status());
+            restored.update(order.withStatusAndMessage(OrderStatus.CANCELED, "canceled"));
+        }
+        try (JournaledOrderStore restored = open(JournaledOrderStore.DEFAULT_SEGMENT_SIZE)) {
+            OrderRecord recovered = restored.findByOrderId(order.orderId()).orElseThrow();
+            assertEquals(OrderStatus.CANCELED, recovered.status());
+            assertEquals("canceled", recovered.message());
+        }
+    }
+
+    @Test
+    void truncatesLongMessagesAtCharacterBoundary() {
+        OrderRecord order = order("AAPL", BigDecimal.ONE);
+        String message = "é".repeat(OrderJournal.MESSAGE_BYTES);
+        try (JournaledOrderStore store = open(JournaledOrderStore.DEFAULT_SEGMENT_SIZE)) {
+            store.add(order.withStatusAndMessage(OrderStatus.REJECTED, message));
+        }
+
+        try (JournaledOrderStore restored = open(JournaledOrderStore.DEFAULT_SEGMENT_SIZE)) {
+            String recovered = restored.findByOrderId(order.orderId()).orElseThrow().message();
+            assertEquals(message.substring(0, OrderJournal.MESSAGE_BYTES / 2), recovered);
+            assertNull(restored.findByClOrdId("missing").orElse(null));
+        }
+    }
+
+    @Test
+    void restoresReplacedQuantityPriceAndClOrdId() {
+        OrderRecord journaled = order("AAPL", new BigDecimal("187.25"));
+        OrderRecord snapshotted = order("MSFT", new BigDecimal("411.00"));
+        OrderRecord replacedInJournal = journaled.withReplacement(250, new BigDecimal("186.5"), "cl-AAPL.1")
+                .withStatusAndMessage(OrderStatus.NEW, "replaced");
+        OrderRecord replacedInSnapshot = snapshotted.withReplacement(40, new BigDecimal("410.75"), "cl-MSFT.1")
+                .withStatusAndMessage(OrderStatus.PENDING_CANCEL, "Cancel cl-MSFT.2 requested");
+        try (JournaledOrderStore store = openWithSnapshots(new ExecutionReportStateStore())) {
+            store.add(snapshotted);
+            store.update(replacedInSnapshot);
+            store.snapshot();
+            store.add(journaled);
+            store.update(replacedInJournal);
+        }
+
+        try (JournaledOrderStore restored = open(4 * OrderJournal.RECORD_SIZE)) {
+            assertEquals(List.of(replacedInJournal, replacedInSnapshot), restored.listRecent());
+            assertEquals("cl-AAPL.1", restored.findByClOrdId("cl-AAPL").orElseThrow().currentClOrdId());
+        }
+    }
+
+    @Test
+    void restoresFromSnapshotPlusJournalTailAndDropsCoveredSegments() throws IOException {
+        List<OrderRecord> added = new ArrayList<>();
+        ExecutionReportStateStore executions = new ExecutionReportStateStore();
+        try (JournaledOrderStore store = openWithSnapshots(executions)) {
+            for (int i = 0; i < 6; i++) {
+                OrderRecord order = order("SYM" + i, BigDecimal.ONE);
+                store.add(order);
+                added.add(0, order);
+            }
+            executions.update(new ExecutionReportEvent(
+                    "cl-SYM0", "ex-1", "F", "1", new BigDecimal("40"), new BigDecimal("60"), new BigDecimal("10.5"),
+                    new BigDecimal("10.5"), new BigDecimal("40"), "partial", Instant.parse("2026-02-23T13:45:08Z")));
+            store.snapshot();
+            assertEquals(List.of("orders-000000000002.journal"), segmentNames());
+
+            OrderRecord filled = added.get(5).withStatusAndMessage(OrderStatus.FILLED, "filled after snapshot");
+            store.update(filled);
+            added.set(5, filled);
+            OrderRecord late = order("LATE", BigDecimal.TEN);
+            store.add(late);
+            added.add(0, late);
+        }
+
+        ExecutionReportStateStore restoredExecutions = new ExecutionReportStateStore();
+        try (JournaledOrderStore restored = new JournaledOrderStore(
+                directory, 4 * OrderJournal.RECORD_SIZE, JournalForcePolicy.NEVER, 1000, 0,
+                Optional.of(restoredExecutions), Optional.empty())) {
+            assertEquals(added, restored.listRecent());
+            OrderExecutionState state = restoredExecutions.latestFor("ex-1");
+            assertEquals(0, new BigDecimal("40").compareTo(state.filledQty()));
+            assertEquals("partial", state.text());
+            assertEquals(state, restoredExecutions.latestFor("cl-SYM0"));
+        }
+    }
+
+    @Test
+    void restoresTheSessionEachOrderWasSentOn() {
+        OrderRecord routed = order("AAPL", BigDecimal.ONE).withSessionId("FIX.4.4:A->VENUE");
+        OrderRecord queued = order("MSFT", BigDecimal.ONE);
+        OrderRecord late = order("IBM", BigDecimal.ONE).withSessionId("FIX.4.4:A->VENUE");
+        ExecutionReportStateStore executions = new ExecutionReportStateStore();
+        try (JournaledOrderStore store = openWithSnapshots(executions)) {
+            store.add(routed);
+            store.add(queued);
+            store.snapshot();
+            store.update(queued.withStatusAndMessage(OrderStatus.ACCEPTED, "sent").withSessionId("FIX.4.4:B->VENUE"));
+            store.add(late);
+        }
+
+        try (JournaledOrderStore restored = openWithSnapshots(new ExecutionReportStateStore())) {
+            assertEquals("FIX.4.4:A->VENUE", restored.findByOrderId(routed.orderId()).orElseThrow().sessionId());
+            assertEquals("FIX.4.4:B->VENUE", restored.findByOrderId(queued.orderId()).orElseThrow().sessionId());
+            assertEquals("FIX.4.4:A->VENUE", restored.findByOrderId(late.orderId()).orElseThrow().sessionId());
+        }
+    }
+
+    @Test
+    void fallsBackToJournalWhenSnapshotIsCorrupt() throws IOException {
+        OrderRecord order = order("AAPL", BigDecimal.TEN);
+        try (JournaledOrderStore store = new JournaledOrderStore(
+                directory, JournaledOrderStore.DEFAULT_SEGMENT_SIZE, JournalForcePolicy.NEVER, 1000, 3_600_000,
+                Optional.empty(), Optional.empty())) {
+            store.add(order);
+            store.snapshot();
+            store.update(order.withStatusAndMessage(OrderStatus.FILLED, "filled"));
+        }
+        Path snapshot = Files.list(directory).filter(path -> path.toString().endsWith(".bin")).findFirst().orElseThrow();
+        try (RandomAccessFile file = new RandomAccessFile(snapshot.toFile(), "rw")) {
+            file.seek(30);
+            file.write(0x5A);
+        }
+
+        try (JournaledOrderStore restored = open(JournaledOrderStore.DEFAULT_SEGMENT_SIZE)) {
+            assertEquals(OrderStatus.FILLED, restored.findByOrderId(order.orderId()).orElseThrow().status());
+        }
+    }
+
+    private JournaledOrderStore openWithSnapshots(ExecutionReportStateStore executions) {
+        return new JournaledOrderStore(
+                directory, 4 * OrderJournal.RECORD_SIZE, JournalForcePolicy.NEVER, 1000, 3_600_000,
+                Optional.of(executions), Optional.empty());
+    }
+
+    private List<String> segmentNames() throws IOException {
+        return segmentFiles().stream()
+                .map(path -> path.getFileName().toString())
+                .filter(name -> name.endsWith(".journal"))
+                .toList();
+    }
+
+    private JournaledOrderStore open(int segmentSize) {
+        return new JournaledOrderStore(directory, segmentSize, JournalForcePolicy.NEVER, 1000);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static OrderRecord order(String symbol, BigDecimal price) {
+        return new OrderRecord(
+                UUID.randomUUID(),
+                "cl-" + symbol,
+                Instant.parse("2026-02-23T13:45:07Z"),
+                symbol,
+                OrderSide.BUY,
+                100,
+                OrderType.LIMIT,
+                price,
+                TimeInForce.DAY,
+                OrderStatus.ACCEPTED,
+                "accepted");
+    }
+}
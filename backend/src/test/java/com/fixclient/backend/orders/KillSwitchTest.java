@@ -0,0 +1,39 @@
+package com.fixclient.backend.orders;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class KillSwitchTest {
+
+    @Test
+    void engageWaitsForAdmittedSubmissionsAndRefusesNewOnes() throws Exception {
+        KillSwitch killSwitch = new KillSwitch();
+        assertTrue(killSwitch.tryEnter());
+
+        CountDownLatch engaging = new CountDownLatch(1);
+        CompletableFuture<Boolean> engaged = CompletableFuture.supplyAsync(() -> {
+            engaging.countDown();
+            return killSwitch.engage();
+        });
+        engaging.await(5, TimeUnit.SECONDS);
+        while (!killSwitch.isEngaged()) {
+            Thread.onSpinWait();
+        }
+
+        assertFalse(killSwitch.tryEnter());
+        Thread.sleep(20);
+        assertFalse(engaged.isDone());
+
+        killSwitch.exit();
+
+        assertTrue(engaged.get(5, TimeUnit.SECONDS));
+        assertFalse(killSwitch.engage());
+        killSwitch.release();
+        assertTrue(killSwitch.tryEnter());
+    }
+}
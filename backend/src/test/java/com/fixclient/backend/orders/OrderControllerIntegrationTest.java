@@ -10,6 +10,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.example.fixclient.fix.OrderSendResult;
 import com.example.fixclient.fix.OrderSender;
+import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,6 +34,27 @@ class OrderControllerIntegrationTest {
     @BeforeEach
     void resetSenderDefault() {
         when(orderSender.send(any())).thenReturn(new OrderSendResult(true, "Order accepted"));
+        when(orderSender.sendBatch(any())).thenAnswer(invocation -> Collections.nCopies(
+                invocation.<List<?>>getArgument(0).size(), new OrderSendResult(true, "Order accepted")));
+    }
+
+    @Test
+    void batchReturnsPerItemResults() throws Exception {
+        mockMvc.perform(post("/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [
+                                  {"symbol": "AAPL", "side": "BUY", "qty": 10, "type": "MARKET", "tif": "DAY"},
+                                  {"symbol": "MSFT", "side": "BUY", "qty": 10, "type": "LIMIT", "tif": "DAY"}
+                                ]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].accepted").value(true))
+                .andExpect(jsonPath("$[0].order.status").value("ACCEPTED"))
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].accepted").value(false))
+                .andExpect(jsonPath("$[1].message").value("price is required for LIMIT orders"));
     }
 
     @Test
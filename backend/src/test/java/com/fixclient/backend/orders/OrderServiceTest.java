@@ -1,17 +1,34 @@
 package com.fixclient.backend.orders;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.example.fixclient.fix.OrderCancelSubmission;
+import com.example.fixclient.fix.OrderMassCancelSubmission;
+import com.example.fixclient.fix.OrderReplaceSubmission;
 import com.example.fixclient.fix.OrderSendResult;
 import com.example.fixclient.fix.OrderSender;
+import com.example.fixclient.fix.OrderSubmission;
 import com.fixclient.backend.execution.ExecutionReportEvent;
+import com.fixclient.backend.ids.ClOrdIdChain;
+import com.fixclient.backend.ids.SnowflakeOrderIdGenerator;
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class OrderServiceTest {
 
@@ -35,7 +52,7 @@ class OrderServiceTest {
                 new CreateOrderRequest("aapl", OrderSide.BUY, 100, OrderType.MARKET, new BigDecimal("123.45"), TimeInForce.DAY));
 
         assertNotNull(created.orderId());
-        assertEquals(created.orderId().toString(), created.clOrdId());
+        assertEquals(SnowflakeOrderIdGenerator.idOf(created.orderId()), SnowflakeOrderIdGenerator.parseClOrdId(created.clOrdId()));
         assertEquals("AAPL", created.symbol());
         assertNull(created.price());
         assertEquals(OrderStatus.ACCEPTED, created.status());
@@ -89,4 +106,543 @@ class OrderServiceTest {
 
         assertEquals("Order not found: " + missing, ex.getMessage());
     }
+
+    @Test
+    void createOrdersValidatesEachItemAndStoresAcceptedOrdersInOneBatch() {
+        List<Integer> batchSizes = new ArrayList<>();
+        OrderSender sender = new OrderSender() {
+            @Override
+            public OrderSendResult send(OrderSubmission submission) {
+                throw new AssertionError("batch path must not send one by one");
+            }
+
+            @Override
+            public List<OrderSendResult> sendBatch(List<OrderSubmission> submissions) {
+                batchSizes.add(submissions.size());
+                return submissions.stream()
+                        .map(submission -> new OrderSendResult(!submission.symbol().equals("HALT"), "sent " + submission.symbol()))
+                        .toList();
+            }
+        };
+        OrderService service = new OrderService(sender, new InMemoryOrderStore());
+
+        List<BatchOrderResult> results = service.createOrders(List.of(
+                new CreateOrderRequest("aapl", OrderSide.BUY, 10, OrderType.MARKET, null, TimeInForce.DAY),
+                new CreateOrderRequest("MSFT", OrderSide.SELL, 0, OrderType.MARKET, null, TimeInForce.DAY),
+                new CreateOrderRequest("HALT", OrderSide.BUY, 5, OrderType.LIMIT, new BigDecimal("1.5"), TimeInForce.GTC)));
+
+        assertEquals(List.of(2), batchSizes);
+        assertEquals(3, results.size());
+
+        assertTrue(results.get(0).accepted());
+        assertEquals("AAPL", results.get(0).order().symbol());
+        assertEquals(OrderStatus.ACCEPTED, results.get(0).order().status());
+
+        assertEquals(1, results.get(1).index());
+        assertEquals(false, results.get(1).accepted());
+        assertNull(results.get(1).order());
+        assertEquals("qty must be greater than 0", results.get(1).message());
+
+        assertEquals(false, results.get(2).accepted());
+        assertEquals(OrderStatus.REJECTED, results.get(2).order().status());
+
+        assertEquals(2, service.listOrders().size());
+        assertEquals("HALT", service.listOrders().get(0).symbol());
+    }
+
+    @Test
+    void createOrdersKeepsFillsThatArriveBeforeTheBatchSendReturns() {
+        AtomicReference<OrderService> serviceRef = new AtomicReference<>();
+        OrderSender sender = new OrderSender() {
+            @Override
+            public OrderSendResult send(OrderSubmission submission) {
+                throw new AssertionError("batch path must not send one by one");
+            }
+
+            @Override
+            public List<OrderSendResult> sendBatch(List<OrderSubmission> submissions) {
+                OrderSubmission first = submissions.get(0);
+                serviceRef.get().applyExecutionReport(new ExecutionReportEvent(
+                        first.clOrdId(), "VENUE-1", "2", "F", BigDecimal.valueOf(10), BigDecimal.ZERO,
+                        null, BigDecimal.valueOf(10), BigDecimal.valueOf(10), "filled", Instant.now()));
+                return submissions.stream()
+                        .map(submission -> new OrderSendResult(true, "sent", "FIX.4.4:CLIENT->VENUE"))
+                        .toList();
+            }
+        };
+        OrderService service = new OrderService(sender, new InMemoryOrderStore());
+        serviceRef.set(service);
+
+        List<BatchOrderResult> results = service.createOrders(List.of(
+                limit("AAPL", OrderSide.BUY),
+                limit("MSFT", OrderSide.SELL)));
+
+        assertEquals(OrderStatus.FILLED, results.get(0).order().status());
+        assertEquals(OrderStatus.FILLED, service.getOrderById(results.get(0).order().orderId().toString()).status());
+        assertEquals("FIX.4.4:CLIENT->VENUE", results.get(0).order().sessionId());
+        assertEquals(OrderStatus.ACCEPTED, results.get(1).order().status());
+        assertEquals("FIX.4.4:CLIENT->VENUE", results.get(1).order().sessionId());
+    }
+
+    @Test
+    void createOrdersRejectsEmptyBatch() {
+        OrderService service = new OrderService(submission -> new OrderSendResult(true, "accepted"), new InMemoryOrderStore());
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> service.createOrders(List.of()));
+
+        assertEquals("At least one order is required", ex.getMessage());
+    }
+
+    @Test
+    void asyncModeReturnsQueuedOrderAndAppliesSendResultLater() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        OrderSender sender = submission -> {
+            await(release);
+            return new OrderSendResult(true, "sent");
+        };
+        InMemoryOrderStore store = new InMemoryOrderStore();
+        OrderSubmissionQueue queue = new OrderSubmissionQueue(sender, 4, 4);
+        try {
+            OrderService service = new OrderService(sender, store, Optional.of(queue));
+
+            OrderRecord queued = service.createOrder(
+                    new CreateOrderRequest("AAPL", OrderSide.BUY, 10, OrderType.MARKET, null, TimeInForce.DAY));
+
+            assertEquals(OrderStatus.QUEUED, queued.status());
+            assertEquals(OrderStatus.QUEUED, service.getOrderById(queued.orderId().toString()).status());
+
+            release.countDown();
+            assertTrue(waitForStatus(service, queued.orderId(), OrderStatus.ACCEPTED));
+            assertEquals("sent", service.getOrderById(queued.orderId().toString()).message());
+        } finally {
+            queue.close();
+        }
+    }
+
+    @Test
+    void asyncModeSignalsBackpressureWhenQueueIsFull() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        OrderSender sender = submission -> {
+            entered.countDown();
+            await(release);
+            return new OrderSendResult(true, "sent");
+        };
+        OrderSubmissionQueue queue = new OrderSubmissionQueue(sender, 1, 1);
+        try {
+            OrderService service = new OrderService(sender, new InMemoryOrderStore(), Optional.of(queue));
+            CreateOrderRequest request =
+                    new CreateOrderRequest("AAPL", OrderSide.BUY, 10, OrderType.MARKET, null, TimeInForce.DAY);
+
+            service.createOrder(request);
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            service.createOrder(request);
+
+            assertThrows(OrderBackpressureException.class, () -> service.createOrder(request));
+            List<OrderRecord> orders = service.listOrders();
+            assertEquals(3, orders.size());
+            assertEquals(OrderStatus.REJECTED, orders.get(0).status());
+            assertEquals(OrderStatus.QUEUED, orders.get(1).status());
+        } finally {
+            release.countDown();
+            queue.close();
+        }
+    }
+
+    @Test
+    void asyncModeKeepsAVenueReportThatArrivesBeforeTheSendCompletes() throws Exception {
+        AtomicReference<OrderService> serviceRef = new AtomicReference<>();
+        OrderSender sender = submission -> {
+            if (submission.symbol().equals("AAPL")) {
+                serviceRef.get().applyExecutionReport(report(submission.clOrdId(), "0", "0", "venue ack"));
+            }
+            return new OrderSendResult(true, "sent");
+        };
+        OrderSubmissionQueue queue = new OrderSubmissionQueue(sender, 4, 1);
+        try {
+            OrderService service = new OrderService(sender, new InMemoryOrderStore(), Optional.of(queue));
+            serviceRef.set(service);
+
+            OrderRecord acked = service.createOrder(
+                    new CreateOrderRequest("AAPL", OrderSide.BUY, 10, OrderType.MARKET, null, TimeInForce.DAY));
+            OrderRecord next = service.createOrder(
+                    new CreateOrderRequest("MSFT", OrderSide.BUY, 10, OrderType.MARKET, null, TimeInForce.DAY));
+
+            assertTrue(waitForStatus(service, next.orderId(), OrderStatus.ACCEPTED));
+            OrderRecord stored = service.getOrderById(acked.orderId().toString());
+            assertEquals(OrderStatus.NEW, stored.status());
+            assertEquals("venue ack", stored.message());
+        } finally {
+            queue.close();
+        }
+    }
+
+    @Test
+    void replaceIsPendingUntilTheVenueConfirmsIt() {
+        RecordingSender sender = new RecordingSender(true);
+        OrderService service = new OrderService(sender, new InMemoryOrderStore());
+        OrderRecord created = service.createOrder(
+                new CreateOrderRequest("MSFT", OrderSide.BUY, 10, OrderType.LIMIT, new BigDecimal("411.25"), TimeInForce.DAY));
+
+        OrderRequestResult result = service.replaceOrder(
+                created.orderId().toString(), new ReplaceOrderRequest(20, new BigDecimal("410.50")));
+
+        assertTrue(result.accepted());
+        assertEquals(created.clOrdId(), ClOrdIdChain.rootOf(result.clOrdId()));
+        assertEquals(OrderStatus.PENDING_REPLACE, result.order().status());
+        assertEquals(10, result.order().qty());
+        OrderReplaceSubmission sent = sender.replaces.get(0);
+        assertEquals(created.clOrdId(), sent.origClOrdId());
+        assertEquals(20, sent.qty());
+        assertEquals(new BigDecimal("410.50"), sent.price());
+
+        service.applyExecutionReport(report(result.clOrdId(), "5", "0", null));
+
+        OrderRecord replaced = service.getOrderById(created.orderId().toString());
+        assertEquals(OrderStatus.NEW, replaced.status());
+        assertEquals(20, replaced.qty());
+        assertEquals(new BigDecimal("410.50"), replaced.price());
+        assertEquals(created.clOrdId(), replaced.clOrdId());
+        assertEquals(result.clOrdId(), replaced.currentClOrdId());
+
+        OrderRequestResult cancel = service.cancelOrder(created.orderId().toString());
+
+        assertEquals(result.clOrdId(), sender.cancels.get(0).origClOrdId());
+        service.applyExecutionReport(report(cancel.clOrdId(), "4", "4", null));
+        assertEquals(OrderStatus.CANCELED, service.getOrderById(created.orderId().toString()).status());
+    }
+
+    @Test
+    void onlyOneCancelOrReplaceMayBeInFlightPerOrder() {
+        OrderService service = new OrderService(new RecordingSender(true), new InMemoryOrderStore());
+        OrderRecord created = service.createOrder(
+                new CreateOrderRequest("MSFT", OrderSide.BUY, 10, OrderType.LIMIT, new BigDecimal("411.25"), TimeInForce.DAY));
+        String orderId = created.orderId().toString();
+
+        service.replaceOrder(orderId, new ReplaceOrderRequest(20, null));
+
+        assertThrows(OrderConflictException.class, () -> service.cancelOrder(orderId));
+    }
+
+    @Test
+    void cancelRejectRestoresThePreviousStatus() {
+        OrderService service = new OrderService(new RecordingSender(true), new InMemoryOrderStore());
+        OrderRecord created = service.createOrder(
+                new CreateOrderRequest("MSFT", OrderSide.BUY, 10, OrderType.LIMIT, new BigDecimal("411.25"), TimeInForce.DAY));
+        String orderId = created.orderId().toString();
+
+        OrderRequestResult cancel = service.cancelOrder(orderId);
+        assertEquals(OrderStatus.PENDING_CANCEL, cancel.order().status());
+        service.applyCancelReject(cancel.clOrdId(), "too late to cancel");
+
+        OrderRecord restored = service.getOrderById(orderId);
+        assertEquals(OrderStatus.ACCEPTED, restored.status());
+        assertEquals("Cancel rejected: too late to cancel", restored.message());
+        assertTrue(service.cancelOrder(orderId).accepted());
+    }
+
+    @Test
+    void cancelKeepsAReportAppliedWhileItWasBeingMarkedPending() {
+        AtomicBoolean raced = new AtomicBoolean();
+        InMemoryOrderStore store = new InMemoryOrderStore() {
+            @Override
+            public boolean replace(OrderRecord expected, OrderRecord order) {
+                if (order.status() == OrderStatus.PENDING_CANCEL && raced.compareAndSet(false, true)) {
+                    // A fill applied by a report shard between the cancel's read and its write.
+                    update(expected.withStatusAndMessage(OrderStatus.PARTIALLY_FILLED, "partial fill"));
+                }
+                return super.replace(expected, order);
+            }
+        };
+        OrderService service = new OrderService(new RecordingSender(true), store);
+        OrderRecord created = service.createOrder(limit("MSFT", OrderSide.BUY));
+        String orderId = created.orderId().toString();
+
+        OrderRequestResult cancel = service.cancelOrder(orderId);
+
+        assertTrue(raced.get());
+        assertEquals(OrderStatus.PENDING_CANCEL, cancel.order().status());
+        service.applyCancelReject(cancel.clOrdId(), "too late to cancel");
+        assertEquals(OrderStatus.PARTIALLY_FILLED, service.getOrderById(orderId).status());
+    }
+
+    @Test
+    void unsentRequestLeavesTheOrderAsItWas() {
+        OrderService service = new OrderService(new RecordingSender(false), new InMemoryOrderStore());
+        OrderRecord created = service.createOrder(
+                new CreateOrderRequest("MSFT", OrderSide.BUY, 10, OrderType.MARKET, null, TimeInForce.DAY));
+        String orderId = created.orderId().toString();
+
+        OrderRequestResult result = service.cancelOrder(orderId);
+
+        assertFalse(result.accepted());
+        assertEquals(OrderStatus.ACCEPTED, result.order().status());
+        assertThrows(IllegalArgumentException.class,
+                () -> service.replaceOrder(orderId, new ReplaceOrderRequest(null, BigDecimal.ONE)));
+    }
+
+    @Test
+    void terminalOrdersCannotBeCanceled() {
+        OrderService service = new OrderService(new RecordingSender(true), new InMemoryOrderStore());
+        OrderRecord created = service.createOrder(
+                new CreateOrderRequest("MSFT", OrderSide.BUY, 10, OrderType.MARKET, null, TimeInForce.DAY));
+        service.applyExecutionReport(report(created.clOrdId(), "F", "2", null));
+
+        assertThrows(OrderConflictException.class, () -> service.cancelOrder(created.orderId().toString()));
+    }
+
+    @Test
+    void massCancelSendsOneCancelPerMatchingOpenOrder() {
+        RecordingSender sender = new RecordingSender(true);
+        OrderService service = new OrderService(sender, new InMemoryOrderStore());
+        OrderRecord aaplBuy = service.createOrder(limit("AAPL", OrderSide.BUY));
+        service.createOrder(limit("AAPL", OrderSide.SELL));
+        service.createOrder(limit("MSFT", OrderSide.BUY));
+        OrderRecord filled = service.createOrder(limit("AAPL", OrderSide.BUY));
+        service.applyExecutionReport(report(filled.clOrdId(), "F", "2", null));
+
+        MassCancelResult bySymbolAndSide = service.massCancel(new MassCancelRequest("aapl", OrderSide.BUY, null));
+
+        assertFalse(bySymbolAndSide.venueRequest());
+        assertEquals(1, bySymbolAndSide.matchedOrders());
+        assertEquals(1, bySymbolAndSide.cancelsSent());
+        assertEquals(aaplBuy.clOrdId(), sender.cancels.get(0).origClOrdId());
+
+        MassCancelResult bySession = service.massCancel(new MassCancelRequest(null, null, "BUYS"));
+
+        assertEquals(2, bySession.matchedOrders());
+        assertEquals(1, bySession.cancelsSent());
+        assertEquals(1, bySession.skippedOrders());
+        assertEquals(2, sender.cancels.size());
+    }
+
+    @Test
+    void venueMassCancelFallsBackToSingleCancelsWhenRejected() {
+        RecordingSender sender = new RecordingSender(true);
+        OrderService service = new OrderService(sender, new InMemoryOrderStore(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), true);
+        service.createOrder(limit("AAPL", OrderSide.BUY));
+        service.createOrder(limit("MSFT", OrderSide.SELL));
+
+        MassCancelResult result = service.massCancel(null);
+
+        assertTrue(result.venueRequest());
+        assertEquals(2, result.matchedOrders());
+        assertNull(sender.massCancels.get(0).symbol());
+        assertTrue(sender.cancels.isEmpty());
+
+        service.applyMassCancelReport(result.clOrdId(), true);
+
+        assertEquals(2, sender.cancels.size());
+    }
+
+    @Test
+    void venueMassCancelFallsBackToSingleCancelsWhenTheVenueNeverAnswers() throws Exception {
+        RecordingSender sender = new RecordingSender(true);
+        OrderService service = new OrderService(sender, new InMemoryOrderStore(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), true, 50);
+        try {
+            OrderRecord open = service.createOrder(limit("AAPL", OrderSide.BUY));
+            OrderRecord canceled = service.createOrder(limit("AAPL", OrderSide.SELL));
+
+            MassCancelResult result = service.massCancel(null);
+            service.applyExecutionReport(report(canceled.clOrdId(), "4", "4", null));
+
+            assertTrue(result.venueRequest());
+            assertTrue(waitForStatus(service, open.orderId(), OrderStatus.PENDING_CANCEL));
+            assertEquals(1, sender.cancels.size());
+            assertEquals(open.orderId(), sender.cancels.get(0).orderId());
+
+            // The venue's late report no longer triggers anything.
+            service.applyMassCancelReport(result.clOrdId(), true);
+            assertEquals(1, sender.cancels.size());
+        } finally {
+            service.close();
+        }
+    }
+
+    @Test
+    void expiresReplacesTheVenueNeverAnswersSoTheKillSwitchCanCancel() throws Exception {
+        RecordingSender sender = new RecordingSender(true);
+        OrderService service = new OrderService(sender, new InMemoryOrderStore(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), false, 5_000, 50);
+        try {
+            OrderRecord order = service.createOrder(limit("AAPL", OrderSide.BUY));
+            String replaceClOrdId = service.replaceOrder(
+                    order.orderId().toString(), new ReplaceOrderRequest(20, null)).clOrdId();
+
+            assertTrue(waitForStatus(service, order.orderId(), OrderStatus.ACCEPTED));
+            assertEquals("Replace " + replaceClOrdId + " timed out without an answer from the venue",
+                    service.getOrderById(order.orderId().toString()).message());
+
+            KillSwitchStatus status = service.engageKillSwitch();
+
+            assertEquals(1, status.cancel().cancelsSent());
+            assertEquals(order.orderId(), sender.cancels.get(0).orderId());
+            assertEquals(OrderStatus.PENDING_CANCEL, service.getOrderById(order.orderId().toString()).status());
+        } finally {
+            service.close();
+        }
+    }
+
+    @Test
+    void tracksWorkingOrdersTheStoreNoLongerListsAsRecent() {
+        RingBufferOrderStore store = new RingBufferOrderStore(2, OrderRetentionPolicy.RETAIN_ALL);
+        OrderService before = new OrderService(new RecordingSender(true), store);
+        OrderRecord working = before.createOrder(limit("AAPL", OrderSide.BUY));
+        for (int i = 0; i < 2; i++) {
+            OrderRecord filled = before.createOrder(limit("MSFT", OrderSide.SELL));
+            before.applyExecutionReport(report(filled.clOrdId(), "F", "2", null));
+        }
+
+        RecordingSender sender = new RecordingSender(true);
+        OrderService service = new OrderService(sender, store);
+        MassCancelResult result = service.massCancel(null);
+
+        assertEquals(1, result.matchedOrders());
+        assertEquals(working.orderId(), sender.cancels.get(0).orderId());
+    }
+
+    @Test
+    void cancelsRecoveredOrdersOnTheSessionTheyWereSentOn(@TempDir Path directory) {
+        OrderRecord buy;
+        try (JournaledOrderStore store = new JournaledOrderStore(directory, 1 << 16, JournalForcePolicy.NEVER, 1000)) {
+            OrderService before = new OrderService(new RecordingSender(true), store);
+            buy = before.createOrder(limit("AAPL", OrderSide.BUY));
+            before.createOrder(limit("AAPL", OrderSide.SELL));
+        }
+
+        try (JournaledOrderStore store = new JournaledOrderStore(directory, 1 << 16, JournalForcePolicy.NEVER, 1000)) {
+            RecordingSender sender = new RecordingSender(true);
+            OrderService service = new OrderService(sender, store);
+
+            MassCancelResult result = service.massCancel(new MassCancelRequest(null, null, "BUYS"));
+
+            assertEquals(1, result.cancelsSent());
+            assertEquals(buy.orderId(), sender.cancels.get(0).orderId());
+            assertEquals("BUYS", sender.cancels.get(0).sessionId());
+        }
+    }
+
+    @Test
+    void killSwitchReportsOrdersWhoseCancelCouldNotBeSent() {
+        OrderService service = new OrderService(new RecordingSender(false), new InMemoryOrderStore());
+        OrderRecord open = service.createOrder(limit("AAPL", OrderSide.BUY));
+
+        KillSwitchStatus engaged = service.engageKillSwitch();
+
+        assertEquals(0, engaged.cancel().cancelsSent());
+        assertEquals(0, engaged.cancel().skippedOrders());
+        assertEquals(List.of(open.orderId()), engaged.cancel().refusedOrderIds());
+        assertTrue(engaged.cancel().message().contains("1 could not be sent"));
+        assertEquals(1, engaged.openOrders());
+    }
+
+    @Test
+    void killSwitchReportsTheSingleCancelsItsVenueMassCancelFellBackTo() {
+        RecordingSender sender = new RecordingSender(true);
+        OrderService service = new OrderService(sender, new InMemoryOrderStore(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), true);
+        try {
+            service.createOrder(limit("AAPL", OrderSide.BUY));
+            MassCancelResult venue = service.engageKillSwitch().cancel();
+
+            service.applyMassCancelReport(venue.clOrdId(), true);
+
+            MassCancelResult reported = service.killSwitchStatus().cancel();
+            assertFalse(reported.venueRequest());
+            assertEquals(1, reported.cancelsSent());
+        } finally {
+            service.close();
+        }
+    }
+
+    @Test
+    void killSwitchBlocksNewOrdersAndCancelsOpenOnes() {
+        RecordingSender sender = new RecordingSender(true);
+        OrderService service = new OrderService(sender, new InMemoryOrderStore());
+        OrderRecord open = service.createOrder(limit("AAPL", OrderSide.BUY));
+
+        KillSwitchStatus engaged = service.engageKillSwitch();
+
+        assertTrue(engaged.engaged());
+        assertEquals(1, engaged.cancel().cancelsSent());
+        assertEquals(OrderStatus.PENDING_CANCEL, service.getOrderById(open.orderId().toString()).status());
+        assertThrows(KillSwitchEngagedException.class, () -> service.createOrder(limit("AAPL", OrderSide.BUY)));
+        assertThrows(KillSwitchEngagedException.class, () -> service.createOrders(List.of(limit("AAPL", OrderSide.BUY))));
+        assertThrows(KillSwitchEngagedException.class,
+                () -> service.replaceOrder(open.orderId().toString(), new ReplaceOrderRequest(20, null)));
+
+        service.applyExecutionReport(report(sender.cancels.get(0).clOrdId(), "4", "4", null));
+        KillSwitchStatus released = service.releaseKillSwitch();
+
+        assertFalse(released.engaged());
+        assertEquals(0, released.openOrders());
+        assertEquals(OrderStatus.ACCEPTED, service.createOrder(limit("AAPL", OrderSide.BUY)).status());
+    }
+
+    private static CreateOrderRequest limit(String symbol, OrderSide side) {
+        return new CreateOrderRequest(symbol, side, 10, OrderType.LIMIT, new BigDecimal("100.5"), TimeInForce.DAY);
+    }
+
+    private static ExecutionReportEvent report(String clOrdId, String execType, String ordStatus, String text) {
+        return new ExecutionReportEvent(
+                clOrdId, "VENUE-1", execType, ordStatus, null, null, null, null, null, text, Instant.now());
+    }
+
+    private static final class RecordingSender implements OrderSender {
+
+        private final boolean accept;
+        private final List<OrderCancelSubmission> cancels = new ArrayList<>();
+        private final List<OrderReplaceSubmission> replaces = new ArrayList<>();
+        private final List<OrderMassCancelSubmission> massCancels = new ArrayList<>();
+
+        private RecordingSender(boolean accept) {
+            this.accept = accept;
+        }
+
+        /** Buys go to session BUYS and sells to SELLS. */
+        @Override
+        public OrderSendResult send(OrderSubmission submission) {
+            return new OrderSendResult(true, "accepted", submission.side() + "S");
+        }
+
+        @Override
+        public OrderSendResult massCancel(OrderMassCancelSubmission massCancel) {
+            massCancels.add(massCancel);
+            return new OrderSendResult(accept, accept ? "mass cancel sent" : "mass cancel not sent");
+        }
+
+        @Override
+        public OrderSendResult cancel(OrderCancelSubmission cancel) {
+            cancels.add(cancel);
+            return new OrderSendResult(accept, accept ? "sent" : "not sent");
+        }
+
+        @Override
+        public OrderSendResult replace(OrderReplaceSubmission replace) {
+            replaces.add(replace);
+            return new OrderSendResult(accept, accept ? "sent" : "not sent");
+        }
+    }
+
+    private static boolean waitForStatus(OrderService service, UUID orderId, OrderStatus expected)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (service.getOrderById(orderId.toString()).status() == expected) {
+                return true;
+            }
+            Thread.sleep(5);
+        }
+        return false;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package com.fixclient.backend.orders;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class OrderStatusTransitionsTest {
+
+    @Test
+    void terminalStatusesAreFinal() {
+        for (OrderStatus terminal : new OrderStatus[] {
+                OrderStatus.FILLED, OrderStatus.CANCELED, OrderStatus.REJECTED, OrderStatus.EXPIRED}) {
+            for (OrderStatus next : OrderStatus.values()) {
+                assertTrue(OrderStatusTransitions.isAllowed(terminal, next) == (terminal == next), terminal + "->" + next);
+            }
+        }
+    }
+
+    @Test
+    void localStatusesMayMoveToAnyVenueStatus() {
+        for (OrderStatus next : OrderStatus.values()) {
+            assertTrue(OrderStatusTransitions.isAllowed(OrderStatus.ACCEPTED, next) == (next != OrderStatus.QUEUED));
+        }
+        assertTrue(OrderStatusTransitions.isAllowed(OrderStatus.QUEUED, OrderStatus.ACCEPTED));
+        assertFalse(OrderStatusTransitions.isAllowed(OrderStatus.NEW, OrderStatus.ACCEPTED));
+    }
+
+    @Test
+    void followsTheFix44WorkingOrderMatrix() {
+        assertTrue(OrderStatusTransitions.isAllowed(OrderStatus.PENDING_NEW, OrderStatus.NEW));
+        assertTrue(OrderStatusTransitions.isAllowed(OrderStatus.PENDING_NEW, OrderStatus.REJECTED));
+        assertTrue(OrderStatusTransitions.isAllowed(OrderStatus.NEW, OrderStatus.PENDING_CANCEL));
+        assertTrue(OrderStatusTransitions.isAllowed(OrderStatus.PENDING_CANCEL, OrderStatus.PARTIALLY_FILLED));
+        assertTrue(OrderStatusTransitions.isAllowed(OrderStatus.PENDING_REPLACE, OrderStatus.REPLACED));
+        assertTrue(OrderStatusTransitions.isAllowed(OrderStatus.PARTIALLY_FILLED, OrderStatus.EXPIRED));
+
+        assertFalse(OrderStatusTransitions.isAllowed(OrderStatus.NEW, OrderStatus.PENDING_NEW));
+        assertFalse(OrderStatusTransitions.isAllowed(OrderStatus.PARTIALLY_FILLED, OrderStatus.NEW));
+        assertFalse(OrderStatusTransitions.isAllowed(OrderStatus.PARTIALLY_FILLED, OrderStatus.REJECTED));
+    }
+}
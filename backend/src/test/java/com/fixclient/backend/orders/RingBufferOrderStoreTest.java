@@ -0,0 +1,148 @@
+package com.fixclient.backend.orders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RingBufferOrderStoreTest {
+
+    @Test
+    void pagesMostRecentFirstWithCursor() {
+        RingBufferOrderStore store = new RingBufferOrderStore(8, OrderRetentionPolicy.EVICT_TERMINAL);
+        List<OrderRecord> added = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            OrderRecord order = order("SYM" + i, OrderStatus.ACCEPTED);
+            added.add(order);
+            store.add(order);
+        }
+
+        OrderPage first = store.page(null, 2);
+        assertEquals(List.of(added.get(4), added.get(3)), first.orders());
+        assertEquals(3L, first.nextCursor());
+
+        OrderPage second = store.page(first.nextCursor(), 2);
+        assertEquals(List.of(added.get(2), added.get(1)), second.orders());
+
+        OrderPage last = store.page(second.nextCursor(), 2);
+        assertEquals(List.of(added.get(0)), last.orders());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    void replaceOnlyWritesOverTheRecordThatWasRead() {
+        RingBufferOrderStore store = new RingBufferOrderStore(8, OrderRetentionPolicy.EVICT_TERMINAL);
+        OrderRecord queued = order("AAPL", OrderStatus.QUEUED);
+        store.add(queued);
+        OrderRecord filled = queued.withStatusAndMessage(OrderStatus.FILLED, "filled");
+        store.update(filled);
+
+        assertFalse(store.replace(queued, queued.withStatusAndMessage(OrderStatus.ACCEPTED, "sent")));
+        assertEquals(OrderStatus.FILLED, store.findByOrderId(queued.orderId()).orElseThrow().status());
+        assertTrue(store.replace(filled, filled.withStatusAndMessage(OrderStatus.FILLED, "done")));
+        assertEquals("done", store.findByOrderId(queued.orderId()).orElseThrow().message());
+    }
+
+    @Test
+    void listRecentIsBoundedByCapacityAndReflectsUpdates() {
+        RingBufferOrderStore store = new RingBufferOrderStore(4, OrderRetentionPolicy.RETAIN_ALL);
+        OrderRecord oldest = order("OLD", OrderStatus.ACCEPTED);
+        store.add(oldest);
+        for (int i = 0; i < 4; i++) {
+            store.add(order("NEW" + i, OrderStatus.ACCEPTED));
+        }
+        store.update(oldest.withStatusAndMessage(OrderStatus.FILLED, "filled"));
+
+        List<OrderRecord> recent = store.listRecent();
+        assertEquals(4, recent.size());
+        assertEquals("NEW3", recent.get(0).symbol());
+        assertEquals(OrderStatus.FILLED, store.findByOrderId(oldest.orderId()).orElseThrow().status());
+    }
+
+    @Test
+    void listWorkingIncludesWorkingOrdersOutsideTheWindow() {
+        RingBufferOrderStore store = new RingBufferOrderStore(2, OrderRetentionPolicy.RETAIN_ALL);
+        OrderRecord working = order("MSFT", OrderStatus.ACCEPTED);
+        store.add(working);
+        store.add(order("AAPL", OrderStatus.FILLED));
+        store.add(order("IBM", OrderStatus.CANCELED));
+
+        assertTrue(store.listRecent().stream().noneMatch(order -> order.orderId().equals(working.orderId())));
+        assertEquals(List.of(working), store.listWorking());
+    }
+
+    @Test
+    void evictsTerminalOrdersOnceOutsideWindowButKeepsWorkingOrders() {
+        RingBufferOrderStore store = new RingBufferOrderStore(2, OrderRetentionPolicy.EVICT_TERMINAL);
+        OrderRecord filled = order("AAPL", OrderStatus.FILLED);
+        OrderRecord working = order("MSFT", OrderStatus.ACCEPTED);
+        store.add(filled);
+        store.add(working);
+        store.add(order("IBM", OrderStatus.ACCEPTED));
+        store.add(order("TSLA", OrderStatus.ACCEPTED));
+
+        assertFalse(store.findByOrderId(filled.orderId()).isPresent());
+        assertFalse(store.findByClOrdId(filled.clOrdId()).isPresent());
+        assertTrue(store.findByClOrdId(working.clOrdId()).isPresent());
+
+        store.update(working.withStatusAndMessage(OrderStatus.CANCELED, "canceled"));
+
+        assertFalse(store.findByOrderId(working.orderId()).isPresent());
+    }
+
+    @Test
+    void concurrentWritersPublishEveryOrderExactlyOnce() throws Exception {
+        int threads = 8;
+        int perThread = 500;
+        RingBufferOrderStore store = new RingBufferOrderStore(threads * perThread, OrderRetentionPolicy.RETAIN_ALL);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        store.add(order("AAPL", OrderStatus.ACCEPTED));
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<OrderRecord> recent = store.listRecent();
+        assertEquals(threads * perThread, recent.size());
+        assertEquals(threads * perThread, recent.stream().map(OrderRecord::orderId).distinct().count());
+    }
+
+    private static OrderRecord order(String symbol, OrderStatus status) {
+        UUID orderId = UUID.randomUUID();
+        return new OrderRecord(
+                orderId,
+                orderId.toString(),
+                Instant.parse("2026-02-23T00:00:00Z"),
+                symbol,
+                OrderSide.BUY,
+                10,
+                OrderType.LIMIT,
+                new BigDecimal("10.5"),
+                TimeInForce.DAY,
+                status,
+                null);
+    }
+}
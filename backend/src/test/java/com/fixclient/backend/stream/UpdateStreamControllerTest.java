@@ -0,0 +1,33 @@
+package com.fixclient.backend.stream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class UpdateStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void opensEventStreamAndReportsClients() throws Exception {
+        mockMvc.perform(get("/stream/orders").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        mockMvc.perform(get("/stream/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clients.orders").value(1))
+                .andExpect(jsonPath("$.droppedClients").value(0));
+    }
+}
@@ -0,0 +1,182 @@
+package com.fixclient.backend.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.fixclient.fix.OrderSendResult;
+import com.fixclient.backend.execution.ExecutionReportEvent;
+import com.fixclient.backend.execution.ExecutionReportStateStore;
+import com.fixclient.backend.execution.OrderExecutionState;
+import com.fixclient.backend.market.MarketDataStore;
+import com.fixclient.backend.market.MarketQuote;
+import com.fixclient.backend.orders.InMemoryOrderStore;
+import com.fixclient.backend.orders.OrderService;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class UpdateStreamHubTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-23T12:00:00Z");
+
+    private final MarketDataStore marketDataStore = new MarketDataStore();
+    private final ExecutionReportStateStore executionStateStore = new ExecutionReportStateStore();
+    private final OrderService orderService =
+            new OrderService(submission -> new OrderSendResult(true, "accepted"), new InMemoryOrderStore());
+    private UpdateStreamHub hub;
+
+    @AfterEach
+    void tearDown() {
+        if (hub != null) {
+            hub.close();
+        }
+    }
+
+    @Test
+    void sendsSnapshotThenConflatesQuotesPerSymbol() throws Exception {
+        hub = hub(20, 100);
+        marketDataStore.upsert("AAPL", BigDecimal.ONE, null, null, NOW, "SIMULATED");
+        RecordingEmitter client = new RecordingEmitter();
+        hub.subscribe(UpdateStreamHub.QUOTES, client);
+
+        assertEquals(List.of("AAPL"), symbols(client.next()));
+
+        for (int i = 2; i <= 50; i++) {
+            marketDataStore.upsert("AAPL", BigDecimal.valueOf(i), null, null, NOW, "SIMULATED");
+        }
+        marketDataStore.upsert("MSFT", BigDecimal.ONE, null, null, NOW, "SIMULATED");
+
+        List<?> delta = client.next();
+        assertEquals(List.of("AAPL", "MSFT"), symbols(delta));
+        assertEquals(BigDecimal.valueOf(50), ((MarketQuote) delta.get(0)).bid());
+    }
+
+    @Test
+    void streamsLatestExecutionStatePerOrder() throws Exception {
+        hub = hub(1, 100);
+        RecordingEmitter client = new RecordingEmitter();
+        hub.subscribe(UpdateStreamHub.EXECUTIONS, client);
+
+        executionStateStore.update(new ExecutionReportEvent(
+                "cl-1", "venue-1", "F", "2", BigDecimal.TEN, BigDecimal.ZERO,
+                BigDecimal.ONE, BigDecimal.ONE, BigDecimal.TEN, null, NOW));
+
+        OrderExecutionState state = (OrderExecutionState) client.next().get(0);
+        assertEquals("2", state.ordStatus());
+    }
+
+    @Test
+    void disconnectsClientsThatFallTooFarBehind() throws Exception {
+        hub = hub(60_000, 2);
+        marketDataStore.upsert("AAPL", BigDecimal.ONE, null, null, NOW, "SIMULATED");
+        RecordingEmitter client = new RecordingEmitter();
+        hub.subscribe(UpdateStreamHub.QUOTES, client);
+        client.awaitFlushes(1);
+
+        for (String symbol : new String[] {"MSFT", "IBM", "TSLA"}) {
+            marketDataStore.upsert(symbol, BigDecimal.ONE, null, null, NOW, "SIMULATED");
+        }
+
+        UpdateStreamStats stats = hub.stats();
+        assertEquals(1, stats.droppedClients());
+        assertEquals(Map.of(UpdateStreamHub.QUOTES, 0, UpdateStreamHub.ORDERS, 0, UpdateStreamHub.EXECUTIONS, 0),
+                stats.clients());
+    }
+
+    @Test
+    void stalledClientIsDroppedWithoutHoldingUpOthers() throws Exception {
+        hub = hub(1, 100, 200);
+        marketDataStore.upsert("AAPL", BigDecimal.ONE, null, null, NOW, "SIMULATED");
+        StalledEmitter stalled = new StalledEmitter();
+        RecordingEmitter healthy = new RecordingEmitter();
+        try {
+            hub.subscribe(UpdateStreamHub.QUOTES, stalled);
+            assertTrue(stalled.writing.await(5, TimeUnit.SECONDS));
+            hub.subscribe(UpdateStreamHub.QUOTES, healthy);
+
+            assertEquals(List.of("AAPL"), symbols(healthy.next()));
+            marketDataStore.upsert("MSFT", BigDecimal.ONE, null, null, NOW, "SIMULATED");
+            assertEquals(List.of("MSFT"), symbols(healthy.next()));
+
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (hub.stats().droppedClients() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, hub.stats().droppedClients());
+            assertEquals(1, hub.stats().clients().get(UpdateStreamHub.QUOTES));
+        } finally {
+            stalled.release.countDown();
+        }
+    }
+
+    private UpdateStreamHub hub(long flushIntervalMillis, int maxPending) {
+        return hub(flushIntervalMillis, maxPending, 5_000);
+    }
+
+    private UpdateStreamHub hub(long flushIntervalMillis, int maxPending, long maxLagMillis) {
+        return new UpdateStreamHub(
+                marketDataStore, orderService, executionStateStore, flushIntervalMillis, maxPending, maxLagMillis, 1, 0);
+    }
+
+    private static List<String> symbols(List<?> quotes) {
+        return quotes.stream().map(quote -> ((MarketQuote) quote).symbol()).toList();
+    }
+
+    /** Blocks in every write, like a client whose TCP window stays closed. */
+    private static final class StalledEmitter extends SseEmitter {
+
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted", ex);
+            }
+        }
+    }
+
+    /** Captures the list payload of every event instead of writing it to a response. */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<List<?>> events = new LinkedBlockingQueue<>();
+        private int flushes;
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) {
+            flushes++;
+            notifyAll();
+            for (DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof List<?> values) {
+                    events.add(values);
+                }
+            }
+        }
+
+        List<?> next() throws InterruptedException {
+            List<?> event = events.poll(5, TimeUnit.SECONDS);
+            assertTrue(event != null, "no event received");
+            return event;
+        }
+
+        synchronized void awaitFlushes(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (flushes < count && System.currentTimeMillis() < deadline) {
+                wait(100);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.fixclient.backend.symbols;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class SymbolRegistryTest {
+
+    @Test
+    void canonicalizesUserInputToTheRegisteredInstance() {
+        SymbolRegistry registry = new SymbolRegistry();
+        String registered = registry.intern("BRK.B");
+
+        assertSame(registered, registry.canonicalize(" brk.b\t"));
+        assertSame(registered, registry.canonicalize(new String("BRK.B")));
+        assertEquals("MSFT", registry.canonicalize("msft"));
+        assertEquals(-1, registry.existingId("MSFT"));
+    }
+
+    @Test
+    void rejectsBlankAndMalformedSymbols() {
+        SymbolRegistry registry = new SymbolRegistry();
+
+        assertEquals("symbol is required",
+                assertThrows(IllegalArgumentException.class, () -> registry.canonicalize(null)).getMessage());
+        assertEquals("symbol is required",
+                assertThrows(IllegalArgumentException.class, () -> registry.canonicalize("   ")).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> registry.canonicalize("BRK B"));
+        assertThrows(IllegalArgumentException.class, () -> registry.canonicalize("AAPL/USD"));
+        assertThrows(IllegalArgumentException.class, () -> registry.canonicalize("ÄPFEL"));
+        assertThrows(IllegalArgumentException.class, () -> registry.canonicalize("A".repeat(SymbolRegistry.MAX_LENGTH + 1)));
+        assertEquals("A".repeat(SymbolRegistry.MAX_LENGTH), registry.canonicalize("a".repeat(SymbolRegistry.MAX_LENGTH)));
+    }
+
+    @Test
+    void venueSymbolsAreRegisteredAsGivenButNotAcceptedFromUsers() {
+        SymbolRegistry registry = new SymbolRegistry();
+        int id = registry.register("EUR/USD");
+
+        assertEquals(id, registry.register("EUR/USD"));
+        assertEquals("EUR/USD", registry.symbol(id));
+        assertThrows(IllegalArgumentException.class, () -> registry.canonicalize("EUR/USD"));
+    }
+
+    @Test
+    void idsAreDenseAndStable() {
+        SymbolRegistry registry = new SymbolRegistry();
+
+        assertEquals(0, registry.register("AAPL"));
+        assertEquals(1, registry.register("MSFT"));
+        assertEquals(0, registry.register(new String("AAPL")));
+        assertEquals(2, registry.size());
+        assertEquals(1, registry.existingId("MSFT"));
+    }
+}
@@ -0,0 +1,135 @@
+package com.fixclient.benchmarks;
+
+import com.example.fixclient.fix.DefaultOrderSender;
+import com.example.fixclient.fix.FixInitiatorService;
+import com.example.fixclient.fix.FixSessionHandle;
+import com.example.fixclient.fix.FixSessionRouter;
+import com.example.fixclient.fix.OrderCancelSubmission;
+import com.example.fixclient.fix.OrderMassCancelSubmission;
+import com.example.fixclient.fix.OrderReplaceSubmission;
+import com.example.fixclient.fix.OrderSendResult;
+import com.example.fixclient.fix.OrderSender;
+import com.example.fixclient.fix.OrderSubmission;
+import com.example.fixclient.fix.QuickFixInitiator;
+import com.example.fixclient.fix.QuickFixOrderMessageFactory;
+import com.fixclient.backend.orders.CreateOrderRequest;
+import com.fixclient.backend.orders.InMemoryOrderStore;
+import com.fixclient.backend.orders.OrderSide;
+import com.fixclient.backend.orders.OrderStore;
+import com.fixclient.backend.orders.OrderType;
+import com.fixclient.backend.orders.RingBufferOrderStore;
+import com.fixclient.backend.orders.TimeInForce;
+import java.math.BigDecimal;
+import quickfix.Message;
+import quickfix.SessionID;
+import quickfix.field.AvgPx;
+import quickfix.field.ClOrdID;
+import quickfix.field.CumQty;
+import quickfix.field.ExecType;
+import quickfix.field.LastPx;
+import quickfix.field.LastQty;
+import quickfix.field.LeavesQty;
+import quickfix.field.MsgType;
+import quickfix.field.OrdStatus;
+import quickfix.field.OrderID;
+
+/** In-process stand-ins for the FIX side so benchmarks exercise backend code without a counterparty. */
+final class BenchmarkFixtures {
+
+    static final SessionID SESSION_ID = new SessionID("FIX.4.4", "SENDER", "TARGET");
+
+    private static final OrderSendResult ACCEPTED = new OrderSendResult(true, "accepted");
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * {@code stub} accepts every order, cancel, replace and mass cancel without building a message; {@code fix} runs the real
+     * {@link DefaultOrderSender} against a loopback session that serializes each message like
+     * {@code Session.send} does.
+     */
+    static OrderSender orderSender(String kind) {
+        if ("stub".equals(kind)) {
+            return new OrderSender() {
+                @Override
+                public OrderSendResult send(OrderSubmission submission) {
+                    return ACCEPTED;
+                }
+
+                @Override
+                public OrderSendResult cancel(OrderCancelSubmission cancel) {
+                    return ACCEPTED;
+                }
+
+                @Override
+                public OrderSendResult replace(OrderReplaceSubmission replace) {
+                    return ACCEPTED;
+                }
+
+                @Override
+                public OrderSendResult massCancel(OrderMassCancelSubmission massCancel) {
+                    return ACCEPTED;
+                }
+            };
+        }
+        if ("fix".equals(kind)) {
+            FixSessionRouter router = new FixSessionRouter();
+            router.register(new LoopbackSession());
+            FixInitiatorService initiatorService = new FixInitiatorService(settings -> new NoopInitiator(), router);
+            initiatorService.start();
+            return new DefaultOrderSender(initiatorService, new QuickFixOrderMessageFactory(), router);
+        }
+        throw new IllegalArgumentException("Unknown sender: " + kind);
+    }
+
+    static OrderStore orderStore(String kind) {
+        return switch (kind) {
+            case "memory" -> new InMemoryOrderStore();
+            case "ring" -> new RingBufferOrderStore();
+            default -> throw new IllegalArgumentException("Unknown store: " + kind);
+        };
+    }
+
+    static CreateOrderRequest limitOrder(String symbol) {
+        return new CreateOrderRequest(symbol, OrderSide.BUY, 100, OrderType.LIMIT, new BigDecimal("187.25"), TimeInForce.DAY);
+    }
+
+    static Message partialFill(String clOrdId, String orderId) {
+        Message message = new Message();
+        message.getHeader().setString(MsgType.FIELD, MsgType.EXECUTION_REPORT);
+        message.setString(ClOrdID.FIELD, clOrdId);
+        message.setString(OrderID.FIELD, orderId);
+        message.setChar(ExecType.FIELD, ExecType.TRADE);
+        message.setChar(OrdStatus.FIELD, OrdStatus.PARTIALLY_FILLED);
+        message.setDouble(CumQty.FIELD, 40);
+        message.setDouble(LeavesQty.FIELD, 60);
+        message.setDouble(AvgPx.FIELD, 187.25);
+        message.setDouble(LastPx.FIELD, 187.25);
+        message.setDouble(LastQty.FIELD, 40);
+        return message;
+    }
+
+    static final class LoopbackSession implements FixSessionHandle {
+
+        @Override
+        public SessionID sessionId() {
+            return SESSION_ID;
+        }
+
+        @Override
+        public boolean send(Message message) {
+            return !message.toString().isEmpty();
+        }
+    }
+
+    private static final class NoopInitiator implements QuickFixInitiator {
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+}
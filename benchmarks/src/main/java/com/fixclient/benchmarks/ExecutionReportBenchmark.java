@@ -0,0 +1,106 @@
+package com.fixclient.benchmarks;
+
+import com.fixclient.backend.execution.ExecutionReportEvent;
+import com.fixclient.backend.execution.ExecutionReportIngestionService;
+import com.fixclient.backend.execution.ExecutionReportDecoder;
+import com.fixclient.backend.execution.ExecutionReportMapper;
+import com.fixclient.backend.execution.ExecutionReportStateStore;
+import com.fixclient.backend.execution.ExecutionToOrderStatusMapper;
+import com.fixclient.backend.execution.PrimitiveExecutionReport;
+import com.fixclient.backend.orders.OrderRecord;
+import com.fixclient.backend.orders.OrderService;
+import com.fixclient.backend.orders.OrderStatus;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import quickfix.Message;
+
+/**
+ * Execution report handling: decoding a FIX message (record mapper vs. pooled primitive decoder), mapping to an order status and full ingestion into the
+ * state store and order service. Reports cycle over a fixed set of live orders so the stores stay bounded.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutionReportBenchmark {
+
+    @Param({"1024"})
+    public int orders;
+
+    private final ExecutionReportMapper mapper = new ExecutionReportMapper();
+    private final ExecutionReportDecoder decoder = new ExecutionReportDecoder();
+    private String execType = "F";
+    private String ordStatus = "1";
+
+    private ExecutionReportIngestionService ingestionService;
+    private Message[] reports;
+
+    @Setup
+    public void setUp() {
+        OrderService orderService = new OrderService(
+                BenchmarkFixtures.orderSender("stub"), BenchmarkFixtures.orderStore("memory"));
+        ingestionService = new ExecutionReportIngestionService(decoder, new ExecutionReportStateStore(), orderService);
+
+        reports = new Message[orders];
+        for (int i = 0; i < orders; i++) {
+            OrderRecord order = orderService.createOrder(BenchmarkFixtures.limitOrder("SYM" + (i % 64)));
+            reports[i] = BenchmarkFixtures.partialFill(order.clOrdId(), "V-" + i);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        Message nextReport(Message[] reports) {
+            Message report = reports[next];
+            next = next + 1 == reports.length ? 0 : next + 1;
+            return report;
+        }
+    }
+
+    @Benchmark
+    public ExecutionReportEvent decode(Cursor cursor) {
+        return mapper.fromFixMessage(cursor.nextReport(reports));
+    }
+
+    @Benchmark
+    public PrimitiveExecutionReport decodePrimitive(Cursor cursor) {
+        return decoder.decode(cursor.nextReport(reports));
+    }
+
+    @Benchmark
+    public OrderStatus mapStatus() {
+        return ExecutionToOrderStatusMapper.map(execType, ordStatus);
+    }
+
+    @Benchmark
+    public void ingest(Cursor cursor) {
+        ingestionService.ingest(cursor.nextReport(reports));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void ingestContended(Cursor cursor) {
+        ingestionService.ingest(cursor.nextReport(reports));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ExecutionReportEvent decodeContended(Cursor cursor) {
+        return mapper.fromFixMessage(cursor.nextReport(reports));
+    }
+}
@@ -0,0 +1,67 @@
+package com.fixclient.benchmarks;
+
+import com.fixclient.backend.metrics.OrderLatencyTracker;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Overhead {@link OrderLatencyTracker} adds to one order: every stage from creation to a terminal report. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LatencyTrackerBenchmark {
+
+    private static final String SESSION_ID = BenchmarkFixtures.SESSION_ID.toString();
+    private static final String[] SYMBOLS = {"AAPL", "MSFT", "GOOG", "AMZN"};
+
+    private OrderLatencyTracker tracker;
+
+    @Setup
+    public void setUp() {
+        tracker = new OrderLatencyTracker(100_000, Optional.empty());
+    }
+
+    @State(Scope.Thread)
+    public static class Orders {
+
+        private final String prefix = Thread.currentThread().getName() + "-";
+        private long next;
+
+        String nextClOrdId() {
+            return prefix + next++;
+        }
+    }
+
+    @Benchmark
+    public void orderRoundTrip(Orders orders) {
+        roundTrip(orders.nextClOrdId());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void orderRoundTripContended(Orders orders) {
+        roundTrip(orders.nextClOrdId());
+    }
+
+    private void roundTrip(String clOrdId) {
+        long now = System.nanoTime();
+        tracker.onCreated(clOrdId, SYMBOLS[clOrdId.length() & 3], now);
+        tracker.onEncoded(clOrdId, SESSION_ID, now + 2_000);
+        tracker.onSent(clOrdId, now + 10_000);
+        tracker.onExecutionReport(clOrdId, false, now + 150_000);
+        tracker.onExecutionReport(clOrdId, true, now + 900_000);
+    }
+}
@@ -0,0 +1,102 @@
+package com.fixclient.benchmarks;
+
+import com.fixclient.backend.market.MarketDataStore;
+import com.fixclient.backend.market.MarketQuote;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link MarketDataStore#upsert} and the fixed-point {@link MarketDataStore#upsertScaled} used by the FIX feed, with
+ * one hot symbol (every writer contends on the same entry) or a spread of symbols. {@code find} measures the cost of
+ * materializing a {@link MarketQuote} for a REST read; {@code allAndStatus} is what a dashboard poll of
+ * {@code /market/quotes} and {@code /market/status} costs when nothing changed in between.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MarketDataStoreBenchmark {
+
+    @Param({"1", "512"})
+    public int symbols;
+
+    private final MarketDataStore store = new MarketDataStore();
+    private final BigDecimal bid = new BigDecimal("187.24");
+    private final BigDecimal ask = new BigDecimal("187.26");
+    private final BigDecimal last = new BigDecimal("187.25");
+    private final long scaledBid = 18_724_000_000L;
+    private final long scaledAsk = 18_726_000_000L;
+    private final long scaledLast = 18_725_000_000L;
+    private final Instant updatedAt = Instant.parse("2026-02-23T13:45:07Z");
+
+    private String[] symbolNames;
+
+    @Setup
+    public void setUp() {
+        symbolNames = new String[symbols];
+        for (int i = 0; i < symbols; i++) {
+            symbolNames[i] = "SYM" + i;
+            store.upsert(symbolNames[i], bid, ask, last, updatedAt, "FIX");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        String nextSymbol(String[] symbolNames) {
+            String symbol = symbolNames[next];
+            next = next + 1 == symbolNames.length ? 0 : next + 1;
+            return symbol;
+        }
+    }
+
+    @Benchmark
+    public MarketQuote upsert(Cursor cursor) {
+        return store.upsert(cursor.nextSymbol(symbolNames), bid, ask, last, updatedAt, "FIX");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public MarketQuote upsertContended(Cursor cursor) {
+        return store.upsert(cursor.nextSymbol(symbolNames), bid, ask, last, updatedAt, "FIX");
+    }
+
+    @Benchmark
+    public void upsertScaled(Cursor cursor) {
+        store.upsertScaled(cursor.nextSymbol(symbolNames), scaledBid, scaledAsk, scaledLast, updatedAt, "FIX");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void upsertScaledContended(Cursor cursor) {
+        store.upsertScaled(cursor.nextSymbol(symbolNames), scaledBid, scaledAsk, scaledLast, updatedAt, "FIX");
+    }
+
+    @Benchmark
+    public Optional<MarketQuote> find(Cursor cursor) {
+        return store.find(cursor.nextSymbol(symbolNames));
+    }
+
+    @Benchmark
+    public Object allAndStatus() {
+        store.all();
+        return store.latestUpdateAt();
+    }
+}
@@ -0,0 +1,90 @@
+package com.fixclient.benchmarks;
+
+import com.fixclient.backend.orders.CreateOrderRequest;
+import com.fixclient.backend.orders.KillSwitchStatus;
+import com.fixclient.backend.orders.OrderService;
+import com.fixclient.backend.orders.OrderSide;
+import com.fixclient.backend.orders.OrderType;
+import com.fixclient.backend.orders.TimeInForce;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time from {@link OrderService#engageKillSwitch} until every cancel for {@code openOrders} working orders has been
+ * handed to the sender: one OrderCancelRequest per order ({@code individual}), or a single OrderMassCancelRequest
+ * ({@code venue}).
+ *
+ * <p>Each iteration starts from a fresh service holding {@code openOrders} accepted orders over ten symbols and both
+ * sides.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MassCancelBenchmark {
+
+    @Param({"stub", "fix"})
+    public String sender;
+
+    @Param({"individual", "venue"})
+    public String mode;
+
+    @Param({"10000"})
+    public int openOrders;
+
+    private OrderService orderService;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        orderService = new OrderService(
+                BenchmarkFixtures.orderSender(sender),
+                BenchmarkFixtures.orderStore("memory"),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                "venue".equals(mode));
+        List<CreateOrderRequest> requests = new ArrayList<>(openOrders);
+        for (int i = 0; i < openOrders; i++) {
+            requests.add(new CreateOrderRequest(
+                    "SYM" + (i % 10),
+                    (i & 1) == 0 ? OrderSide.BUY : OrderSide.SELL,
+                    100,
+                    OrderType.LIMIT,
+                    new BigDecimal("187.25"),
+                    TimeInForce.DAY));
+        }
+        for (int from = 0; from < openOrders; from += 1000) {
+            orderService.createOrders(requests.subList(from, Math.min(from + 1000, openOrders)));
+        }
+    }
+
+    @Benchmark
+    public KillSwitchStatus engageKillSwitch() {
+        return orderService.engageKillSwitch();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        orderService.close();
+    }
+}
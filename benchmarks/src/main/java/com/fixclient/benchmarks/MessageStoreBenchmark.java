@@ -0,0 +1,78 @@
+package com.fixclient.benchmarks;
+
+import com.example.fixclient.fix.persistence.MappedMessageStoreFactory;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import quickfix.FileStoreFactory;
+import quickfix.MessageStore;
+import quickfix.SessionSettings;
+
+/**
+ * Cost of persisting one outgoing message the way {@code Session.send} does: store the message, then bump the next
+ * sender sequence number. Compares QuickFIX/J's {@link FileStoreFactory} with {@link MappedMessageStoreFactory}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageStoreBenchmark {
+
+    private static final String MESSAGE = "8=FIX.4.4\u00019=148\u000135=D\u000134=1080\u000149=SENDER\u000152=20260223-13:45:07.123"
+            + "\u000156=TARGET\u000111=7f3a9c1e\u000121=1\u000138=100\u000140=2\u000144=187.25\u000154=1\u000155=AAPL"
+            + "\u000159=0\u000160=20260223-13:45:07.123\u000110=092\u0001";
+
+    @Param({"file", "mmap"})
+    public String store;
+
+    private Path directory;
+    private MessageStore messageStore;
+    private int sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("message-store-benchmark");
+        SessionSettings settings = new SessionSettings();
+        settings.setString(BenchmarkFixtures.SESSION_ID, FileStoreFactory.SETTING_FILE_STORE_PATH, directory.toString());
+        messageStore = "mmap".equals(store)
+                ? new MappedMessageStoreFactory(settings, 16 * 1024 * 1024, false).create(BenchmarkFixtures.SESSION_ID)
+                : new FileStoreFactory(settings).create(BenchmarkFixtures.SESSION_ID);
+        sequence = messageStore.getNextSenderMsgSeqNum();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        ((Closeable) messageStore).close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public int storeOutgoing() throws IOException {
+        messageStore.set(sequence++, MESSAGE);
+        messageStore.incrNextSenderMsgSeqNum();
+        return sequence;
+    }
+}
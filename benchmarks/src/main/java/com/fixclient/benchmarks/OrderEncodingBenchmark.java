@@ -0,0 +1,81 @@
+package com.fixclient.benchmarks;
+
+import com.example.fixclient.fix.OrderSubmission;
+import com.example.fixclient.fix.QuickFixOrderMessageFactory;
+import com.example.fixclient.fix.TemplateOrderMessageEncoder;
+import com.fixclient.backend.orders.OrderSide;
+import com.fixclient.backend.orders.OrderType;
+import com.fixclient.backend.orders.TimeInForce;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import quickfix.Message;
+import quickfix.SessionID;
+
+/**
+ * Compares {@link QuickFixOrderMessageFactory#build} with the reusable {@link TemplateOrderMessageEncoder}.
+ *
+ * <p>The {@code *AndSerialize} variants include {@code Message.toString()}, which is what {@code Session.send}
+ * does with every outgoing message. Run with {@code -prof gc} to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderEncodingBenchmark {
+
+    private final SessionID sessionId = new SessionID("FIX.4.4", "SENDER", "TARGET");
+    private final QuickFixOrderMessageFactory factory = new QuickFixOrderMessageFactory();
+    private final TemplateOrderMessageEncoder encoder = new TemplateOrderMessageEncoder();
+
+    private OrderSubmission submission;
+    private String clOrdId;
+
+    @Setup
+    public void setUp() {
+        submission = new OrderSubmission(
+                UUID.randomUUID(),
+                "0b3gx8d1c2k7q",
+                Instant.parse("2026-02-23T13:45:07.123Z"),
+                "AAPL",
+                OrderSide.BUY,
+                100,
+                OrderType.LIMIT,
+                new BigDecimal("187.25"),
+                TimeInForce.DAY);
+        clOrdId = submission.clOrdId();
+    }
+
+    @Benchmark
+    public Message factoryBuild() {
+        return factory.build(submission);
+    }
+
+    @Benchmark
+    public Message templateEncode() {
+        return encoder.encode(sessionId, clOrdId, submission);
+    }
+
+    @Benchmark
+    public String factoryBuildAndSerialize() {
+        return factory.build(submission).toString();
+    }
+
+    @Benchmark
+    public String templateEncodeAndSerialize() {
+        return encoder.encode(sessionId, clOrdId, submission).toString();
+    }
+}
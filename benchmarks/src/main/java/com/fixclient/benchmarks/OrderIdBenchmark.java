@@ -0,0 +1,54 @@
+package com.fixclient.benchmarks;
+
+import com.fixclient.backend.ids.GeneratedOrderId;
+import com.fixclient.backend.ids.OrderIdGenerator;
+import com.fixclient.backend.ids.RandomUuidOrderIdGenerator;
+import com.fixclient.backend.ids.SnowflakeOrderIdGenerator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Cost of the order id and ClOrdID for one new order: random UUIDs vs. snowflake ids. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderIdBenchmark {
+
+    @Param({"uuid", "snowflake"})
+    public String generator;
+
+    private OrderIdGenerator ids;
+
+    @Setup
+    public void setUp() {
+        ids = switch (generator) {
+            case "uuid" -> new RandomUuidOrderIdGenerator();
+            case "snowflake" -> new SnowflakeOrderIdGenerator(1);
+            default -> throw new IllegalArgumentException("Unknown generator " + generator);
+        };
+    }
+
+    @Benchmark
+    public GeneratedOrderId next() {
+        return ids.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public GeneratedOrderId nextContended() {
+        return ids.next();
+    }
+}
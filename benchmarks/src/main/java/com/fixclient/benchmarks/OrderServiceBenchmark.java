@@ -0,0 +1,75 @@
+package com.fixclient.benchmarks;
+
+import com.fixclient.backend.execution.ExecutionReportEvent;
+import com.fixclient.backend.orders.CreateOrderRequest;
+import com.fixclient.backend.orders.OrderRecord;
+import com.fixclient.backend.orders.OrderRequestResult;
+import com.fixclient.backend.orders.OrderService;
+import com.fixclient.backend.orders.ReplaceOrderRequest;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link OrderService#createOrder} end to end: validation, submission, send and store, next to a full amend cycle
+ * ({@link OrderService#replaceOrder} plus the venue's replace confirmation) on one working order.
+ *
+ * <p>The service is rebuilt every iteration so the unbounded {@code memory} store does not grow across the run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderServiceBenchmark {
+
+    @Param({"stub", "fix"})
+    public String sender;
+
+    @Param({"memory", "ring"})
+    public String store;
+
+    private final CreateOrderRequest request = BenchmarkFixtures.limitOrder("AAPL");
+
+    private OrderService orderService;
+    private String workingOrderId;
+    private int replaces;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        orderService = new OrderService(BenchmarkFixtures.orderSender(sender), BenchmarkFixtures.orderStore(store));
+        workingOrderId = orderService.createOrder(request).orderId().toString();
+    }
+
+    @Benchmark
+    public OrderRecord createOrder() {
+        return orderService.createOrder(request);
+    }
+
+    @Benchmark
+    public OrderRecord replaceOrder() {
+        ReplaceOrderRequest replacement = new ReplaceOrderRequest(100 + (replaces++ & 1), null);
+        OrderRequestResult result = orderService.replaceOrder(workingOrderId, replacement);
+        orderService.applyExecutionReport(new ExecutionReportEvent(
+                result.clOrdId(), null, "5", "0", null, null, null, null, null, null, null));
+        return result.order();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public OrderRecord createOrderContended() {
+        return orderService.createOrder(request);
+    }
+}
@@ -0,0 +1,137 @@
+package com.fixclient.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Closed-loop HTTP load test for {@code POST /orders} against a running backend.
+ *
+ * <p>Each of {@code --clients} simulated clients sends an order, waits for the response and immediately sends the
+ * next one, so the server always has that many requests in flight. Requests are sent asynchronously; the client
+ * side needs no thread per connection. Responses during {@code --warmup-seconds} are discarded, then throughput,
+ * status codes and latency percentiles over {@code --seconds} are printed. Run it once against the default server
+ * and once against one started with the {@code virtual-threads} profile to compare the two.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.fixclient.benchmarks.OrdersLoadTest \
+ *     --url http://localhost:8080 --clients 5000 --seconds 30 --warmup-seconds 5
+ * </pre>
+ */
+public final class OrdersLoadTest {
+
+    private static final String ORDER = "{\"symbol\":\"AAPL\",\"side\":\"BUY\",\"qty\":100,\"type\":\"LIMIT\","
+            + "\"price\":187.25,\"tif\":\"DAY\"}";
+
+    private final HttpClient client;
+    private final HttpRequest request;
+    private final long measureFromNanos;
+    private final long stopAtNanos;
+    private final Recorder latencies = new Recorder(3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+    private final CountDownLatch finished;
+
+    private OrdersLoadTest(HttpClient client, URI orders, int clients, long warmupNanos, long measureNanos) {
+        this.client = client;
+        this.request = HttpRequest.newBuilder(orders)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(ORDER))
+                .build();
+        long start = System.nanoTime();
+        this.measureFromNanos = start + warmupNanos;
+        this.stopAtNanos = measureFromNanos + measureNanos;
+        this.finished = new CountDownLatch(clients);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = parse(args);
+        String url = options.getOrDefault("url", "http://localhost:8080");
+        int clients = Integer.parseInt(options.getOrDefault("clients", "5000"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "30"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-seconds", "5"));
+
+        ExecutorService callbacks = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(callbacks)
+                .build();
+        OrdersLoadTest test = new OrdersLoadTest(
+                client,
+                URI.create(url + "/orders"),
+                clients,
+                TimeUnit.SECONDS.toNanos(warmupSeconds),
+                TimeUnit.SECONDS.toNanos(seconds));
+
+        System.out.printf("POST %s/orders with %d clients for %ds after %ds warm-up%n", url, clients, seconds, warmupSeconds);
+        for (int i = 0; i < clients; i++) {
+            test.sendNext();
+        }
+        test.finished.await();
+        callbacks.shutdownNow();
+        test.report(seconds);
+    }
+
+    private void sendNext() {
+        long sentAt = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            long now = System.nanoTime();
+            if (sentAt >= measureFromNanos && now <= stopAtNanos) {
+                if (error != null) {
+                    errors.increment();
+                } else {
+                    latencies.recordValue(now - sentAt);
+                    statuses.computeIfAbsent(response.statusCode(), status -> new LongAdder()).increment();
+                }
+            }
+            if (now < stopAtNanos) {
+                sendNext();
+            } else {
+                finished.countDown();
+            }
+        });
+    }
+
+    private void report(int seconds) {
+        Histogram histogram = latencies.getIntervalHistogram();
+        Map<Integer, Long> byStatus = new TreeMap<>();
+        statuses.forEach((status, count) -> byStatus.put(status, count.sum()));
+        System.out.printf("requests      %d (%.0f/s)%n", histogram.getTotalCount(), histogram.getTotalCount() / (double) seconds);
+        System.out.printf("statuses      %s, errors %d%n", byStatus, errors.sum());
+        System.out.printf("latency ms    p50 %.2f  p90 %.2f  p99 %.2f  p99.9 %.2f  max %.2f%n",
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new TreeMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value pairs, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+}
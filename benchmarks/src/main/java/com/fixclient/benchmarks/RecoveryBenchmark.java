@@ -0,0 +1,109 @@
+package com.fixclient.benchmarks;
+
+import com.fixclient.backend.orders.JournalForcePolicy;
+import com.fixclient.backend.orders.JournaledOrderStore;
+import com.fixclient.backend.orders.OrderRecord;
+import com.fixclient.backend.orders.OrderSide;
+import com.fixclient.backend.orders.OrderStatus;
+import com.fixclient.backend.orders.OrderType;
+import com.fixclient.backend.orders.TimeInForce;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to reopen a {@link JournaledOrderStore} holding {@code orders} orders, each created and then updated
+ * {@code updates} times.
+ *
+ * <p>{@code journal} replays every record; {@code snapshot} loads a snapshot taken after the writes and replays an
+ * empty journal tail.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecoveryBenchmark {
+
+    private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    @Param({"10000", "100000"})
+    public int orders;
+
+    @Param({"1", "8"})
+    public int updates;
+
+    @Param({"journal", "snapshot"})
+    public String mode;
+
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("recovery-benchmark");
+        try (JournaledOrderStore store = new JournaledOrderStore(
+                directory, SEGMENT_SIZE, JournalForcePolicy.NEVER, 1000, 0, Optional.empty(), Optional.empty())) {
+            Instant createdAt = Instant.parse("2026-02-23T13:45:07Z");
+            for (int i = 0; i < orders; i++) {
+                OrderRecord order = new OrderRecord(
+                        UUID.randomUUID(),
+                        "cl-" + i,
+                        createdAt.plusMillis(i),
+                        "SYM" + (i % 500),
+                        OrderSide.BUY,
+                        100,
+                        OrderType.LIMIT,
+                        new BigDecimal("187.25"),
+                        TimeInForce.DAY,
+                        OrderStatus.ACCEPTED,
+                        "accepted");
+                store.add(order);
+                for (int update = 1; update < updates; update++) {
+                    store.update(order.withStatusAndMessage(OrderStatus.PARTIALLY_FILLED, "partial fill " + update));
+                }
+                store.update(order.withStatusAndMessage(OrderStatus.FILLED, "filled"));
+            }
+            if ("snapshot".equals(mode)) {
+                store.snapshot();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public int recover() {
+        try (JournaledOrderStore store = new JournaledOrderStore(
+                directory, SEGMENT_SIZE, JournalForcePolicy.NEVER, 1000)) {
+            return store.listRecent().size();
+        }
+    }
+}